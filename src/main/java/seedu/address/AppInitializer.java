@@ -0,0 +1,204 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StartupTimer;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.Deck;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyDeck;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.card.Card;
+import seedu.address.model.history.ReviewLog;
+import seedu.address.model.workspace.DeckManifest;
+import seedu.address.model.workspace.Workspace;
+import seedu.address.storage.BinaryReviewLog;
+import seedu.address.storage.DeckStorage;
+import seedu.address.storage.JsonDeckStorage;
+import seedu.address.storage.JsonReviewStatisticsStorage;
+import seedu.address.storage.JsonWorkspaceStorage;
+import seedu.address.storage.ReviewStatisticsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WorkspaceStorage;
+
+/**
+ * Sets up, and saves on exit, the parts of the app that do not depend on the UI, for both {@link MainApp} and
+ * {@link HeadlessApp}.
+ */
+public class AppInitializer {
+
+    /** Name of the review log file, kept next to the deck file. */
+    public static final String REVIEW_LOG_FILE_NAME = "reviews.bin";
+
+    private static final Logger logger = LogsCenter.getLogger(AppInitializer.class);
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    public static Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            if (!configOptional.isPresent()) {
+                logger.info("Creating new config file " + configFilePathUsed);
+            }
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataLoadingException e) {
+            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
+                    + " Using default config properties.");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    public static UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using preference file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            if (!prefsOptional.isPresent()) {
+                logger.info("Creating new preference file " + prefsFilePath);
+            }
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataLoadingException e) {
+            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
+                    + " Using default preferences.");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+
+    /**
+     * Returns the {@code Storage} of the deck file in {@code userPrefs}, with the workspace file and the review
+     * statistics file next to it.
+     */
+    public static Storage initStorage(UserPrefsStorage userPrefsStorage, ReadOnlyUserPrefs userPrefs) {
+        DeckStorage deckStorage = new JsonDeckStorage(userPrefs.getDeckFilePath());
+        WorkspaceStorage workspaceStorage = new JsonWorkspaceStorage(
+                userPrefs.getDeckFilePath().resolveSibling(JsonWorkspaceStorage.WORKSPACE_FILE_NAME));
+        ReviewStatisticsStorage reviewStatisticsStorage = new JsonReviewStatisticsStorage(
+                userPrefs.getDeckFilePath().resolveSibling(JsonReviewStatisticsStorage.REVIEW_STATISTICS_FILE_NAME));
+        return new StorageManager(deckStorage, userPrefsStorage, workspaceStorage, reviewStatisticsStorage);
+    }
+
+    /**
+     * Returns a {@code ModelManager} with an empty Deck and {@code userPrefs}, timed by {@code startupTimer}. <br>
+     * The Deck in {@code storage} is to be loaded into it afterwards, see
+     * {@link seedu.address.logic.BackgroundDeckLoader}.
+     */
+    public static Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs, StartupTimer startupTimer) {
+        logger.info("Using data file : " + storage.getDeckFilePath());
+        ReviewLog reviewLog = new BinaryReviewLog(userPrefs.getDeckFilePath().resolveSibling(REVIEW_LOG_FILE_NAME));
+        return new ModelManager(new Deck(), userPrefs, reviewLog, initWorkspace(storage, userPrefs), startupTimer);
+    }
+
+    /**
+     * Returns the {@code Workspace} of the deck file in {@code userPrefs}, with the manifests of the other decks
+     * from {@code storage}. Other decks are loaded from {@code storage} only when they are opened.
+     */
+    private static Workspace initWorkspace(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        logger.info("Using workspace file : " + storage.getWorkspaceFilePath());
+
+        List<DeckManifest> manifests;
+        try {
+            manifests = storage.readWorkspace().orElseGet(List::of);
+        } catch (DataLoadingException e) {
+            logger.warning("Workspace file at " + storage.getWorkspaceFilePath() + " could not be loaded."
+                    + " Will be starting with only the current deck.");
+            manifests = List.of();
+        }
+
+        return new Workspace(userPrefs.getDeckFilePath(), manifests,
+                deckFilePath -> readCards(storage, deckFilePath), userPrefs.getIdleDeckCardLimit());
+    }
+
+    private static List<Card> readCards(Storage storage, Path deckFilePath) throws DataLoadingException {
+        Optional<ReadOnlyDeck> deckOptional = storage.readDeck(deckFilePath);
+        return deckOptional.isPresent() ? new ArrayList<>(deckOptional.get().getCardList()) : new ArrayList<>();
+    }
+
+    /**
+     * Saves what is left to save in {@code model} to {@code storage} when the app exits: the user prefs, the review
+     * log and the statistics over it, and the Decks that are not open. Errors are logged, as there is nowhere else
+     * to report them.
+     */
+    public static void saveOnExit(Model model, Storage storage) {
+        try {
+            storage.saveUserPrefs(model.getUserPrefs());
+        } catch (IOException e) {
+            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+        }
+        try {
+            model.getReviewLog().flush();
+            // Until the open Deck has loaded, the saved statistics have not been read into the model yet.
+            if (!model.isDeckLoading()) {
+                storage.saveReviewStatistics(model.getReviewStatistics());
+            }
+        } catch (IOException e) {
+            logger.severe("Failed to save review log " + StringUtil.getDetails(e));
+        }
+        try {
+            // Reviews of Decks that are not open are saved in batches, so the last batch may not be saved yet.
+            model.getInterleavedReviewSession().end();
+            Workspace workspace = model.getWorkspace();
+            for (String deckName : model.getIdleDecksToSave()) {
+                storage.saveDeck(workspace.getIdleDeck(deckName), workspace.getDeckFilePath(deckName));
+                workspace.markSaved(deckName);
+            }
+            // Until the open Deck has loaded, the model does not know what is in it.
+            if (!model.isDeckLoading()) {
+                storage.saveWorkspace(model.getDeckManifests());
+            }
+        } catch (IOException e) {
+            logger.severe("Failed to save workspace " + StringUtil.getDetails(e));
+        }
+    }
+}
@@ -2,6 +2,9 @@ package seedu.address;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
@@ -15,9 +18,19 @@ import seedu.address.commons.util.ToStringBuilder;
  * Represents the parsed command-line parameters given to the application.
  */
 public class AppParameters {
+    /** Name of the parameter giving a script to run as a batch once the deck has loaded. */
+    public static final String SCRIPT_PARAMETER = "script";
+
+    /** Name of the parameter giving the port to serve the API on, which is only served if it is given. */
+    public static final String API_PORT_PARAMETER = "api-port";
+
+    private static final int MAX_PORT = 65535;
+
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private Path scriptPath;
+    private Integer apiPort;
 
     public Path getConfigPath() {
         return configPath;
@@ -27,12 +40,56 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the path of the script to run as a batch once the deck has loaded, or null if there is none.
+     */
+    public Path getScriptPath() {
+        return scriptPath;
+    }
+
+    public void setScriptPath(Path scriptPath) {
+        this.scriptPath = scriptPath;
+    }
+
+    /**
+     * Returns the port to serve the API on, 0 for any free port, or null if the API is not to be served.
+     */
+    public Integer getApiPort() {
+        return apiPort;
+    }
+
+    public void setApiPort(Integer apiPort) {
+        this.apiPort = apiPort;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
+        return parse(parameters.getNamed(), parameters.getUnnamed());
+    }
+
+    /**
+     * Parses the command-line arguments {@code args} the way JavaFX does for {@link Application.Parameters}, for
+     * when the application is run without JavaFX: {@code --name=value} is a named parameter, and anything else is
+     * an unnamed one.
+     */
+    public static AppParameters parse(String[] args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        List<String> unnamedParameters = new ArrayList<>();
+        for (String arg : args) {
+            int separatorIndex = arg.indexOf('=');
+            if (arg.startsWith("--") && separatorIndex > 2) {
+                namedParameters.put(arg.substring(2, separatorIndex), arg.substring(separatorIndex + 1));
+            } else {
+                unnamedParameters.add(arg);
+            }
+        }
+        return parse(namedParameters, unnamedParameters);
+    }
+
+    private static AppParameters parse(Map<String, String> namedParameters, List<String> unnamedParameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
 
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
@@ -41,9 +98,42 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String scriptPathParameter = namedParameters.get(SCRIPT_PARAMETER);
+        if (scriptPathParameter == null) {
+            scriptPathParameter = getSeparatedParameter(unnamedParameters, SCRIPT_PARAMETER);
+        }
+        if (scriptPathParameter != null && !FileUtil.isValidPath(scriptPathParameter)) {
+            logger.warning("Invalid script path " + scriptPathParameter + ". No script will be run.");
+            scriptPathParameter = null;
+        }
+        appParameters.setScriptPath(scriptPathParameter != null ? Paths.get(scriptPathParameter) : null);
+
+        String apiPortParameter = namedParameters.get(API_PORT_PARAMETER);
+        if (apiPortParameter == null) {
+            apiPortParameter = getSeparatedParameter(unnamedParameters, API_PORT_PARAMETER);
+        }
+        if (apiPortParameter != null && !isValidPort(apiPortParameter)) {
+            logger.warning("Invalid API port " + apiPortParameter + ". The API will not be served.");
+            apiPortParameter = null;
+        }
+        appParameters.setApiPort(apiPortParameter != null ? Integer.valueOf(apiPortParameter) : null);
+
         return appParameters;
     }
 
+    /**
+     * Returns the value after {@code --name} in {@code unnamedParameters}, for parameters given as
+     * {@code --name value} rather than {@code --name=value}, or null if there is none.
+     */
+    private static String getSeparatedParameter(List<String> unnamedParameters, String name) {
+        int index = unnamedParameters.indexOf("--" + name);
+        return index >= 0 && index + 1 < unnamedParameters.size() ? unnamedParameters.get(index + 1) : null;
+    }
+
+    private static boolean isValidPort(String port) {
+        return port.matches("\\d{1,5}") && Integer.parseInt(port) <= MAX_PORT;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -56,18 +146,22 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(configPath, otherAppParameters.configPath);
+        return Objects.equals(configPath, otherAppParameters.configPath)
+                && Objects.equals(scriptPath, otherAppParameters.scriptPath)
+                && Objects.equals(apiPort, otherAppParameters.apiPort);
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, scriptPath, apiPort);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("configPath", configPath)
+                .add("scriptPath", scriptPath)
+                .add("apiPort", apiPort)
                 .toString();
     }
 }
@@ -0,0 +1,194 @@
+package seedu.address;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.file.Path;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StartupTimer;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.BackgroundDeckLoader;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.BatchCommand;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.DeckLoadProgress;
+import seedu.address.model.Model;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * Runs the application without a UI: commands are read from standard input, one per line, or from the script given
+ * with {@code --script}, and their results are printed to standard output.
+ * <p>
+ * No JavaFX window is shown, and the Deck is loaded before the first command is read. The model is saved whenever
+ * there is no more input waiting to be read, rather than after every command, so that commands piped in are run
+ * as fast as they can be parsed.
+ */
+public class HeadlessApp {
+
+    /** Command-line argument that runs the application without a UI. */
+    public static final String HEADLESS_PARAMETER = "--headless";
+
+    /** Printed before the message of a command that failed. */
+    public static final String ERROR_PREFIX = "Error: ";
+
+    public static final int EXIT_SUCCESS = 0;
+
+    public static final int EXIT_FAILURE = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    private final Model model;
+    private final Storage storage;
+    private final Logic logic;
+
+    /**
+     * Creates a {@code HeadlessApp} that runs commands on {@code model}, whose Deck has already been loaded, and
+     * saves it to {@code storage}.
+     */
+    HeadlessApp(Model model, Storage storage) {
+        requireAllNonNull(model, storage);
+        this.model = model;
+        this.storage = storage;
+        logic = new LogicManager(model, storage, false);
+    }
+
+    /**
+     * Runs the application without a UI, with the command-line arguments {@code args}, and exits with
+     * {@link #EXIT_FAILURE} if any command failed.
+     */
+    public static void main(String[] args) {
+        AppParameters appParameters = AppParameters.parse(args);
+        HeadlessApp app = init(appParameters);
+
+        BufferedReader in = new BufferedReader(new InputStreamReader(System.in, UTF_8));
+        PrintWriter out = new PrintWriter(new BufferedWriter(new OutputStreamWriter(System.out, UTF_8)));
+        int exitCode;
+        try {
+            exitCode = app.run(appParameters.getScriptPath(), in, out);
+        } catch (IOException e) {
+            logger.severe("Failed to read commands " + StringUtil.getDetails(e));
+            exitCode = EXIT_FAILURE;
+        } finally {
+            out.flush();
+            app.stop();
+        }
+        System.exit(exitCode);
+    }
+
+    /**
+     * Returns a {@code HeadlessApp} with the config, user prefs and Deck given by {@code appParameters}.
+     */
+    static HeadlessApp init(AppParameters appParameters) {
+        logger.info("=========================[ Initializing AddressBook without a UI ]=======================");
+        StartupTimer startupTimer = new StartupTimer();
+
+        startupTimer.startPhase(StartupTimer.PHASE_CONFIG);
+        Config config = AppInitializer.initConfig(appParameters.getConfigPath());
+        LogsCenter.init(config);
+
+        startupTimer.startPhase(StartupTimer.PHASE_PREFS);
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = AppInitializer.initPrefs(userPrefsStorage);
+        Storage storage = AppInitializer.initStorage(userPrefsStorage, userPrefs);
+
+        startupTimer.startPhase(StartupTimer.PHASE_MODEL);
+        Model model = AppInitializer.initModelManager(storage, userPrefs, startupTimer);
+        startupTimer.endPhase();
+
+        // There is no window to show while the Deck loads, so it is loaded on this thread.
+        model.setDeckLoadProgress(DeckLoadProgress.started());
+        new BackgroundDeckLoader(model, storage, startupTimer, Runnable::run).load();
+        startupTimer.markInteractive();
+        logger.info("Started without a UI: " + startupTimer);
+
+        return new HeadlessApp(model, storage);
+    }
+
+    /**
+     * Runs the commands in the script at {@code scriptPath} as one batch if it is not null, or else the commands
+     * read from {@code in} until it ends or one of them exits the app, printing their results to {@code out}.
+     * Returns {@link #EXIT_SUCCESS} if every command succeeded and its changes were saved, or else
+     * {@link #EXIT_FAILURE}.
+     * @throws IOException if {@code in} cannot be read
+     */
+    int run(Path scriptPath, BufferedReader in, PrintWriter out) throws IOException {
+        requireAllNonNull(in, out);
+
+        if (scriptPath != null) {
+            boolean isSuccessful = executeCommand(BatchCommand.COMMAND_WORD + " " + scriptPath, out) != null
+                    && save(out);
+            return isSuccessful ? EXIT_SUCCESS : EXIT_FAILURE;
+        }
+
+        boolean isSuccessful = true;
+        String commandText;
+        while ((commandText = in.readLine()) != null) {
+            if (commandText.isBlank()) {
+                continue;
+            }
+            CommandResult commandResult = executeCommand(commandText, out);
+            isSuccessful &= commandResult != null;
+            if (commandResult != null && commandResult.isExit()) {
+                break;
+            }
+            if (!in.ready()) {
+                // Waiting for the next command could take a while, so what has been done so far is saved first.
+                isSuccessful &= save(out);
+                out.flush();
+            }
+        }
+        isSuccessful &= save(out);
+        return isSuccessful ? EXIT_SUCCESS : EXIT_FAILURE;
+    }
+
+    /**
+     * Saves what is left to save when the app exits.
+     */
+    void stop() {
+        logger.info("====================== [ Stopping Address Book without a UI ] ======================");
+        AppInitializer.saveOnExit(model, storage);
+    }
+
+    /**
+     * Executes {@code commandText} and prints its result to {@code out}, returning the result, or null if it failed.
+     */
+    private CommandResult executeCommand(String commandText, PrintWriter out) {
+        try {
+            CommandResult commandResult = logic.execute(commandText);
+            out.println(commandResult.getFeedbackToUser());
+            return commandResult;
+        } catch (CommandException | ParseException e) {
+            out.println(ERROR_PREFIX + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Saves the changes made by the commands run so far, printing to {@code out} and returning false if they could
+     * not be saved.
+     */
+    private boolean save(PrintWriter out) {
+        try {
+            logic.save();
+            return true;
+        } catch (CommandException e) {
+            out.println(ERROR_PREFIX + e.getMessage());
+            return false;
+        }
+    }
+}
@@ -1,32 +1,33 @@
 package seedu.address;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
+import seedu.address.api.ApiServer;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StartupTimer;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
-import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.AsyncCommandExecutor;
+import seedu.address.logic.BackgroundDeckLoader;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
-import seedu.address.model.Deck;
+import seedu.address.model.DeckLoadProgress;
 import seedu.address.model.Model;
-import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyDeck;
-import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
-import seedu.address.model.util.SampleDataUtil;
-import seedu.address.storage.DeckStorage;
-import seedu.address.storage.JsonDeckStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
-import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
@@ -38,6 +39,9 @@ public class MainApp extends Application {
 
     public static final Version VERSION = new Version(1, 3, 0, true);
 
+    /** How long closing the app waits for the commands still queued to finish. */
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 10_000;
+
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
     protected Ui ui;
@@ -45,143 +49,113 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected AsyncCommandExecutor commandExecutor;
+    protected Path scriptPath;
+    protected Integer apiPort;
+    protected ApiServer apiServer;
+
+    // Started when the app is created, so that launching JavaFX is timed too.
+    private final StartupTimer startupTimer = new StartupTimer();
 
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing AddressBook ]===========================");
         super.init();
 
+        startupTimer.startPhase(StartupTimer.PHASE_CONFIG);
         AppParameters appParameters = AppParameters.parse(getParameters());
-        config = initConfig(appParameters.getConfigPath());
+        config = AppInitializer.initConfig(appParameters.getConfigPath());
+        scriptPath = appParameters.getScriptPath();
+        apiPort = appParameters.getApiPort();
         initLogging(config);
 
+        startupTimer.startPhase(StartupTimer.PHASE_PREFS);
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
-        UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        DeckStorage deckStorage = new JsonDeckStorage((userPrefs.getDeckFilePath()));
-        storage = new StorageManager(deckStorage, userPrefsStorage);
+        UserPrefs userPrefs = AppInitializer.initPrefs(userPrefsStorage);
+        storage = AppInitializer.initStorage(userPrefsStorage, userPrefs);
 
-        model = initModelManager(storage, userPrefs);
+        startupTimer.startPhase(StartupTimer.PHASE_MODEL);
+        // The Deck in storage is loaded into the model in the background once the main window is shown.
+        model = AppInitializer.initModelManager(storage, userPrefs, startupTimer);
+        model.setDeckLoadProgress(DeckLoadProgress.started());
 
         logic = new LogicManager(model, storage);
-
-        ui = new UiManager(logic);
-    }
-
-    /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
-     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
-     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
-     */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
-        logger.info("Using data file : " + storage.getDeckFilePath());
-
-        Optional<ReadOnlyDeck> addressBookOptional;
-        ReadOnlyDeck initialData;
-        try {
-            addressBookOptional = storage.readDeck();
-            if (!addressBookOptional.isPresent()) {
-                logger.info("Creating a new data file " + storage.getDeckFilePath()
-                        + " populated with a sample AddressBook.");
-            }
-            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleDeck);
-        } catch (DataLoadingException e) {
-            logger.warning("Data file at " + storage.getDeckFilePath() + " could not be loaded."
-                    + " Will be starting with an empty AddressBook.");
-            initialData = new Deck();
-        }
-
-        return new ModelManager(initialData, userPrefs);
+        startupTimer.endPhase();
     }
 
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
 
-    /**
-     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
-     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
-     * if {@code configFilePath} is null.
-     */
-    protected Config initConfig(Path configFilePath) {
-        Config initializedConfig;
-        Path configFilePathUsed;
-
-        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
-
-        if (configFilePath != null) {
-            logger.info("Custom Config file specified " + configFilePath);
-            configFilePathUsed = configFilePath;
+    @Override
+    public void start(Stage primaryStage) {
+        logger.info("Starting AddressBook " + MainApp.VERSION);
+        // Every Deck is in the same folder, so the token file stays next to them when another Deck is opened.
+        Path apiTokenFilePath = model.getDeckFilePath().resolveSibling(ApiServer.TOKEN_FILE_NAME);
+        // From here on, the model is only changed on the command executor's thread.
+        commandExecutor = new AsyncCommandExecutor(logic, Platform::runLater);
+        new BackgroundDeckLoader(model, storage, startupTimer, commandExecutor::submitTask).start();
+        if (apiPort != null) {
+            startApiServer(apiPort, apiTokenFilePath);
         }
+        ui = new UiManager(logic, commandExecutor, scriptPath);
+        ui.start(primaryStage);
+    }
 
-        logger.info("Using config file : " + configFilePathUsed);
-
+    /**
+     * Serves the API on {@code port}, writing the token that requests must send to {@code tokenFilePath}. The API is
+     * not served if the token cannot be written, as no program could use it.
+     */
+    private void startApiServer(int port, Path tokenFilePath) {
         try {
-            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
-            if (!configOptional.isPresent()) {
-                logger.info("Creating new config file " + configFilePathUsed);
-            }
-            initializedConfig = configOptional.orElse(new Config());
-        } catch (DataLoadingException e) {
-            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
-                    + " Using default config properties.");
-            initializedConfig = new Config();
+            apiServer = new ApiServer(commandExecutor, port);
+        } catch (IOException e) {
+            logger.warning("Could not serve the API on port " + port + ": " + StringUtil.getDetails(e));
+            return;
         }
 
-        //Update config file in case it was missing to begin with or there are new/unused fields
+        // Requests are refused until the token is written, as none can send it before then.
+        apiServer.start();
         try {
-            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+            writeApiToken(tokenFilePath, apiServer.getToken());
+            logger.info("API token written to " + tokenFilePath);
         } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+            logger.warning("Could not write the API token to " + tokenFilePath + ", so the API is not served: "
+                    + StringUtil.getDetails(e));
+            apiServer.stop();
+            apiServer = null;
         }
-        return initializedConfig;
     }
 
     /**
-     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
-     * or a new {@code UserPrefs} with default configuration if errors occur when
-     * reading from the file.
+     * Writes {@code token} to {@code tokenFilePath}, readable by the user only where the file system allows it.
      */
-    protected UserPrefs initPrefs(UserPrefsStorage storage) {
-        Path prefsFilePath = storage.getUserPrefsFilePath();
-        logger.info("Using preference file : " + prefsFilePath);
-
-        UserPrefs initializedPrefs;
-        try {
-            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
-            if (!prefsOptional.isPresent()) {
-                logger.info("Creating new preference file " + prefsFilePath);
-            }
-            initializedPrefs = prefsOptional.orElse(new UserPrefs());
-        } catch (DataLoadingException e) {
-            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
-                    + " Using default preferences.");
-            initializedPrefs = new UserPrefs();
-        }
-
-        //Update prefs file in case it was missing to begin with or there are new/unused fields
+    private static void writeApiToken(Path tokenFilePath, String token) throws IOException {
+        FileUtil.createIfMissing(tokenFilePath);
         try {
-            storage.saveUserPrefs(initializedPrefs);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+            Files.setPosixFilePermissions(tokenFilePath, PosixFilePermissions.fromString("rw-------"));
+        } catch (UnsupportedOperationException e) {
+            // The file system has no POSIX permissions, as on Windows, where files in the user's folders are
+            // only readable by the user anyway.
         }
-
-        return initializedPrefs;
-    }
-
-    @Override
-    public void start(Stage primaryStage) {
-        logger.info("Starting AddressBook " + MainApp.VERSION);
-        ui.start(primaryStage);
+        FileUtil.writeToFile(tokenFilePath, token);
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
+        if (apiServer != null) {
+            apiServer.stop();
+        }
         try {
-            storage.saveUserPrefs(model.getUserPrefs());
-        } catch (IOException e) {
-            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+            if (commandExecutor != null && !commandExecutor.shutdown(SHUTDOWN_TIMEOUT_MILLIS)) {
+                logger.warning("Commands still running after " + SHUTDOWN_TIMEOUT_MILLIS + " ms will not be saved.");
+            }
+        } catch (InterruptedException e) {
+            logger.warning("Interrupted while waiting for commands to finish.");
+            Thread.currentThread().interrupt();
         }
+        AppInitializer.saveOnExit(model, storage);
     }
     public Storage getStorage() {
         return this.storage;
@@ -0,0 +1,424 @@
+package seedu.address.api;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DIFFICULTY;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.AsyncCommandExecutor;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.SetDifficultyCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.DeckSnapshot;
+import seedu.address.model.card.Card;
+import seedu.address.model.workspace.Workspace;
+
+/**
+ * Serves the open Deck over HTTP as JSON to other programs on the same computer, such as editor plugins.
+ * <p>
+ * Requests are handled on a pool of threads. Reads are answered from a {@link DeckSnapshot}, which many requests
+ * can read at once without waiting for the commands being run, and which includes the changes of every command that
+ * had finished when the request came in. Changes are made by running commands through the
+ * {@link AsyncCommandExecutor}, one at a time along with the commands entered in the app.
+ * <p>
+ * The server only listens on the loopback address, and only answers requests that send the token it chose when it
+ * was created, which only programs that can read the token file are given. Web pages open in a browser on the same
+ * computer can send requests to the loopback address too, so requests with an {@code Origin}, which browsers add to
+ * requests made by pages, and requests for a host name other than a loopback one, which a page can make by pointing
+ * its own host name at the loopback address, are refused as well. Requests that change the model must send their
+ * body as JSON, which pages cannot do without the browser asking the server first.
+ */
+public class ApiServer {
+
+    public static final String CARDS_PATH = "/api/cards";
+    public static final String DUE_PATH = "/api/due";
+    public static final String REVIEW_PATH = "/api/review";
+    public static final String COMMANDS_PATH = "/api/commands";
+
+    /** Name of the file, in the folder of the Decks, that the token of the running server is written to. */
+    public static final String TOKEN_FILE_NAME = "api-token.txt";
+
+    /** Header that requests must send the token in, after {@link #TOKEN_SCHEME}. */
+    public static final String TOKEN_HEADER = "Authorization";
+    public static final String TOKEN_SCHEME = "Bearer ";
+
+    /** Query parameter of the cards endpoint giving the words to find in the questions and answers. */
+    public static final String QUERY_PARAMETER = "q";
+
+    /** Query parameter of the due endpoint giving the most cards to return. */
+    public static final String LIMIT_PARAMETER = "limit";
+
+    public static final String MESSAGE_NOT_FOUND = "There is no endpoint at %1$s";
+    public static final String MESSAGE_METHOD_NOT_ALLOWED = "%1$s %2$s is not supported, use %3$s";
+    public static final String MESSAGE_INVALID_BODY = "The request body is not a JSON object: %1$s";
+    public static final String MESSAGE_MISSING_FIELD = "The request body has no %1$s";
+    public static final String MESSAGE_INVALID_LIMIT = "The limit must be a positive integer: %1$s";
+    public static final String MESSAGE_TIMED_OUT = "The app did not answer within %1$d seconds";
+    public static final String MESSAGE_INTERNAL_ERROR = "The request could not be handled: %1$s";
+    public static final String MESSAGE_UNAUTHORIZED = "The request must send the token in " + TOKEN_FILE_NAME
+            + " in the " + TOKEN_HEADER + " header, as: " + TOKEN_SCHEME + "TOKEN";
+    public static final String MESSAGE_FORBIDDEN = "Requests from web pages, or for a host other than localhost, "
+            + "are not accepted";
+    public static final String MESSAGE_UNSUPPORTED_MEDIA_TYPE = "The request body must be sent as application/json";
+
+    public static final int STATUS_OK = 200;
+    public static final int STATUS_BAD_REQUEST = 400;
+    public static final int STATUS_UNAUTHORIZED = 401;
+    public static final int STATUS_FORBIDDEN = 403;
+    public static final int STATUS_NOT_FOUND = 404;
+    public static final int STATUS_METHOD_NOT_ALLOWED = 405;
+    public static final int STATUS_UNSUPPORTED_MEDIA_TYPE = 415;
+    public static final int STATUS_INTERNAL_ERROR = 500;
+    public static final int STATUS_UNAVAILABLE = 503;
+
+    private static final String METHOD_GET = "GET";
+    private static final String METHOD_POST = "POST";
+    private static final String CONTENT_TYPE = "application/json; charset=utf-8";
+    private static final String JSON_MEDIA_TYPE = "application/json";
+    // Host names of the loopback address, without the port: localhost, 127.x.x.x and [::1]
+    private static final Pattern LOOPBACK_HOST = Pattern.compile(
+            "(?i)(localhost|127(\\.\\d{1,3}){3}|\\[::1])(:\\d+)?");
+    private static final int TOKEN_BYTE_COUNT = 32;
+    private static final long TIMEOUT_SECONDS = 30;
+    // Connections waiting to be accepted; 0 lets the system choose.
+    private static final int BACKLOG = 0;
+
+    private static final Logger logger = LogsCenter.getLogger(ApiServer.class);
+
+    private final AsyncCommandExecutor commandExecutor;
+    private final HttpServer server;
+    private final ExecutorService requestExecutor;
+    private final String token = newToken();
+
+    /**
+     * Creates an {@code ApiServer} on {@code port} of the loopback address, or on any free port if it is 0, which
+     * handles requests on {@code threadCount} threads and runs commands with {@code commandExecutor}. It does not
+     * accept requests until it is started.
+     * @throws IOException if the port cannot be listened on
+     */
+    public ApiServer(AsyncCommandExecutor commandExecutor, int port, int threadCount) throws IOException {
+        requireNonNull(commandExecutor);
+        assert threadCount > 0 : "Requests need at least one thread";
+        this.commandExecutor = commandExecutor;
+
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), BACKLOG);
+        AtomicInteger threadNumber = new AtomicInteger();
+        requestExecutor = Executors.newFixedThreadPool(threadCount, runnable -> {
+            Thread thread = new Thread(runnable, "api-request-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(requestExecutor);
+
+        addEndpoint(CARDS_PATH, METHOD_GET, this::getCards);
+        addEndpoint(DUE_PATH, METHOD_GET, this::getDueCards);
+        addEndpoint(REVIEW_PATH, METHOD_POST, this::reviewCard);
+        addEndpoint(COMMANDS_PATH, METHOD_POST, this::executeCommand);
+    }
+
+    /**
+     * Creates an {@code ApiServer} as in {@link #ApiServer(AsyncCommandExecutor, int, int)}, with one thread for
+     * requests per processor.
+     */
+    public ApiServer(AsyncCommandExecutor commandExecutor, int port) throws IOException {
+        this(commandExecutor, port, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        server.start();
+        logger.info("API server listening on " + server.getAddress());
+    }
+
+    /**
+     * Stops accepting requests, and stops the threads handling them once the requests being handled are answered.
+     */
+    public void stop() {
+        server.stop(0);
+        requestExecutor.shutdown();
+        logger.info("API server stopped");
+    }
+
+    /**
+     * Returns the port the server listens on, which is chosen by the system if the server was created with port 0.
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Returns the token that requests must send, which is chosen at random for each server.
+     */
+    public String getToken() {
+        return token;
+    }
+
+    private static String newToken() {
+        byte[] bytes = new byte[TOKEN_BYTE_COUNT];
+        new SecureRandom().nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * Lists the shown cards, or only those whose question or answer contains one of the words of the
+     * {@value #QUERY_PARAMETER} query parameter, if given.
+     */
+    private Object getCards(HttpExchange exchange) throws ApiException {
+        DeckSnapshot snapshot = commandExecutor.getDeckSnapshot();
+        String query = getQueryParameters(exchange).get(QUERY_PARAMETER);
+        List<String> keywords = query == null ? List.of() : Arrays.asList(query.trim().split("\\s+"));
+
+        List<JsonApiCard> cards = new ArrayList<>();
+        List<Card> snapshotCards = snapshot.getShownCards();
+        for (int i = 0; i < snapshotCards.size(); i++) {
+            Card card = snapshotCards.get(i);
+            if (query == null || query.isBlank() || containsAnyWord(card, keywords)) {
+                cards.add(new JsonApiCard(i + 1, card));
+            }
+        }
+        return toCardList(snapshot, cards);
+    }
+
+    /**
+     * Lists the cards of the Deck that are due now, whether or not they are shown, most overdue first, up to the
+     * {@value #LIMIT_PARAMETER} query parameter, if given. Cards that are not shown have no index.
+     */
+    private Object getDueCards(HttpExchange exchange) throws ApiException {
+        String limitParameter = getQueryParameters(exchange).get(LIMIT_PARAMETER);
+        if (limitParameter != null && !StringUtil.isNonZeroUnsignedInteger(limitParameter)) {
+            throw new ApiException(STATUS_BAD_REQUEST, String.format(MESSAGE_INVALID_LIMIT, limitParameter));
+        }
+        int limit = limitParameter == null ? Integer.MAX_VALUE : Integer.parseInt(limitParameter);
+
+        DeckSnapshot snapshot = commandExecutor.getDeckSnapshot();
+        LocalDateTime now = LocalDateTime.now();
+        List<JsonApiCard> cards = new ArrayList<>();
+        // The due cards come first, so only those and the first card that is not due are looked at.
+        for (Card card : snapshot.getCardsByDueDate()) {
+            if (cards.size() == limit || card.getNextPracticeDate().practiceDate.isAfter(now)) {
+                break;
+            }
+            OptionalInt shownIndex = snapshot.getShownIndexOf(card);
+            cards.add(new JsonApiCard(shownIndex.isPresent() ? shownIndex.getAsInt() + 1 : null, card));
+        }
+        return toCardList(snapshot, cards);
+    }
+
+    /**
+     * Rates the card at the {@code index} of the request body with its {@code difficulty}, as the {@code set}
+     * command does.
+     */
+    private Object reviewCard(HttpExchange exchange) throws ApiException {
+        JsonApiRequest request = readRequest(exchange);
+        if (request.getIndex() == null) {
+            throw new ApiException(STATUS_BAD_REQUEST, String.format(MESSAGE_MISSING_FIELD, "index"));
+        }
+        if (request.getDifficulty() == null) {
+            throw new ApiException(STATUS_BAD_REQUEST, String.format(MESSAGE_MISSING_FIELD, "difficulty"));
+        }
+        return execute(SetDifficultyCommand.COMMAND_WORD + " " + request.getIndex() + " " + PREFIX_DIFFICULTY
+                + request.getDifficulty());
+    }
+
+    /**
+     * Executes the {@code command} of the request body, as if it had been entered in the app.
+     */
+    private Object executeCommand(HttpExchange exchange) throws ApiException {
+        JsonApiRequest request = readRequest(exchange);
+        if (request.getCommand() == null) {
+            throw new ApiException(STATUS_BAD_REQUEST, String.format(MESSAGE_MISSING_FIELD, "command"));
+        }
+        return execute(request.getCommand());
+    }
+
+    private Object execute(String commandText) throws ApiException {
+        CommandResult result = await(commandExecutor.submitForResult(commandText));
+        return Map.of("feedback", result.getFeedbackToUser());
+    }
+
+    private static Map<String, Object> toCardList(DeckSnapshot snapshot, List<JsonApiCard> cards) {
+        Map<String, Object> cardList = new LinkedHashMap<>();
+        cardList.put("version", snapshot.getVersion());
+        cardList.put("deck", Workspace.deckNameOf(snapshot.getDeckFilePath()));
+        cardList.put("deckLoading", snapshot.isDeckLoading());
+        cardList.put("cards", cards);
+        return cardList;
+    }
+
+    private static boolean containsAnyWord(Card card, List<String> words) {
+        return words.stream().anyMatch(word -> StringUtil.containsWordIgnoreCase(card.getQuestion().question, word)
+                || StringUtil.containsWordIgnoreCase(card.getAnswer().answer, word));
+    }
+
+    /**
+     * Waits for {@code future}, turning a failed command into a bad request.
+     */
+    private static <T> T await(CompletableFuture<T> future) throws ApiException {
+        try {
+            return future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            throw new ApiException(STATUS_UNAVAILABLE, String.format(MESSAGE_TIMED_OUT, TIMEOUT_SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiException(STATUS_UNAVAILABLE, String.format(MESSAGE_TIMED_OUT, TIMEOUT_SECONDS));
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof CommandException || cause instanceof ParseException) {
+                throw new ApiException(STATUS_BAD_REQUEST, cause.getMessage());
+            }
+            throw new ApiException(STATUS_INTERNAL_ERROR, String.format(MESSAGE_INTERNAL_ERROR, cause));
+        }
+    }
+
+    private static JsonApiRequest readRequest(HttpExchange exchange) throws ApiException {
+        try {
+            String body = new String(exchange.getRequestBody().readAllBytes(), UTF_8);
+            JsonApiRequest request = JsonUtil.fromJsonString(body, JsonApiRequest.class);
+            if (request == null) {
+                throw new ApiException(STATUS_BAD_REQUEST, String.format(MESSAGE_INVALID_BODY, body));
+            }
+            return request;
+        } catch (IOException e) {
+            throw new ApiException(STATUS_BAD_REQUEST, String.format(MESSAGE_INVALID_BODY, e.getMessage()));
+        }
+    }
+
+    private static Map<String, String> getQueryParameters(HttpExchange exchange) {
+        Map<String, String> parameters = new HashMap<>();
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query == null) {
+            return parameters;
+        }
+        for (String parameter : query.split("&")) {
+            String[] nameAndValue = parameter.split("=", 2);
+            parameters.put(URLDecoder.decode(nameAndValue[0], UTF_8),
+                    nameAndValue.length == 2 ? URLDecoder.decode(nameAndValue[1], UTF_8) : "");
+        }
+        return parameters;
+    }
+
+    /**
+     * Answers requests to {@code method} {@code path} with the JSON of what {@code endpoint} returns, and every
+     * other request under {@code path} with an error.
+     */
+    private void addEndpoint(String path, String method, Endpoint endpoint) {
+        server.createContext(path, exchange -> {
+            try {
+                String requestPath = exchange.getRequestURI().getPath();
+                if (!requestPath.equals(path)) {
+                    throw new ApiException(STATUS_NOT_FOUND, String.format(MESSAGE_NOT_FOUND, requestPath));
+                }
+                if (!exchange.getRequestMethod().equals(method)) {
+                    throw new ApiException(STATUS_METHOD_NOT_ALLOWED, String.format(MESSAGE_METHOD_NOT_ALLOWED,
+                            exchange.getRequestMethod(), path, method));
+                }
+                checkAllowed(exchange);
+                send(exchange, STATUS_OK, endpoint.handle(exchange));
+            } catch (ApiException e) {
+                send(exchange, e.status, Map.of("error", e.getMessage()));
+            } catch (RuntimeException e) {
+                logger.severe("API request failed: " + StringUtil.getDetails(e));
+                send(exchange, STATUS_INTERNAL_ERROR, Map.of("error", String.format(MESSAGE_INTERNAL_ERROR, e)));
+            } finally {
+                exchange.close();
+            }
+        });
+    }
+
+    /**
+     * Checks that the request is not from a web page, sends the token and, if it has a body, sends it as JSON.
+     */
+    private void checkAllowed(HttpExchange exchange) throws ApiException {
+        Headers headers = exchange.getRequestHeaders();
+        String host = headers.getFirst("Host");
+        if (headers.containsKey("Origin") || host == null || !LOOPBACK_HOST.matcher(host).matches()) {
+            throw new ApiException(STATUS_FORBIDDEN, MESSAGE_FORBIDDEN);
+        }
+
+        String authorization = headers.getFirst(TOKEN_HEADER);
+        // Compared in constant time, so that the time taken does not give away how much of the token is right.
+        if (authorization == null || !MessageDigest.isEqual((TOKEN_SCHEME + token).getBytes(UTF_8),
+                authorization.getBytes(UTF_8))) {
+            throw new ApiException(STATUS_UNAUTHORIZED, MESSAGE_UNAUTHORIZED);
+        }
+
+        if (exchange.getRequestMethod().equals(METHOD_POST)) {
+            String contentType = headers.getFirst("Content-Type");
+            if (contentType == null || !contentType.split(";", 2)[0].trim().equalsIgnoreCase(JSON_MEDIA_TYPE)) {
+                throw new ApiException(STATUS_UNSUPPORTED_MEDIA_TYPE, MESSAGE_UNSUPPORTED_MEDIA_TYPE);
+            }
+        }
+    }
+
+    private static void send(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes;
+        try {
+            bytes = JsonUtil.toJsonString(body).getBytes(UTF_8);
+        } catch (JsonProcessingException e) {
+            logger.severe("API response could not be written: " + StringUtil.getDetails(e));
+            exchange.sendResponseHeaders(STATUS_INTERNAL_ERROR, -1);
+            return;
+        }
+        exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream responseBody = exchange.getResponseBody()) {
+            responseBody.write(bytes);
+        }
+    }
+
+    /**
+     * Handles a request to an endpoint, returning the body of the response to be sent as JSON.
+     */
+    @FunctionalInterface
+    private interface Endpoint {
+        Object handle(HttpExchange exchange) throws ApiException;
+    }
+
+    /**
+     * Signals that a request cannot be answered, with the status to answer it with instead.
+     */
+    private static class ApiException extends Exception {
+        private final int status;
+
+        ApiException(int status, String message) {
+            super(message);
+            this.status = status;
+        }
+    }
+}
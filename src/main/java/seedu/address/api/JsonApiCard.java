@@ -0,0 +1,48 @@
+package seedu.address.api;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.card.Card;
+import seedu.address.model.card.Hint;
+import seedu.address.model.card.PracticeDate;
+
+/**
+ * Jackson-friendly version of a {@link Card} sent by the {@link ApiServer}, with the index that commands refer to
+ * it by.
+ */
+class JsonApiCard {
+
+    // Null if the card is not shown in the card list
+    private final Integer index;
+    private final String question;
+    private final String answer;
+    private final List<String> tags;
+    private final String hint;
+    private final String difficulty;
+    private final int leitnerBox;
+    private final Integer solveCount;
+    private final String nextPracticeDate;
+    private final String lastPracticeDate;
+
+    /**
+     * Converts {@code source}, shown at {@code index} (one-based) in the card list, or not shown if {@code index} is
+     * null, for Jackson use.
+     */
+    JsonApiCard(Integer index, Card source) {
+        this.index = index;
+        question = source.getQuestion().question;
+        answer = source.getAnswer().answer;
+        tags = source.getTags().stream().map(tag -> tag.tagName).collect(Collectors.toList());
+        hint = source.getHint() == null || source.getHint() instanceof Hint.EmptyHint ? null : source.getHint().hint;
+        difficulty = source.getDifficulty();
+        leitnerBox = source.getLeitnerBox().box;
+        solveCount = source.getSolveCount() == null ? null : source.getSolveCount().getSolveCount();
+        nextPracticeDate = toIsoString(source.getNextPracticeDate());
+        lastPracticeDate = toIsoString(source.getLastPracticeDate());
+    }
+
+    private static String toIsoString(PracticeDate practiceDate) {
+        return practiceDate == null ? null : practiceDate.practiceDate.toString();
+    }
+}
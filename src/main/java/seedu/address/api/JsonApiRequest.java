@@ -0,0 +1,41 @@
+package seedu.address.api;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly version of the body of a request that changes the model through the {@link ApiServer}. Only the
+ * fields of the endpoint it is sent to need to be present.
+ */
+class JsonApiRequest {
+
+    private final String command;
+    private final Integer index;
+    private final String difficulty;
+
+    /**
+     * Constructs a {@code JsonApiRequest} with the given fields, any of which may be null.
+     */
+    @JsonCreator
+    JsonApiRequest(@JsonProperty("command") String command, @JsonProperty("index") Integer index,
+            @JsonProperty("difficulty") String difficulty) {
+        this.command = command;
+        this.index = index;
+        this.difficulty = difficulty;
+    }
+
+    /** Returns the command to execute, for the commands endpoint. */
+    String getCommand() {
+        return command;
+    }
+
+    /** Returns the one-based index of the card to rate, for the review endpoint. */
+    Integer getIndex() {
+        return index;
+    }
+
+    /** Returns the difficulty to rate the card with, for the review endpoint. */
+    String getDifficulty() {
+        return difficulty;
+    }
+}
@@ -0,0 +1,187 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+import java.util.logging.Logger;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Times the phases of starting the app, from reading the config file to showing the first frame, so that the time
+ * until the app can be used can be watched as decks grow.
+ * <p>
+ * Phases follow one another: starting a phase ends the phase before it. The phases are timed on whichever thread
+ * starts them, as startup moves from the launcher thread to the JavaFX application thread. Work that runs alongside
+ * the phases, such as loading the Deck on a background thread, times itself and adds its phase when it is done.
+ */
+public class StartupTimer {
+
+    public static final String PHASE_CONFIG = "config";
+    public static final String PHASE_PREFS = "prefs";
+    public static final String PHASE_DECK_LOAD = "deck load";
+    public static final String PHASE_MODEL = "model";
+    public static final String PHASE_FXML = "FXML";
+    public static final String PHASE_FIRST_FRAME = "first frame";
+
+    private static final Logger logger = LogsCenter.getLogger(StartupTimer.class);
+
+    private final LongSupplier nanoClock;
+    private final long startNanos;
+    private final List<Phase> phases = new ArrayList<>();
+
+    // Phase being timed, and when it started; null if no phase is being timed.
+    private String currentPhaseName;
+    private long currentPhaseStartNanos;
+    private Duration timeToInteractive;
+
+    /**
+     * Creates a {@code StartupTimer} that starts timing now.
+     */
+    public StartupTimer() {
+        this(System::nanoTime);
+    }
+
+    /**
+     * Creates a {@code StartupTimer} that reads the time in nanoseconds from {@code nanoClock}, starting now.
+     */
+    public StartupTimer(LongSupplier nanoClock) {
+        requireNonNull(nanoClock);
+        this.nanoClock = nanoClock;
+        this.startNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * Ends the phase being timed, if any, and starts timing the phase {@code phaseName}.
+     */
+    public synchronized void startPhase(String phaseName) {
+        requireNonNull(phaseName);
+        long now = nanoClock.getAsLong();
+        endCurrentPhase(now);
+        currentPhaseName = phaseName;
+        currentPhaseStartNanos = now;
+    }
+
+    /**
+     * Ends the phase being timed, if any.
+     */
+    public synchronized void endPhase() {
+        endCurrentPhase(nanoClock.getAsLong());
+    }
+
+    /**
+     * Adds {@code phase}, which was timed apart from the other phases, to the phases timed so far.
+     */
+    public synchronized void addPhase(Phase phase) {
+        requireNonNull(phase);
+        phases.add(phase);
+        logger.info("Startup phase " + phase.getName() + " took " + phase.getDuration().toMillis() + " ms");
+    }
+
+    /**
+     * Ends the phase being timed, if any, and records the time since the timer started as the time until the app
+     * could be used. Does nothing if it has been called before.
+     */
+    public synchronized void markInteractive() {
+        if (timeToInteractive != null) {
+            return;
+        }
+        long now = nanoClock.getAsLong();
+        endCurrentPhase(now);
+        timeToInteractive = Duration.ofNanos(now - startNanos);
+        logger.info("Startup took " + timeToInteractive.toMillis() + " ms until the app could be used");
+    }
+
+    /**
+     * Returns the phases timed so far, in the order they ran. The phase being timed is not included.
+     */
+    public synchronized List<Phase> getPhases() {
+        return Collections.unmodifiableList(new ArrayList<>(phases));
+    }
+
+    /**
+     * Returns the time from the start of the timer until the app could be used, if the app can be used yet.
+     */
+    public synchronized Optional<Duration> getTimeToInteractive() {
+        return Optional.ofNullable(timeToInteractive);
+    }
+
+    private void endCurrentPhase(long now) {
+        if (currentPhaseName == null) {
+            return;
+        }
+        Phase phase = new Phase(currentPhaseName, Duration.ofNanos(now - currentPhaseStartNanos));
+        phases.add(phase);
+        logger.info("Startup phase " + phase.getName() + " took " + phase.getDuration().toMillis() + " ms");
+        currentPhaseName = null;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return new ToStringBuilder(this)
+                .add("phases", phases)
+                .add("timeToInteractive", timeToInteractive)
+                .toString();
+    }
+
+    /**
+     * A phase of startup and how long it took.
+     * Guarantees: immutable.
+     */
+    public static class Phase {
+        private final String name;
+        private final Duration duration;
+
+        /**
+         * Creates a phase called {@code name} that took {@code duration}.
+         */
+        public Phase(String name, Duration duration) {
+            requireNonNull(name);
+            requireNonNull(duration);
+            this.name = name;
+            this.duration = duration;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Duration getDuration() {
+            return duration;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Phase)) {
+                return false;
+            }
+
+            Phase otherPhase = (Phase) other;
+            return name.equals(otherPhase.name) && duration.equals(otherPhase.duration);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, duration);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("name", name)
+                    .add("duration", duration)
+                    .toString();
+        }
+    }
+}
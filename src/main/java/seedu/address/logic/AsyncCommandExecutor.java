@@ -0,0 +1,177 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.DeckSnapshot;
+
+/**
+ * Runs commands on a single worker thread, one at a time in the order they are submitted, so that parsing them,
+ * changing the model and saving the Deck do not hold up the JavaFX application thread.
+ * <p>
+ * Once the executor is created, the model is only changed on its worker thread, which is its single writer. After
+ * each command, the worker thread publishes a {@link DeckSnapshot} of the open Deck, and copies it together with
+ * the other parts of the model that the UI shows to the {@link PublishedModel} through {@code uiExecutor}, which
+ * runs tasks on the JavaFX application thread in the app. A copy that is taken while an earlier one is still
+ * waiting to be handed over replaces it, so a burst of commands is shown in one update.
+ * <p>
+ * Other threads, such as those of the API server, read the same snapshots. As each one is published before the
+ * change is reported as done, readers never wait for the commands being run and still see the changes of the
+ * commands they have seen finish.
+ */
+public class AsyncCommandExecutor {
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncCommandExecutor.class);
+
+    private final Logic logic;
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "command-executor");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Executor uiExecutor;
+    private final PublishedModel publishedModel;
+
+    // Latest copy of the model not yet handed to the published model; null if there is none.
+    private final AtomicReference<PublishedModel.Snapshot> pendingSnapshot = new AtomicReference<>();
+    // Latest copy of the model taken; only used on the worker thread once it has started.
+    private PublishedModel.Snapshot lastSnapshot;
+
+    /**
+     * Creates an {@code AsyncCommandExecutor} that executes commands with {@code logic}, and publishes the model
+     * through {@code uiExecutor}. Must be called on the thread that {@code uiExecutor} runs tasks on, before the
+     * model is changed on any other thread.
+     */
+    public AsyncCommandExecutor(Logic logic, Executor uiExecutor) {
+        requireAllNonNull(logic, uiExecutor);
+        this.logic = logic;
+        this.uiExecutor = uiExecutor;
+        this.lastSnapshot = PublishedModel.Snapshot.of(logic, null);
+        this.publishedModel = new PublishedModel(lastSnapshot);
+    }
+
+    /**
+     * Returns the parts of the model shown by the UI, as last published.
+     */
+    public PublishedModel getPublishedModel() {
+        return publishedModel;
+    }
+
+    /**
+     * Queues {@code commandText} to be executed after the commands submitted before it, and returns it as a
+     * {@code PendingCommand} whose status follows its progress.
+     */
+    public PendingCommand submit(String commandText) {
+        PendingCommand pendingCommand = new PendingCommand(commandText);
+        worker.execute(() -> execute(pendingCommand));
+        return pendingCommand;
+    }
+
+    /**
+     * Queues {@code commandText} to be executed after the commands submitted before it, for a caller that is not on
+     * the JavaFX application thread, such as the API server. Returns a future that is completed on the worker thread
+     * with the result of the command, or with the {@code CommandException} or {@code ParseException} it failed with.
+     */
+    public CompletableFuture<CommandResult> submitForResult(String commandText) {
+        requireNonNull(commandText);
+        CompletableFuture<CommandResult> future = new CompletableFuture<>();
+        worker.execute(() -> run(commandText, (result, failure) -> {
+            if (failure == null) {
+                future.complete(result);
+            } else {
+                future.completeExceptionally(failure);
+            }
+        }));
+        return future;
+    }
+
+    /**
+     * Returns the latest snapshot of the open Deck, which includes the changes of every command and task that had
+     * finished by the time of the call. Can be called on any thread.
+     */
+    public DeckSnapshot getDeckSnapshot() {
+        // The first snapshot is published when the executor is created.
+        return logic.getDeckSnapshot().orElseThrow();
+    }
+
+    /**
+     * Queues {@code task}, which changes the model, to be run on the worker thread after the commands submitted
+     * before it, and publishes the model once it has run.
+     */
+    public void submitTask(Runnable task) {
+        worker.execute(() -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                logger.severe("Task failed: " + StringUtil.getDetails(e));
+            }
+            publish();
+        });
+    }
+
+    /**
+     * Runs the commands and tasks already submitted, waiting up to {@code timeoutMillis} for them, and stops the
+     * worker thread. Returns true if they all finished in time.
+     */
+    public boolean shutdown(long timeoutMillis) throws InterruptedException {
+        worker.shutdown();
+        return worker.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void execute(PendingCommand pendingCommand) {
+        uiExecutor.execute(pendingCommand::markRunning);
+        run(pendingCommand.getCommandText(), (result, failure) -> uiExecutor.execute(() -> {
+            if (failure == null) {
+                pendingCommand.succeed(result);
+            } else {
+                pendingCommand.fail(failure);
+            }
+        }));
+    }
+
+    /**
+     * Executes {@code commandText} on the worker thread, publishes the model, and then hands
+     * {@code onDone} the result of the command, or the exception it failed with.
+     */
+    private void run(String commandText, BiConsumer<CommandResult, Exception> onDone) {
+        CommandResult result = null;
+        Exception failure = null;
+        try {
+            result = logic.execute(commandText);
+        } catch (CommandException | ParseException e) {
+            failure = e;
+        } catch (RuntimeException e) {
+            logger.severe("Command failed: " + commandText + StringUtil.getDetails(e));
+            failure = e;
+        }
+
+        // The model is published first, so that the result is seen together with the model.
+        publish();
+        onDone.accept(result, failure);
+    }
+
+    /**
+     * Publishes a snapshot of the open Deck, copies the model and hands the copy to the published model, unless a
+     * copy is already waiting to be handed over, in which case this copy is handed over in its place.
+     */
+    private void publish() {
+        lastSnapshot = PublishedModel.Snapshot.of(logic, lastSnapshot);
+        if (pendingSnapshot.getAndSet(lastSnapshot) == null) {
+            uiExecutor.execute(() -> publishedModel.apply(pendingSnapshot.getAndSet(null)));
+        }
+    }
+}
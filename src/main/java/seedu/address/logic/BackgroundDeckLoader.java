@@ -0,0 +1,137 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StartupTimer;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.Deck;
+import seedu.address.model.DeckLoadProgress;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyDeck;
+import seedu.address.model.analytics.ReviewStatistics;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.Storage;
+
+/**
+ * Loads the open Deck, and the statistics over the review log, from storage on a background thread, so that the
+ * main window can be shown before a large Deck has been read.
+ * <p>
+ * The model is only used on the thread that {@code modelExecutor} runs tasks on, which is the worker thread of the
+ * {@link AsyncCommandExecutor} in the app: the progress of the load, and then the loaded Deck, are handed to the
+ * model through it. A report of progress that comes while an earlier one is still waiting to be run replaces it,
+ * so that a fast load does not flood that thread with reports. The Deck must already be marked as loading in the
+ * model, with {@link DeckLoadProgress#started()}, so that no command uses it before it has loaded.
+ */
+public class BackgroundDeckLoader {
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundDeckLoader.class);
+
+    private final Model model;
+    private final Storage storage;
+    private final StartupTimer startupTimer;
+    private final Executor modelExecutor;
+
+    // Latest progress not yet handed to the model; null if there is none.
+    private final AtomicReference<DeckLoadProgress> pendingProgress = new AtomicReference<>();
+
+    /**
+     * Creates a {@code BackgroundDeckLoader} that loads the Deck at the deck file path of {@code storage} into
+     * {@code model}, running every change to the model with {@code modelExecutor}, and times the load with
+     * {@code startupTimer}.
+     */
+    public BackgroundDeckLoader(Model model, Storage storage, StartupTimer startupTimer, Executor modelExecutor) {
+        requireAllNonNull(model, storage, startupTimer, modelExecutor);
+        this.model = model;
+        this.storage = storage;
+        this.startupTimer = startupTimer;
+        this.modelExecutor = modelExecutor;
+    }
+
+    /**
+     * Starts loading the Deck on a new background thread.
+     */
+    public void start() {
+        Thread thread = new Thread(this::load, "deck-loader");
+        // Closing the app while a large Deck is loading should not wait for the load.
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Loads the Deck and the review statistics on the calling thread, then hands them to the model through
+     * {@code modelExecutor}.
+     */
+    public void load() {
+        long startNanos = System.nanoTime();
+        ReadOnlyDeck deck = readDeck();
+        Optional<ReviewStatistics> statistics = readReviewStatistics();
+        startupTimer.addPhase(new StartupTimer.Phase(StartupTimer.PHASE_DECK_LOAD,
+                Duration.ofNanos(System.nanoTime() - startNanos)));
+
+        modelExecutor.execute(() -> {
+            model.setDeck(deck);
+            statistics.ifPresent(this::setReviewStatistics);
+            model.setDeckLoadProgress(DeckLoadProgress.loaded(model.getDeckSize()));
+        });
+    }
+
+    /**
+     * Returns the Deck in storage, the sample Deck if there is none, or an empty Deck if it cannot be read.
+     */
+    private ReadOnlyDeck readDeck() {
+        logger.info("Loading data file : " + storage.getDeckFilePath());
+        try {
+            Optional<ReadOnlyDeck> deckOptional = storage.readDeck(storage.getDeckFilePath(), this::reportProgress);
+            if (!deckOptional.isPresent()) {
+                logger.info("Creating a new data file " + storage.getDeckFilePath()
+                        + " populated with a sample Deck.");
+            }
+            return deckOptional.orElseGet(SampleDataUtil::getSampleDeck);
+        } catch (DataLoadingException e) {
+            logger.warning("Data file at " + storage.getDeckFilePath() + " could not be loaded."
+                    + " Will be starting with an empty Deck.");
+            return new Deck();
+        }
+    }
+
+    /**
+     * Returns the review statistics in storage, or an empty {@code Optional} if there are none or they cannot be
+     * read, in which case the model works them out from the review log when they are first needed.
+     */
+    private Optional<ReviewStatistics> readReviewStatistics() {
+        try {
+            return storage.readReviewStatistics();
+        } catch (DataLoadingException e) {
+            logger.warning("Review statistics file at " + storage.getReviewStatisticsFilePath()
+                    + " could not be loaded. Will be working them out from the review log.");
+            return Optional.empty();
+        }
+    }
+
+    private void setReviewStatistics(ReviewStatistics statistics) {
+        try {
+            model.setReviewStatistics(statistics);
+        } catch (IOException e) {
+            logger.warning("Failed to read review log " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Hands {@code progress} to the model, unless a report is already waiting to be handed over, in which case
+     * {@code progress} is handed over in its place.
+     */
+    private void reportProgress(DeckLoadProgress progress) {
+        if (pendingProgress.getAndSet(progress) == null) {
+            modelExecutor.execute(() -> model.setDeckLoadProgress(pendingProgress.getAndSet(null)));
+        }
+    }
+}
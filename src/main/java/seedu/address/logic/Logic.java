@@ -1,15 +1,23 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
 
+import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.StartupTimer;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.DeckLoadProgress;
+import seedu.address.model.DeckSnapshot;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyDeck;
 import seedu.address.model.card.Card;
+import seedu.address.model.due.DueCardTracker;
+import seedu.address.model.due.DueForecast;
 import seedu.address.model.goal.Goal;
 
 /**
@@ -26,6 +34,12 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Saves the changes made by the commands executed since the model was last saved, if there are any.
+     * @throws CommandException If the changes could not be saved.
+     */
+    void save() throws CommandException;
+
     /**
      * Returns the Deck.
      *
@@ -41,6 +55,11 @@ public interface Logic {
      */
     Path getDeckFilePath();
 
+    /**
+     * Returns the user prefs' deck file path, which changes whenever another Deck is opened.
+     */
+    ReadOnlyObjectProperty<Path> deckFilePathProperty();
+
     /**
      * Returns the user prefs' GUI settings.
      */
@@ -52,4 +71,44 @@ public interface Logic {
     void setGuiSettings(GuiSettings guiSettings);
 
     Goal getGoal();
+
+    /**
+     * Returns the tracker of the cards that are due for practice.
+     */
+    DueCardTracker getDueCardTracker();
+
+    /**
+     * Returns the forecast of the number of cards due on each day.
+     */
+    DueForecast getDueForecast();
+
+    /**
+     * Returns how far loading the Deck from storage has got, which changes as the load goes on.
+     */
+    ReadOnlyObjectProperty<DeckLoadProgress> deckLoadProgressProperty();
+
+    /**
+     * Returns the latest snapshot of the open Deck, if one has been published. Can be called on any thread.
+     *
+     * @see Model#getDeckSnapshot()
+     */
+    Optional<DeckSnapshot> getDeckSnapshot();
+
+    /**
+     * Publishes a snapshot of the open Deck as it is now, and returns it. Must be called on the thread that
+     * commands are executed on, between commands.
+     *
+     * @see Model#publishDeckSnapshot()
+     */
+    DeckSnapshot publishDeckSnapshot();
+
+    /**
+     * Returns the timer of the phases of starting the app.
+     */
+    StartupTimer getStartupTimer();
+
+    /**
+     * Returns the amount the practice dates of the cards have been shifted by, which changes on every shift.
+     */
+    ReadOnlyObjectProperty<Duration> scheduleOffsetProperty();
 }
@@ -3,20 +3,31 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
 import java.util.logging.Logger;
 
+import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StartupTimer;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.DeckParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.DeckLoadProgress;
+import seedu.address.model.DeckSnapshot;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyDeck;
+import seedu.address.model.analytics.ReviewStatistics;
 import seedu.address.model.card.Card;
+import seedu.address.model.due.DueCardTracker;
+import seedu.address.model.due.DueForecast;
 import seedu.address.model.goal.Goal;
+import seedu.address.model.workspace.Workspace;
 import seedu.address.storage.Storage;
 
 /**
@@ -33,13 +44,31 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final DeckParser deckParser;
+    private final boolean isSavedAfterEveryCommand;
+
+    // Whether the model has changed since it was last saved, and whether those changes include opening a Deck.
+    private boolean hasUnsavedChanges;
+    private boolean isWorkspaceChanged;
+    // Number of reviews in the review statistics when they were last saved, or -1 if they have not been saved.
+    private long savedReviewCount = -1;
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which saves the model
+     * after every command.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, true);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}. If
+     * {@code isSavedAfterEveryCommand} is false, the model is only saved when {@link #save()} is called, and
+     * before and after any command that cannot run in a batch, such as opening another Deck.
+     */
+    public LogicManager(Model model, Storage storage, boolean isSavedAfterEveryCommand) {
         this.model = model;
         this.storage = storage;
+        this.isSavedAfterEveryCommand = isSavedAfterEveryCommand;
         deckParser = new DeckParser();
     }
 
@@ -51,17 +80,80 @@ public class LogicManager implements Logic {
         Command command = deckParser.parseCommand(commandText);
         String answer;
 
+        if (model.isDeckLoading()) {
+            if (command.requiresDeck()) {
+                throw new CommandException(Messages.MESSAGE_DECK_LOADING);
+            }
+            // Nothing is saved, as the Deck in storage has not been read into the model yet.
+            return command.execute(model);
+        }
+
+        if (!isSavedAfterEveryCommand && !command.isBatchable()) {
+            // Changes of earlier commands must reach the open Deck's file before another Deck is opened.
+            save();
+        }
+
+        Path deckFilePath = model.getDeckFilePath();
         commandResult = command.execute(model);
+        hasUnsavedChanges = true;
+
+        if (!model.getDeckFilePath().equals(deckFilePath)) {
+            // Another Deck was opened; the one open until now was saved before the command.
+            storage.setDeckFilePath(model.getDeckFilePath());
+            isWorkspaceChanged = true;
+        }
+        if (isSavedAfterEveryCommand || !command.isBatchable()) {
+            save();
+        }
+
+        return commandResult;
+    }
+
+    @Override
+    public void save() throws CommandException {
+        if (!hasUnsavedChanges) {
+            return;
+        }
 
         try {
+            if (saveIdleDecks() || isWorkspaceChanged) {
+                storage.saveWorkspace(model.getDeckManifests());
+            }
             storage.saveDeck(model.getDeck());
+            model.getReviewLog().flush();
+            saveReviewStatistics();
         } catch (AccessDeniedException e) {
             throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
             throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
         }
+        hasUnsavedChanges = false;
+        isWorkspaceChanged = false;
+    }
 
-        return commandResult;
+    /**
+     * Saves the review statistics if reviews have been added to them since they were last saved.
+     * They are saved after the review log, so that statistics in storage never count reviews the log has lost.
+     */
+    private void saveReviewStatistics() throws IOException {
+        ReviewStatistics statistics = model.getReviewStatistics();
+        if (statistics.getReviewCount() != savedReviewCount) {
+            storage.saveReviewStatistics(statistics);
+            savedReviewCount = statistics.getReviewCount();
+        }
+    }
+
+    /**
+     * Saves the Decks that are not open whose changes are due to be saved, and returns true if there were any.
+     */
+    private boolean saveIdleDecks() throws IOException {
+        Workspace workspace = model.getWorkspace();
+        List<String> deckNames = model.getIdleDecksToSave();
+        for (String deckName : deckNames) {
+            storage.saveDeck(workspace.getIdleDeck(deckName), workspace.getDeckFilePath(deckName));
+            workspace.markSaved(deckName);
+        }
+        return !deckNames.isEmpty();
     }
 
     @Override
@@ -79,6 +171,11 @@ public class LogicManager implements Logic {
         return model.getDeckFilePath();
     }
 
+    @Override
+    public ReadOnlyObjectProperty<Path> deckFilePathProperty() {
+        return model.deckFilePathProperty();
+    }
+
     @Override
     public GuiSettings getGuiSettings() {
         return model.getGuiSettings();
@@ -92,4 +189,39 @@ public class LogicManager implements Logic {
     public Goal getGoal() {
         return model.getGoal();
     }
+
+    @Override
+    public DueCardTracker getDueCardTracker() {
+        return model.getDueCardTracker();
+    }
+
+    @Override
+    public DueForecast getDueForecast() {
+        return model.getDueForecast();
+    }
+
+    @Override
+    public ReadOnlyObjectProperty<DeckLoadProgress> deckLoadProgressProperty() {
+        return model.deckLoadProgressProperty();
+    }
+
+    @Override
+    public Optional<DeckSnapshot> getDeckSnapshot() {
+        return model.getDeckSnapshot();
+    }
+
+    @Override
+    public DeckSnapshot publishDeckSnapshot() {
+        return model.publishDeckSnapshot();
+    }
+
+    @Override
+    public StartupTimer getStartupTimer() {
+        return model.getStartupTimer();
+    }
+
+    @Override
+    public ReadOnlyObjectProperty<Duration> scheduleOffsetProperty() {
+        return model.scheduleOffsetProperty();
+    }
 }
@@ -31,6 +31,9 @@ public class Messages {
 
     public static final String MESSAGE_CARDS_PRACTISE_VIEW = "%1$s";
 
+    public static final String MESSAGE_DECK_LOADING = "Your deck is still loading. Until it has loaded, "
+            + "only the help, diagnostics and exit commands can be used.";
+
     public static final String MESSAGE_RANDOM_INDEX_NOT_INITIALISED = "Random index cannot be used because "
             + "you need to use the random command first.";
 
@@ -50,12 +53,7 @@ public class Messages {
      * Formats the {@code card} to display to the user.
      */
     public static String format(Card card) {
-        final StringBuilder stringBuilder = new StringBuilder();
-        stringBuilder.append("Question: ")
-                .append(card.getQuestion())
-                .append("; Answer: ")
-                .append(card.getAnswer());
-        return stringBuilder.toString();
+        return card.getRenderModel().getSummary();
     }
 
     /**
@@ -109,4 +107,27 @@ public class Messages {
                 .append(card.getHint());
         return stringBuilder.toString();
     }
+
+    /**
+     * Formats the {@code card} to display its Question to the user during a review session.
+     */
+    public static String formatReview(Card card) {
+        final StringBuilder stringBuilder = new StringBuilder();
+        stringBuilder.append("Reviewing Question: ")
+                .append(card.getQuestion());
+        return stringBuilder.toString();
+    }
+
+    /**
+     * Formats the {@code card} to display its Answer and new Difficulty after it is rated during a review session.
+     */
+    public static String formatReviewAnswer(Card card) {
+        final StringBuilder stringBuilder = new StringBuilder();
+        stringBuilder.append("Answer: ")
+                .append(card.getAnswer())
+                .append(" (Difficulty level: ")
+                .append(card.getDifficulty())
+                .append(")");
+        return stringBuilder.toString();
+    }
 }
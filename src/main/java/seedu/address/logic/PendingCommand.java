@@ -0,0 +1,98 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.CommandResult;
+
+/**
+ * A command submitted to an {@link AsyncCommandExecutor}, which is run after the commands submitted before it.
+ * Its status, result and failure only change on the JavaFX application thread.
+ */
+public class PendingCommand {
+
+    /**
+     * The stages a submitted command goes through.
+     */
+    public enum Status {
+        QUEUED, RUNNING, SUCCEEDED, FAILED;
+
+        /**
+         * Returns true if the command has finished running.
+         */
+        public boolean isDone() {
+            return this == SUCCEEDED || this == FAILED;
+        }
+    }
+
+    private final String commandText;
+    private final ReadOnlyObjectWrapper<Status> status = new ReadOnlyObjectWrapper<>(Status.QUEUED);
+    private CommandResult result;
+    private Exception failure;
+
+    /**
+     * Creates a queued command for {@code commandText}.
+     */
+    PendingCommand(String commandText) {
+        requireNonNull(commandText);
+        this.commandText = commandText;
+    }
+
+    public String getCommandText() {
+        return commandText;
+    }
+
+    public Status getStatus() {
+        return status.get();
+    }
+
+    /**
+     * Returns the status of the command, which changes as it is run.
+     */
+    public ReadOnlyObjectProperty<Status> statusProperty() {
+        return status.getReadOnlyProperty();
+    }
+
+    /**
+     * Returns the result of the command, if it has succeeded.
+     */
+    public Optional<CommandResult> getResult() {
+        return Optional.ofNullable(result);
+    }
+
+    /**
+     * Returns the exception the command failed with, if it has failed. The exception's message is meant for the
+     * user if it is a {@code CommandException} or a {@code ParseException}.
+     */
+    public Optional<Exception> getFailure() {
+        return Optional.ofNullable(failure);
+    }
+
+    void markRunning() {
+        status.set(Status.RUNNING);
+    }
+
+    void succeed(CommandResult result) {
+        requireNonNull(result);
+        this.result = result;
+        status.set(Status.SUCCEEDED);
+    }
+
+    void fail(Exception failure) {
+        requireNonNull(failure);
+        this.failure = failure;
+        status.set(Status.FAILED);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("commandText", commandText)
+                .add("status", status.get())
+                .toString();
+    }
+}
@@ -0,0 +1,192 @@
+package seedu.address.logic;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.property.ReadOnlyStringProperty;
+import javafx.beans.property.ReadOnlyStringWrapper;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.logic.commands.ForecastCommand;
+import seedu.address.model.DeckLoadProgress;
+import seedu.address.model.DeckSnapshot;
+import seedu.address.model.card.Card;
+
+/**
+ * The parts of the model that the UI shows, as they were when they were last published by an
+ * {@link AsyncCommandExecutor}.
+ * <p>
+ * The model itself is only changed on the executor's worker thread, so the UI must not read it. Instead, the
+ * executor copies the parts shown into a {@link Snapshot} on the worker thread after each command, and this class
+ * takes them over on the JavaFX application thread, which is the only thread it may be used on. The cards come
+ * from a {@link DeckSnapshot}, so they are copies that the worker thread does not change, and the list is only
+ * changed when the Deck or the cards shown have changed. As snapshots share the copies of the cards that have not
+ * changed, only the cards of the list that are not the same copies as before are replaced, so that the card list
+ * only redraws the cells of those.
+ */
+public class PublishedModel {
+
+    private final ObservableList<Card> filteredCards = FXCollections.observableArrayList();
+    private final ObservableList<Card> unmodifiableFilteredCards =
+            FXCollections.unmodifiableObservableList(filteredCards);
+    private final ReadOnlyIntegerWrapper dueCount = new ReadOnlyIntegerWrapper();
+    private final ReadOnlyObjectWrapper<Path> deckFilePath = new ReadOnlyObjectWrapper<>();
+    private final ReadOnlyStringWrapper goalText = new ReadOnlyStringWrapper();
+    private final ReadOnlyObjectWrapper<DeckLoadProgress> deckLoadProgress = new ReadOnlyObjectWrapper<>();
+    private long deckVersion = -1;
+    private LocalDate forecastStart;
+    private int[] forecastDueCounts;
+
+    PublishedModel(Snapshot snapshot) {
+        apply(snapshot);
+    }
+
+    /**
+     * Returns the filtered list of cards, which is brought up to date whenever the model is published.
+     */
+    public ObservableList<Card> getFilteredCardList() {
+        return unmodifiableFilteredCards;
+    }
+
+    public ReadOnlyIntegerProperty dueCountProperty() {
+        return dueCount.getReadOnlyProperty();
+    }
+
+    public ReadOnlyObjectProperty<Path> deckFilePathProperty() {
+        return deckFilePath.getReadOnlyProperty();
+    }
+
+    public ReadOnlyStringProperty goalTextProperty() {
+        return goalText.getReadOnlyProperty();
+    }
+
+    public ReadOnlyObjectProperty<DeckLoadProgress> deckLoadProgressProperty() {
+        return deckLoadProgress.getReadOnlyProperty();
+    }
+
+    /**
+     * Returns the day that {@link #getForecastDueCounts()} starts from.
+     */
+    public LocalDate getForecastStart() {
+        return forecastStart;
+    }
+
+    /**
+     * Returns the number of cards due on each of the {@link ForecastCommand#DEFAULT_DAYS} days from
+     * {@link #getForecastStart()}.
+     */
+    public int[] getForecastDueCounts() {
+        return forecastDueCounts.clone();
+    }
+
+    /**
+     * Takes over the parts of the model in {@code snapshot}.
+     */
+    void apply(Snapshot snapshot) {
+        if (snapshot.deckSnapshot.getVersion() != deckVersion) {
+            showCards(snapshot.deckSnapshot.getShownCards());
+            deckVersion = snapshot.deckSnapshot.getVersion();
+        }
+        dueCount.set(snapshot.dueCount);
+        deckFilePath.set(snapshot.deckFilePath);
+        goalText.set(snapshot.goalText);
+        deckLoadProgress.set(snapshot.deckLoadProgress);
+        forecastStart = snapshot.forecastStart;
+        forecastDueCounts = snapshot.forecastDueCounts;
+    }
+
+    /**
+     * Changes the cards shown into {@code cards}, leaving those that are the same copies in place.
+     */
+    private void showCards(List<Card> cards) {
+        int start = 0;
+        int oldEnd = filteredCards.size();
+        int newEnd = cards.size();
+        while (start < oldEnd && start < newEnd && filteredCards.get(start) == cards.get(start)) {
+            start++;
+        }
+        while (oldEnd > start && newEnd > start && filteredCards.get(oldEnd - 1) == cards.get(newEnd - 1)) {
+            oldEnd--;
+            newEnd--;
+        }
+
+        int changedCount = oldEnd - start;
+        if (changedCount == 0 && newEnd == start) {
+            return;
+        }
+        if (changedCount != newEnd - start) {
+            // Cards were added or removed, so the cards between are put back in one go.
+            filteredCards.remove(start, oldEnd);
+            filteredCards.addAll(start, cards.subList(start, newEnd));
+        } else if (changedCount > 1 && isSameCopies(cards, start + 1, start, changedCount - 1)) {
+            // The first card changed and moved further down the list, as a reviewed card does in due order.
+            filteredCards.remove(start);
+            filteredCards.add(newEnd - 1, cards.get(newEnd - 1));
+        } else if (changedCount > 1 && isSameCopies(cards, start, start + 1, changedCount - 1)) {
+            // The last card changed and moved further up the list.
+            filteredCards.remove(oldEnd - 1);
+            filteredCards.add(start, cards.get(start));
+        } else if (changedCount == cards.size()) {
+            filteredCards.setAll(cards);
+        } else {
+            for (int i = start; i < newEnd; i++) {
+                if (filteredCards.get(i) != cards.get(i)) {
+                    filteredCards.set(i, cards.get(i));
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns true if the {@code count} cards shown from {@code shownFrom} are the same copies as those of
+     * {@code cards} from {@code from}.
+     */
+    private boolean isSameCopies(List<Card> cards, int shownFrom, int from, int count) {
+        for (int i = 0; i < count; i++) {
+            if (filteredCards.get(shownFrom + i) != cards.get(from + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A copy of the parts of the model that the UI shows, taken on the thread that the model is changed on.
+     */
+    static class Snapshot {
+        private final DeckSnapshot deckSnapshot;
+        private final int dueCount;
+        private final Path deckFilePath;
+        private final String goalText;
+        private final DeckLoadProgress deckLoadProgress;
+        private final LocalDate forecastStart;
+        private final int[] forecastDueCounts;
+
+        private Snapshot(Logic logic, LocalDate today, Snapshot previous) {
+            deckSnapshot = logic.publishDeckSnapshot();
+            dueCount = logic.getDueCardTracker().dueCountProperty().get();
+            deckFilePath = logic.getDeckFilePath();
+            goalText = logic.getGoal().getGoalText();
+            deckLoadProgress = logic.deckLoadProgressProperty().get();
+            forecastStart = today;
+            // The forecast only changes with the cards and the day.
+            forecastDueCounts = previous != null && previous.deckSnapshot == deckSnapshot
+                    && previous.forecastStart.equals(today)
+                    ? previous.forecastDueCounts
+                    : logic.getDueForecast().getDueCounts(today, ForecastCommand.DEFAULT_DAYS);
+        }
+
+        /**
+         * Copies the parts of the model of {@code logic} that the UI shows, reusing those of {@code previous}, the
+         * snapshot taken before it if there is one, that have not changed since.
+         */
+        static Snapshot of(Logic logic, Snapshot previous) {
+            return new Snapshot(logic, LocalDate.now(), previous);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Runs the commands in a script file one after another as one batch: the Deck is saved once, after the last of
+ * them, and if any of them fails, the model is put back as it was before the first: the Cards of every Deck, the
+ * goal and the user prefs, with none of the reviews of the batch recorded.
+ */
+public class BatchCommand extends Command {
+
+    public static final String COMMAND_WORD = "batch";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs the commands in a script file, one per line, "
+            + "as one batch. If any of them fails, none of their changes are kept.\n"
+            + "Lines that are blank or start with # are skipped.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " edits.txt";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d command(s) from %2$s as one batch";
+
+    public static final String MESSAGE_FAILED = "Line %1$d of the batch (%2$s) failed, so none of the batch's "
+            + "changes were kept: %3$s";
+
+    private final Path scriptPath;
+    private final List<String> commandTexts;
+    private final List<Integer> lineNumbers;
+    private final List<Command> commands;
+
+    /**
+     * Creates a BatchCommand that runs {@code commands}, parsed from the lines numbered {@code lineNumbers} of the
+     * script at {@code scriptPath}, which read {@code commandTexts}.
+     */
+    public BatchCommand(Path scriptPath, List<String> commandTexts, List<Integer> lineNumbers,
+            List<Command> commands) {
+        requireAllNonNull(scriptPath, commandTexts, lineNumbers, commands);
+        assert commandTexts.size() == commands.size() && lineNumbers.size() == commands.size();
+        this.scriptPath = scriptPath;
+        this.commandTexts = new ArrayList<>(commandTexts);
+        this.lineNumbers = new ArrayList<>(lineNumbers);
+        this.commands = new ArrayList<>(commands);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        model.startBatch();
+        for (int i = 0; i < commands.size(); i++) {
+            try {
+                commands.get(i).execute(model);
+            } catch (CommandException e) {
+                model.rollBackBatch();
+                throw new CommandException(String.format(MESSAGE_FAILED, lineNumbers.get(i), commandTexts.get(i),
+                        e.getMessage()), e);
+            } catch (RuntimeException e) {
+                model.rollBackBatch();
+                throw e;
+            }
+        }
+        model.commitBatch();
+        return new CommandResult(String.format(MESSAGE_SUCCESS, commands.size(), scriptPath));
+    }
+
+    @Override
+    public boolean isBatchable() {
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BatchCommand)) {
+            return false;
+        }
+
+        BatchCommand otherBatchCommand = (BatchCommand) other;
+        return scriptPath.equals(otherBatchCommand.scriptPath)
+                && commandTexts.equals(otherBatchCommand.commandTexts)
+                && lineNumbers.equals(otherBatchCommand.lineNumbers);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("scriptPath", scriptPath)
+                .add("commandCount", commands.size())
+                .toString();
+    }
+}
@@ -21,6 +21,20 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if the command uses the Cards of the Deck, so that it cannot run while the Deck is loading.
+     */
+    public boolean requiresDeck() {
+        return true;
+    }
+
+    /**
+     * Returns true if the command can run as part of a {@link BatchCommand}, whose changes to the Deck are undone
+     * if any of its commands fails.
+     */
+    public boolean isBatchable() {
+        return true;
+    }
 
     /**
      * Checks if the provided index is invalid for the given list.
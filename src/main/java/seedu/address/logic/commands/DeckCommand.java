@@ -0,0 +1,132 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.workspace.DeckManifest;
+import seedu.address.model.workspace.Workspace;
+
+/**
+ * Opens another Deck in the workspace, creating it if there is none by that name, or lists the Decks in the
+ * workspace.
+ */
+public class DeckCommand extends Command {
+
+    public static final String COMMAND_WORD = "deck";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Opens the deck named NAME, creating it if there is "
+            + "none, or lists all decks if no name is given.\n"
+            + "Parameters: [NAME]\n"
+            + "Example: " + COMMAND_WORD + " physics";
+
+    public static final String MESSAGE_LIST_HEADER = "Decks (%1$d):";
+
+    public static final String MESSAGE_DECK = "%1$s: %2$d card(s), %3$d due today";
+
+    public static final String MESSAGE_DECK_OPEN = MESSAGE_DECK + " [open]";
+
+    public static final String MESSAGE_DECK_LOADED = MESSAGE_DECK + " [in memory]";
+
+    public static final String MESSAGE_OPENED = "Opened deck " + MESSAGE_DECK;
+
+    public static final String MESSAGE_CREATED = "Created and opened the empty deck %1$s";
+
+    public static final String MESSAGE_ALREADY_OPEN = "Deck %1$s is already open";
+
+    public static final String MESSAGE_LOAD_ERROR = "Could not load deck %1$s due to the following error: %2$s";
+
+    /** Name of the Deck to open, or empty to list the Decks */
+    private final Optional<String> name;
+
+    /**
+     * Creates a DeckCommand that opens the Deck named {@code name}, or lists the Decks if it is empty.
+     */
+    public DeckCommand(Optional<String> name) {
+        requireNonNull(name);
+        this.name = name;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (name.isEmpty()) {
+            return listDecks(model);
+        }
+        return openDeck(model, name.get());
+    }
+
+    private CommandResult listDecks(Model model) {
+        Workspace workspace = model.getWorkspace();
+        List<DeckManifest> manifests = model.getDeckManifests();
+        LocalDate today = LocalDate.now();
+
+        StringBuilder list = new StringBuilder(String.format(MESSAGE_LIST_HEADER, manifests.size()));
+        for (DeckManifest manifest : manifests) {
+            String format = manifest.getName().equals(workspace.getCurrentDeckName())
+                    ? MESSAGE_DECK_OPEN
+                    : workspace.isLoaded(manifest.getName()) ? MESSAGE_DECK_LOADED : MESSAGE_DECK;
+            list.append('\n').append(String.format(format, manifest.getName(), manifest.getCardCount(),
+                    manifest.getDueCount(today)));
+        }
+        return new CommandResult(list.toString());
+    }
+
+    private CommandResult openDeck(Model model, String deckName) throws CommandException {
+        Workspace workspace = model.getWorkspace();
+        if (deckName.equals(workspace.getCurrentDeckName())) {
+            throw new CommandException(String.format(MESSAGE_ALREADY_OPEN, deckName));
+        }
+
+        boolean isNew = !workspace.hasDeck(deckName);
+        try {
+            model.switchDeck(deckName);
+        } catch (DataLoadingException e) {
+            throw new CommandException(String.format(MESSAGE_LOAD_ERROR, deckName, e.getMessage()), e);
+        }
+
+        if (isNew && model.getDeckSize() == 0) {
+            return new CommandResult(String.format(MESSAGE_CREATED, deckName));
+        }
+        DeckManifest manifest = DeckManifest.of(deckName, model.getDeck().getCardList());
+        return new CommandResult(String.format(MESSAGE_OPENED, deckName, manifest.getCardCount(),
+                manifest.getDueCount(LocalDate.now())));
+    }
+
+    /**
+     * Returns true if the command only lists the Decks, as opening another Deck cannot be undone with the batch.
+     */
+    @Override
+    public boolean isBatchable() {
+        return name.isEmpty();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof DeckCommand)) {
+            return false;
+        }
+
+        DeckCommand otherDeckCommand = (DeckCommand) other;
+        return name.equals(otherDeckCommand.name);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("name", name)
+                .toString();
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import seedu.address.commons.core.StartupTimer;
+import seedu.address.model.Model;
+
+/**
+ * Shows how long each phase of starting the app took, and how big the Decks it loaded are.
+ */
+public class DiagnosticsCommand extends Command {
+
+    public static final String COMMAND_WORD = "diagnostics";
+
+    public static final String MESSAGE_HEADER = "Startup diagnostics:";
+
+    public static final String MESSAGE_PHASE = "%1$s: %2$d ms";
+
+    public static final String MESSAGE_TIME_TO_INTERACTIVE = "Usable after: %1$d ms";
+
+    public static final String MESSAGE_NOT_INTERACTIVE = "Usable after: not measured yet";
+
+    public static final String MESSAGE_SIZE = "Cards in open deck: %1$d, decks in workspace: %2$d";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+
+        StartupTimer startupTimer = model.getStartupTimer();
+        StringBuilder message = new StringBuilder(MESSAGE_HEADER);
+        for (StartupTimer.Phase phase : startupTimer.getPhases()) {
+            message.append('\n')
+                    .append(String.format(MESSAGE_PHASE, phase.getName(), phase.getDuration().toMillis()));
+        }
+
+        Optional<Duration> timeToInteractive = startupTimer.getTimeToInteractive();
+        message.append('\n').append(timeToInteractive
+                .map(duration -> String.format(MESSAGE_TIME_TO_INTERACTIVE, duration.toMillis()))
+                .orElse(MESSAGE_NOT_INTERACTIVE));
+        message.append('\n').append(String.format(MESSAGE_SIZE, model.getDeck().getCardList().size(),
+                model.getDeckManifests().size()));
+        return new CommandResult(message.toString());
+    }
+
+    @Override
+    public boolean requiresDeck() {
+        return false;
+    }
+}
@@ -20,6 +20,7 @@ import seedu.address.model.card.Answer;
 import seedu.address.model.card.Card;
 import seedu.address.model.card.Difficulty;
 import seedu.address.model.card.Hint;
+import seedu.address.model.card.LeitnerBox;
 import seedu.address.model.card.PracticeDate;
 import seedu.address.model.card.Question;
 import seedu.address.model.card.SolveCount;
@@ -102,9 +103,10 @@ public class EditCommand extends Command {
         PracticeDate lastPracticeDate = cardToEdit.getLastPracticeDate();
         SolveCount solveCount = cardToEdit.getSolveCount();
         Hint hint = editCardDescriptor.getHint().orElse(cardToEdit.getHint());
+        LeitnerBox leitnerBox = cardToEdit.getLeitnerBox();
 
         return new Card(updatedQuestion, updatedAnswer, difficulty, updatedTags,
-                nextPracticeDate, lastPracticeDate, solveCount, hint);
+                nextPracticeDate, lastPracticeDate, solveCount, hint, leitnerBox);
     }
 
     @Override
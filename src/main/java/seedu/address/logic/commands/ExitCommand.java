@@ -16,4 +16,9 @@ public class ExitCommand extends Command {
         assert(model != null);
         return new CommandResult(MESSAGE_EXIT_ACKNOWLEDGEMENT, false, true);
     }
+
+    @Override
+    public boolean requiresDeck() {
+        return false;
+    }
 }
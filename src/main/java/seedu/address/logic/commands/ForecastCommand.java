@@ -0,0 +1,87 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Locale;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+
+/**
+ * Shows the number of Cards in the Deck due on each of the coming days.
+ */
+public class ForecastCommand extends Command {
+
+    public static final String COMMAND_WORD = "forecast";
+
+    /** Number of days forecast when none is given. */
+    public static final int DEFAULT_DAYS = 30;
+
+    /** Largest number of days that can be forecast. */
+    public static final int MAX_DAYS = 365;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows how many cards are due on each of "
+            + "the coming days, today included.\n"
+            + "Parameters: [DAYS] (between 1 and " + MAX_DAYS + ", " + DEFAULT_DAYS + " if left out)\n"
+            + "Example: " + COMMAND_WORD + " 7";
+
+    public static final String MESSAGE_SUCCESS = "%1$d card(s) due over the next %2$d day(s):";
+
+    public static final String MESSAGE_TODAY = "Today (including overdue): %1$d";
+
+    public static final String MESSAGE_DAY = "%1$s: %2$d";
+
+    private static final DateTimeFormatter DAY_FORMATTER = DateTimeFormatter.ofPattern("EEE d MMM", Locale.ENGLISH);
+
+    /** Number of days to forecast, today included */
+    private final int days;
+
+    /**
+     * Creates a ForecastCommand to show the number of cards due on each of the next {@code days} days.
+     */
+    public ForecastCommand(int days) {
+        assert days > 0 && days <= MAX_DAYS : "Invalid number of days to forecast";
+        this.days = days;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+
+        LocalDate today = LocalDate.now();
+        int[] dueCounts = model.getDueForecast().getDueCounts(today, days);
+
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_SUCCESS, Arrays.stream(dueCounts).sum(), days));
+        message.append('\n').append(String.format(MESSAGE_TODAY, dueCounts[0]));
+        for (int day = 1; day < days; day++) {
+            message.append('\n')
+                    .append(String.format(MESSAGE_DAY, today.plusDays(day).format(DAY_FORMATTER), dueCounts[day]));
+        }
+        return new CommandResult(message.toString(), false, false, true);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ForecastCommand)) {
+            return false;
+        }
+
+        ForecastCommand otherForecastCommand = (ForecastCommand) other;
+        return days == otherForecastCommand.days;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("days", days)
+                .toString();
+    }
+}
@@ -20,4 +20,9 @@ public class HelpCommand extends Command {
         assert(model != null);
         return new CommandResult(SHOWING_HELP_MESSAGE, true, false);
     }
+
+    @Override
+    public boolean requiresDeck() {
+        return false;
+    }
 }
@@ -0,0 +1,181 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.card.Difficulty;
+import seedu.address.model.scheduling.MultiplierParameters;
+import seedu.address.model.scheduling.SchedulerType;
+import seedu.address.model.tuning.ParameterFit;
+import seedu.address.model.tuning.ParameterOptimiser;
+import seedu.address.model.tuning.ReviewHistoryColumns;
+
+/**
+ * Fits the parameters of the multiplier scheduling algorithm to the review history in the background, shows how the
+ * fit is going, or switches to the parameters it found.
+ */
+public class OptimiseCommand extends Command {
+
+    public static final String COMMAND_WORD = "optimise";
+
+    /** Fewest reviews following an earlier review of the same Card that parameters are fitted to. */
+    public static final int MIN_REPEAT_REVIEWS = 50;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Fits the multiplier scheduling algorithm to your "
+            + "review history in the background, shows how the fit is going, or switches to the fitted parameters.\n"
+            + "Parameters: [status|apply]\n"
+            + "Example: " + COMMAND_WORD + " status";
+
+    public static final String MESSAGE_STARTED = "Fitting scheduling parameters to %1$d review(s) in the background. "
+            + "Enter '" + COMMAND_WORD + " status' to see how it is going.";
+
+    public static final String MESSAGE_ALREADY_RUNNING = "Scheduling parameters are already being fitted";
+
+    public static final String MESSAGE_NOT_ENOUGH_HISTORY = "Only %1$d review(s) follow an earlier review of the "
+            + "same card, but at least %2$d are needed to fit scheduling parameters";
+
+    public static final String MESSAGE_PROGRESS = "Fitting scheduling parameters: %1$d of %2$d parameter sets tried";
+
+    public static final String MESSAGE_NO_RESULT = "No scheduling parameters have been fitted. "
+            + "Enter '" + COMMAND_WORD + "' to fit them.";
+
+    public static final String MESSAGE_RESULT = "Best parameters: %1$s\n"
+            + "Prediction error over %2$d review(s): %3$.4f, against %4$.4f with the current parameters\n"
+            + "Enter '" + COMMAND_WORD + " apply' to use them.";
+
+    public static final String MESSAGE_APPLIED = "Now using the parameters %1$s";
+
+    public static final String MESSAGE_APPLIED_INACTIVE = MESSAGE_APPLIED
+            + " for the " + SchedulerType.MULTIPLIER + " scheduling algorithm";
+
+    public static final String MESSAGE_READ_ERROR = "Could not read the review history due to the following error: %s";
+
+    private static final String PARAMETERS_FORMAT = "easy x%1$.2f, medium x%2$.2f, hard x%3$.2f, "
+            + "first interval %4$.0f hour(s)";
+
+    /**
+     * What the command does with the fit.
+     */
+    public enum Action {
+        START, STATUS, APPLY
+    }
+
+    private final Action action;
+
+    /**
+     * Creates an OptimiseCommand that carries out {@code action}.
+     */
+    public OptimiseCommand(Action action) {
+        requireNonNull(action);
+        this.action = action;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        ParameterOptimiser optimiser = model.getParameterOptimiser();
+        switch (action) {
+        case START:
+            return start(model, optimiser);
+        case APPLY:
+            return apply(model, optimiser);
+        case STATUS:
+        default:
+            return showStatus(optimiser);
+        }
+    }
+
+    private CommandResult start(Model model, ParameterOptimiser optimiser) throws CommandException {
+        if (optimiser.isRunning()) {
+            throw new CommandException(MESSAGE_ALREADY_RUNNING);
+        }
+
+        ReviewHistoryColumns history;
+        try {
+            history = ReviewHistoryColumns.of(model.getReviewLog().read(LocalDateTime.MIN, LocalDateTime.MAX));
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_READ_ERROR, ioe.getMessage()), ioe);
+        }
+        if (history.getRepeatReviewCount() < MIN_REPEAT_REVIEWS) {
+            throw new CommandException(String.format(MESSAGE_NOT_ENOUGH_HISTORY, history.getRepeatReviewCount(),
+                    MIN_REPEAT_REVIEWS));
+        }
+
+        optimiser.start(history, model.getUserPrefs().getMultiplierParameters());
+        return new CommandResult(String.format(MESSAGE_STARTED, history.getReviewCount()));
+    }
+
+    private CommandResult showStatus(ParameterOptimiser optimiser) {
+        if (optimiser.isRunning()) {
+            return new CommandResult(String.format(MESSAGE_PROGRESS, optimiser.getTriedCount(),
+                    optimiser.getCandidateCount()));
+        }
+
+        Optional<ParameterFit> result = optimiser.getResult();
+        if (result.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_RESULT);
+        }
+        ParameterFit fit = result.get();
+        return new CommandResult(String.format(MESSAGE_RESULT, format(fit.getParameters()),
+                fit.getPredictionCount(), fit.getLogLoss(), fit.getBaselineLogLoss()));
+    }
+
+    private CommandResult apply(Model model, ParameterOptimiser optimiser) throws CommandException {
+        Optional<ParameterFit> result = optimiser.isRunning() ? Optional.empty() : optimiser.getResult();
+        if (result.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_RESULT);
+        }
+
+        MultiplierParameters parameters = result.get().getParameters();
+        model.setMultiplierParameters(parameters);
+        model.resetRandomIndex();
+        String message = model.getUserPrefs().getSchedulerType() == SchedulerType.MULTIPLIER
+                ? MESSAGE_APPLIED
+                : MESSAGE_APPLIED_INACTIVE;
+        return new CommandResult(String.format(message, format(parameters)));
+    }
+
+    private static String format(MultiplierParameters parameters) {
+        return String.format(PARAMETERS_FORMAT, parameters.getMultiplier(Difficulty.EASY),
+                parameters.getMultiplier(Difficulty.MEDIUM), parameters.getMultiplier(Difficulty.HARD),
+                parameters.getFirstIntervalHours());
+    }
+
+    /**
+     * Returns true unless the command starts a fit, as a fit runs on after the batch and rolling the batch back
+     * would not stop it.
+     */
+    @Override
+    public boolean isBatchable() {
+        return action != Action.START;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof OptimiseCommand)) {
+            return false;
+        }
+
+        OptimiseCommand otherOptimiseCommand = (OptimiseCommand) other;
+        return action.equals(otherOptimiseCommand.action);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("action", action)
+                .toString();
+    }
+}
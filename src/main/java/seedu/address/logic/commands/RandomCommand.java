@@ -2,8 +2,9 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Random;
+import java.util.OptionalInt;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.ToStringBuilder;
@@ -11,6 +12,7 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.card.Card;
+import seedu.address.model.sampling.CardSampler;
 
 /**
  * Randomly Practises a question.
@@ -19,21 +21,34 @@ public class RandomCommand extends Command {
 
     public static final String COMMAND_WORD = "random";
 
+    public static final String WEIGHTED_KEYWORD = "weighted";
+
+    public static final String SHUFFLE_BAG_KEYWORD = "bag";
+
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": similar to practice command, but chooses a random index.\n"
-            + "Example: " + COMMAND_WORD;
+            + "Parameters: [" + WEIGHTED_KEYWORD + "] to favour overdue and hard cards, or [" + SHUFFLE_BAG_KEYWORD
+            + "] to go through every card once before repeating any\n"
+            + "Example: " + COMMAND_WORD + ", " + COMMAND_WORD + " " + WEIGHTED_KEYWORD;
+
+    public static final String MESSAGE_NO_CARDS = "There are no cards to choose from.";
+
+    /** The way in which the random Card is picked */
+    private final CardSampler.Mode mode;
 
     /**
-     * Constructs a {@code RandomCommand}.
+     * Constructs a {@code RandomCommand} that picks any card with equal chance.
      */
-    public RandomCommand() {}
+    public RandomCommand() {
+        this(CardSampler.Mode.UNIFORM);
+    }
 
     /**
-     * Generates a random index based on the size of the deck in the model. This index value is one based.
+     * Constructs a {@code RandomCommand} that picks a card in the given {@code mode}.
      */
-    private int generateRandomIndex(List<Card> lastShownList) {
-        Random r = new Random();
-        return r.nextInt(lastShownList.size()) + 1;
+    public RandomCommand(CardSampler.Mode mode) {
+        requireNonNull(mode);
+        this.mode = mode;
     }
 
     @Override
@@ -42,8 +57,12 @@ public class RandomCommand extends Command {
 
         List<Card> lastShownList = model.getFilteredCardList();
 
-        // generate a targetIndex from the card list length
-        Index targetIndex = Index.fromOneBased(generateRandomIndex(lastShownList));
+        // pick a targetIndex from the card list
+        OptionalInt pickedIndex = model.getCardSampler().pick(mode, LocalDateTime.now());
+        if (pickedIndex.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_CARDS);
+        }
+        Index targetIndex = Index.fromZeroBased(pickedIndex.getAsInt());
 
         // save the random index in the model
         model.setRandomIndex(targetIndex);
@@ -77,6 +96,7 @@ public class RandomCommand extends Command {
     @Override
     public String toString() {
         return new ToStringBuilder(this)
+                .add("mode", mode)
                 .toString();
     }
 }
@@ -0,0 +1,75 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.scheduling.OverdueRebalancer;
+
+/**
+ * Spreads the overdue Cards in the Deck over the next few days, hardest and most overdue Cards first.
+ */
+public class RebalanceCommand extends Command {
+
+    public static final String COMMAND_WORD = "rebalance";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Spreads overdue cards over the next few days, "
+            + "today included, so that no day has more cards due than needed. "
+            + "The hardest and most overdue cards stay due soonest.\n"
+            + "Parameters: DAYS (between 1 and " + OverdueRebalancer.MAX_DAYS + ") "
+            + "[MAX_CARDS_PER_DAY (a positive integer)]\n"
+            + "Example: " + COMMAND_WORD + " 7 30";
+
+    public static final String MESSAGE_SUCCESS =
+            "Spread overdue cards over %1$d day(s), moving %2$d card(s) to a later day";
+
+    /** Number of days to spread the overdue cards over */
+    private final int days;
+
+    /** Most cards to have due each day, or {@link OverdueRebalancer#EVEN_LOAD} to even them out */
+    private final int dailyLoad;
+
+    /**
+     * Creates a RebalanceCommand to spread overdue cards over {@code days} days with at most {@code dailyLoad}
+     * cards due each day, or as evenly as possible if {@code dailyLoad} is {@link OverdueRebalancer#EVEN_LOAD}.
+     */
+    public RebalanceCommand(int days, int dailyLoad) {
+        this.days = days;
+        this.dailyLoad = dailyLoad;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+
+        int movedCount = model.rebalanceOverdueCards(new OverdueRebalancer(days, dailyLoad), LocalDateTime.now());
+        model.resetRandomIndex();
+        return new CommandResult(String.format(MESSAGE_SUCCESS, days, movedCount));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RebalanceCommand)) {
+            return false;
+        }
+
+        RebalanceCommand otherRebalanceCommand = (RebalanceCommand) other;
+        return days == otherRebalanceCommand.days
+                && dailyLoad == otherRebalanceCommand.dailyLoad;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("days", days)
+                .add("dailyLoad", dailyLoad)
+                .toString();
+    }
+}
@@ -0,0 +1,238 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DIFFICULTY;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.card.Card;
+import seedu.address.model.card.Difficulty;
+import seedu.address.model.history.ReviewEvent;
+import seedu.address.model.review.InterleavedReviewSession;
+import seedu.address.model.review.ReviewSession;
+
+/**
+ * Reviews the due Cards in the Deck, or in every Deck in the workspace, one after another, most overdue first.
+ */
+public class ReviewCommand extends Command {
+
+    public static final String COMMAND_WORD = "review";
+
+    public static final String END_KEYWORD = "end";
+
+    public static final String ALL_KEYWORD = "all";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": starts a review session over the due cards of the deck, or of every deck, rates the card being "
+            + "reviewed, or ends the session.\n"
+            + "Parameters: [" + ALL_KEYWORD + "] or [" + PREFIX_DIFFICULTY + "DIFFICULTY] or [" + END_KEYWORD + "]\n"
+            + "Example: " + COMMAND_WORD + ", " + COMMAND_WORD + " " + ALL_KEYWORD + ", " + COMMAND_WORD + " "
+            + PREFIX_DIFFICULTY + "easy, " + COMMAND_WORD + " " + END_KEYWORD;
+
+    public static final String MESSAGE_SESSION_STARTED = "Review session started, %1$d card(s) due.\n%2$s";
+    public static final String MESSAGE_INTERLEAVED_SESSION_STARTED =
+            "Review session over every deck started, %1$d card(s) due.\n%2$s";
+    public static final String MESSAGE_PROMPT_FROM_DECK = "[%1$s] %2$s";
+    public static final String MESSAGE_LOAD_ERROR = "Could not load the decks to review due to the following error: "
+            + "%1$s";
+    public static final String MESSAGE_NO_CARDS_DUE = "No cards are due for review.";
+    public static final String MESSAGE_NOT_IN_SESSION = "There is no card being reviewed. "
+            + "Start a review session with: " + COMMAND_WORD;
+    public static final String MESSAGE_NEXT_CARD = "%1$s\n%2$d card(s) due.\n%3$s";
+    public static final String MESSAGE_SESSION_COMPLETE = "%1$s\nNo more cards are due, %2$d card(s) reviewed.";
+    public static final String MESSAGE_SESSION_ENDED = "Review session ended, %1$d card(s) reviewed.";
+
+    /**
+     * The actions a {@code ReviewCommand} can take.
+     */
+    public enum Action {
+        START, START_ALL, RATE, END
+    }
+
+    private final Action action;
+
+    /** {@code Difficulty} to rate the Card being reviewed with, only set for {@code Action.RATE} */
+    private final Difficulty difficulty;
+
+    private ReviewCommand(Action action, Difficulty difficulty) {
+        this.action = action;
+        this.difficulty = difficulty;
+    }
+
+    /**
+     * Creates a {@code ReviewCommand} that starts, or restarts, a review session.
+     */
+    public static ReviewCommand start() {
+        return new ReviewCommand(Action.START, null);
+    }
+
+    /**
+     * Creates a {@code ReviewCommand} that starts, or restarts, a review session over every Deck in the workspace.
+     */
+    public static ReviewCommand startAll() {
+        return new ReviewCommand(Action.START_ALL, null);
+    }
+
+    /**
+     * Creates a {@code ReviewCommand} that rates the Card being reviewed with {@code difficulty}.
+     */
+    public static ReviewCommand rate(Difficulty difficulty) {
+        requireNonNull(difficulty);
+        return new ReviewCommand(Action.RATE, difficulty);
+    }
+
+    /**
+     * Creates a {@code ReviewCommand} that ends the review session.
+     */
+    public static ReviewCommand end() {
+        return new ReviewCommand(Action.END, null);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        ReviewSession session = model.getReviewSession();
+        InterleavedReviewSession interleavedSession = model.getInterleavedReviewSession();
+        LocalDateTime now = LocalDateTime.now();
+
+        switch (action) {
+        case START:
+            interleavedSession.end();
+            session.start(Messages::formatReview, now);
+            if (session.getCurrentCard().isEmpty()) {
+                session.end();
+                return new CommandResult(MESSAGE_NO_CARDS_DUE);
+            }
+            return new CommandResult(
+                    String.format(MESSAGE_SESSION_STARTED, session.getDueCount(now), session.getCurrentPrompt()));
+        case START_ALL:
+            return startInterleavedSession(model, interleavedSession, now);
+        case RATE:
+            if (interleavedSession.isActive()) {
+                return rateCurrentCard(model, interleavedSession, now);
+            }
+            return rateCurrentCard(model, session, now);
+        case END:
+        default:
+            int reviewedCount = session.getReviewedCount() + interleavedSession.getReviewedCount();
+            session.end();
+            interleavedSession.end();
+            return new CommandResult(String.format(MESSAGE_SESSION_ENDED, reviewedCount));
+        }
+    }
+
+    private CommandResult startInterleavedSession(Model model, InterleavedReviewSession session, LocalDateTime now)
+            throws CommandException {
+        try {
+            model.startInterleavedReview(now);
+        } catch (DataLoadingException e) {
+            throw new CommandException(String.format(MESSAGE_LOAD_ERROR, e.getMessage()), e);
+        }
+        if (session.getCurrentCard().isEmpty()) {
+            session.end();
+            return new CommandResult(MESSAGE_NO_CARDS_DUE);
+        }
+        return new CommandResult(
+                String.format(MESSAGE_INTERLEAVED_SESSION_STARTED, session.getDueCount(now), promptOf(session)));
+    }
+
+    private CommandResult rateCurrentCard(Model model, ReviewSession session, LocalDateTime now)
+            throws CommandException {
+        Optional<Card> currentCard = session.getCurrentCard();
+        if (currentCard.isEmpty()) {
+            throw new CommandException(MESSAGE_NOT_IN_SESSION);
+        }
+
+        Card card = currentCard.get();
+        applyRating(model, card, now, () -> model.setCard(card, card));
+
+        String answer = Messages.formatReviewAnswer(card);
+        session.next(now);
+        if (session.getCurrentCard().isEmpty()) {
+            int reviewedCount = session.getReviewedCount();
+            session.end();
+            return new CommandResult(String.format(MESSAGE_SESSION_COMPLETE, answer, reviewedCount));
+        }
+        return new CommandResult(
+                String.format(MESSAGE_NEXT_CARD, answer, session.getDueCount(now), session.getCurrentPrompt()));
+    }
+
+    private CommandResult rateCurrentCard(Model model, InterleavedReviewSession session, LocalDateTime now)
+            throws CommandException {
+        Optional<Card> currentCard = session.getCurrentCard();
+        if (currentCard.isEmpty()) {
+            throw new CommandException(MESSAGE_NOT_IN_SESSION);
+        }
+
+        Card card = currentCard.get();
+        // Cards of Decks that are not open are saved in batches, instead of through the open Deck.
+        Runnable writeBack = session.isCurrentCardInOpenDeck()
+                ? () -> model.setCard(card, card)
+                : () -> model.recordIdleDeckChange(session.getCurrentDeckName(), session.getCurrentDeckCards());
+        applyRating(model, card, now, writeBack);
+
+        String answer = Messages.formatReviewAnswer(card);
+        session.next(now);
+        if (session.getCurrentCard().isEmpty()) {
+            int reviewedCount = session.getReviewedCount();
+            session.end();
+            return new CommandResult(String.format(MESSAGE_SESSION_COMPLETE, answer, reviewedCount));
+        }
+        return new CommandResult(
+                String.format(MESSAGE_NEXT_CARD, answer, session.getDueCount(now), promptOf(session)));
+    }
+
+    /**
+     * Rates {@code card} with the difficulty of this command at {@code now}, reschedules it and records the review.
+     * The card is changed in place, and {@code writeBack} then reports the change to the Deck that holds it.
+     */
+    private void applyRating(Model model, Card card, LocalDateTime now, Runnable writeBack) {
+        ReviewEvent review = ReviewEvent.of(card, difficulty, now);
+        card.setDifficulty(difficulty);
+        card.setNewPracticeDateWith(difficulty, model.getScheduler());
+        card.incrementSolveCount();
+        writeBack.run();
+        model.recordReview(review, card);
+        model.getGoal().solvedCard();
+    }
+
+    /**
+     * Returns the prompt of the card being reviewed in {@code session}, with the name of its Deck.
+     */
+    private static String promptOf(InterleavedReviewSession session) {
+        return String.format(MESSAGE_PROMPT_FROM_DECK, session.getCurrentDeckName(),
+                Messages.formatReview(session.getCurrentCard().get()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ReviewCommand)) {
+            return false;
+        }
+
+        ReviewCommand otherReviewCommand = (ReviewCommand) other;
+        return action == otherReviewCommand.action
+                && Objects.equals(difficulty, otherReviewCommand.difficulty);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("action", action)
+                .add("difficulty", difficulty)
+                .toString();
+    }
+}
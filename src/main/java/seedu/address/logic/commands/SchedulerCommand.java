@@ -0,0 +1,64 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.scheduling.SchedulerType;
+
+/**
+ * Switches the scheduling algorithm and reschedules every Card in the Deck with it.
+ */
+public class SchedulerCommand extends Command {
+
+    public static final String COMMAND_WORD = "scheduler";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Switches the scheduling algorithm "
+            + "and reschedules all cards with it.\n"
+            + "Parameters: ALGORITHM (one of: multiplier, sm2, fsrs, leitner)\n"
+            + "Example: " + COMMAND_WORD + " sm2";
+
+    public static final String MESSAGE_SUCCESS = "Switched to the %1$s scheduling algorithm";
+
+    /** The scheduling algorithm to switch to */
+    private final SchedulerType schedulerType;
+
+    /**
+     * Creates a SchedulerCommand to switch to {@code schedulerType}.
+     */
+    public SchedulerCommand(SchedulerType schedulerType) {
+        requireNonNull(schedulerType);
+        this.schedulerType = schedulerType;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+
+        model.setSchedulerType(schedulerType);
+        model.resetRandomIndex();
+        return new CommandResult(String.format(MESSAGE_SUCCESS, schedulerType));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SchedulerCommand)) {
+            return false;
+        }
+
+        SchedulerCommand otherSchedulerCommand = (SchedulerCommand) other;
+        return schedulerType.equals(otherSchedulerCommand.schedulerType);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("schedulerType", schedulerType)
+                .toString();
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import seedu.address.commons.core.index.Index;
@@ -12,6 +13,7 @@ import seedu.address.model.Model;
 import seedu.address.model.card.Card;
 import seedu.address.model.card.Difficulty;
 import seedu.address.model.exceptions.RandomIndexNotInitialisedException;
+import seedu.address.model.history.ReviewEvent;
 
 /**
  * Set the difficulty of a Card using its displayed index from the Deck.
@@ -71,9 +73,11 @@ public class SetDifficultyCommand extends Command {
         assert(difficulty != null);
         assert(!message.isEmpty());
 
+        ReviewEvent review = ReviewEvent.of(card, difficulty, LocalDateTime.now());
         card.setDifficulty(difficulty);
-        card.setNewPracticeDateWith(difficulty);
-        model.getDeck().sort();
+        card.setNewPracticeDateWith(difficulty, model.getScheduler());
+        model.setCard(card, card);
+        model.recordReview(review, card);
         return new CommandResult(
                 String.format(message, Messages.formatSetDifficulty(card, targetIndex)));
     }
@@ -0,0 +1,67 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+
+/**
+ * Moves the practice dates of every Card in the Deck by a number of days, e.g. to catch up after a break.
+ */
+public class ShiftCommand extends Command {
+
+    public static final String COMMAND_WORD = "shift";
+
+    /** Largest number of days the practice dates can be moved by at once. */
+    public static final int MAX_DAYS = 3650;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Moves the practice dates of all cards "
+            + "later by the given number of days, or earlier if the number is negative.\n"
+            + "Parameters: DAYS (a non-zero integer between -" + MAX_DAYS + " and " + MAX_DAYS + ")\n"
+            + "Example: " + COMMAND_WORD + " 7";
+
+    public static final String MESSAGE_SUCCESS = "Shifted all practice dates by %1$d day(s)";
+
+    /** Number of days to move the practice dates by */
+    private final int days;
+
+    /**
+     * Creates a ShiftCommand to move every practice date by {@code days} days.
+     */
+    public ShiftCommand(int days) {
+        assert days != 0 && Math.abs(days) <= MAX_DAYS : "Invalid number of days to shift by";
+        this.days = days;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+
+        model.shiftSchedule(Duration.ofDays(days));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, days));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ShiftCommand)) {
+            return false;
+        }
+
+        ShiftCommand otherShiftCommand = (ShiftCommand) other;
+        return days == otherShiftCommand.days;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("days", days)
+                .toString();
+    }
+}
@@ -0,0 +1,123 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.card.Card;
+import seedu.address.model.scheduling.SchedulerType;
+import seedu.address.model.simulation.RecallModel;
+import seedu.address.model.simulation.ReviewSimulator;
+import seedu.address.model.simulation.SimulationReport;
+
+/**
+ * Simulates a typical user reviewing the Deck every day for a number of days with a scheduling algorithm, and shows
+ * how many reviews it would take and how many Cards they would remember. The Deck itself is left as it is.
+ */
+public class SimulateCommand extends Command {
+
+    public static final String COMMAND_WORD = "simulate";
+
+    public static final int MAX_DAYS = 3650;
+
+    /** Most lines that the days simulated are summarised in. */
+    public static final int MAX_PERIODS = 12;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Simulates reviewing all cards every day for DAYS "
+            + "days, and shows the number of reviews and how many cards would be recalled.\n"
+            + "Parameters: DAYS (1 to " + MAX_DAYS + ") [ALGORITHM] (one of: multiplier, sm2, fsrs, leitner)\n"
+            + "Example: " + COMMAND_WORD + " 90 sm2";
+
+    public static final String MESSAGE_HEADER = "Simulated %1$d day(s) of reviews of %2$d card(s) "
+            + "with the %3$s scheduling algorithm";
+
+    public static final String MESSAGE_NO_CARDS = "There are no cards to simulate reviews of";
+
+    public static final String MESSAGE_TOTAL = "Reviews: %1$d (%2$.1f per day, %3$.0f%% recalled)";
+
+    public static final String MESSAGE_BUSIEST_DAY = "Busiest day: day %1$d with %2$d review(s)";
+
+    public static final String MESSAGE_PERIOD = "Days %1$d-%2$d: %3$.1f review(s) per day (%4$.0f%% recalled)";
+
+    /** Seed of the simulated user's recall, fixed so that the same Deck always gives the same forecast. */
+    static final long SEED = 0;
+
+    private final int days;
+    private final Optional<SchedulerType> schedulerType;
+
+    /**
+     * Creates a SimulateCommand that simulates {@code days} days with {@code schedulerType}, or with the scheduling
+     * algorithm in use if it is empty.
+     */
+    public SimulateCommand(int days, Optional<SchedulerType> schedulerType) {
+        requireNonNull(schedulerType);
+        assert days > 0 && days <= MAX_DAYS : "Invalid number of days to simulate";
+        this.days = days;
+        this.schedulerType = schedulerType;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+
+        List<Card> cards = model.getDeck().getCardList();
+        if (cards.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_CARDS);
+        }
+
+        SchedulerType type = schedulerType.orElse(model.getUserPrefs().getSchedulerType());
+        ReviewSimulator simulator = new ReviewSimulator(clock -> model.getScheduler(type, clock),
+                RecallModel.DEFAULT, SEED);
+        SimulationReport report = simulator.run(cards, LocalDateTime.now(), days);
+
+        StringBuilder summary = new StringBuilder(String.format(MESSAGE_HEADER, days, cards.size(), type));
+        long reviewCount = report.getReviewCount(0, days);
+        summary.append('\n').append(String.format(MESSAGE_TOTAL, reviewCount, (double) reviewCount / days,
+                percentage(report.getRecalledCount(0, days), reviewCount)));
+        int busiestDay = report.getBusiestDay();
+        summary.append('\n').append(String.format(MESSAGE_BUSIEST_DAY, busiestDay + 1,
+                report.getReviewCount(busiestDay)));
+
+        int periodDays = (days + MAX_PERIODS - 1) / MAX_PERIODS;
+        for (int from = 0; from < days; from += periodDays) {
+            int to = Math.min(from + periodDays, days);
+            long periodReviewCount = report.getReviewCount(from, to);
+            summary.append('\n').append(String.format(MESSAGE_PERIOD, from + 1, to,
+                    (double) periodReviewCount / (to - from),
+                    percentage(report.getRecalledCount(from, to), periodReviewCount)));
+        }
+        return new CommandResult(summary.toString());
+    }
+
+    private static double percentage(long count, long total) {
+        return total == 0 ? 0 : 100.0 * count / total;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SimulateCommand)) {
+            return false;
+        }
+
+        SimulateCommand otherSimulateCommand = (SimulateCommand) other;
+        return days == otherSimulateCommand.days
+                && schedulerType.equals(otherSimulateCommand.schedulerType);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("days", days)
+                .add("schedulerType", schedulerType)
+                .toString();
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import seedu.address.commons.core.index.Index;
@@ -10,7 +11,9 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.card.Card;
+import seedu.address.model.card.Difficulty;
 import seedu.address.model.exceptions.RandomIndexNotInitialisedException;
+import seedu.address.model.history.ReviewEvent;
 
 /**
  * Solves a question using it's displayed index from the Deck.
@@ -97,5 +100,6 @@ public class SolveCommand extends Command {
         card.incrementSolveCount();
         model.setCard(card, card); // This is assuming setCard method does the necessary UI updates and model changes.
         model.getGoal().solvedCard();
+        model.recordReview(ReviewEvent.of(card, Difficulty.NEW, LocalDateTime.now()), card);
     }
 }
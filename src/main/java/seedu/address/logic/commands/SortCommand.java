@@ -0,0 +1,63 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.card.CardOrder;
+
+/**
+ * Sorts the displayed Cards in the Deck by a chosen order.
+ */
+public class SortCommand extends Command {
+
+    public static final String COMMAND_WORD = "sort";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts the displayed cards.\n"
+            + "Parameters: ORDER (one of: due, question, solved, practised, difficulty)\n"
+            + "Example: " + COMMAND_WORD + " question";
+
+    public static final String MESSAGE_SUCCESS = "Sorted cards by %1$s";
+
+    /** The {@code CardOrder} to sort the displayed Cards by */
+    private final CardOrder order;
+
+    /**
+     * Creates a SortCommand to sort the displayed Cards by {@code order}.
+     */
+    public SortCommand(CardOrder order) {
+        requireNonNull(order);
+        this.order = order;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+
+        model.setCardOrder(order);
+        model.resetRandomIndex();
+        return new CommandResult(String.format(MESSAGE_SUCCESS, order));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SortCommand)) {
+            return false;
+        }
+
+        SortCommand otherSortCommand = (SortCommand) other;
+        return order.equals(otherSortCommand.order);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("order", order)
+                .toString();
+    }
+}
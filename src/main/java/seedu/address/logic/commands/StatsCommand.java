@@ -0,0 +1,164 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.OptionalDouble;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.analytics.ReviewAggregates;
+import seedu.address.model.analytics.ReviewStatistics;
+import seedu.address.model.analytics.ReviewTally;
+import seedu.address.model.analytics.RollupWindow;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Shows learning statistics over the reviews of all Cards, or of the Cards with a given tag.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    /** Number of days, today included, whose review counts are shown. */
+    public static final int DAILY_COUNT_DAYS = 7;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows statistics over the reviews of all cards, "
+            + "or of the cards with the given tag.\n"
+            + "Parameters: [" + PREFIX_TAG + "TAG]\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_TAG + "Math";
+
+    public static final String MESSAGE_HEADER_ALL = "Review statistics for all cards:";
+
+    public static final String MESSAGE_HEADER_TAG = "Review statistics for cards tagged %1$s:";
+
+    public static final String MESSAGE_NO_REVIEWS = "No reviews recorded yet";
+
+    public static final String MESSAGE_NO_REVIEWS_TAG = "No reviews recorded yet for cards tagged %1$s";
+
+    public static final String MESSAGE_TOTAL = "Reviews: %1$d (%2$.0f%% recalled)";
+
+    public static final String MESSAGE_GROWTH = "Average interval growth: %1$.2fx";
+
+    public static final String MESSAGE_NO_GROWTH = "Average interval growth: needs cards reviewed at least twice";
+
+    public static final String MESSAGE_RETENTION = "Recalled by interval: %1$s";
+
+    public static final String MESSAGE_RETENTION_BUCKET = "%1$s %2$.0f%% (%3$d)";
+
+    public static final String MESSAGE_ROLLUP = "%1$s: %2$d review(s) (%3$.0f%% recalled)";
+
+    public static final String MESSAGE_DAY = "%1$s: %2$d";
+
+    public static final String MESSAGE_READ_ERROR = "Could not read the review history due to the following error: %s";
+
+    private static final DateTimeFormatter DAY_FORMATTER = DateTimeFormatter.ofPattern("EEE d MMM", Locale.ENGLISH);
+
+    private final Optional<Tag> tag;
+
+    /**
+     * Creates a StatsCommand to show statistics over the reviews of the Cards tagged with {@code tag}, or of all
+     * Cards if {@code tag} is empty.
+     */
+    public StatsCommand(Optional<Tag> tag) {
+        requireNonNull(tag);
+        this.tag = tag;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        ReviewStatistics statistics;
+        try {
+            statistics = model.getReviewStatistics();
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_READ_ERROR, ioe.getMessage()), ioe);
+        }
+
+        Optional<ReviewAggregates> aggregates = tag.isPresent()
+                ? statistics.getForTag(tag.get())
+                : Optional.of(statistics.getOverall());
+        if (aggregates.isEmpty() || aggregates.get().getTotal().getReviewCount() == 0) {
+            return new CommandResult(tag.map(t -> String.format(MESSAGE_NO_REVIEWS_TAG, t.tagName))
+                    .orElse(MESSAGE_NO_REVIEWS));
+        }
+
+        String header = tag.map(t -> String.format(MESSAGE_HEADER_TAG, t.tagName)).orElse(MESSAGE_HEADER_ALL);
+        return new CommandResult(header + '\n' + describe(aggregates.get(), LocalDate.now()));
+    }
+
+    /**
+     * Returns a description of {@code aggregates} as seen on {@code today}.
+     */
+    private static String describe(ReviewAggregates aggregates, LocalDate today) {
+        ReviewTally total = aggregates.getTotal();
+        StringBuilder message = new StringBuilder(
+                String.format(MESSAGE_TOTAL, total.getReviewCount(), total.getAccuracy() * 100));
+
+        OptionalDouble growth = total.getAverageIntervalGrowth();
+        message.append('\n').append(growth.isPresent() ? String.format(MESSAGE_GROWTH, growth.getAsDouble())
+                : MESSAGE_NO_GROWTH);
+
+        List<ReviewTally> retentionCurve = aggregates.getRetentionCurve();
+        StringBuilder retention = new StringBuilder();
+        for (int bucket = 0; bucket < retentionCurve.size(); bucket++) {
+            ReviewTally tally = retentionCurve.get(bucket);
+            if (tally.getReviewCount() == 0) {
+                continue;
+            }
+            if (retention.length() > 0) {
+                retention.append(", ");
+            }
+            retention.append(String.format(MESSAGE_RETENTION_BUCKET, ReviewAggregates.RETENTION_BUCKETS.get(bucket),
+                    tally.getAccuracy() * 100, tally.getReviewCount()));
+        }
+        message.append('\n').append(String.format(MESSAGE_RETENTION, retention));
+
+        appendRollup(message, "Today", aggregates.getRollup(RollupWindow.DAY, today));
+        appendRollup(message, "This week", aggregates.getRollup(RollupWindow.WEEK, today));
+        appendRollup(message, "This month", aggregates.getRollup(RollupWindow.MONTH, today));
+
+        message.append("\nReviews per day:");
+        for (int day = DAILY_COUNT_DAYS - 1; day >= 0; day--) {
+            LocalDate date = today.minusDays(day);
+            message.append('\n').append(String.format(MESSAGE_DAY, date.format(DAY_FORMATTER),
+                    aggregates.getRollup(RollupWindow.DAY, date).getReviewCount()));
+        }
+        return message.toString();
+    }
+
+    private static void appendRollup(StringBuilder message, String period, ReviewTally tally) {
+        message.append('\n')
+                .append(String.format(MESSAGE_ROLLUP, period, tally.getReviewCount(), tally.getAccuracy() * 100));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StatsCommand)) {
+            return false;
+        }
+
+        StatsCommand otherStatsCommand = (StatsCommand) other;
+        return tag.equals(otherStatsCommand.tag);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("tag", tag.orElse(null))
+                .toString();
+    }
+}
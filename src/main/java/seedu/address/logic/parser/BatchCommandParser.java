@@ -0,0 +1,96 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.commands.BatchCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new BatchCommand object, parsing every command in the script it names
+ * first, so that a script with an invalid command is rejected before any of it runs.
+ */
+public class BatchCommandParser implements Parser<BatchCommand> {
+
+    public static final String COMMENT_PREFIX = "#";
+
+    public static final String MESSAGE_CANNOT_READ = "Could not read the script %1$s: %2$s";
+
+    public static final String MESSAGE_EMPTY_SCRIPT = "The script %1$s has no commands";
+
+    public static final String MESSAGE_INVALID_LINE = "Line %1$d of the script (%2$s) is invalid: %3$s";
+
+    public static final String MESSAGE_NOT_BATCHABLE = "Line %1$d of the script (%2$s) cannot be run in a batch";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the BatchCommand
+     * and returns a BatchCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format, or the script cannot be read
+     *     or has an invalid command
+     */
+    public BatchCommand parse(String args) throws ParseException {
+        assert args != null : "Command is empty";
+
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty() || !FileUtil.isValidPath(trimmedArgs)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, BatchCommand.MESSAGE_USAGE));
+        }
+        return parseScript(Paths.get(trimmedArgs));
+    }
+
+    /**
+     * Reads the script at {@code scriptPath} and returns a BatchCommand that runs its commands.
+     * @throws ParseException if the script cannot be read or has an invalid command
+     */
+    public BatchCommand parseScript(Path scriptPath) throws ParseException {
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(scriptPath);
+        } catch (IOException e) {
+            throw new ParseException(String.format(MESSAGE_CANNOT_READ, scriptPath, e.getMessage()), e);
+        }
+
+        DeckParser deckParser = new DeckParser();
+        List<String> commandTexts = new ArrayList<>();
+        List<Integer> lineNumbers = new ArrayList<>();
+        List<Command> commands = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            String commandText = lines.get(i).trim();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+
+            int lineNumber = i + 1;
+            // Checked before parsing, as parsing a batch reads its script, which may be this one.
+            if (commandText.split("\\s+", 2)[0].equals(BatchCommand.COMMAND_WORD)) {
+                throw new ParseException(String.format(MESSAGE_NOT_BATCHABLE, lineNumber, commandText));
+            }
+            Command command;
+            try {
+                command = deckParser.parseCommand(commandText);
+            } catch (ParseException e) {
+                throw new ParseException(String.format(MESSAGE_INVALID_LINE, lineNumber, commandText,
+                        e.getMessage()), e);
+            }
+            if (!command.isBatchable()) {
+                throw new ParseException(String.format(MESSAGE_NOT_BATCHABLE, lineNumber, commandText));
+            }
+            commandTexts.add(commandText);
+            lineNumbers.add(lineNumber);
+            commands.add(command);
+        }
+
+        if (commands.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_EMPTY_SCRIPT, scriptPath));
+        }
+        return new BatchCommand(scriptPath, commandTexts, lineNumbers, commands);
+    }
+}
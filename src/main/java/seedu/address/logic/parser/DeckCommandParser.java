@@ -0,0 +1,31 @@
+package seedu.address.logic.parser;
+
+import java.util.Optional;
+
+import seedu.address.logic.commands.DeckCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.workspace.Workspace;
+
+/**
+ * Parses input arguments and creates a new DeckCommand object
+ */
+public class DeckCommandParser implements Parser<DeckCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the DeckCommand
+     * and returns a DeckCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public DeckCommand parse(String args) throws ParseException {
+        assert args != null : "Command is empty";
+
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new DeckCommand(Optional.empty());
+        }
+        if (!Workspace.isValidDeckName(trimmedArgs)) {
+            throw new ParseException(Workspace.MESSAGE_NAME_CONSTRAINTS);
+        }
+        return new DeckCommand(Optional.of(trimmedArgs));
+    }
+}
@@ -9,19 +9,31 @@ import java.util.regex.Pattern;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BatchCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.DeckCommand;
 import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.DiagnosticsCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ForecastCommand;
 import seedu.address.logic.commands.GoalCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.HintCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.OptimiseCommand;
 import seedu.address.logic.commands.PractiseCommand;
 import seedu.address.logic.commands.RandomCommand;
+import seedu.address.logic.commands.RebalanceCommand;
+import seedu.address.logic.commands.ReviewCommand;
+import seedu.address.logic.commands.SchedulerCommand;
 import seedu.address.logic.commands.SetDifficultyCommand;
+import seedu.address.logic.commands.ShiftCommand;
+import seedu.address.logic.commands.SimulateCommand;
 import seedu.address.logic.commands.SolveCommand;
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -89,13 +101,49 @@ public class DeckParser {
         case HelpCommand.COMMAND_WORD:
             return new HelpCommand();
         case RandomCommand.COMMAND_WORD:
-            return new RandomCommand();
+            return new RandomCommandParser().parse(arguments);
 
         case HintCommand.COMMAND_WORD:
             return new HintCommandParser().parse(arguments);
 
         case GoalCommand.COMMAND_WORD:
             return new GoalCommandParser().parse(arguments);
+
+        case SortCommand.COMMAND_WORD:
+            return new SortCommandParser().parse(arguments);
+
+        case ReviewCommand.COMMAND_WORD:
+            return new ReviewCommandParser().parse(arguments);
+
+        case SchedulerCommand.COMMAND_WORD:
+            return new SchedulerCommandParser().parse(arguments);
+
+        case ShiftCommand.COMMAND_WORD:
+            return new ShiftCommandParser().parse(arguments);
+
+        case RebalanceCommand.COMMAND_WORD:
+            return new RebalanceCommandParser().parse(arguments);
+
+        case ForecastCommand.COMMAND_WORD:
+            return new ForecastCommandParser().parse(arguments);
+
+        case StatsCommand.COMMAND_WORD:
+            return new StatsCommandParser().parse(arguments);
+
+        case OptimiseCommand.COMMAND_WORD:
+            return new OptimiseCommandParser().parse(arguments);
+
+        case SimulateCommand.COMMAND_WORD:
+            return new SimulateCommandParser().parse(arguments);
+
+        case DeckCommand.COMMAND_WORD:
+            return new DeckCommandParser().parse(arguments);
+
+        case DiagnosticsCommand.COMMAND_WORD:
+            return new DiagnosticsCommand();
+
+        case BatchCommand.COMMAND_WORD:
+            return new BatchCommandParser().parse(arguments);
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
@@ -0,0 +1,33 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.ForecastCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ForecastCommand object
+ */
+public class ForecastCommandParser implements Parser<ForecastCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ForecastCommand
+     * and returns a ForecastCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ForecastCommand parse(String args) throws ParseException {
+        assert args != null : "Command is empty";
+
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new ForecastCommand(ForecastCommand.DEFAULT_DAYS);
+        }
+
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedArgs)
+                || Integer.parseInt(trimmedArgs) > ForecastCommand.MAX_DAYS) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ForecastCommand.MESSAGE_USAGE));
+        }
+        return new ForecastCommand(Integer.parseInt(trimmedArgs));
+    }
+}
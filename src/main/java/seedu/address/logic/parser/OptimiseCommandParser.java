@@ -0,0 +1,34 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.OptimiseCommand;
+import seedu.address.logic.commands.OptimiseCommand.Action;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new OptimiseCommand object
+ */
+public class OptimiseCommandParser implements Parser<OptimiseCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the OptimiseCommand
+     * and returns an OptimiseCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public OptimiseCommand parse(String args) throws ParseException {
+        assert args != null : "Command is empty";
+
+        String trimmedArgs = args.trim().toLowerCase();
+        switch (trimmedArgs) {
+        case "":
+            return new OptimiseCommand(Action.START);
+        case "status":
+            return new OptimiseCommand(Action.STATUS);
+        case "apply":
+            return new OptimiseCommand(Action.APPLY);
+        default:
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, OptimiseCommand.MESSAGE_USAGE));
+        }
+    }
+}
@@ -8,8 +8,10 @@ import java.util.List;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Messages;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.card.Answer;
+import seedu.address.model.card.Difficulty;
 import seedu.address.model.card.Hint;
 import seedu.address.model.card.Question;
 import seedu.address.model.goal.Goal;
@@ -142,4 +144,28 @@ public class ParserUtil {
         }
         return Integer.parseInt(trimmedTarget);
     }
+
+    /**
+     * Parses a {@code String difficulty} into a {@code Difficulty} a card can be rated with.
+     * Leading and trailing whitespaces will be trimmed, and the case is ignored.
+     *
+     * @throws ParseException if the given {@code difficulty} is not easy, medium or hard.
+     */
+    public static Difficulty parseDifficulty(String difficulty) throws ParseException {
+        requireNonNull(difficulty);
+
+        String trimmedDifficulty = difficulty.trim();
+        String message = trimmedDifficulty + Messages.MESSAGE_CARDS_SET_DIFFICULTY_VIEW_INVALID;
+        Difficulty parsedDifficulty;
+        try {
+            parsedDifficulty = Difficulty.valueOf(trimmedDifficulty.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new ParseException(message);
+        }
+
+        if (parsedDifficulty == Difficulty.NEW) {
+            throw new ParseException(message);
+        }
+        return parsedDifficulty;
+    }
 }
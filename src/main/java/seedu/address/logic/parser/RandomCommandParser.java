@@ -0,0 +1,34 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.RandomCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.sampling.CardSampler;
+
+/**
+ * Parses input arguments and creates a new RandomCommand object
+ */
+public class RandomCommandParser implements Parser<RandomCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RandomCommand
+     * and returns a RandomCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public RandomCommand parse(String args) throws ParseException {
+        assert args != null : "Command is empty";
+        String trimmedArgs = args.trim();
+
+        if (trimmedArgs.isEmpty()) {
+            return new RandomCommand();
+        }
+        if (trimmedArgs.equalsIgnoreCase(RandomCommand.WEIGHTED_KEYWORD)) {
+            return new RandomCommand(CardSampler.Mode.WEIGHTED);
+        }
+        if (trimmedArgs.equalsIgnoreCase(RandomCommand.SHUFFLE_BAG_KEYWORD)) {
+            return new RandomCommand(CardSampler.Mode.SHUFFLE_BAG);
+        }
+        throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RandomCommand.MESSAGE_USAGE));
+    }
+}
@@ -0,0 +1,44 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.RebalanceCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.scheduling.OverdueRebalancer;
+
+/**
+ * Parses input arguments and creates a new RebalanceCommand object
+ */
+public class RebalanceCommandParser implements Parser<RebalanceCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RebalanceCommand
+     * and returns a RebalanceCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public RebalanceCommand parse(String args) throws ParseException {
+        assert args != null : "Command is empty";
+
+        String[] words = args.trim().split("\\s+");
+        if (words.length > 2 || !areNonZeroUnsignedIntegers(words)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RebalanceCommand.MESSAGE_USAGE));
+        }
+
+        int days = Integer.parseInt(words[0]);
+        if (days > OverdueRebalancer.MAX_DAYS) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RebalanceCommand.MESSAGE_USAGE));
+        }
+        int dailyLoad = words.length == 2 ? Integer.parseInt(words[1]) : OverdueRebalancer.EVEN_LOAD;
+        return new RebalanceCommand(days, dailyLoad);
+    }
+
+    private static boolean areNonZeroUnsignedIntegers(String[] words) {
+        for (String word : words) {
+            if (!StringUtil.isNonZeroUnsignedInteger(word)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,43 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DIFFICULTY;
+
+import seedu.address.logic.commands.ReviewCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ReviewCommand object
+ */
+public class ReviewCommandParser implements Parser<ReviewCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ReviewCommand
+     * and returns a ReviewCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ReviewCommand parse(String args) throws ParseException {
+        assert args != null : "Command is empty";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_DIFFICULTY);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_DIFFICULTY);
+        String preamble = argMultimap.getPreamble();
+
+        if (argMultimap.getValue(PREFIX_DIFFICULTY).isPresent()) {
+            if (!preamble.isEmpty()) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ReviewCommand.MESSAGE_USAGE));
+            }
+            return ReviewCommand.rate(ParserUtil.parseDifficulty(argMultimap.getValue(PREFIX_DIFFICULTY).get()));
+        }
+
+        if (preamble.isEmpty()) {
+            return ReviewCommand.start();
+        }
+        if (preamble.equalsIgnoreCase(ReviewCommand.ALL_KEYWORD)) {
+            return ReviewCommand.startAll();
+        }
+        if (preamble.equalsIgnoreCase(ReviewCommand.END_KEYWORD)) {
+            return ReviewCommand.end();
+        }
+        throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ReviewCommand.MESSAGE_USAGE));
+    }
+}
@@ -0,0 +1,27 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.SchedulerCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.scheduling.SchedulerType;
+
+/**
+ * Parses input arguments and creates a new SchedulerCommand object
+ */
+public class SchedulerCommandParser implements Parser<SchedulerCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SchedulerCommand
+     * and returns a SchedulerCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SchedulerCommand parse(String args) throws ParseException {
+        assert args != null : "Command is empty";
+
+        SchedulerType schedulerType = SchedulerType.fromKeyword(args)
+                .orElseThrow(() -> new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, SchedulerCommand.MESSAGE_USAGE)));
+        return new SchedulerCommand(schedulerType);
+    }
+}
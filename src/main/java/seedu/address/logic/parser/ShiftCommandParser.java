@@ -0,0 +1,34 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.ShiftCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ShiftCommand object
+ */
+public class ShiftCommandParser implements Parser<ShiftCommand> {
+
+    private static final String DAYS_VALIDATION_REGEX = "[+-]?\\d{1,9}";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ShiftCommand
+     * and returns a ShiftCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ShiftCommand parse(String args) throws ParseException {
+        assert args != null : "Command is empty";
+
+        String trimmedArgs = args.trim();
+        if (!trimmedArgs.matches(DAYS_VALIDATION_REGEX)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ShiftCommand.MESSAGE_USAGE));
+        }
+
+        int days = Integer.parseInt(trimmedArgs);
+        if (days == 0 || Math.abs(days) > ShiftCommand.MAX_DAYS) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ShiftCommand.MESSAGE_USAGE));
+        }
+        return new ShiftCommand(days);
+    }
+}
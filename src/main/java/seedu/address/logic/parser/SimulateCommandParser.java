@@ -0,0 +1,44 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.Optional;
+
+import seedu.address.logic.commands.SimulateCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.scheduling.SchedulerType;
+
+/**
+ * Parses input arguments and creates a new SimulateCommand object
+ */
+public class SimulateCommandParser implements Parser<SimulateCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SimulateCommand
+     * and returns a SimulateCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SimulateCommand parse(String args) throws ParseException {
+        assert args != null : "Command is empty";
+
+        String[] words = args.trim().split("\\s+");
+        if (words.length > 2 || !words[0].matches("\\d{1,4}")) {
+            throw invalidFormat();
+        }
+
+        int days = Integer.parseInt(words[0]);
+        if (days < 1 || days > SimulateCommand.MAX_DAYS) {
+            throw invalidFormat();
+        }
+
+        Optional<SchedulerType> schedulerType = Optional.empty();
+        if (words.length == 2) {
+            schedulerType = Optional.of(SchedulerType.fromKeyword(words[1]).orElseThrow(this::invalidFormat));
+        }
+        return new SimulateCommand(days, schedulerType);
+    }
+
+    private ParseException invalidFormat() {
+        return new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SimulateCommand.MESSAGE_USAGE));
+    }
+}
@@ -2,11 +2,17 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.function.Function;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.card.Card;
+import seedu.address.model.card.CardIndex;
+import seedu.address.model.card.CardOrder;
+import seedu.address.model.card.PracticeDate;
+import seedu.address.model.card.ScheduleOffset;
 import seedu.address.model.card.UniqueCardList;
 
 /**
@@ -95,6 +101,41 @@ public class Deck implements ReadOnlyDeck {
         cards.remove(key);
     }
 
+    /**
+     * Moves every Card in the Deck to the next practice date given by {@code newPracticeDates}, in one pass.
+     */
+    public void rescheduleCards(Function<? super Card, PracticeDate> newPracticeDates) {
+        cards.rescheduleAll(newPracticeDates);
+    }
+
+    /**
+     * Moves the practice dates of every Card in the Deck by {@code duration}, in O(1) time.
+     */
+    public void shiftSchedule(Duration duration) {
+        cards.shiftSchedule(duration);
+    }
+
+    /**
+     * Returns the offset that the practice dates of the Cards in the Deck are stored relative to.
+     */
+    public ScheduleOffset getScheduleOffset() {
+        return cards.getScheduleOffset();
+    }
+
+    /**
+     * Registers {@code index} to be kept up to date with the Cards in the Deck.
+     */
+    public void addIndex(CardIndex index) {
+        cards.addIndex(index);
+    }
+
+    /**
+     * Stops keeping {@code index} up to date with the Cards in the Deck.
+     */
+    public void removeIndex(CardIndex index) {
+        cards.removeIndex(index);
+    }
+
     //// util methods
 
     @Override
@@ -109,6 +150,13 @@ public class Deck implements ReadOnlyDeck {
         return cards.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns an unmodifiable view of the Cards list sorted by {@code order}.
+     */
+    public ObservableList<Card> getCardList(CardOrder order) {
+        return cards.asUnmodifiableObservableList(order);
+    }
+
     @Override
     public void sort() {
         cards.sort();
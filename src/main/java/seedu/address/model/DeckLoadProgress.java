@@ -0,0 +1,106 @@
+package seedu.address.model;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * How far loading the open Deck from storage has got: the number of cards parsed from the file, the number of them
+ * validated and made into Cards, and the number of those indexed into the Deck. Immutable.
+ */
+public class DeckLoadProgress {
+
+    public static final String MESSAGE_PARSING = "Loading deck...";
+    public static final String MESSAGE_PROGRESS = "Loading deck: %1$d of %2$d cards validated, %3$d indexed";
+
+    private final int parsedCount;
+    private final int validatedCount;
+    private final int indexedCount;
+    private final boolean isDone;
+
+    /**
+     * Creates the progress of a load that has parsed {@code parsedCount} cards, validated {@code validatedCount}
+     * of them and indexed {@code indexedCount}, and that is over if {@code isDone}.
+     */
+    public DeckLoadProgress(int parsedCount, int validatedCount, int indexedCount, boolean isDone) {
+        assert 0 <= indexedCount && indexedCount <= validatedCount && validatedCount <= parsedCount
+                : "Invalid load progress";
+        this.parsedCount = parsedCount;
+        this.validatedCount = validatedCount;
+        this.indexedCount = indexedCount;
+        this.isDone = isDone;
+    }
+
+    /**
+     * Returns the progress of a load that has not parsed the file yet.
+     */
+    public static DeckLoadProgress started() {
+        return new DeckLoadProgress(0, 0, 0, false);
+    }
+
+    /**
+     * Returns the progress of a load that is over, having loaded {@code cardCount} cards.
+     */
+    public static DeckLoadProgress loaded(int cardCount) {
+        return new DeckLoadProgress(cardCount, cardCount, cardCount, true);
+    }
+
+    public int getParsedCount() {
+        return parsedCount;
+    }
+
+    public int getValidatedCount() {
+        return validatedCount;
+    }
+
+    public int getIndexedCount() {
+        return indexedCount;
+    }
+
+    public boolean isDone() {
+        return isDone;
+    }
+
+    /**
+     * Returns a description of the progress to show to the user while the load is not over.
+     */
+    public String getDescription() {
+        if (parsedCount == 0) {
+            return MESSAGE_PARSING;
+        }
+        return String.format(MESSAGE_PROGRESS, validatedCount, parsedCount, indexedCount);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof DeckLoadProgress)) {
+            return false;
+        }
+
+        DeckLoadProgress otherProgress = (DeckLoadProgress) other;
+        return parsedCount == otherProgress.parsedCount
+                && validatedCount == otherProgress.validatedCount
+                && indexedCount == otherProgress.indexedCount
+                && isDone == otherProgress.isDone;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(parsedCount, validatedCount, indexedCount, isDone);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("parsedCount", parsedCount)
+                .add("validatedCount", validatedCount)
+                .add("indexedCount", indexedCount)
+                .add("isDone", isDone)
+                .toString();
+    }
+}
@@ -0,0 +1,120 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.card.Card;
+
+/**
+ * An immutable copy of the open Deck, as it was when the model published it, that any thread can read while the
+ * model is being changed.
+ * <p>
+ * The cards are copies that are in no Deck, so commands that change cards in place do not change them. They must
+ * not be changed by readers either, as later snapshots share the copies of the cards that have not changed.
+ */
+public class DeckSnapshot {
+
+    private final long version;
+    private final Path deckFilePath;
+    private final boolean isDeckLoading;
+    private final List<Card> deckCards;
+    private final List<Card> shownCards;
+    private final List<Card> cardsByDueDate;
+    // Position of each shown card in the card list, worked out when first asked for
+    private volatile Map<Card, Integer> shownPositions;
+
+    /**
+     * Creates the {@code version}th {@code DeckSnapshot} of the Deck at {@code deckFilePath}, which holds
+     * {@code deckCards}, of which {@code shownCards} are shown in the card list, and which are
+     * {@code cardsByDueDate} in order of next practice date. The lists must be unmodifiable, must hold the same
+     * copy of each card, and the cards must not be in a Deck.
+     */
+    DeckSnapshot(long version, Path deckFilePath, boolean isDeckLoading, List<Card> deckCards,
+            List<Card> shownCards, List<Card> cardsByDueDate) {
+        requireNonNull(deckFilePath);
+        requireNonNull(deckCards);
+        requireNonNull(shownCards);
+        requireNonNull(cardsByDueDate);
+        this.version = version;
+        this.deckFilePath = deckFilePath;
+        this.isDeckLoading = isDeckLoading;
+        this.deckCards = deckCards;
+        this.shownCards = shownCards;
+        this.cardsByDueDate = cardsByDueDate;
+    }
+
+    /**
+     * Returns the number of snapshots published before this one, so that a later snapshot has a greater version.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    public Path getDeckFilePath() {
+        return deckFilePath;
+    }
+
+    /**
+     * Returns true if the Deck had not finished loading when this snapshot was taken, so that it has no cards yet.
+     */
+    public boolean isDeckLoading() {
+        return isDeckLoading;
+    }
+
+    /**
+     * Returns every card in the Deck, in the order they are stored in.
+     */
+    public List<Card> getDeckCards() {
+        return deckCards;
+    }
+
+    /**
+     * Returns the cards shown in the card list, in the order shown, so that the card at index {@code i} is the one
+     * that commands refer to by index {@code i + 1}.
+     */
+    public List<Card> getShownCards() {
+        return shownCards;
+    }
+
+    /**
+     * Returns every card in the Deck, whether shown or not, soonest next practice date first, so that the cards due
+     * at any time come first.
+     */
+    public List<Card> getCardsByDueDate() {
+        return cardsByDueDate;
+    }
+
+    /**
+     * Returns the position of {@code card}, one of the cards of this snapshot, in the card list, or an empty
+     * {@code OptionalInt} if it is not shown.
+     */
+    public OptionalInt getShownIndexOf(Card card) {
+        requireNonNull(card);
+        Map<Card, Integer> positions = shownPositions;
+        if (positions == null) {
+            // Readers that ask at the same time may each work the positions out, but they find the same ones.
+            positions = new IdentityHashMap<>();
+            for (int i = 0; i < shownCards.size(); i++) {
+                positions.put(shownCards.get(i), i);
+            }
+            shownPositions = positions;
+        }
+        Integer position = positions.get(card);
+        return position == null ? OptionalInt.empty() : OptionalInt.of(position);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("version", version)
+                .add("deckFilePath", deckFilePath)
+                .add("cardCount", deckCards.size())
+                .toString();
+    }
+}
@@ -0,0 +1,128 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.card.Card;
+import seedu.address.model.card.CardIndex;
+import seedu.address.model.card.CardOrder;
+import seedu.address.model.card.SortedCardIndex;
+
+/**
+ * Publishes {@link DeckSnapshot}s of the open Deck, so that threads other than the one that changes the model can
+ * read it without locks while commands run.
+ * <p>
+ * The model has a single writer, the thread that commands are executed on, and only that thread changes the Deck
+ * and calls {@link #publish}, between changes. The index is only registered with the Deck once the first snapshot
+ * is asked for, so that a model without readers does no extra work on changes. Each card is copied once, and its
+ * copy is shared by later snapshots until the Deck reports that the card has changed, which it does for cards
+ * changed in place too. The latest snapshot is kept in a volatile field, so a reader that takes it also sees every
+ * copy in it as it was published. As neither the snapshot nor the copies change after that, readers never see a
+ * card half way through a change.
+ * <p>
+ * The cards of the Deck are also kept in order of next practice date, so that each snapshot can list the cards that
+ * are due, whether or not they are shown, without sorting the Deck.
+ */
+class DeckSnapshots implements CardIndex {
+
+    // Copy of each card of the Deck that has not changed since it was copied; only used on the writer thread.
+    private final Map<Card, Card> copies = new IdentityHashMap<>();
+    // Cards of the Deck by next practice date; only used on the writer thread.
+    private final SortedCardIndex dueOrder = new SortedCardIndex(CardOrder.DUE);
+    // Whether the cards of the Deck have changed since the latest snapshot; only used on the writer thread.
+    private boolean isDeckChanged = true;
+    // Whether the cards shown have been filtered or sorted differently since the latest snapshot.
+    private boolean isShownChanged = true;
+    private volatile DeckSnapshot latest;
+
+    /**
+     * Returns the latest snapshot published, or null if none has been. Can be called on any thread.
+     */
+    DeckSnapshot getLatest() {
+        return latest;
+    }
+
+    /**
+     * Records that the cards shown have been filtered or sorted differently, which the Deck does not report.
+     */
+    void onShownCardsChanged() {
+        isShownChanged = true;
+    }
+
+    /**
+     * Publishes a snapshot of {@code deckCards}, the cards of the Deck at {@code deckFilePath}, of which
+     * {@code shownCards} are shown, unless nothing has changed since the latest snapshot. Returns the latest
+     * snapshot. Must be called on the writer thread.
+     */
+    DeckSnapshot publish(List<Card> deckCards, List<Card> shownCards, Path deckFilePath, boolean isDeckLoading) {
+        requireNonNull(deckCards);
+        requireNonNull(shownCards);
+        requireNonNull(deckFilePath);
+
+        DeckSnapshot previous = latest;
+        boolean isFirst = previous == null;
+        if (!isFirst && !isDeckChanged && !isShownChanged && previous.getDeckFilePath().equals(deckFilePath)
+                && previous.isDeckLoading() == isDeckLoading) {
+            return previous;
+        }
+
+        // The lists that have not changed are shared with the previous snapshot.
+        List<Card> deckCopies = isFirst || isDeckChanged ? copiesOf(deckCards) : previous.getDeckCards();
+        List<Card> dueOrderCopies = isFirst || isDeckChanged ? copiesOf(dueOrder) : previous.getCardsByDueDate();
+        List<Card> shownCopies = isFirst || isDeckChanged || isShownChanged
+                ? copiesOf(shownCards) : previous.getShownCards();
+        long version = isFirst ? 0 : previous.getVersion() + 1;
+        latest = new DeckSnapshot(version, deckFilePath, isDeckLoading, deckCopies, shownCopies, dueOrderCopies);
+        isDeckChanged = false;
+        isShownChanged = false;
+        return latest;
+    }
+
+    private List<Card> copiesOf(List<Card> cards) {
+        List<Card> cardCopies = new ArrayList<>(cards.size());
+        for (Card card : cards) {
+            cardCopies.add(copies.computeIfAbsent(card, Card::copy));
+        }
+        return Collections.unmodifiableList(cardCopies);
+    }
+
+    @Override
+    public void onCardAdded(Card card) {
+        dueOrder.onCardAdded(card);
+        isDeckChanged = true;
+    }
+
+    @Override
+    public void onCardRemoved(Card card) {
+        dueOrder.onCardRemoved(card);
+        copies.remove(card);
+        isDeckChanged = true;
+    }
+
+    @Override
+    public void onCardReplaced(Card target, Card editedCard) {
+        dueOrder.onCardReplaced(target, editedCard);
+        copies.remove(target);
+        isDeckChanged = true;
+    }
+
+    @Override
+    public void onCardsReset(List<Card> cards) {
+        dueOrder.onCardsReset(cards);
+        copies.clear();
+        isDeckChanged = true;
+    }
+
+    @Override
+    public void onScheduleShifted() {
+        // The practice dates of every card have changed, though no card has, and their order has not.
+        copies.clear();
+        isDeckChanged = true;
+    }
+}
@@ -1,14 +1,39 @@
 package seedu.address.model;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
+import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.StartupTimer;
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.analytics.ReviewStatistics;
 import seedu.address.model.card.Card;
+import seedu.address.model.card.CardOrder;
+import seedu.address.model.due.DueCardTracker;
+import seedu.address.model.due.DueForecast;
 import seedu.address.model.exceptions.RandomIndexNotInitialisedException;
 import seedu.address.model.goal.Goal;
+import seedu.address.model.history.ReviewEvent;
+import seedu.address.model.history.ReviewLog;
+import seedu.address.model.review.InterleavedReviewSession;
+import seedu.address.model.review.ReviewSession;
+import seedu.address.model.sampling.CardSampler;
+import seedu.address.model.scheduling.MultiplierParameters;
+import seedu.address.model.scheduling.OverdueRebalancer;
+import seedu.address.model.scheduling.Scheduler;
+import seedu.address.model.scheduling.SchedulerType;
+import seedu.address.model.tuning.ParameterOptimiser;
+import seedu.address.model.workspace.DeckManifest;
+import seedu.address.model.workspace.Workspace;
 
 /**
  * The API of the Model component.
@@ -47,6 +72,51 @@ public interface Model {
      */
     void setDeckFilePath(Path cardFilePath);
 
+    /**
+     * Returns the user prefs' deck file path, which changes whenever another Deck is opened.
+     */
+    ReadOnlyObjectProperty<Path> deckFilePathProperty();
+
+    /**
+     * Returns the scheduling algorithm that decides when Cards are next practised.
+     */
+    Scheduler getScheduler();
+
+    /**
+     * Returns the scheduler of the scheduling algorithm {@code schedulerType} with the user's parameters, reading
+     * the time from {@code clock} if it needs to.
+     */
+    Scheduler getScheduler(SchedulerType schedulerType, Clock clock);
+
+    /**
+     * Switches to the scheduling algorithm {@code schedulerType} and reschedules every Card in the Deck with it.
+     */
+    void setSchedulerType(SchedulerType schedulerType);
+
+    /**
+     * Sets the parameters of the multiplier scheduling algorithm to {@code parameters}, and reschedules every Card in
+     * the Deck with them if it is the algorithm in use.
+     */
+    void setMultiplierParameters(MultiplierParameters parameters);
+
+    /**
+     * Moves the practice dates of every Card in the Deck by {@code duration}.
+     */
+    void shiftSchedule(Duration duration);
+
+    /**
+     * Returns the total amount the practice dates of the Cards in the Deck have been shifted by since the Deck was
+     * loaded, which changes whenever they are shifted.
+     */
+    ReadOnlyObjectProperty<Duration> scheduleOffsetProperty();
+
+    /**
+     * Spreads the Cards in the Deck that are overdue at {@code now} over the coming days as planned by
+     * {@code rebalancer}, in a single batch.
+     * Returns the number of Cards moved to a later day.
+     */
+    int rebalanceOverdueCards(OverdueRebalancer rebalancer, LocalDateTime now);
+
     /**
      * Returns the Deck
      */
@@ -57,6 +127,25 @@ public interface Model {
      */
     int getDeckSize();
 
+    /**
+     * Returns the workspace of Decks that the Deck belongs to.
+     */
+    Workspace getWorkspace();
+
+    /**
+     * Opens the Deck named {@code name} in the workspace in place of the Deck, creating it if there is none.
+     * The Deck open until now is kept in the workspace as it is.
+     *
+     * @throws DataLoadingException if the Deck named {@code name} could not be loaded.
+     */
+    void switchDeck(String name) throws DataLoadingException;
+
+    /**
+     * Returns the manifests of every Deck in the workspace, including an up-to-date one of the Deck, in order of
+     * name.
+     */
+    List<DeckManifest> getDeckManifests();
+
     /**
      * Returns true if a Card with the same identity as {@code person} exists in the Deck.
      */
@@ -77,6 +166,17 @@ public interface Model {
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredCardList(Predicate<Card> predicate);
+
+    /**
+     * Sorts the filtered Card list by {@code order}.
+     */
+    void setCardOrder(CardOrder order);
+
+    /**
+     * Returns the order the filtered Card list is sorted by.
+     */
+    CardOrder getCardOrder();
+
     /**
      * Adds the given Card.
      * {@code card} must not already exist in the Deck.
@@ -93,6 +193,35 @@ public interface Model {
      */
     public void setDeck(ReadOnlyDeck deck);
 
+    /**
+     * Returns how far loading the Deck from storage has got, which changes as the load goes on.
+     */
+    ReadOnlyObjectProperty<DeckLoadProgress> deckLoadProgressProperty();
+
+    /**
+     * Records how far loading the Deck from storage has got.
+     */
+    void setDeckLoadProgress(DeckLoadProgress progress);
+
+    /**
+     * Returns true if the Deck is still being loaded from storage, so that it does not hold the Cards yet.
+     */
+    boolean isDeckLoading();
+
+    /**
+     * Returns the latest snapshot of the open Deck published by {@link #publishDeckSnapshot()}, or an empty
+     * {@code Optional} if none has been published yet. Unlike the rest of the model, this can be called on any
+     * thread, while the model is being changed.
+     */
+    Optional<DeckSnapshot> getDeckSnapshot();
+
+    /**
+     * Publishes a snapshot of the open Deck as it is now, unless it has not changed since the latest one, and
+     * returns the latest snapshot. Must be called on the thread that changes the model, between changes. Changes
+     * to the Deck are only tracked for snapshots from the first call on.
+     */
+    DeckSnapshot publishDeckSnapshot();
+
     /**
      * Saves a random index based on the current filtered deck list.
      */
@@ -114,4 +243,103 @@ public interface Model {
     public void setGoal(int target);
 
     Goal getGoal();
+
+    /**
+     * Returns the review session over the Deck.
+     */
+    ReviewSession getReviewSession();
+
+    /**
+     * Returns the review session over the due Cards of every Deck in the workspace.
+     */
+    InterleavedReviewSession getInterleavedReviewSession();
+
+    /**
+     * Starts a review session over the Cards due at {@code now} in every Deck in the workspace, loading the Decks
+     * that have Cards due and are not in memory. Any review session in progress is ended first.
+     *
+     * @throws DataLoadingException if a Deck could not be loaded.
+     */
+    void startInterleavedReview(LocalDateTime now) throws DataLoadingException;
+
+    /**
+     * Records that one of {@code cards}, the Cards of the Deck named {@code deckName}, which is not open, was
+     * changed in place. The change is saved with the next batch of changes to that Deck.
+     */
+    void recordIdleDeckChange(String deckName, List<Card> cards);
+
+    /**
+     * Returns the names of the Decks that are not open whose changes are to be saved now: every Deck with changes
+     * when no interleaved review session is active, and otherwise those with a full batch of changes.
+     */
+    List<String> getIdleDecksToSave();
+
+    /**
+     * Returns the tracker of the Cards in the Deck that are due for practice.
+     */
+    DueCardTracker getDueCardTracker();
+
+    /**
+     * Returns the forecast of the number of Cards in the Deck due on each day.
+     */
+    DueForecast getDueForecast();
+
+    /**
+     * Returns the log that reviews of the Cards in the Deck are recorded in.
+     */
+    ReviewLog getReviewLog();
+
+    /**
+     * Returns the timer of the phases of starting the app.
+     */
+    StartupTimer getStartupTimer();
+
+    /**
+     * Records {@code review} of {@code card} in the review log and in the review statistics. During a batch, the
+     * review is held back until the batch is committed.
+     */
+    void recordReview(ReviewEvent review, Card card);
+
+    /**
+     * Starts a batch of changes, which lasts until {@link #commitBatch()} or {@link #rollBackBatch()} is called.
+     * No batch must be in progress.
+     */
+    void startBatch();
+
+    /**
+     * Keeps the changes made during the batch in progress, and records the reviews held back during it.
+     */
+    void commitBatch();
+
+    /**
+     * Undoes the changes made during the batch in progress: the Cards of every Deck, the goal, the user prefs and
+     * the random index are put back as they were when it started, and the reviews held back during it are dropped.
+     */
+    void rollBackBatch();
+
+    /**
+     * Replaces the statistics over the review log with {@code statistics}, which were saved along with it.
+     * They are not used if they do not count every review in the log, as when the app stopped after saving the log
+     * but before saving them.
+     * @throws IOException if the review log could not be read.
+     */
+    void setReviewStatistics(ReviewStatistics statistics) throws IOException;
+
+    /**
+     * Returns the statistics over the reviews recorded in the review log.
+     * Reviews are added to the statistics as they are recorded, with the tags the Card has then. Only if there are
+     * no saved statistics over the log does the first call read the whole log, with tags from the open Deck.
+     * @throws IOException if the review log could not be read.
+     */
+    ReviewStatistics getReviewStatistics() throws IOException;
+
+    /**
+     * Returns the sampler that picks random Cards from the filtered Card list.
+     */
+    CardSampler getCardSampler();
+
+    /**
+     * Returns the optimiser that fits scheduling parameters to the review log.
+     */
+    ParameterOptimiser getParameterOptimiser();
 }
@@ -3,44 +3,148 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StartupTimer;
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.analytics.ReviewStatistics;
 import seedu.address.model.card.Card;
+import seedu.address.model.card.CardOrder;
+import seedu.address.model.card.PracticeDate;
+import seedu.address.model.due.DueCardTracker;
+import seedu.address.model.due.DueForecast;
 import seedu.address.model.exceptions.RandomIndexNotInitialisedException;
 import seedu.address.model.goal.Goal;
+import seedu.address.model.history.InMemoryReviewLog;
+import seedu.address.model.history.ReviewEvent;
+import seedu.address.model.history.ReviewLog;
+import seedu.address.model.review.InterleavedReviewSession;
+import seedu.address.model.review.ReviewSession;
+import seedu.address.model.sampling.CardSampler;
+import seedu.address.model.scheduling.LeitnerBoxes;
+import seedu.address.model.scheduling.LeitnerScheduler;
+import seedu.address.model.scheduling.MultiplierParameters;
+import seedu.address.model.scheduling.MultiplierScheduler;
+import seedu.address.model.scheduling.OverdueRebalancer;
+import seedu.address.model.scheduling.Scheduler;
+import seedu.address.model.scheduling.SchedulerType;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tuning.ParameterOptimiser;
+import seedu.address.model.workspace.DeckManifest;
+import seedu.address.model.workspace.Workspace;
 
 /**
  * Represents the in-memory model of the Deck data.
+ * <p>
+ * The model has a single writer: it is only changed, and only read other than through {@link #getDeckSnapshot()},
+ * on one thread at a time, which in the app is the thread that commands are executed on. Other threads read the
+ * open Deck through the snapshots that the writer publishes between changes.
  */
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
     private final Deck deck;
     private final UserPrefs userPrefs;
+    private final OrderedCardList orderedCards;
     private final FilteredList<Card> filteredCards;
     private final Goal goal;
+    private final ReviewSession reviewSession;
+    private final InterleavedReviewSession interleavedReviewSession;
+    private final DueCardTracker dueCardTracker;
+    private final DueForecast dueForecast;
+    private final ReviewLog reviewLog;
+    private final CardSampler cardSampler;
+    private final LeitnerBoxes leitnerBoxes;
+    private final DeckSnapshots deckSnapshots = new DeckSnapshots();
+    private final ParameterOptimiser parameterOptimiser = new ParameterOptimiser();
+    private final Workspace workspace;
+    private final StartupTimer startupTimer;
+    private final ObjectProperty<Path> deckFilePath;
+    private final ObjectProperty<DeckLoadProgress> deckLoadProgress;
 
     private Index randomIndex;
+    private ReviewStatistics reviewStatistics;
+    private MultiplierScheduler multiplierScheduler;
+    private boolean usesLeitnerBoxes;
+    private Batch batch;
 
     /**
-     * Initializes a ModelManager with the given Deck and userPrefs.
+     * Initializes a ModelManager with the given Deck and userPrefs, recording reviews in {@code reviewLog}, where
+     * the Deck is the open one in {@code workspace}, and the startup of the app is timed by {@code startupTimer}.
      */
-    public ModelManager(ReadOnlyDeck deck, ReadOnlyUserPrefs userPrefs) {
-        requireAllNonNull(deck, userPrefs);
+    public ModelManager(ReadOnlyDeck deck, ReadOnlyUserPrefs userPrefs, ReviewLog reviewLog, Workspace workspace,
+            StartupTimer startupTimer) {
+        requireAllNonNull(deck, userPrefs, reviewLog, workspace, startupTimer);
 
         logger.fine("Initializing with Deck: " + deck + " and user prefs " + userPrefs);
 
         this.deck = new Deck(deck);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredCards = new FilteredList<>(this.deck.getCardList());
+        this.multiplierScheduler = multiplierSchedulerOf(this.userPrefs.getMultiplierParameters());
+        orderedCards = new OrderedCardList(this.deck::getCardList, CardOrder.DUE);
+        filteredCards = new FilteredList<>(orderedCards);
+        cardSampler = new CardSampler(filteredCards);
         this.goal = new Goal(this.deck);
+        this.leitnerBoxes = new LeitnerBoxes();
+        this.reviewSession = new ReviewSession(this.deck, leitnerBoxes);
+        updateLeitnerBoxes();
+        this.interleavedReviewSession = new InterleavedReviewSession(this.deck);
+        this.dueCardTracker = new DueCardTracker(LocalDateTime.now());
+        this.deck.addIndex(dueCardTracker);
+        this.dueForecast = new DueForecast(LocalDate.now());
+        this.deck.addIndex(dueForecast);
+        this.reviewLog = reviewLog;
+        this.workspace = workspace;
+        this.startupTimer = startupTimer;
+        this.deckFilePath = new SimpleObjectProperty<>(this.userPrefs.getDeckFilePath());
+        this.deckLoadProgress = new SimpleObjectProperty<>(DeckLoadProgress.loaded(this.deck.getNumberOfCards()));
+    }
+
+    /**
+     * Initializes a ModelManager with the given Deck and userPrefs, recording reviews in {@code reviewLog}, where
+     * the Deck is the open one in {@code workspace}.
+     */
+    public ModelManager(ReadOnlyDeck deck, ReadOnlyUserPrefs userPrefs, ReviewLog reviewLog, Workspace workspace) {
+        this(deck, userPrefs, reviewLog, workspace, new StartupTimer());
+    }
+
+    /**
+     * Initializes a ModelManager with the given Deck and userPrefs, recording reviews in {@code reviewLog}.
+     * Other Decks are kept in memory only, and start empty.
+     */
+    public ModelManager(ReadOnlyDeck deck, ReadOnlyUserPrefs userPrefs, ReviewLog reviewLog) {
+        this(deck, userPrefs, reviewLog, new Workspace(userPrefs.getDeckFilePath(), List.of(),
+                unused -> new ArrayList<>(), Integer.MAX_VALUE));
+    }
+
+    /**
+     * Initializes a ModelManager with the given Deck and userPrefs, recording reviews in memory only.
+     */
+    public ModelManager(ReadOnlyDeck deck, ReadOnlyUserPrefs userPrefs) {
+        this(deck, userPrefs, new InMemoryReviewLog());
     }
 
     public ModelManager() {
@@ -53,6 +157,9 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        deckFilePath.set(this.userPrefs.getDeckFilePath());
+        multiplierScheduler = multiplierSchedulerOf(this.userPrefs.getMultiplierParameters());
+        updateLeitnerBoxes();
     }
 
     @Override
@@ -79,6 +186,107 @@ public class ModelManager implements Model {
     public void setDeckFilePath(Path addressBookFilePath) {
         requireNonNull(addressBookFilePath);
         userPrefs.setDeckFilePath(addressBookFilePath);
+        deckFilePath.set(addressBookFilePath);
+    }
+
+    @Override
+    public ReadOnlyObjectProperty<Path> deckFilePathProperty() {
+        return deckFilePath;
+    }
+
+    @Override
+    public Scheduler getScheduler() {
+        return schedulerOf(userPrefs.getSchedulerType());
+    }
+
+    @Override
+    public Scheduler getScheduler(SchedulerType schedulerType, Clock clock) {
+        requireAllNonNull(schedulerType, clock);
+        return schedulerType == SchedulerType.LEITNER ? new LeitnerScheduler(clock) : schedulerOf(schedulerType);
+    }
+
+    @Override
+    public void setSchedulerType(SchedulerType schedulerType) {
+        requireNonNull(schedulerType);
+
+        Scheduler previous = getScheduler();
+        Scheduler scheduler = schedulerOf(schedulerType);
+        userPrefs.setSchedulerType(schedulerType);
+        if (scheduler != previous) {
+            deck.rescheduleCards(card -> scheduler.reschedule(card, previous));
+        }
+        // The boxes are filled after rescheduling, so that the cards are put in them once.
+        updateLeitnerBoxes();
+    }
+
+    /**
+     * Keeps the Leitner boxes up to date with the Deck, and takes due cards from them in review sessions, only
+     * while the Leitner scheduler is in use. Under other schedulers, cards are not rated in order of due date, so
+     * keeping them in the boxes would cost a search for their place on every review.
+     */
+    private void updateLeitnerBoxes() {
+        boolean usesLeitnerBoxes = userPrefs.getSchedulerType() == SchedulerType.LEITNER;
+        if (usesLeitnerBoxes == this.usesLeitnerBoxes) {
+            return;
+        }
+        this.usesLeitnerBoxes = usesLeitnerBoxes;
+        if (usesLeitnerBoxes) {
+            // Registering the boxes fills them with the cards of the Deck as they are now.
+            deck.addIndex(leitnerBoxes);
+        } else {
+            deck.removeIndex(leitnerBoxes);
+        }
+        reviewSession.setUsesLeitnerBoxes(usesLeitnerBoxes);
+    }
+
+    @Override
+    public void setMultiplierParameters(MultiplierParameters parameters) {
+        requireNonNull(parameters);
+
+        MultiplierScheduler previous = multiplierScheduler;
+        userPrefs.setMultiplierParameters(parameters);
+        multiplierScheduler = multiplierSchedulerOf(parameters);
+        if (userPrefs.getSchedulerType() == SchedulerType.MULTIPLIER
+                && !parameters.equals(previous.getParameters())) {
+            deck.rescheduleCards(card -> multiplierScheduler.reschedule(card, previous));
+        }
+    }
+
+    /**
+     * Returns the scheduler of the scheduling algorithm {@code schedulerType}, with the user's parameters.
+     */
+    private Scheduler schedulerOf(SchedulerType schedulerType) {
+        return schedulerType == SchedulerType.MULTIPLIER ? multiplierScheduler : schedulerType.getScheduler();
+    }
+
+    /**
+     * Returns a multiplier scheduler with {@code parameters}, or with the original parameters if those in the
+     * user prefs file are not valid.
+     */
+    private static MultiplierScheduler multiplierSchedulerOf(MultiplierParameters parameters) {
+        return new MultiplierScheduler(parameters.isValid() ? parameters : MultiplierParameters.DEFAULT);
+    }
+
+    @Override
+    public void shiftSchedule(Duration duration) {
+        requireNonNull(duration);
+        deck.shiftSchedule(duration);
+    }
+
+    @Override
+    public ReadOnlyObjectProperty<Duration> scheduleOffsetProperty() {
+        return deck.getScheduleOffset().offsetProperty();
+    }
+
+    @Override
+    public int rebalanceOverdueCards(OverdueRebalancer rebalancer, LocalDateTime now) {
+        requireAllNonNull(rebalancer, now);
+
+        Map<Card, PracticeDate> newPracticeDates = rebalancer.plan(deck.getCardList(), now);
+        if (!newPracticeDates.isEmpty()) {
+            deck.rescheduleCards(card -> newPracticeDates.getOrDefault(card, card.getNextPracticeDate()));
+        }
+        return newPracticeDates.size();
     }
 
     //=========== Deck ================================================================================
@@ -88,6 +296,22 @@ public class ModelManager implements Model {
         this.deck.resetData(deck);
     }
 
+    @Override
+    public ReadOnlyObjectProperty<DeckLoadProgress> deckLoadProgressProperty() {
+        return deckLoadProgress;
+    }
+
+    @Override
+    public void setDeckLoadProgress(DeckLoadProgress progress) {
+        requireNonNull(progress);
+        deckLoadProgress.set(progress);
+    }
+
+    @Override
+    public boolean isDeckLoading() {
+        return !deckLoadProgress.get().isDone();
+    }
+
     @Override
     public ReadOnlyDeck getDeck() {
         return deck;
@@ -98,6 +322,53 @@ public class ModelManager implements Model {
         return deck.getNumberOfCards();
     }
 
+    @Override
+    public Optional<DeckSnapshot> getDeckSnapshot() {
+        return Optional.ofNullable(deckSnapshots.getLatest());
+    }
+
+    @Override
+    public DeckSnapshot publishDeckSnapshot() {
+        if (deckSnapshots.getLatest() == null) {
+            deck.addIndex(deckSnapshots);
+        }
+        return deckSnapshots.publish(deck.getCardList(), filteredCards, getDeckFilePath(), isDeckLoading());
+    }
+
+    @Override
+    public Workspace getWorkspace() {
+        return workspace;
+    }
+
+    @Override
+    public void switchDeck(String name) throws DataLoadingException {
+        requireNonNull(name);
+        if (name.equals(workspace.getCurrentDeckName())) {
+            return;
+        }
+
+        // The session holds cards of the Deck open until now as those of the open Deck.
+        interleavedReviewSession.end();
+        List<Card> cards = workspace.load(name);
+        List<Card> currentCards = new ArrayList<>(deck.getCardList());
+        deck.setCards(cards);
+        workspace.switchTo(name, currentCards);
+        setDeckFilePath(workspace.getCurrentDeckFilePath());
+
+        // Views and caches of the Deck open until now no longer apply.
+        updateFilteredCardList(PREDICATE_SHOW_ALL_CARDS);
+        resetRandomIndex();
+        logger.info("Switched to deck " + name);
+    }
+
+    @Override
+    public List<DeckManifest> getDeckManifests() {
+        List<DeckManifest> manifests = workspace.getIdleManifests();
+        manifests.add(DeckManifest.of(workspace.getCurrentDeckName(), deck.getCardList()));
+        manifests.sort(Comparator.comparing(DeckManifest::getName));
+        return manifests;
+    }
+
     @Override
     public boolean hasCard(Card card) {
         requireNonNull(card);
@@ -136,6 +407,19 @@ public class ModelManager implements Model {
     public void updateFilteredCardList(Predicate<Card> predicate) {
         requireNonNull(predicate);
         filteredCards.setPredicate(predicate);
+        deckSnapshots.onShownCardsChanged();
+    }
+
+    @Override
+    public void setCardOrder(CardOrder order) {
+        requireNonNull(order);
+        orderedCards.setOrder(order);
+        deckSnapshots.onShownCardsChanged();
+    }
+
+    @Override
+    public CardOrder getCardOrder() {
+        return orderedCards.getOrder();
     }
 
     @Override
@@ -186,4 +470,197 @@ public class ModelManager implements Model {
         return goal;
     }
 
+    //=========== Review Session ==========================================================================
+
+    @Override
+    public ReviewSession getReviewSession() {
+        return reviewSession;
+    }
+
+    @Override
+    public InterleavedReviewSession getInterleavedReviewSession() {
+        return interleavedReviewSession;
+    }
+
+    @Override
+    public void startInterleavedReview(LocalDateTime now) throws DataLoadingException {
+        requireNonNull(now);
+
+        reviewSession.end();
+        interleavedReviewSession.end();
+        Map<String, List<Card>> idleDecks = new LinkedHashMap<>();
+        for (DeckManifest manifest : workspace.getIdleManifests()) {
+            // Decks with nothing due today are not loaded.
+            if (manifest.getDueCount(now.toLocalDate()) == 0) {
+                continue;
+            }
+            List<Card> cards = workspace.load(manifest.getName());
+            workspace.keep(manifest.getName(), cards);
+            idleDecks.put(manifest.getName(), cards);
+        }
+        interleavedReviewSession.start(workspace.getCurrentDeckName(), idleDecks, now);
+    }
+
+    @Override
+    public void recordIdleDeckChange(String deckName, List<Card> cards) {
+        requireAllNonNull(deckName, cards);
+        workspace.recordChange(deckName, cards);
+        if (batch != null) {
+            batch.isIdleDeckChanged = true;
+        }
+    }
+
+    @Override
+    public List<String> getIdleDecksToSave() {
+        return workspace.getUnsavedDeckNames(
+                interleavedReviewSession.isActive() ? InterleavedReviewSession.SAVE_BATCH_SIZE : 1);
+    }
+
+    @Override
+    public DueCardTracker getDueCardTracker() {
+        return dueCardTracker;
+    }
+
+    @Override
+    public DueForecast getDueForecast() {
+        return dueForecast;
+    }
+
+    @Override
+    public ReviewLog getReviewLog() {
+        return reviewLog;
+    }
+
+    @Override
+    public StartupTimer getStartupTimer() {
+        return startupTimer;
+    }
+
+    @Override
+    public void recordReview(ReviewEvent review, Card card) {
+        requireAllNonNull(review, card);
+
+        if (batch != null) {
+            batch.reviews.add(Map.entry(review, card.getTags()));
+            return;
+        }
+        appendReview(review, card.getTags());
+    }
+
+    private void appendReview(ReviewEvent review, List<Tag> tags) {
+        reviewLog.append(review);
+        if (reviewStatistics != null) {
+            reviewStatistics.add(review, tags);
+        }
+    }
+
+    @Override
+    public void startBatch() {
+        assert batch == null : "A batch is already in progress";
+        batch = new Batch(this);
+    }
+
+    @Override
+    public void commitBatch() {
+        assert batch != null : "No batch in progress";
+        List<Map.Entry<ReviewEvent, List<Tag>>> reviews = batch.reviews;
+        batch = null;
+        reviews.forEach(review -> appendReview(review.getKey(), review.getValue()));
+    }
+
+    @Override
+    public void rollBackBatch() {
+        assert batch != null : "No batch in progress";
+        Batch rolledBack = batch;
+        batch = null;
+
+        setUserPrefs(rolledBack.userPrefs);
+        setDeck(rolledBack.deck);
+        if (rolledBack.isIdleDeckChanged) {
+            // The session holds the Cards changed in place, which are no longer those of their Decks.
+            interleavedReviewSession.end();
+            workspace.restore(rolledBack.workspace);
+        }
+        goal.setTarget(rolledBack.goalTarget);
+        goal.setCurrent(rolledBack.goalCurrent);
+        randomIndex = rolledBack.randomIndex;
+        logger.info("Rolled back a batch, dropping " + rolledBack.reviews.size() + " review(s)");
+    }
+
+    @Override
+    public void setReviewStatistics(ReviewStatistics statistics) throws IOException {
+        requireNonNull(statistics);
+        long reviewCount = reviewLog.size();
+        if (statistics.getReviewCount() != reviewCount) {
+            // The app stopped between saving the review log and the statistics over it.
+            logger.warning("Saved review statistics count " + statistics.getReviewCount() + " of the "
+                    + reviewCount + " reviews in the review log; they will be worked out again from the log.");
+            return;
+        }
+        reviewStatistics = statistics;
+    }
+
+    @Override
+    public ReviewStatistics getReviewStatistics() throws IOException {
+        if (reviewStatistics == null) {
+            reviewStatistics = readReviewStatistics();
+        }
+        return reviewStatistics;
+    }
+
+    /**
+     * Returns the statistics over every review in the review log, taking the tags of each reviewed Card from the
+     * open Deck, for when there are no saved statistics over the log. Reviews of Cards not in the open Deck only
+     * count towards the overall statistics.
+     */
+    private ReviewStatistics readReviewStatistics() throws IOException {
+        logger.info("Working out the review statistics from the whole review log");
+        Map<Long, List<Tag>> tagsByCardId = new HashMap<>();
+        for (Card card : deck.getCardList()) {
+            tagsByCardId.put(ReviewEvent.idOf(card), card.getTags());
+        }
+
+        ReviewStatistics statistics = new ReviewStatistics();
+        for (ReviewEvent review : reviewLog.read(LocalDateTime.MIN, LocalDateTime.MAX)) {
+            statistics.add(review, tagsByCardId.getOrDefault(review.getCardId(), List.of()));
+        }
+        return statistics;
+    }
+
+    @Override
+    public CardSampler getCardSampler() {
+        return cardSampler;
+    }
+
+    @Override
+    public ParameterOptimiser getParameterOptimiser() {
+        return parameterOptimiser;
+    }
+
+    /**
+     * The state of the model when a batch started, which is put back if the batch is rolled back, and the reviews
+     * held back since.
+     */
+    private static class Batch {
+        // Cards are changed in place by some commands, so the backups must not share them with the model.
+        private final Deck deck = new Deck();
+        private final UserPrefs userPrefs;
+        private final Workspace.Backup workspace;
+        private final int goalTarget;
+        private final int goalCurrent;
+        private final Index randomIndex;
+        // Reviews recorded during the batch, with the tags of the reviewed Cards, oldest first
+        private final List<Map.Entry<ReviewEvent, List<Tag>>> reviews = new ArrayList<>();
+        private boolean isIdleDeckChanged;
+
+        Batch(ModelManager model) {
+            deck.setCards(model.deck.getCardList().stream().map(Card::copy).collect(Collectors.toList()));
+            userPrefs = new UserPrefs(model.userPrefs);
+            workspace = model.workspace.backUp();
+            goalTarget = model.goal.getTarget();
+            goalCurrent = model.goal.getCurrent();
+            randomIndex = model.randomIndex;
+        }
+    }
+
 }
@@ -0,0 +1,115 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import seedu.address.model.card.Card;
+import seedu.address.model.card.CardOrder;
+
+/**
+ * A read-only {@code ObservableList} that shows the cards of a Deck in a chosen {@link CardOrder}.
+ * Switching the order only swaps the underlying, already sorted, list, so it does not re-sort any cards.
+ */
+class OrderedCardList extends ObservableListBase<Card> {
+
+    private final Function<CardOrder, ObservableList<Card>> sortedLists;
+    private final ListChangeListener<Card> forwardingListener = this::forwardChange;
+
+    private CardOrder order;
+    private ObservableList<Card> source;
+
+    /**
+     * Creates a view showing the lists supplied by {@code sortedLists}, starting with {@code order}.
+     */
+    OrderedCardList(Function<CardOrder, ObservableList<Card>> sortedLists, CardOrder order) {
+        requireNonNull(sortedLists);
+        requireNonNull(order);
+
+        this.sortedLists = sortedLists;
+        this.order = order;
+        this.source = sortedLists.apply(order);
+        source.addListener(forwardingListener);
+    }
+
+    CardOrder getOrder() {
+        return order;
+    }
+
+    /**
+     * Shows the cards in {@code newOrder}.
+     */
+    void setOrder(CardOrder newOrder) {
+        requireNonNull(newOrder);
+        if (newOrder == order) {
+            return;
+        }
+
+        List<Card> removed = new ArrayList<>(source);
+        source.removeListener(forwardingListener);
+        order = newOrder;
+        source = sortedLists.apply(newOrder);
+        source.addListener(forwardingListener);
+
+        beginChange();
+        if (!removed.isEmpty()) {
+            nextRemove(0, removed);
+        }
+        if (!source.isEmpty()) {
+            nextAdd(0, source.size());
+        }
+        endChange();
+    }
+
+    @Override
+    public Card get(int index) {
+        return source.get(index);
+    }
+
+    @Override
+    public int size() {
+        return source.size();
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        return source.indexOf(o);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return source.contains(o);
+    }
+
+    private void forwardChange(ListChangeListener.Change<? extends Card> change) {
+        beginChange();
+        while (change.next()) {
+            int from = change.getFrom();
+            int to = change.getTo();
+            if (change.wasPermutated()) {
+                int[] permutation = new int[to - from];
+                for (int i = from; i < to; i++) {
+                    permutation[i - from] = change.getPermutation(i);
+                }
+                nextPermutation(from, to, permutation);
+            } else if (change.wasUpdated()) {
+                for (int i = from; i < to; i++) {
+                    nextUpdate(i);
+                }
+            } else {
+                if (change.wasRemoved()) {
+                    nextRemove(from, new ArrayList<>(change.getRemoved()));
+                }
+                if (change.wasAdded()) {
+                    nextAdd(from, to);
+                }
+            }
+        }
+        endChange();
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.model;
 import java.nio.file.Path;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.scheduling.MultiplierParameters;
+import seedu.address.model.scheduling.SchedulerType;
 
 
 /**
@@ -13,4 +15,13 @@ public interface ReadOnlyUserPrefs {
     GuiSettings getGuiSettings();
 
     Path getDeckFilePath();
+
+    SchedulerType getSchedulerType();
+
+    MultiplierParameters getMultiplierParameters();
+
+    /**
+     * Returns the most Cards of Decks that are not open that are kept in memory.
+     */
+    int getIdleDeckCardLimit();
 }
@@ -1,20 +1,29 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.scheduling.MultiplierParameters;
+import seedu.address.model.scheduling.SchedulerType;
 
 /**
  * Represents User's preferences.
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    /** Most Cards of Decks that are not open kept in memory, unless the user sets otherwise. */
+    public static final int DEFAULT_IDLE_DECK_CARD_LIMIT = 50_000;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path deckFilePath = Paths.get("data" , "deck.json");
+    private SchedulerType schedulerType = SchedulerType.MULTIPLIER;
+    private MultiplierParameters multiplierParameters = MultiplierParameters.DEFAULT;
+    private int idleDeckCardLimit = DEFAULT_IDLE_DECK_CARD_LIMIT;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +45,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setDeckFilePath(newUserPrefs.getDeckFilePath());
+        setSchedulerType(newUserPrefs.getSchedulerType());
+        setMultiplierParameters(newUserPrefs.getMultiplierParameters());
+        setIdleDeckCardLimit(newUserPrefs.getIdleDeckCardLimit());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +68,33 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.deckFilePath = deckFilePath;
     }
 
+    public SchedulerType getSchedulerType() {
+        return schedulerType;
+    }
+
+    public void setSchedulerType(SchedulerType schedulerType) {
+        requireNonNull(schedulerType);
+        this.schedulerType = schedulerType;
+    }
+
+    public MultiplierParameters getMultiplierParameters() {
+        return multiplierParameters;
+    }
+
+    public void setMultiplierParameters(MultiplierParameters multiplierParameters) {
+        requireNonNull(multiplierParameters);
+        this.multiplierParameters = multiplierParameters;
+    }
+
+    public int getIdleDeckCardLimit() {
+        return idleDeckCardLimit;
+    }
+
+    public void setIdleDeckCardLimit(int idleDeckCardLimit) {
+        checkArgument(idleDeckCardLimit >= 0, "Card limit should not be negative");
+        this.idleDeckCardLimit = idleDeckCardLimit;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +108,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && deckFilePath.equals(otherUserPrefs.deckFilePath);
+                && deckFilePath.equals(otherUserPrefs.deckFilePath)
+                && schedulerType.equals(otherUserPrefs.schedulerType)
+                && multiplierParameters.equals(otherUserPrefs.multiplierParameters)
+                && idleDeckCardLimit == otherUserPrefs.idleDeckCardLimit;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, deckFilePath);
+        return Objects.hash(guiSettings, deckFilePath, schedulerType, multiplierParameters, idleDeckCardLimit);
     }
 
     @Override
@@ -82,6 +124,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder stringBuilder = new StringBuilder();
         stringBuilder.append("Gui Settings : ").append(guiSettings);
         stringBuilder.append("\nLocal data file location : ").append(deckFilePath);
+        stringBuilder.append("\nScheduling algorithm : ").append(schedulerType);
+        stringBuilder.append("\nMultiplier parameters : ").append(multiplierParameters);
+        stringBuilder.append("\nCards of other decks kept in memory : ").append(idleDeckCardLimit);
         return stringBuilder.toString();
     }
 }
@@ -0,0 +1,136 @@
+package seedu.address.model.analytics;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * The statistics of a set of reviews, kept up to date one review at a time: the totals over all of them, the
+ * fraction of Cards recalled after each length of interval, and the totals over each day, week and month.
+ */
+public class ReviewAggregates {
+
+    /** Names of the ranges of interval lengths that retention is measured over, shortest first. */
+    public static final List<String> RETENTION_BUCKETS =
+            List.of("<1d", "1-3d", "3-7d", "7-14d", "14-30d", "30-90d", "90d+");
+
+    /** Number of days each range of interval lengths ends before, except the last one which has no end. */
+    private static final long[] RETENTION_BUCKET_ENDS = {1, 3, 7, 14, 30, 90};
+
+    private final ReviewTally total;
+    private final ReviewTally[] retention = new ReviewTally[RETENTION_BUCKETS.size()];
+    private final Map<RollupWindow, Map<Long, ReviewTally>> rollups = new EnumMap<>(RollupWindow.class);
+
+    /**
+     * Creates aggregates over no reviews.
+     */
+    public ReviewAggregates() {
+        total = new ReviewTally();
+        Arrays.setAll(retention, bucket -> new ReviewTally());
+        for (RollupWindow window : RollupWindow.values()) {
+            rollups.put(window, new HashMap<>());
+        }
+    }
+
+    /**
+     * Creates aggregates with the totals {@code total}, {@code retentionCurve} and {@code rollups}, as saved by
+     * {@link #getTotal()}, {@link #getRetentionCurve()} and {@link #getRollups(RollupWindow)}.
+     * {@code retentionCurve} must have a tally for each range in {@link #RETENTION_BUCKETS}, and each date in
+     * {@code rollups} must be the start of its window.
+     */
+    public ReviewAggregates(ReviewTally total, List<ReviewTally> retentionCurve,
+            Map<RollupWindow, Map<LocalDate, ReviewTally>> rollups) {
+        requireAllNonNull(total, retentionCurve, rollups);
+        checkArgument(retentionCurve.size() == retention.length, "Retention curve has the wrong number of ranges");
+
+        this.total = total;
+        for (int bucket = 0; bucket < retention.length; bucket++) {
+            retention[bucket] = requireNonNull(retentionCurve.get(bucket));
+        }
+        for (RollupWindow window : RollupWindow.values()) {
+            this.rollups.put(window, new HashMap<>());
+        }
+        for (Map.Entry<RollupWindow, Map<LocalDate, ReviewTally>> rollup : rollups.entrySet()) {
+            RollupWindow window = rollup.getKey();
+            for (Map.Entry<LocalDate, ReviewTally> period : rollup.getValue().entrySet()) {
+                checkArgument(window.startOf(period.getKey()).equals(period.getKey()),
+                        period.getKey() + " is not the start of a " + window);
+                this.rollups.get(window).put(period.getKey().toEpochDay(), requireNonNull(period.getValue()));
+            }
+        }
+    }
+
+    /**
+     * Counts a review on {@code date} after an interval of {@code intervalDays} days, in which the Card was
+     * recalled if {@code isRecalled}. {@code intervalGrowth} is as in {@link ReviewTally#add(boolean, double)}.
+     */
+    void add(LocalDate date, long intervalDays, boolean isRecalled, double intervalGrowth) {
+        total.add(isRecalled, intervalGrowth);
+        retention[retentionBucketOf(intervalDays)].add(isRecalled, intervalGrowth);
+        for (Map.Entry<RollupWindow, Map<Long, ReviewTally>> rollup : rollups.entrySet()) {
+            long periodStart = rollup.getKey().startOf(date).toEpochDay();
+            rollup.getValue().computeIfAbsent(periodStart, start -> new ReviewTally()).add(isRecalled, intervalGrowth);
+        }
+    }
+
+    /**
+     * Returns the totals over all the reviews.
+     */
+    public ReviewTally getTotal() {
+        return total;
+    }
+
+    /**
+     * Returns the totals over the reviews after each range of interval lengths in {@link #RETENTION_BUCKETS}.
+     */
+    public List<ReviewTally> getRetentionCurve() {
+        return Collections.unmodifiableList(Arrays.asList(retention));
+    }
+
+    /**
+     * Returns the totals over the reviews in the {@code window} that {@code date} falls in.
+     */
+    public ReviewTally getRollup(RollupWindow window, LocalDate date) {
+        requireNonNull(window);
+        requireNonNull(date);
+        ReviewTally tally = rollups.get(window).get(window.startOf(date).toEpochDay());
+        return tally == null ? new ReviewTally() : tally;
+    }
+
+    /**
+     * Returns the totals over the reviews in each {@code window} that has any, by the first day of the window,
+     * earliest first.
+     */
+    public Map<LocalDate, ReviewTally> getRollups(RollupWindow window) {
+        requireNonNull(window);
+        Map<LocalDate, ReviewTally> periods = new TreeMap<>();
+        rollups.get(window).forEach((periodStart, tally) -> periods.put(LocalDate.ofEpochDay(periodStart), tally));
+        return periods;
+    }
+
+    private static int retentionBucketOf(long intervalDays) {
+        int bucket = 0;
+        while (bucket < RETENTION_BUCKET_ENDS.length && intervalDays >= RETENTION_BUCKET_ENDS[bucket]) {
+            bucket++;
+        }
+        return bucket;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("total", total)
+                .toString();
+    }
+}
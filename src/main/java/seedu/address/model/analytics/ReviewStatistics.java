@@ -0,0 +1,119 @@
+package seedu.address.model.analytics;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.card.Difficulty;
+import seedu.address.model.history.ReviewEvent;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Learning statistics over the reviews in the review log, overall and for each tag.
+ * <p>
+ * Every statistic is a running aggregate that is updated as each review is added, in time proportional to the
+ * number of tags on the reviewed Card. Answering a query therefore never goes back over the review history or the
+ * Deck. The only state kept per Card is the length of its last interval, which is needed to tell how much its
+ * interval has grown. A review counts towards the tags the Card had when it was reviewed, whichever Deck it is in,
+ * so the statistics are saved alongside the review log rather than worked out again from the Decks.
+ */
+public class ReviewStatistics {
+
+    private final ReviewAggregates overall;
+    private final Map<Tag, ReviewAggregates> byTag = new HashMap<>();
+    private final Map<Long, Long> lastIntervalSeconds = new HashMap<>();
+
+    /**
+     * Creates statistics over no reviews.
+     */
+    public ReviewStatistics() {
+        overall = new ReviewAggregates();
+    }
+
+    /**
+     * Creates statistics with the aggregates {@code overall} and {@code byTag}, and the last intervals of the Cards
+     * {@code lastIntervalSeconds}, as saved by {@link #getOverall()}, {@link #getByTag()} and
+     * {@link #getLastIntervalSeconds()}.
+     */
+    public ReviewStatistics(ReviewAggregates overall, Map<Tag, ReviewAggregates> byTag,
+            Map<Long, Long> lastIntervalSeconds) {
+        requireAllNonNull(overall, byTag, lastIntervalSeconds);
+        this.overall = overall;
+        this.byTag.putAll(byTag);
+        this.lastIntervalSeconds.putAll(lastIntervalSeconds);
+    }
+
+    /**
+     * Adds {@code review}, of a Card tagged with {@code tags}, to the statistics.
+     * A Card is taken to have been recalled unless it was rated {@link Difficulty#HARD}.
+     */
+    public void add(ReviewEvent review, Collection<Tag> tags) {
+        requireNonNull(review);
+        requireNonNull(tags);
+
+        long intervalSeconds = review.getPreviousInterval().getSeconds();
+        Long lastInterval = lastIntervalSeconds.put(review.getCardId(), intervalSeconds);
+        double intervalGrowth = lastInterval == null || lastInterval == 0
+                ? Double.NaN
+                : (double) intervalSeconds / lastInterval;
+        boolean isRecalled = review.getRating() != Difficulty.HARD;
+        long intervalDays = review.getPreviousInterval().toDays();
+
+        overall.add(review.getTimestamp().toLocalDate(), intervalDays, isRecalled, intervalGrowth);
+        for (Tag tag : tags) {
+            byTag.computeIfAbsent(tag, t -> new ReviewAggregates())
+                    .add(review.getTimestamp().toLocalDate(), intervalDays, isRecalled, intervalGrowth);
+        }
+    }
+
+    /**
+     * Returns the statistics over all reviews.
+     */
+    public ReviewAggregates getOverall() {
+        return overall;
+    }
+
+    /**
+     * Returns the statistics over the reviews of Cards tagged with {@code tag}, or an empty {@code Optional} if
+     * there are none.
+     */
+    public Optional<ReviewAggregates> getForTag(Tag tag) {
+        requireNonNull(tag);
+        return Optional.ofNullable(byTag.get(tag));
+    }
+
+    /**
+     * Returns the statistics over the reviews of the Cards with each tag, by tag.
+     */
+    public Map<Tag, ReviewAggregates> getByTag() {
+        return Collections.unmodifiableMap(byTag);
+    }
+
+    /**
+     * Returns the length in seconds of the last interval of each reviewed Card, by the id of the Card.
+     */
+    public Map<Long, Long> getLastIntervalSeconds() {
+        return Collections.unmodifiableMap(lastIntervalSeconds);
+    }
+
+    /**
+     * Returns the number of reviews added to the statistics.
+     */
+    public long getReviewCount() {
+        return overall.getTotal().getReviewCount();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("overall", overall)
+                .add("tags", byTag.keySet())
+                .toString();
+    }
+}
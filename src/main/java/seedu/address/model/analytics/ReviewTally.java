@@ -0,0 +1,98 @@
+package seedu.address.model.analytics;
+
+import java.util.OptionalDouble;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Running totals over a set of reviews: how many there were, how many of the Cards were recalled, and how much the
+ * intervals of the Cards grew from one review to the next.
+ */
+public class ReviewTally {
+
+    private long reviewCount;
+    private long recalledCount;
+    private double intervalGrowthSum;
+    private long intervalGrowthCount;
+
+    /**
+     * Creates totals over no reviews.
+     */
+    public ReviewTally() {
+    }
+
+    /**
+     * Creates totals over {@code reviewCount} reviews, in {@code recalledCount} of which the Card was recalled, and
+     * {@code intervalGrowthCount} of which grew the interval by {@code intervalGrowthSum} in all, as saved by
+     * {@link #getIntervalGrowthSum()} and {@link #getIntervalGrowthCount()}.
+     */
+    public ReviewTally(long reviewCount, long recalledCount, double intervalGrowthSum, long intervalGrowthCount) {
+        this.reviewCount = reviewCount;
+        this.recalledCount = recalledCount;
+        this.intervalGrowthSum = intervalGrowthSum;
+        this.intervalGrowthCount = intervalGrowthCount;
+    }
+
+    /**
+     * Counts a review, in which the Card was recalled if {@code isRecalled}, and whose interval was
+     * {@code intervalGrowth} times the interval before it. {@code intervalGrowth} is {@code NaN} if unknown.
+     */
+    void add(boolean isRecalled, double intervalGrowth) {
+        reviewCount++;
+        if (isRecalled) {
+            recalledCount++;
+        }
+        if (!Double.isNaN(intervalGrowth)) {
+            intervalGrowthSum += intervalGrowth;
+            intervalGrowthCount++;
+        }
+    }
+
+    public long getReviewCount() {
+        return reviewCount;
+    }
+
+    public long getRecalledCount() {
+        return recalledCount;
+    }
+
+    /**
+     * Returns the sum of the factors by which the intervals of Cards grew, over the reviews in which it is known.
+     */
+    public double getIntervalGrowthSum() {
+        return intervalGrowthSum;
+    }
+
+    /**
+     * Returns the number of reviews in which it is known how much the interval of the Card grew.
+     */
+    public long getIntervalGrowthCount() {
+        return intervalGrowthCount;
+    }
+
+    /**
+     * Returns the fraction of reviews in which the Card was recalled, or 0 if there were no reviews.
+     */
+    public double getAccuracy() {
+        return reviewCount == 0 ? 0 : (double) recalledCount / reviewCount;
+    }
+
+    /**
+     * Returns the average factor by which the interval of a Card grew from one review to the next, or an empty
+     * {@code OptionalDouble} if no Card has been reviewed twice.
+     */
+    public OptionalDouble getAverageIntervalGrowth() {
+        return intervalGrowthCount == 0
+                ? OptionalDouble.empty()
+                : OptionalDouble.of(intervalGrowthSum / intervalGrowthCount);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("reviewCount", reviewCount)
+                .add("recalledCount", recalledCount)
+                .add("averageIntervalGrowth", getAverageIntervalGrowth())
+                .toString();
+    }
+}
@@ -0,0 +1,30 @@
+package seedu.address.model.analytics;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * A period of time that reviews are rolled up over.
+ */
+public enum RollupWindow {
+    DAY,
+    WEEK,
+    MONTH;
+
+    /**
+     * Returns the first day of the period of this length that {@code date} falls in.
+     * Weeks start on Monday.
+     */
+    public LocalDate startOf(LocalDate date) {
+        switch (this) {
+        case WEEK:
+            return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        case MONTH:
+            return date.withDayOfMonth(1);
+        case DAY:
+        default:
+            return date;
+        }
+    }
+}
@@ -1,13 +1,16 @@
 package seedu.address.model.card;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.scheduling.Scheduler;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -26,14 +29,29 @@ public class Card implements Comparable<Card> {
     private final List<Tag> tags = new ArrayList<>();
     private final SolveCount solveCount;
     private final Hint hint;
+    private LeitnerBox leitnerBox;
+    // Offset of the Deck the card is in, which its practice dates are stored relative to; null if not in a Deck.
+    private ScheduleOffset scheduleOffset;
+    private final CardRenderModel renderModel = new CardRenderModel(this);
 
     /**
-     * Every field must be present, and taking in if solveCount is provided
+     * Every field must be present, and taking in if solveCount is provided.
+     * The card starts in the first Leitner box.
      */
     public Card(Question question, Answer answer, Difficulty difficulty,
                 List<Tag> tags, PracticeDate nextPracticeDate, PracticeDate lastPracticeDate,
                 SolveCount solveCount, Hint hint) {
-        requireAllNonNull(question, answer, difficulty, tags, nextPracticeDate);
+        this(question, answer, difficulty, tags, nextPracticeDate, lastPracticeDate, solveCount, hint,
+                LeitnerBox.FIRST);
+    }
+
+    /**
+     * Every field must be present, and taking in if solveCount is provided
+     */
+    public Card(Question question, Answer answer, Difficulty difficulty,
+                List<Tag> tags, PracticeDate nextPracticeDate, PracticeDate lastPracticeDate,
+                SolveCount solveCount, Hint hint, LeitnerBox leitnerBox) {
+        requireAllNonNull(question, answer, difficulty, tags, nextPracticeDate, leitnerBox);
         assert(question != null);
         assert(answer != null);
 
@@ -51,6 +69,7 @@ public class Card implements Comparable<Card> {
         this.nextPracticeDate = nextPracticeDate;
         this.solveCount = solveCount;
         this.hint = hint;
+        this.leitnerBox = leitnerBox;
     }
 
     // Difficulty
@@ -74,11 +93,49 @@ public class Card implements Comparable<Card> {
 
     // PractiseDate
     public PracticeDate getNextPracticeDate() {
-        return this.nextPracticeDate;
+        return scheduleOffset == null ? nextPracticeDate : scheduleOffset.toActual(nextPracticeDate);
     }
 
     public PracticeDate getLastPracticeDate() {
-        return this.lastPracticeDate;
+        return scheduleOffset == null ? lastPracticeDate : scheduleOffset.toActual(lastPracticeDate);
+    }
+
+    /**
+     * Returns the next practice date as stored, before the schedule offset of the card's Deck is added.
+     * Stored dates of cards in the same Deck keep their order when the Deck's schedule is shifted.
+     */
+    PracticeDate getStoredNextPracticeDate() {
+        return nextPracticeDate;
+    }
+
+    /**
+     * Returns the last practice date as stored, before the schedule offset of the card's Deck is added.
+     */
+    PracticeDate getStoredLastPracticeDate() {
+        return lastPracticeDate;
+    }
+
+    /**
+     * Stores the card's practice dates relative to {@code scheduleOffset} from now on, keeping their values.
+     * A null offset stores them as they are.
+     */
+    void setScheduleOffset(ScheduleOffset scheduleOffset) {
+        PracticeDate actualNextPracticeDate = getNextPracticeDate();
+        PracticeDate actualLastPracticeDate = getLastPracticeDate();
+        this.scheduleOffset = scheduleOffset;
+        this.nextPracticeDate = toStored(actualNextPracticeDate);
+        this.lastPracticeDate = toStored(actualLastPracticeDate);
+    }
+
+    /**
+     * Returns the offset that the card's practice dates are stored relative to, or zero if it is not in a Deck.
+     */
+    Duration getScheduleOffsetDuration() {
+        return scheduleOffset == null ? Duration.ZERO : scheduleOffset.getOffset();
+    }
+
+    private PracticeDate toStored(PracticeDate practiceDate) {
+        return scheduleOffset == null ? practiceDate : scheduleOffset.toStored(practiceDate);
     }
 
     /**
@@ -88,20 +145,36 @@ public class Card implements Comparable<Card> {
      */
     private void setNextPracticeDate(PracticeDate practiceDate) {
         this.lastPracticeDate = this.nextPracticeDate;
-        this.nextPracticeDate = practiceDate;
+        this.nextPracticeDate = toStored(practiceDate);
     }
 
     /**
-     * Sets a new practice date based on {@code difficulty}.
+     * Sets a new practice date based on {@code difficulty}, as decided by {@code scheduler}, moving the card to
+     * its next Leitner box first.
      * @param difficulty the difficulty of the Card to adjust the new practise date
+     * @param scheduler the scheduling algorithm that decides the new practise date
      */
-    public void setNewPracticeDateWith(Difficulty difficulty) {
-        PracticeDate newPracticeDate = PracticeDate.calculateNewPracticeDate(this.lastPracticeDate,
-                this.nextPracticeDate, difficulty);
+    public void setNewPracticeDateWith(Difficulty difficulty, Scheduler scheduler) {
+        this.leitnerBox = leitnerBox.after(difficulty);
+        PracticeDate newPracticeDate = scheduler.nextPracticeDate(this, difficulty);
 
         setNextPracticeDate(newPracticeDate);
     }
 
+    /**
+     * Moves the next practice date to {@code practiceDate}, keeping the last practice date.
+     * Used when a card is rescheduled without being practised.
+     */
+    public void reschedule(PracticeDate practiceDate) {
+        requireNonNull(practiceDate);
+        this.nextPracticeDate = toStored(practiceDate);
+    }
+
+    // Leitner box
+    public LeitnerBox getLeitnerBox() {
+        return leitnerBox;
+    }
+
     // Tags
     public List<Tag> getTags() {
         return Collections.unmodifiableList(tags);
@@ -120,6 +193,22 @@ public class Card implements Comparable<Card> {
         return this.hint;
     }
 
+    /**
+     * Returns the strings shown for this card, which are kept until the fields they show change.
+     */
+    public CardRenderModel getRenderModel() {
+        return renderModel;
+    }
+
+    /**
+     * Returns a copy of this card whose difficulty, practice dates, Leitner box and solve count can change without
+     * changing those of this card. The copy is not in any Deck.
+     */
+    public Card copy() {
+        return new Card(question, answer, difficulty, tags, getNextPracticeDate(), getLastPracticeDate(),
+                solveCount == null ? null : new SolveCount(solveCount.getSolveCount()), hint, leitnerBox);
+    }
+
     /**
      * Returns true if both cards have the same question.
      * This defines a weaker notion of equality between two cards.
@@ -0,0 +1,42 @@
+package seedu.address.model.card;
+
+import java.util.List;
+
+/**
+ * An auxiliary structure over the cards of a {@code UniqueCardList}.
+ * Once registered with a {@code UniqueCardList}, the index is told about every change to the list so that it can
+ * keep itself up to date incrementally instead of being rebuilt from scratch.
+ */
+public interface CardIndex {
+
+    /**
+     * Called after {@code card} has been added to the list.
+     */
+    void onCardAdded(Card card);
+
+    /**
+     * Called after {@code card} has been removed from the list.
+     */
+    void onCardRemoved(Card card);
+
+    /**
+     * Called after {@code target} has been replaced by {@code editedCard} in the list.
+     * {@code target} and {@code editedCard} may be the same object if the card was modified in place.
+     */
+    default void onCardReplaced(Card target, Card editedCard) {
+        onCardRemoved(target);
+        onCardAdded(editedCard);
+    }
+
+    /**
+     * Called after the whole contents of the list have been replaced by {@code cards}.
+     */
+    void onCardsReset(List<Card> cards);
+
+    /**
+     * Called after the practice dates of every card in the list have been shifted by the same amount.
+     * The order of the cards by practice date is unchanged.
+     */
+    default void onScheduleShifted() {
+    }
+}
@@ -0,0 +1,88 @@
+package seedu.address.model.card;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Represents an order in which the cards of a Deck can be listed.
+ * Each order ranks cards by a single sort key extracted from the card; cards with equal keys keep the order
+ * in which they were added.
+ */
+public enum CardOrder {
+    DUE("due") {
+        @Override
+        public Comparable<?> keyOf(Card card) {
+            return card.getStoredNextPracticeDate();
+        }
+    },
+    QUESTION("question") {
+        @Override
+        public Comparable<?> keyOf(Card card) {
+            return card.getQuestion().question.toLowerCase(Locale.ROOT);
+        }
+    },
+    SOLVE_COUNT("solved") {
+        @Override
+        public Comparable<?> keyOf(Card card) {
+            return card.getSolveCount().getSolveCount();
+        }
+    },
+    LAST_PRACTISED("practised") {
+        @Override
+        public Comparable<?> keyOf(Card card) {
+            return card.getStoredLastPracticeDate();
+        }
+    },
+    DIFFICULTY("difficulty") {
+        @Override
+        public Comparable<?> keyOf(Card card) {
+            // Hardest cards first, new cards last.
+            return -Difficulty.valueOf(card.getDifficulty()).ordinal();
+        }
+    };
+
+    public static final String MESSAGE_CONSTRAINTS = "Cards can only be sorted by one of: "
+            + "due, question, solved, practised, difficulty";
+
+    private final String keyword;
+
+    CardOrder(String keyword) {
+        this.keyword = keyword;
+    }
+
+    /**
+     * Returns the sort key of {@code card} under this order.
+     * The returned key is a snapshot: it does not change when the card is later modified.
+     * Practice dates are keyed as stored, so keys stay in order when the schedule of the card's Deck is shifted.
+     */
+    public abstract Comparable<?> keyOf(Card card);
+
+    /**
+     * Compares two keys previously returned by {@link #keyOf(Card)}.
+     */
+    @SuppressWarnings("unchecked")
+    public int compareKeys(Comparable<?> key, Comparable<?> otherKey) {
+        return ((Comparable<Object>) key).compareTo(otherKey);
+    }
+
+    public String getKeyword() {
+        return keyword;
+    }
+
+    /**
+     * Returns the order identified by {@code keyword}, if any.
+     */
+    public static Optional<CardOrder> fromKeyword(String keyword) {
+        for (CardOrder order : values()) {
+            if (order.keyword.equalsIgnoreCase(keyword.trim())) {
+                return Optional.of(order);
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public String toString() {
+        return keyword;
+    }
+}
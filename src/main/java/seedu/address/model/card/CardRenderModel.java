@@ -0,0 +1,115 @@
+package seedu.address.model.card;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * The strings shown for a {@link Card} in the card list and in command results.
+ * <p>
+ * Each string is made the first time it is asked for and kept until the field it is made from changes, so that
+ * showing a card again, as happens on every cell update while the card list is scrolled, makes no new strings.
+ * The due date is kept together with the stored practice date and the schedule offset it was made from, and the
+ * solve count together with the count, so a kept string is only made again once one of them has changed.
+ */
+public class CardRenderModel {
+
+    public static final String DUE_DATE_PREFIX = "Due: ";
+    public static final String SOLVE_COUNT_PREFIX = "Solved: ";
+
+    private final Card card;
+
+    // Each memo is replaced as a whole, so that a thread reading it never sees half of an update.
+    private volatile String summary;
+    private volatile List<String> sortedTagNames;
+    private volatile DueDateText dueDateText;
+    private volatile SolveCountText solveCountText;
+
+    CardRenderModel(Card card) {
+        this.card = card;
+    }
+
+    /**
+     * Returns the question and answer of the card, as in command results.
+     */
+    public String getSummary() {
+        String current = summary;
+        if (current == null) {
+            current = "Question: " + card.getQuestion() + "; Answer: " + card.getAnswer();
+            summary = current;
+        }
+        return current;
+    }
+
+    /**
+     * Returns the names of the card's tags in alphabetical order. The returned list is unmodifiable.
+     */
+    public List<String> getSortedTagNames() {
+        List<String> current = sortedTagNames;
+        if (current == null) {
+            current = Collections.unmodifiableList(card.getTags().stream()
+                    .map(tag -> tag.tagName)
+                    .sorted()
+                    .collect(Collectors.toList()));
+            sortedTagNames = current;
+        }
+        return current;
+    }
+
+    /**
+     * Returns the date the card is next due, such as "Due: 1 January 2024".
+     */
+    public String getDueDateText() {
+        PracticeDate stored = card.getStoredNextPracticeDate();
+        Duration offset = card.getScheduleOffsetDuration();
+        DueDateText current = dueDateText;
+        if (current == null || current.stored != stored || !current.offset.equals(offset)) {
+            current = new DueDateText(stored, offset,
+                    DUE_DATE_PREFIX + card.getNextPracticeDate().getDisplayName());
+            dueDateText = current;
+        }
+        return current.text;
+    }
+
+    /**
+     * Returns the number of times the card has been solved, such as "Solved: 3".
+     */
+    public String getSolveCountText() {
+        int count = card.getSolveCount().getSolveCount();
+        SolveCountText current = solveCountText;
+        if (current == null || current.count != count) {
+            current = new SolveCountText(count, SOLVE_COUNT_PREFIX + count);
+            solveCountText = current;
+        }
+        return current.text;
+    }
+
+    /**
+     * A due date string with the stored practice date and schedule offset it was made from.
+     */
+    private static class DueDateText {
+        private final PracticeDate stored;
+        private final Duration offset;
+        private final String text;
+
+        DueDateText(PracticeDate stored, Duration offset, String text) {
+            this.stored = stored;
+            this.offset = offset;
+            this.text = text;
+        }
+    }
+
+    /**
+     * A solve count string with the count it was made from.
+     */
+    private static class SolveCountText {
+        private final int count;
+        private final String text;
+
+        SolveCountText(int count, String text) {
+            this.count = count;
+            this.text = text;
+        }
+    }
+}
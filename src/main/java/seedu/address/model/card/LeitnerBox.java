@@ -0,0 +1,81 @@
+package seedu.address.model.card;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+/**
+ * Represents the Leitner box a Card is in.
+ * Cards start in the first box, move up a box each time they are practised successfully and go back to the first
+ * box when they are found hard.
+ * Guarantees: immutable; is valid as declared in {@link #isValidBox(int)}
+ */
+public class LeitnerBox {
+
+    /** Number of Leitner boxes. */
+    public static final int COUNT = 7;
+
+    public static final String MESSAGE_CONSTRAINTS = "Leitner box should be a number from 1 to " + COUNT;
+
+    public static final LeitnerBox FIRST = new LeitnerBox(1);
+
+    public final int box;
+
+    /**
+     * Constructs a {@code LeitnerBox}.
+     *
+     * @param box A valid box number.
+     */
+    public LeitnerBox(int box) {
+        checkArgument(isValidBox(box), MESSAGE_CONSTRAINTS);
+        this.box = box;
+    }
+
+    /**
+     * Returns true if a given number is a valid box number.
+     */
+    public static boolean isValidBox(int box) {
+        return box >= 1 && box <= COUNT;
+    }
+
+    /**
+     * Returns the box a card in this box moves to after being practised as {@code difficulty}.
+     * Easy cards skip a box, medium cards move up one box and hard cards go back to the first box.
+     */
+    public LeitnerBox after(Difficulty difficulty) {
+        switch (difficulty) {
+        case EASY:
+            return new LeitnerBox(Math.min(box + 2, COUNT));
+        case MEDIUM:
+            return new LeitnerBox(Math.min(box + 1, COUNT));
+        case HARD:
+            return FIRST;
+        case NEW:
+        default:
+            return this;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return Integer.toString(box);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof LeitnerBox)) {
+            return false;
+        }
+
+        LeitnerBox otherBox = (LeitnerBox) other;
+        return box == otherBox.box;
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(box);
+    }
+}
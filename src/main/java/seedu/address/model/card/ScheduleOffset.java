@@ -0,0 +1,72 @@
+package seedu.address.model.card;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+
+/**
+ * A shift applied to the practice dates of every Card in a Deck.
+ * <p>
+ * Cards in a Deck store their practice dates relative to the Deck's offset, and add the offset whenever their
+ * practice dates are read. Shifting every card, for example after a break, is therefore O(1): only the offset
+ * changes, the relative order of the cards stays the same, and the shift is written into the cards' practice dates
+ * when they are next saved.
+ */
+public class ScheduleOffset {
+
+    private final ReadOnlyObjectWrapper<Duration> offset = new ReadOnlyObjectWrapper<>(Duration.ZERO);
+
+    public Duration getOffset() {
+        return offset.get();
+    }
+
+    /**
+     * Returns the offset, which changes whenever the schedule is shifted.
+     */
+    public ReadOnlyObjectProperty<Duration> offsetProperty() {
+        return offset.getReadOnlyProperty();
+    }
+
+    /**
+     * Moves every practice date later by {@code duration}, or earlier if it is negative.
+     */
+    public void shift(Duration duration) {
+        requireNonNull(duration);
+        offset.set(offset.get().plus(duration));
+    }
+
+    /**
+     * Returns the practice date that the stored practice date {@code stored} stands for.
+     */
+    public PracticeDate toActual(PracticeDate stored) {
+        requireNonNull(stored);
+        Duration duration = offset.get();
+        return duration.isZero() ? stored : PracticeDate.ofValid(plus(stored.practiceDate, duration));
+    }
+
+    /**
+     * Returns the stored practice date that stands for the practice date {@code actual}.
+     */
+    public PracticeDate toStored(PracticeDate actual) {
+        requireNonNull(actual);
+        Duration duration = offset.get();
+        return duration.isZero() ? actual : PracticeDate.ofValid(plus(actual.practiceDate, duration.negated()));
+    }
+
+    /**
+     * Adds {@code duration} to {@code dateTime}, saturating at the earliest and latest supported date-times so that
+     * placeholder dates such as {@code LocalDateTime.MIN} stay valid.
+     */
+    private static LocalDateTime plus(LocalDateTime dateTime, Duration duration) {
+        try {
+            return dateTime.plus(duration);
+        } catch (DateTimeException e) {
+            return duration.isNegative() ? LocalDateTime.MIN : LocalDateTime.MAX;
+        }
+    }
+}
@@ -0,0 +1,291 @@
+package seedu.address.model.card;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import javafx.collections.ObservableListBase;
+
+/**
+ * A read-only {@code ObservableList} of cards kept sorted by a {@link CardOrder}.
+ * <p>
+ * The cards are held in a treap ordered by the sort key each card had when it was last added or replaced, with
+ * ties broken by insertion order. Adding, removing or replacing a card, as well as looking up a card by position,
+ * takes O(log n) time, and each change is reported to listeners as a single precise add, remove or replace event
+ * rather than as a re-sort of the whole list.
+ */
+public class SortedCardIndex extends ObservableListBase<Card> implements CardIndex {
+
+    private final CardOrder order;
+    private final Map<Card, Node> nodes = new IdentityHashMap<>();
+    private final Random random = new Random();
+
+    private Node root;
+    private long nextSequenceNumber;
+
+    /**
+     * Creates an empty index that sorts cards by {@code order}.
+     */
+    public SortedCardIndex(CardOrder order) {
+        requireNonNull(order);
+        this.order = order;
+    }
+
+    public CardOrder getOrder() {
+        return order;
+    }
+
+    @Override
+    public void onCardAdded(Card card) {
+        requireNonNull(card);
+        assert !nodes.containsKey(card) : "Card is already in the index";
+
+        Node node = new Node(card, order.keyOf(card), nextSequenceNumber++, random.nextInt());
+        nodes.put(card, node);
+        int index = insert(node);
+
+        beginChange();
+        nextAdd(index, index + 1);
+        endChange();
+    }
+
+    @Override
+    public void onCardRemoved(Card card) {
+        requireNonNull(card);
+        Node node = nodes.remove(card);
+        assert node != null : "Card is not in the index";
+
+        int index = detach(node);
+
+        beginChange();
+        nextRemove(index, card);
+        endChange();
+    }
+
+    /**
+     * {@inheritDoc}
+     * The edited card keeps the place of {@code target} among cards with an equal sort key.
+     */
+    @Override
+    public void onCardReplaced(Card target, Card editedCard) {
+        requireNonNull(target);
+        requireNonNull(editedCard);
+        Node node = nodes.remove(target);
+        assert node != null : "Card is not in the index";
+
+        int from = detach(node);
+        Node editedNode = new Node(editedCard, order.keyOf(editedCard), node.sequenceNumber, node.priority);
+        nodes.put(editedCard, editedNode);
+        int to = insert(editedNode);
+
+        beginChange();
+        if (from == to) {
+            nextSet(from, target);
+        } else {
+            nextRemove(from, target);
+            nextAdd(to, to + 1);
+        }
+        endChange();
+    }
+
+    @Override
+    public void onCardsReset(List<Card> cards) {
+        requireNonNull(cards);
+        List<Card> removed = new ArrayList<>(this);
+
+        nodes.clear();
+        root = null;
+        nextSequenceNumber = 0;
+        for (Card card : cards) {
+            Node node = new Node(card, order.keyOf(card), nextSequenceNumber++, random.nextInt());
+            nodes.put(card, node);
+            insert(node);
+        }
+
+        beginChange();
+        if (!removed.isEmpty()) {
+            nextRemove(0, removed);
+        }
+        if (size() > 0) {
+            nextAdd(0, size());
+        }
+        endChange();
+    }
+
+    @Override
+    public Card get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+
+        Node current = root;
+        while (true) {
+            int leftSize = sizeOf(current.left);
+            if (index < leftSize) {
+                current = current.left;
+            } else if (index == leftSize) {
+                return current.card;
+            } else {
+                index -= leftSize + 1;
+                current = current.right;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return sizeOf(root);
+    }
+
+    /**
+     * Returns the number of cards whose sort key is at most {@code key}, in O(log n) time.
+     */
+    public int countAtMost(Comparable<?> key) {
+        requireNonNull(key);
+
+        int count = 0;
+        Node current = root;
+        while (current != null) {
+            if (order.compareKeys(current.key, key) <= 0) {
+                count += sizeOf(current.left) + 1;
+                current = current.right;
+            } else {
+                current = current.left;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the position of {@code o} in O(log n) time if it is a card held by this index.
+     */
+    @Override
+    public int indexOf(Object o) {
+        Node node = nodes.get(o);
+        if (node == null) {
+            return super.indexOf(o);
+        }
+
+        int index = 0;
+        Node current = root;
+        while (current != node) {
+            if (compare(node, current) < 0) {
+                current = current.left;
+            } else {
+                index += sizeOf(current.left) + 1;
+                current = current.right;
+            }
+        }
+        return index + sizeOf(node.left);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return nodes.containsKey(o) || super.contains(o);
+    }
+
+    /**
+     * Inserts {@code node} into the treap and returns its position.
+     */
+    private int insert(Node node) {
+        Node[] parts = split(root, node, false);
+        int index = sizeOf(parts[0]);
+        root = merge(merge(parts[0], node), parts[1]);
+        return index;
+    }
+
+    /**
+     * Removes {@code node} from the treap and returns the position it was at.
+     */
+    private int detach(Node node) {
+        Node[] lower = split(root, node, false);
+        Node[] upper = split(lower[1], node, true);
+        assert upper[0] == node;
+        root = merge(lower[0], upper[1]);
+        return sizeOf(lower[0]);
+    }
+
+    /**
+     * Splits {@code tree} into the nodes before {@code pivot} and the rest.
+     * If {@code inclusive}, {@code pivot} itself goes into the first part.
+     */
+    private Node[] split(Node tree, Node pivot, boolean inclusive) {
+        if (tree == null) {
+            return new Node[] {null, null};
+        }
+
+        int comparison = compare(tree, pivot);
+        if (comparison < 0 || (inclusive && comparison == 0)) {
+            Node[] parts = split(tree.right, pivot, inclusive);
+            tree.right = parts[0];
+            tree.updateSize();
+            parts[0] = tree;
+            return parts;
+        } else {
+            Node[] parts = split(tree.left, pivot, inclusive);
+            tree.left = parts[1];
+            tree.updateSize();
+            parts[1] = tree;
+            return parts;
+        }
+    }
+
+    /**
+     * Joins two treaps where every node of {@code first} comes before every node of {@code second}.
+     */
+    private Node merge(Node first, Node second) {
+        if (first == null) {
+            return second;
+        }
+        if (second == null) {
+            return first;
+        }
+
+        if (first.priority > second.priority) {
+            first.right = merge(first.right, second);
+            first.updateSize();
+            return first;
+        } else {
+            second.left = merge(first, second.left);
+            second.updateSize();
+            return second;
+        }
+    }
+
+    private int compare(Node node, Node other) {
+        int comparison = order.compareKeys(node.key, other.key);
+        return comparison != 0 ? comparison : Long.compare(node.sequenceNumber, other.sequenceNumber);
+    }
+
+    private static int sizeOf(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    /**
+     * A card in the treap, together with the sort key it was inserted with.
+     */
+    private static class Node {
+        private final Card card;
+        private final Comparable<?> key;
+        private final long sequenceNumber;
+        private final int priority;
+        private Node left;
+        private Node right;
+        private int size = 1;
+
+        Node(Card card, Comparable<?> key, long sequenceNumber, int priority) {
+            this.card = card;
+            this.key = key;
+            this.sequenceNumber = sequenceNumber;
+            this.priority = priority;
+        }
+
+        void updateSize() {
+            size = sizeOf(left) + sizeOf(right) + 1;
+        }
+    }
+}
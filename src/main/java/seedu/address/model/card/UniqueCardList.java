@@ -3,9 +3,17 @@ package seedu.address.model.card;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -22,6 +30,11 @@ import seedu.address.model.card.exceptions.DuplicateCardException;
  * However, the removal of a card uses Card#equals(Object)
  * to ensure that the card with exactly the same fields will be removed.
  * Supports a minimal set of list operations.
+ * The list is kept sorted by next practice date. Other orders are available as views maintained by
+ * {@link SortedCardIndex}es that are updated incrementally on every change, see
+ * {@link #asUnmodifiableObservableList(CardOrder)}.
+ * Cards in the list store their practice dates relative to the list's {@link ScheduleOffset}, so that the practice
+ * dates of every card can be shifted at once with {@link #shiftSchedule(Duration)}.
  *
  * @see Card#isSameCard(Card)
  */
@@ -34,12 +47,21 @@ public class UniqueCardList implements Iterable<Card> {
 
     private final Comparator<Card> cardComparator = new CardPracticeDateComparator();
 
+    private final List<CardIndex> indexes = new ArrayList<>();
+
+    private final Map<CardOrder, ObservableList<Card>> sortedViews = new EnumMap<>(CardOrder.class);
+
+    private final ScheduleOffset scheduleOffset = new ScheduleOffset();
+
+    // Questions of the cards in the list, as cards are the same card exactly when their questions are equal.
+    private final Set<Question> questions = new HashSet<>();
+
     /**
      * Returns true if the list contains an equivalent card as the given argument.
      */
     public boolean contains(Card toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameCard);
+        return questions.contains(toCheck.getQuestion());
     }
 
     public int count() {
@@ -58,16 +80,35 @@ public class UniqueCardList implements Iterable<Card> {
             throw new DuplicateCardException();
         }
 
-        // Add the card to the list
-        internalList.add(toAdd);
-        sort();
+        questions.add(toAdd.getQuestion());
+        toAdd.setScheduleOffset(scheduleOffset);
+        // Add the card to the list, after any cards due at the same time
+        internalList.add(findBound(toAdd, internalList.size(), true), toAdd);
+        indexes.forEach(index -> index.onCardAdded(toAdd));
     }
 
     /**
      * Sort the list based on the card's next practise date.
+     * Only needed if cards in the list were modified without going through {@link #setCard(Card, Card)}.
      */
     public void sort() {
         internalList.sort(cardComparator);
+        indexes.forEach(index -> index.onCardsReset(internalUnmodifiableList));
+    }
+
+    /**
+     * Moves every card to the next practice date given by {@code newPracticeDates}.
+     * The new dates are computed and the list re-sorted in parallel, and the change is published to listeners
+     * and indexes once, as a single replacement of the whole list.
+     */
+    public void rescheduleAll(Function<? super Card, PracticeDate> newPracticeDates) {
+        requireNonNull(newPracticeDates);
+
+        Card[] cards = internalList.toArray(new Card[0]);
+        Arrays.stream(cards).parallel().forEach(card -> card.reschedule(newPracticeDates.apply(card)));
+        Arrays.parallelSort(cards, cardComparator);
+        internalList.setAll(cards);
+        indexes.forEach(index -> index.onCardsReset(internalUnmodifiableList));
     }
 
     /**
@@ -79,7 +120,7 @@ public class UniqueCardList implements Iterable<Card> {
     public void setCard(Card target, Card editedCard) {
         requireAllNonNull(target, editedCard);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) { // Card not found in list
             throw new CardNotFoundException();
         }
@@ -88,8 +129,16 @@ public class UniqueCardList implements Iterable<Card> {
             throw new DuplicateCardException();
         }
 
+        Card replacedCard = internalList.get(index);
+        questions.remove(replacedCard.getQuestion());
+        questions.add(editedCard.getQuestion());
+        if (replacedCard != editedCard) {
+            replacedCard.setScheduleOffset(null);
+            editedCard.setScheduleOffset(scheduleOffset);
+        }
         internalList.set(index, editedCard);
-        sort();
+        reposition(index);
+        indexes.forEach(cardIndex -> cardIndex.onCardReplaced(replacedCard, editedCard));
     }
 
     /**
@@ -99,17 +148,21 @@ public class UniqueCardList implements Iterable<Card> {
     public void remove(Card toRemove) {
         requireNonNull(toRemove);
 
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new CardNotFoundException();
         }
-        sort();
+
+        Card removedCard = internalList.remove(index);
+        questions.remove(removedCard.getQuestion());
+        removedCard.setScheduleOffset(null);
+        indexes.forEach(cardIndex -> cardIndex.onCardRemoved(removedCard));
     }
 
     public void setCards(UniqueCardList replacement) {
         requireNonNull(replacement);
 
-        internalList.setAll(replacement.internalList);
-        sort();
+        replaceAll(replacement.internalList);
     }
 
     /**
@@ -123,8 +176,22 @@ public class UniqueCardList implements Iterable<Card> {
             throw new DuplicateCardException();
         }
 
-        internalList.setAll(cards);
-        sort();
+        replaceAll(cards);
+    }
+
+    /**
+     * Moves the next and last practice dates of every card by {@code duration} in O(1) time.
+     * The cards keep their order, and the shift is written into their practice dates when they are next read.
+     */
+    public void shiftSchedule(Duration duration) {
+        requireNonNull(duration);
+
+        scheduleOffset.shift(duration);
+        indexes.forEach(CardIndex::onScheduleShifted);
+    }
+
+    public ScheduleOffset getScheduleOffset() {
+        return scheduleOffset;
     }
 
     /**
@@ -134,6 +201,42 @@ public class UniqueCardList implements Iterable<Card> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns the cards sorted by {@code order} as an unmodifiable {@code ObservableList}.
+     * The view for an order is built the first time it is requested and is kept up to date from then on.
+     */
+    public ObservableList<Card> asUnmodifiableObservableList(CardOrder order) {
+        requireNonNull(order);
+
+        if (order == CardOrder.DUE) {
+            return internalUnmodifiableList;
+        }
+
+        return sortedViews.computeIfAbsent(order, unused -> {
+            SortedCardIndex sortedCards = new SortedCardIndex(order);
+            addIndex(sortedCards);
+            return FXCollections.unmodifiableObservableList(sortedCards);
+        });
+    }
+
+    /**
+     * Registers {@code index} to be updated on every change to this list.
+     * The index is first filled with the current contents of the list.
+     */
+    public void addIndex(CardIndex index) {
+        requireNonNull(index);
+
+        index.onCardsReset(internalUnmodifiableList);
+        indexes.add(index);
+    }
+
+    /**
+     * Stops updating {@code index} on changes to this list.
+     */
+    public void removeIndex(CardIndex index) {
+        indexes.remove(index);
+    }
+
     @Override
     public Iterator<Card> iterator() {
         return internalList.iterator();
@@ -165,20 +268,83 @@ public class UniqueCardList implements Iterable<Card> {
         return internalList.toString();
     }
 
+    private void replaceAll(List<Card> cards) {
+        internalList.forEach(card -> card.setScheduleOffset(null));
+        cards.forEach(card -> card.setScheduleOffset(scheduleOffset));
+        internalList.setAll(cards);
+        questions.clear();
+        cards.forEach(card -> questions.add(card.getQuestion()));
+        sort();
+    }
+
     /**
-     * Returns true if {@code cards} contains only unique cards.
+     * Returns the position of {@code card} in the list, or -1 if there is no equivalent card in it.
+     * The card itself is looked for by binary search first, which finds it unless its practice date was changed
+     * in place since it was last positioned, then by a scan comparing references, and only then by a scan
+     * comparing fields.
+     */
+    private int indexOf(Card card) {
+        int size = internalList.size();
+        for (int i = findBound(card, size, false), end = findBound(card, size, true); i < end; i++) {
+            if (internalList.get(i) == card) {
+                return i;
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            if (internalList.get(i) == card) {
+                return i;
+            }
+        }
+        return internalList.indexOf(card);
+    }
+
+    /**
+     * Moves the card at {@code index} to where a stable sort of the list would put it, assuming the rest of the
+     * list is already sorted.
      */
-    private boolean cardsAreUnique(List<Card> cards) {
-        boolean isUnique = true;
+    private void reposition(int index) {
+        Card card = internalList.get(index);
+        int lowerBound = findBound(card, index, false);
+        int upperBound = findBound(card, index, true);
+        int newIndex = Math.max(lowerBound, Math.min(index, upperBound));
+
+        if (newIndex != index) {
+            internalList.remove(index);
+            internalList.add(newIndex, card);
+        }
+    }
 
-        for (int i = 0; i < cards.size() - 1; i++) {
-            for (int j = i + 1; j < cards.size(); j++) {
-                if (cards.get(i).isSameCard(cards.get(j))) {
-                    isUnique = false;
-                }
+    /**
+     * Binary searches the list, ignoring the card at {@code skippedIndex}, for the first card that compares greater
+     * than {@code card} (if {@code isUpper}) or not less than {@code card} (otherwise).
+     * The returned position is relative to the list with the skipped card removed.
+     */
+    private int findBound(Card card, int skippedIndex, boolean isUpper) {
+        int low = 0;
+        int high = skippedIndex < internalList.size() ? internalList.size() - 1 : internalList.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            Card middleCard = internalList.get(middle < skippedIndex ? middle : middle + 1);
+            int comparison = cardComparator.compare(middleCard, card);
+            if (comparison < 0 || (isUpper && comparison == 0)) {
+                low = middle + 1;
+            } else {
+                high = middle;
             }
         }
+        return low;
+    }
 
-        return isUnique;
+    /**
+     * Returns true if {@code cards} contains only unique cards.
+     */
+    private static boolean cardsAreUnique(List<Card> cards) {
+        Set<Question> seenQuestions = new HashSet<>();
+        for (Card card : cards) {
+            if (!seenQuestions.add(card.getQuestion())) {
+                return false;
+            }
+        }
+        return true;
     }
 }
@@ -0,0 +1,133 @@
+package seedu.address.model.due;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+import seedu.address.model.card.Card;
+import seedu.address.model.card.CardIndex;
+
+/**
+ * Keeps count of the cards in a Deck that are due for practice, updating the count as cards become due.
+ * <p>
+ * Cards that are not yet due are held on a {@link HierarchicalTimingWheel} keyed by the minute of their next
+ * practice date, so scheduling and rescheduling a card is O(1) and moving the clock forward only touches the cards
+ * that become due, never the whole Deck.
+ */
+public class DueCardTracker implements CardIndex {
+
+    private static final long SECONDS_PER_TICK = 60;
+
+    private final HierarchicalTimingWheel<Card> wheel;
+    private final Map<Card, HierarchicalTimingWheel.Timer<Card>> timers = new IdentityHashMap<>();
+    private final Set<Card> dueCards = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final ReadOnlyIntegerWrapper dueCount = new ReadOnlyIntegerWrapper();
+
+    /**
+     * Creates a tracker with no cards whose clock starts at {@code now}.
+     */
+    public DueCardTracker(LocalDateTime now) {
+        requireNonNull(now);
+        wheel = new HierarchicalTimingWheel<>(toTick(now));
+    }
+
+    /**
+     * Moves the clock forward to {@code now}, counting the cards that have become due since the last call.
+     */
+    public void advanceTo(LocalDateTime now) {
+        requireNonNull(now);
+
+        wheel.advanceTo(toTick(now), card -> {
+            timers.remove(card);
+            dueCards.add(card);
+        });
+        updateDueCount();
+    }
+
+    /**
+     * Returns the number of cards that are due.
+     */
+    public ReadOnlyIntegerProperty dueCountProperty() {
+        return dueCount.getReadOnlyProperty();
+    }
+
+    public int getDueCount() {
+        return dueCount.get();
+    }
+
+    @Override
+    public void onCardAdded(Card card) {
+        track(card);
+        updateDueCount();
+    }
+
+    @Override
+    public void onCardRemoved(Card card) {
+        untrack(card);
+        updateDueCount();
+    }
+
+    @Override
+    public void onCardReplaced(Card target, Card editedCard) {
+        untrack(target);
+        track(editedCard);
+        updateDueCount();
+    }
+
+    @Override
+    public void onCardsReset(List<Card> cards) {
+        wheel.clear();
+        timers.clear();
+        dueCards.clear();
+        cards.forEach(this::track);
+        updateDueCount();
+    }
+
+    @Override
+    public void onScheduleShifted() {
+        // Every deadline has moved, so the cards are put back on the wheel at their new next practice dates.
+        List<Card> cards = new ArrayList<>(timers.keySet());
+        cards.addAll(dueCards);
+        onCardsReset(cards);
+    }
+
+    private void track(Card card) {
+        long deadline = toTick(card.getNextPracticeDate().practiceDate);
+        Optional<HierarchicalTimingWheel.Timer<Card>> timer = wheel.schedule(card, deadline);
+        if (timer.isPresent()) {
+            timers.put(card, timer.get());
+        } else {
+            dueCards.add(card);
+        }
+    }
+
+    private void untrack(Card card) {
+        HierarchicalTimingWheel.Timer<Card> timer = timers.remove(card);
+        if (timer != null) {
+            timer.cancel();
+        } else {
+            dueCards.remove(card);
+        }
+    }
+
+    private void updateDueCount() {
+        dueCount.set(dueCards.size());
+    }
+
+    /**
+     * Returns the first whole minute at or after {@code dateTime}, so that a card never counts as due early.
+     */
+    private static long toTick(LocalDateTime dateTime) {
+        return -Math.floorDiv(-dateTime.toEpochSecond(ZoneOffset.UTC), SECONDS_PER_TICK);
+    }
+}
@@ -0,0 +1,141 @@
+package seedu.address.model.due;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.card.Card;
+import seedu.address.model.card.CardIndex;
+
+/**
+ * Counts the cards in a Deck that are due on each day, so that the number of cards due over the coming days can be
+ * forecast without going through the Deck.
+ * <p>
+ * The counts are kept in a Fenwick tree over a window of days, with cards due before the window counted separately.
+ * Adding, removing and rescheduling a card is O(log d) for a window of d days, and so is counting the cards due up
+ * to any day. The window is moved, and the cards recounted into it, only once the days asked about run past its
+ * end, which happens once every few years of use.
+ */
+public class DueForecast implements CardIndex {
+
+    /** Number of days covered by the window. */
+    static final int WINDOW_DAYS = 1 << 12;
+
+    private final Map<Card, Long> dueDays = new IdentityHashMap<>();
+    private final int[] tree = new int[WINDOW_DAYS + 1];
+
+    private long firstDay;
+    private int earlierCount;
+
+    /**
+     * Creates a forecast with no cards whose window starts on {@code today}.
+     */
+    public DueForecast(LocalDate today) {
+        requireNonNull(today);
+        firstDay = today.toEpochDay();
+    }
+
+    /**
+     * Returns the number of cards due on each of the {@code days} days starting from {@code from}.
+     * The count for the first day includes the cards that were due before it.
+     */
+    public int[] getDueCounts(LocalDate from, int days) {
+        requireNonNull(from);
+        assert days > 0 && days < WINDOW_DAYS : "Invalid number of days to forecast";
+
+        long start = from.toEpochDay();
+        if (start < firstDay || start + days > firstDay + WINDOW_DAYS) {
+            moveWindowTo(start);
+        }
+
+        int offset = (int) (start - firstDay);
+        int[] counts = new int[days];
+        int previousTotal = 0;
+        for (int day = 0; day < days; day++) {
+            int total = countBefore(offset + day + 1);
+            counts[day] = total - previousTotal;
+            previousTotal = total;
+        }
+        return counts;
+    }
+
+    /**
+     * Returns the number of cards counted.
+     */
+    public int size() {
+        return dueDays.size();
+    }
+
+    @Override
+    public void onCardAdded(Card card) {
+        long day = dueDayOf(card);
+        dueDays.put(card, day);
+        add(day, 1);
+    }
+
+    @Override
+    public void onCardRemoved(Card card) {
+        Long day = dueDays.remove(card);
+        if (day != null) {
+            add(day, -1);
+        }
+    }
+
+    @Override
+    public void onCardsReset(List<Card> cards) {
+        dueDays.clear();
+        clearCounts();
+        cards.forEach(this::onCardAdded);
+    }
+
+    @Override
+    public void onScheduleShifted() {
+        // Each card's next practice date has moved, possibly across a day boundary.
+        onCardsReset(new ArrayList<>(dueDays.keySet()));
+    }
+
+    /**
+     * Starts the window on the epoch day {@code day} and recounts the cards into it.
+     */
+    private void moveWindowTo(long day) {
+        firstDay = day;
+        clearCounts();
+        dueDays.values().forEach(dueDay -> add(dueDay, 1));
+    }
+
+    private void clearCounts() {
+        Arrays.fill(tree, 0);
+        earlierCount = 0;
+    }
+
+    private void add(long day, int delta) {
+        long position = day - firstDay;
+        if (position < 0) {
+            earlierCount += delta;
+        } else if (position < WINDOW_DAYS) {
+            for (int i = (int) position + 1; i <= WINDOW_DAYS; i += i & -i) {
+                tree[i] += delta;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of cards due before the day {@code position} days into the window.
+     */
+    private int countBefore(int position) {
+        int count = earlierCount;
+        for (int i = position; i > 0; i -= i & -i) {
+            count += tree[i];
+        }
+        return count;
+    }
+
+    private static long dueDayOf(Card card) {
+        return card.getNextPracticeDate().practiceDate.toLocalDate().toEpochDay();
+    }
+}
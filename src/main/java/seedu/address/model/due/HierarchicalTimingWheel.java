@@ -0,0 +1,263 @@
+package seedu.address.model.due;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Holds values that expire at given deadlines, measured in whole ticks, and hands them out as the clock advances.
+ * <p>
+ * Deadlines are kept in three wheels of slots: one slot per tick for the next hour, one per 60 ticks for the next
+ * day and one per 1440 ticks for the next 400 days, with anything later in an overflow list. Scheduling and
+ * cancelling are O(1). When a coarser slot comes up, its values are moved down into the finer wheels, so each value
+ * is moved at most a few times before it expires.
+ *
+ * @param <T> type of the values held
+ */
+public class HierarchicalTimingWheel<T> {
+
+    private static final int[] SLOT_COUNTS = {60, 24, 400};
+    private static final long[] TICKS_PER_SLOT = {1, 60, 60 * 24};
+    private static final long OVERFLOW_PERIOD = TICKS_PER_SLOT[2] * SLOT_COUNTS[2];
+
+    private final List<List<Bucket<T>>> wheels = new ArrayList<>();
+    private final Bucket<T> overflow = new Bucket<>();
+
+    private long currentTick;
+    private int size;
+
+    /**
+     * Creates an empty wheel whose clock starts at {@code currentTick}.
+     */
+    public HierarchicalTimingWheel(long currentTick) {
+        this.currentTick = currentTick;
+        for (int slotCount : SLOT_COUNTS) {
+            List<Bucket<T>> wheel = new ArrayList<>(slotCount);
+            for (int i = 0; i < slotCount; i++) {
+                wheel.add(new Bucket<>());
+            }
+            wheels.add(wheel);
+        }
+    }
+
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    /**
+     * Returns the number of values that have not expired or been cancelled.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Schedules {@code value} to expire at tick {@code deadline}.
+     * Returns a timer that can cancel it, or an empty {@code Optional} if the deadline has already passed, in which
+     * case nothing is scheduled.
+     */
+    public Optional<Timer<T>> schedule(T value, long deadline) {
+        requireNonNull(value);
+
+        if (deadline <= currentTick) {
+            return Optional.empty();
+        }
+
+        Timer<T> timer = new Timer<>(this, value, deadline);
+        place(timer);
+        size++;
+        return Optional.of(timer);
+    }
+
+    /**
+     * Moves the clock forward to {@code tick}, passing every value whose deadline is reached to {@code onExpiry}
+     * in order of deadline.
+     */
+    public void advanceTo(long tick, Consumer<? super T> onExpiry) {
+        requireNonNull(onExpiry);
+
+        if (tick - currentTick > OVERFLOW_PERIOD) {
+            jumpTo(tick, onExpiry);
+            return;
+        }
+
+        while (currentTick < tick) {
+            currentTick++;
+            if (Math.floorMod(currentTick, OVERFLOW_PERIOD) == 0) {
+                cascade(overflow);
+            }
+            for (int level = SLOT_COUNTS.length - 1; level > 0; level--) {
+                if (Math.floorMod(currentTick, TICKS_PER_SLOT[level]) == 0) {
+                    cascade(wheels.get(level).get(slotOf(currentTick, level)));
+                }
+            }
+            expire(wheels.get(0).get(slotOf(currentTick, 0)), onExpiry);
+        }
+    }
+
+    /**
+     * Removes every value without expiring it.
+     */
+    public void clear() {
+        for (List<Bucket<T>> wheel : wheels) {
+            wheel.forEach(Bucket::removeAll);
+        }
+        overflow.removeAll();
+        size = 0;
+    }
+
+    /**
+     * Puts {@code timer} in the finest wheel that covers its deadline.
+     */
+    private void place(Timer<T> timer) {
+        for (int level = 0; level < SLOT_COUNTS.length; level++) {
+            long unit = TICKS_PER_SLOT[level];
+            if (Math.floorDiv(timer.deadline, unit) - Math.floorDiv(currentTick, unit) < SLOT_COUNTS[level]) {
+                wheels.get(level).get(slotOf(timer.deadline, level)).append(timer);
+                return;
+            }
+        }
+        overflow.append(timer);
+    }
+
+    private void cascade(Bucket<T> bucket) {
+        for (Timer<T> timer : bucket.removeAll()) {
+            place(timer);
+        }
+    }
+
+    private void expire(Bucket<T> bucket, Consumer<? super T> onExpiry) {
+        for (Timer<T> timer : bucket.removeAll()) {
+            size--;
+            onExpiry.accept(timer.value);
+        }
+    }
+
+    /**
+     * Moves the clock straight to {@code tick}, for jumps longer than the wheels can cover.
+     */
+    private void jumpTo(long tick, Consumer<? super T> onExpiry) {
+        List<Timer<T>> timers = new ArrayList<>(size);
+        for (List<Bucket<T>> wheel : wheels) {
+            wheel.forEach(bucket -> timers.addAll(bucket.removeAll()));
+        }
+        timers.addAll(overflow.removeAll());
+
+        currentTick = tick;
+        timers.sort((timer, other) -> Long.compare(timer.deadline, other.deadline));
+        for (Timer<T> timer : timers) {
+            if (timer.deadline <= tick) {
+                size--;
+                onExpiry.accept(timer.value);
+            } else {
+                place(timer);
+            }
+        }
+    }
+
+    private static int slotOf(long tick, int level) {
+        return (int) Math.floorMod(Math.floorDiv(tick, TICKS_PER_SLOT[level]), (long) SLOT_COUNTS[level]);
+    }
+
+    /**
+     * A value scheduled on a {@code HierarchicalTimingWheel}.
+     */
+    public static class Timer<T> {
+        private final HierarchicalTimingWheel<T> wheel;
+        private final T value;
+        private final long deadline;
+        private Bucket<T> bucket;
+        private Timer<T> previous;
+        private Timer<T> next;
+
+        private Timer(HierarchicalTimingWheel<T> wheel, T value, long deadline) {
+            this.wheel = wheel;
+            this.value = value;
+            this.deadline = deadline;
+        }
+
+        public T getValue() {
+            return value;
+        }
+
+        public long getDeadline() {
+            return deadline;
+        }
+
+        /**
+         * Cancels the timer in O(1) time.
+         * Returns false if it has already expired or been cancelled.
+         */
+        public boolean cancel() {
+            if (bucket == null) {
+                return false;
+            }
+            bucket.unlink(this);
+            wheel.size--;
+            return true;
+        }
+    }
+
+    /**
+     * A doubly linked list of timers in one slot.
+     */
+    private static class Bucket<T> {
+        private Timer<T> head;
+        private Timer<T> tail;
+
+        void append(Timer<T> timer) {
+            timer.bucket = this;
+            timer.previous = tail;
+            timer.next = null;
+            if (tail == null) {
+                head = timer;
+            } else {
+                tail.next = timer;
+            }
+            tail = timer;
+        }
+
+        void unlink(Timer<T> timer) {
+            if (timer.previous == null) {
+                head = timer.next;
+            } else {
+                timer.previous.next = timer.next;
+            }
+            if (timer.next == null) {
+                tail = timer.previous;
+            } else {
+                timer.next.previous = timer.previous;
+            }
+            timer.bucket = null;
+            timer.previous = null;
+            timer.next = null;
+        }
+
+        /**
+         * Empties the bucket and returns the timers it held.
+         */
+        List<Timer<T>> removeAll() {
+            if (head == null) {
+                return Collections.emptyList();
+            }
+
+            List<Timer<T>> timers = new ArrayList<>();
+            Timer<T> current = head;
+            while (current != null) {
+                Timer<T> next = current.next;
+                current.bucket = null;
+                current.previous = null;
+                current.next = null;
+                timers.add(current);
+                current = next;
+            }
+            head = null;
+            tail = null;
+            return timers;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.address.model.history;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@code ReviewLog} that is kept in memory only, for when there is no file to log reviews to.
+ */
+public class InMemoryReviewLog implements ReviewLog {
+
+    private final List<ReviewEvent> events = new ArrayList<>();
+
+    @Override
+    public void append(ReviewEvent event) {
+        requireNonNull(event);
+        if (!events.isEmpty()) {
+            LocalDateTime lastTimestamp = events.get(events.size() - 1).getTimestamp();
+            if (event.getTimestamp().isBefore(lastTimestamp)) {
+                event = event.withTimestamp(lastTimestamp);
+            }
+        }
+        events.add(event);
+    }
+
+    @Override
+    public void flush() {
+        // Nothing to write out.
+    }
+
+    @Override
+    public List<ReviewEvent> read(LocalDateTime from, LocalDateTime to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        int start = firstAtOrAfter(from);
+        int end = Math.max(start, firstAtOrAfter(to));
+        return new ArrayList<>(events.subList(start, end));
+    }
+
+    @Override
+    public long size() {
+        return events.size();
+    }
+
+    private int firstAtOrAfter(LocalDateTime timestamp) {
+        int low = 0;
+        int high = events.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (events.get(middle).getTimestamp().isBefore(timestamp)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
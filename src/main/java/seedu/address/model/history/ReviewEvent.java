@@ -0,0 +1,119 @@
+package seedu.address.model.history;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.card.Card;
+import seedu.address.model.card.Difficulty;
+
+/**
+ * Records that a Card was reviewed: which Card, when, how it was rated and how long it had been scheduled for.
+ * Guarantees: immutable; the timestamp is in whole milliseconds and the previous interval is never negative.
+ */
+public class ReviewEvent {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final long cardId;
+    private final LocalDateTime timestamp;
+    private final Difficulty rating;
+    private final Duration previousInterval;
+
+    /**
+     * Creates a review event. {@code rating} is {@link Difficulty#NEW} for a Card that was solved without being
+     * rated.
+     */
+    public ReviewEvent(long cardId, LocalDateTime timestamp, Difficulty rating, Duration previousInterval) {
+        requireAllNonNull(timestamp, rating, previousInterval);
+        this.cardId = cardId;
+        this.timestamp = timestamp.truncatedTo(ChronoUnit.MILLIS);
+        this.rating = rating;
+        this.previousInterval = previousInterval.isNegative() ? Duration.ZERO : previousInterval;
+    }
+
+    /**
+     * Returns the event of {@code card} being rated {@code rating} at {@code timestamp}.
+     * Must be called before the Card is rescheduled, so that its previous interval can be worked out.
+     */
+    public static ReviewEvent of(Card card, Difficulty rating, LocalDateTime timestamp) {
+        requireAllNonNull(card, rating, timestamp);
+        Duration previousInterval = Duration.between(card.getLastPracticeDate().practiceDate,
+                card.getNextPracticeDate().practiceDate);
+        return new ReviewEvent(idOf(card), timestamp, rating, previousInterval);
+    }
+
+    /**
+     * Returns the id that review events use for {@code card}: a 64-bit FNV-1a hash of its question, which is what
+     * tells Cards apart.
+     */
+    public static long idOf(Card card) {
+        String question = card.getQuestion().question;
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < question.length(); i++) {
+            hash = (hash ^ question.charAt(i)) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    /**
+     * Returns a copy of this event that happened at {@code timestamp} instead.
+     */
+    public ReviewEvent withTimestamp(LocalDateTime timestamp) {
+        return new ReviewEvent(cardId, timestamp, rating, previousInterval);
+    }
+
+    public long getCardId() {
+        return cardId;
+    }
+
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+
+    public Difficulty getRating() {
+        return rating;
+    }
+
+    public Duration getPreviousInterval() {
+        return previousInterval;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ReviewEvent)) {
+            return false;
+        }
+
+        ReviewEvent otherEvent = (ReviewEvent) other;
+        return cardId == otherEvent.cardId
+                && timestamp.equals(otherEvent.timestamp)
+                && rating == otherEvent.rating
+                && previousInterval.equals(otherEvent.previousInterval);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(cardId, timestamp, rating, previousInterval);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("cardId", Long.toHexString(cardId))
+                .add("timestamp", timestamp)
+                .add("rating", rating)
+                .add("previousInterval", previousInterval)
+                .toString();
+    }
+}
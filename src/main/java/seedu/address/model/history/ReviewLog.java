@@ -0,0 +1,35 @@
+package seedu.address.model.history;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * An append-only log of the reviews of the Cards in a Deck.
+ * <p>
+ * Events are expected in order of timestamp. An event timestamped earlier than the last event in the log, e.g. after
+ * the system clock was turned back, is logged at the last event's timestamp instead, so that the log stays sorted
+ * and can be searched by time.
+ */
+public interface ReviewLog {
+
+    /**
+     * Adds {@code event} to the end of the log. The event may be held in memory until the next {@link #flush()}.
+     */
+    void append(ReviewEvent event);
+
+    /**
+     * Writes out the events appended since the last flush, as one batch.
+     */
+    void flush() throws IOException;
+
+    /**
+     * Returns the events timestamped from {@code from} inclusive to {@code to} exclusive, oldest first.
+     */
+    List<ReviewEvent> read(LocalDateTime from, LocalDateTime to) throws IOException;
+
+    /**
+     * Returns the number of events in the log.
+     */
+    long size() throws IOException;
+}
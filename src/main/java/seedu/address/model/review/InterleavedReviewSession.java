@@ -0,0 +1,255 @@
+package seedu.address.model.review;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.stream.Collectors;
+
+import seedu.address.model.Deck;
+import seedu.address.model.card.Card;
+import seedu.address.model.card.CardIndex;
+import seedu.address.model.card.CardOrder;
+import seedu.address.model.card.PracticeDate;
+import seedu.address.model.card.SortedCardIndex;
+
+/**
+ * A session in which the due cards of several Decks are reviewed together, most overdue first, whichever Deck they
+ * are in.
+ * <p>
+ * Each Deck keeps its own queue of cards ordered by next practice date: the open Deck's queue is kept up to date by
+ * the Deck, as in a {@link ReviewSession}, while the queues of Decks that are not open hold the cards that were due
+ * when the session started. The queues are merged on the fly through a heap holding the first card of each, so no
+ * combined list of due cards is ever built. With k Decks, taking the next due card is O(log k) on top of the
+ * O(log n) of updating the queue of the card's Deck.
+ */
+public class InterleavedReviewSession {
+
+    /** Number of reviews of the cards of a Deck that is not open after which the Deck is saved. */
+    public static final int SAVE_BATCH_SIZE = 20;
+
+    private final Deck deck;
+    // Queues whose first card is the next one due in their Deck, ordered by when that card is due
+    private final PriorityQueue<DeckQueue> heads = new PriorityQueue<>(
+            Comparator.comparing((DeckQueue queue) -> queue.headDate.practiceDate)
+                    .thenComparing(queue -> queue.deckName));
+
+    private List<DeckQueue> queues = Collections.emptyList();
+    private DeckQueue openDeckQueue;
+    private boolean isActive;
+    private DeckQueue currentQueue;
+    private Card currentCard;
+    // Time at which the session last moved to the next card
+    private LocalDateTime advancedAt;
+    private int reviewedCount;
+
+    /**
+     * Creates an inactive review session whose open Deck is {@code deck}.
+     */
+    public InterleavedReviewSession(Deck deck) {
+        requireNonNull(deck);
+        this.deck = deck;
+    }
+
+    /**
+     * Starts a new session over the cards of the open Deck, named {@code openDeckName}, and {@code idleDecks}, the
+     * Cards of Decks that are not open by name, and moves to the first card due at {@code now}. Any session in
+     * progress is ended first.
+     */
+    public void start(String openDeckName, Map<String, List<Card>> idleDecks, LocalDateTime now) {
+        requireAllNonNull(openDeckName, idleDecks, now);
+        assert !idleDecks.containsKey(openDeckName) : "The open deck is not idle";
+
+        end();
+        queues = new ArrayList<>();
+        openDeckQueue = new DeckQueue(openDeckName, null);
+        deck.addIndex(openDeckQueue);
+        queues.add(openDeckQueue);
+        idleDecks.forEach((name, cards) -> {
+            DeckQueue queue = new DeckQueue(name, cards);
+            queue.dueQueue.onCardsReset(cards.stream()
+                    .filter(card -> !card.getNextPracticeDate().practiceDate.isAfter(now))
+                    .collect(Collectors.toList()));
+            queues.add(queue);
+        });
+        queues.forEach(this::offer);
+        isActive = true;
+        advance(now);
+    }
+
+    /**
+     * Records the current card as reviewed and moves to the next card due at {@code now}.
+     * The current card should have been rescheduled, through the open Deck if it is one of its cards, before this is
+     * called.
+     */
+    public void next(LocalDateTime now) {
+        requireNonNull(now);
+        assert isActive : "No review session in progress";
+
+        if (currentCard != null && currentQueue != openDeckQueue) {
+            currentQueue.dueQueue.onCardReplaced(currentCard, currentCard);
+        }
+        reviewedCount++;
+        advance(now);
+    }
+
+    /**
+     * Ends the session in progress, if any.
+     */
+    public void end() {
+        if (isActive) {
+            deck.removeIndex(openDeckQueue);
+        }
+        isActive = false;
+        heads.clear();
+        queues = Collections.emptyList();
+        openDeckQueue = null;
+        currentQueue = null;
+        currentCard = null;
+        advancedAt = null;
+        reviewedCount = 0;
+    }
+
+    public boolean isActive() {
+        return isActive;
+    }
+
+    /**
+     * Returns the card being reviewed, or an empty {@code Optional} if no card is due or the session is not active.
+     */
+    public Optional<Card> getCurrentCard() {
+        return Optional.ofNullable(currentCard);
+    }
+
+    /**
+     * Returns the name of the Deck of the card being reviewed.
+     */
+    public String getCurrentDeckName() {
+        assert currentCard != null : "No card is being reviewed";
+        return currentQueue.deckName;
+    }
+
+    /**
+     * Returns true if the card being reviewed is in the open Deck.
+     */
+    public boolean isCurrentCardInOpenDeck() {
+        assert currentCard != null : "No card is being reviewed";
+        return currentQueue == openDeckQueue;
+    }
+
+    /**
+     * Returns the Cards of the Deck of the card being reviewed, which is not open.
+     */
+    public List<Card> getCurrentDeckCards() {
+        assert currentCard != null && currentQueue != openDeckQueue : "No card of an idle deck is being reviewed";
+        return currentQueue.cards;
+    }
+
+    /**
+     * Returns the number of cards due at {@code now} in every Deck, including the card being reviewed.
+     */
+    public int getDueCount(LocalDateTime now) {
+        requireNonNull(now);
+        PracticeDate nowDate = new PracticeDate(now);
+        int dueCount = 0;
+        for (DeckQueue queue : queues) {
+            // Queues are keyed by practice dates as stored, which only differ from the actual ones in the open Deck.
+            dueCount += queue.dueQueue.countAtMost(
+                    queue == openDeckQueue ? deck.getScheduleOffset().toStored(nowDate) : nowDate);
+        }
+        return dueCount;
+    }
+
+    public int getReviewedCount() {
+        return reviewedCount;
+    }
+
+    private void advance(LocalDateTime now) {
+        // Only the queue of the last card reviewed has been reordered by the session, but the open Deck may also
+        // have been changed by other commands.
+        if (currentQueue != null) {
+            reoffer(currentQueue);
+        }
+        reoffer(openDeckQueue);
+
+        advancedAt = now;
+        currentQueue = null;
+        currentCard = null;
+        DeckQueue first = heads.peek();
+        if (first != null && !first.headDate.practiceDate.isAfter(now)) {
+            currentQueue = first;
+            currentCard = first.dueQueue.get(0);
+        }
+    }
+
+    private void reoffer(DeckQueue queue) {
+        heads.remove(queue);
+        offer(queue);
+    }
+
+    /**
+     * Adds {@code queue} to the heap of queues keyed by the actual next practice date of its first card, if any.
+     */
+    private void offer(DeckQueue queue) {
+        if (queue.dueQueue.isEmpty()) {
+            return;
+        }
+        queue.headDate = queue.dueQueue.get(0).getNextPracticeDate();
+        heads.add(queue);
+    }
+
+    /**
+     * The cards of one Deck in order of next practice date. The queue of the open Deck is registered with it.
+     */
+    private class DeckQueue implements CardIndex {
+        private final String deckName;
+        // Cards of the Deck if it is not open, or null for the open Deck
+        private final List<Card> cards;
+        private final SortedCardIndex dueQueue = new SortedCardIndex(CardOrder.DUE);
+        // Next practice date of the first card when the queue was last added to the heap
+        private PracticeDate headDate;
+
+        DeckQueue(String deckName, List<Card> cards) {
+            this.deckName = deckName;
+            this.cards = cards;
+        }
+
+        @Override
+        public void onCardAdded(Card card) {
+            dueQueue.onCardAdded(card);
+        }
+
+        @Override
+        public void onCardRemoved(Card card) {
+            dueQueue.onCardRemoved(card);
+            if (card == currentCard) {
+                advance(advancedAt);
+            }
+        }
+
+        @Override
+        public void onCardReplaced(Card target, Card editedCard) {
+            dueQueue.onCardReplaced(target, editedCard);
+            if (target == currentCard) {
+                currentCard = editedCard;
+            }
+        }
+
+        @Override
+        public void onCardsReset(List<Card> cards) {
+            dueQueue.onCardsReset(cards);
+            // Sorting, rebalancing or shifting the Deck resets it with the same cards, so the session only moves on
+            // from the card being reviewed, to the next one due when it last moved, if it is no longer in the Deck.
+            if (currentQueue == this && cards.stream().noneMatch(card -> card == currentCard)) {
+                advance(advancedAt);
+            }
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package seedu.address.model.review;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import seedu.address.model.Deck;
+import seedu.address.model.card.Card;
+import seedu.address.model.card.CardIndex;
+import seedu.address.model.card.CardOrder;
+import seedu.address.model.card.PracticeDate;
+import seedu.address.model.card.SortedCardIndex;
+import seedu.address.model.scheduling.LeitnerBoxes;
+
+/**
+ * A session in which the due cards of a Deck are reviewed one after another, most overdue first.
+ * <p>
+ * While a session is active it keeps a priority queue of the Deck's cards ordered by next practice date, which the
+ * Deck updates in O(log n) whenever a card is added, removed or rescheduled. Taking the next due card is therefore
+ * O(log n), regardless of the size of the Deck. The prompts of the next few due cards are rendered ahead of time,
+ * so that moving on to the next card does not have to wait for them.
+ * <p>
+ * When cards are scheduled with the Leitner system, due cards are instead taken from the heads of the Deck's
+ * {@link LeitnerBoxes} queues, lowest box first.
+ */
+public class ReviewSession implements CardIndex {
+
+    /** Number of due cards after the current one whose prompts are rendered ahead of time. */
+    public static final int PREFETCH_COUNT = 3;
+
+    private final Deck deck;
+    private final LeitnerBoxes leitnerBoxes;
+    private final SortedCardIndex dueQueue = new SortedCardIndex(CardOrder.DUE);
+    private final Map<Card, String> prompts = new IdentityHashMap<>();
+
+    private Function<Card, String> promptRenderer;
+    private boolean isActive;
+    private boolean usesLeitnerBoxes;
+    private Card currentCard;
+    private int reviewedCount;
+
+    /**
+     * Creates an inactive review session over the cards of {@code deck}, whose Leitner boxes are kept in
+     * {@code leitnerBoxes}.
+     */
+    public ReviewSession(Deck deck, LeitnerBoxes leitnerBoxes) {
+        requireNonNull(deck);
+        requireNonNull(leitnerBoxes);
+        this.deck = deck;
+        this.leitnerBoxes = leitnerBoxes;
+    }
+
+    /**
+     * Sets whether due cards are taken from the Leitner boxes rather than in order of next practice date.
+     * Takes effect from the next card onwards.
+     */
+    public void setUsesLeitnerBoxes(boolean usesLeitnerBoxes) {
+        this.usesLeitnerBoxes = usesLeitnerBoxes;
+    }
+
+    /**
+     * Starts a new session, rendering card prompts with {@code promptRenderer}, and moves to the first card due
+     * at {@code now}. Any session in progress is ended first.
+     */
+    public void start(Function<Card, String> promptRenderer, LocalDateTime now) {
+        requireNonNull(promptRenderer);
+        requireNonNull(now);
+
+        end();
+        this.promptRenderer = promptRenderer;
+        deck.addIndex(this);
+        isActive = true;
+        advance(now);
+    }
+
+    /**
+     * Records the current card as reviewed and moves to the next card due at {@code now}.
+     * The current card should have been rescheduled through the Deck before this is called.
+     */
+    public void next(LocalDateTime now) {
+        requireNonNull(now);
+        assert isActive : "No review session in progress";
+
+        prompts.remove(currentCard);
+        reviewedCount++;
+        advance(now);
+    }
+
+    /**
+     * Ends the session in progress, if any.
+     */
+    public void end() {
+        if (isActive) {
+            deck.removeIndex(this);
+            dueQueue.onCardsReset(Collections.emptyList());
+        }
+        isActive = false;
+        currentCard = null;
+        reviewedCount = 0;
+        prompts.clear();
+    }
+
+    public boolean isActive() {
+        return isActive;
+    }
+
+    /**
+     * Returns the card being reviewed, or an empty {@code Optional} if no card is due or the session is not active.
+     */
+    public Optional<Card> getCurrentCard() {
+        return Optional.ofNullable(currentCard);
+    }
+
+    /**
+     * Returns the rendered prompt of the card being reviewed.
+     */
+    public String getCurrentPrompt() {
+        assert currentCard != null : "No card is being reviewed";
+        return prompts.computeIfAbsent(currentCard, promptRenderer);
+    }
+
+    /**
+     * Returns the number of cards due at {@code now}, including the card being reviewed.
+     */
+    public int getDueCount(LocalDateTime now) {
+        requireNonNull(now);
+        if (usesLeitnerBoxes) {
+            return leitnerBoxes.getDueCount(now);
+        }
+        // The due queue is keyed by practice dates as stored, before the Deck's schedule offset is added.
+        return dueQueue.countAtMost(deck.getScheduleOffset().toStored(new PracticeDate(now)));
+    }
+
+    public int getReviewedCount() {
+        return reviewedCount;
+    }
+
+    private void advance(LocalDateTime now) {
+        currentCard = null;
+        if (usesLeitnerBoxes) {
+            List<Card> dueCards = leitnerBoxes.getDueCards(now, PREFETCH_COUNT + 1);
+            if (!dueCards.isEmpty()) {
+                currentCard = dueCards.get(0);
+                prefetch(dueCards.subList(1, dueCards.size()));
+            }
+            return;
+        }
+
+        if (dueQueue.isEmpty()) {
+            return;
+        }
+
+        Card nextCard = dueQueue.get(0);
+        if (!nextCard.getNextPracticeDate().practiceDate.isAfter(now)) {
+            currentCard = nextCard;
+            prefetch(dueQueue.subList(1, Math.min(dueQueue.size(), PREFETCH_COUNT + 1)));
+        }
+    }
+
+    /**
+     * Renders the prompts of {@code cards}, the cards due after the current one.
+     */
+    private void prefetch(List<Card> cards) {
+        cards.forEach(card -> prompts.computeIfAbsent(card, promptRenderer));
+    }
+
+    @Override
+    public void onCardAdded(Card card) {
+        dueQueue.onCardAdded(card);
+    }
+
+    @Override
+    public void onCardRemoved(Card card) {
+        dueQueue.onCardRemoved(card);
+        prompts.remove(card);
+        if (card == currentCard) {
+            currentCard = null;
+        }
+    }
+
+    @Override
+    public void onCardReplaced(Card target, Card editedCard) {
+        dueQueue.onCardReplaced(target, editedCard);
+        prompts.remove(target);
+        if (target == currentCard) {
+            currentCard = editedCard;
+        }
+    }
+
+    @Override
+    public void onCardsReset(List<Card> cards) {
+        dueQueue.onCardsReset(cards);
+        prompts.clear();
+        // Sorting, rebalancing or shifting the Deck resets it with the same cards, so the card being reviewed is
+        // only dropped if it is no longer in the Deck.
+        if (currentCard != null && cards.stream().noneMatch(card -> card == currentCard)) {
+            currentCard = null;
+        }
+    }
+}
@@ -0,0 +1,444 @@
+package seedu.address.model.sampling;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.Random;
+import java.util.Set;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.card.Card;
+import seedu.address.model.card.Difficulty;
+
+/**
+ * Picks random cards from a list of cards, such as the filtered card list.
+ * <p>
+ * Besides picking uniformly, the sampler can pick cards weighted by how overdue and how difficult they are, or draw
+ * from a shuffle bag so that no card is picked twice until every card has been picked. Both modes use a balanced
+ * tree over the positions of the list that stores the total weight and the number of undrawn cards of each
+ * subtree. The tree is built the first time it is needed and from then on follows the changes to the list, so
+ * picking a card and reacting to a changed card both take O(log n) time.
+ */
+public class CardSampler {
+
+    /**
+     * The ways in which a card can be picked.
+     */
+    public enum Mode {
+        /** Every card is equally likely. */
+        UNIFORM,
+        /** Overdue and difficult cards are more likely, and the previously picked card is never picked again. */
+        WEIGHTED,
+        /** Every card is picked once, in random order, before any card is picked again. */
+        SHUFFLE_BAG
+    }
+
+    /** Every this many days a card is overdue doubles its weight. */
+    private static final double DOUBLING_DAYS = 7;
+    /** How overdue, or how far from due, a card can count as. */
+    private static final double MAX_OVERDUE_DAYS = 56;
+    /** How long weights computed for one point in time are reused before they are recomputed. */
+    private static final Duration WEIGHT_LIFETIME = Duration.ofDays(1);
+    private static final double MINUTES_PER_DAY = 24 * 60;
+
+    private final ObservableList<Card> cards;
+    private final Random random;
+    private final Map<Card, Node> nodes = new IdentityHashMap<>();
+    private final Set<Card> drawnCards = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private Node root;
+    private boolean isBuilt;
+    private LocalDateTime weightTime;
+    private Card lastPicked;
+
+    /**
+     * Creates a sampler that picks from {@code cards}.
+     */
+    public CardSampler(ObservableList<Card> cards) {
+        this(cards, new Random());
+    }
+
+    /**
+     * Creates a sampler that picks from {@code cards} using {@code random}.
+     */
+    public CardSampler(ObservableList<Card> cards, Random random) {
+        requireNonNull(cards);
+        requireNonNull(random);
+
+        this.cards = cards;
+        this.random = random;
+        cards.addListener(this::onChanged);
+    }
+
+    /**
+     * Picks a card in the given {@code mode}, with overdueness measured at {@code now}.
+     * Returns the position of the card in the list, or an empty {@code OptionalInt} if the list is empty.
+     */
+    public OptionalInt pick(Mode mode, LocalDateTime now) {
+        requireNonNull(mode);
+        requireNonNull(now);
+
+        if (cards.isEmpty()) {
+            return OptionalInt.empty();
+        }
+
+        int index;
+        switch (mode) {
+        case WEIGHTED:
+            ensureBuilt(now);
+            index = pickWeighted();
+            break;
+        case SHUFFLE_BAG:
+            ensureBuilt(now);
+            index = pickFromBag();
+            break;
+        case UNIFORM:
+        default:
+            index = random.nextInt(cards.size());
+            break;
+        }
+
+        lastPicked = cards.get(index);
+        return OptionalInt.of(index);
+    }
+
+    /**
+     * Returns the number of cards in the list drawn from the shuffle bag since it was last refilled.
+     */
+    int getDrawnCount() {
+        return drawnCards.size();
+    }
+
+    /**
+     * Puts every card back into the shuffle bag.
+     */
+    public void refillBag() {
+        drawnCards.clear();
+        if (isBuilt) {
+            nodes.values().forEach(node -> node.isUndrawn = true);
+            updateSubtree(root);
+        }
+    }
+
+    private int pickWeighted() {
+        Node excluded = cards.size() > 1 ? nodes.get(lastPicked) : null;
+        double excludedWeight = 0;
+        if (excluded != null) {
+            excludedWeight = excluded.weight;
+            setWeight(excluded, 0);
+        }
+
+        Node node;
+        do {
+            node = findByWeight(random.nextDouble() * root.weightSum);
+        } while (node == excluded);
+
+        if (excluded != null) {
+            setWeight(excluded, excludedWeight);
+        }
+        return positionOf(node);
+    }
+
+    private int pickFromBag() {
+        if (root.undrawnCount == 0) {
+            refillBag();
+        }
+
+        Node node = findUndrawn(random.nextInt(root.undrawnCount));
+        if (node.card == lastPicked && root.undrawnCount > 1) {
+            // Avoid picking the same card twice in a row, e.g. right after a refill; it stays in the bag for later.
+            int rank = random.nextInt(root.undrawnCount - 1);
+            Node skipped = node;
+            setUndrawn(skipped, false);
+            node = findUndrawn(rank);
+            setUndrawn(skipped, true);
+        }
+
+        drawnCards.add(node.card);
+        setUndrawn(node, false);
+        return positionOf(node);
+    }
+
+    //=========== Maintaining the tree =================================================================
+
+    private void ensureBuilt(LocalDateTime now) {
+        if (isBuilt && !now.isAfter(weightTime.plus(WEIGHT_LIFETIME))) {
+            return;
+        }
+
+        weightTime = now;
+        nodes.clear();
+        root = build(cards, 0, cards.size());
+        if (root != null) {
+            root.parent = null;
+        }
+        // Cards removed from the list while the tree was not kept up to date are no longer drawn.
+        drawnCards.retainAll(nodes.keySet());
+        isBuilt = true;
+    }
+
+    private void onChanged(ListChangeListener.Change<? extends Card> change) {
+        if (!isBuilt) {
+            return;
+        }
+
+        while (change.next()) {
+            if (change.wasPermutated() || change.getRemovedSize() + change.getAddedSize() > cards.size() / 2 + 1) {
+                // Cheaper to rebuild from scratch the next time a card is picked.
+                isBuilt = false;
+                nodes.clear();
+                root = null;
+                return;
+            }
+
+            if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    removeAt(i);
+                    insertAt(i, cards.get(i));
+                }
+                continue;
+            }
+            for (int i = 0; i < change.getRemovedSize(); i++) {
+                removeAt(change.getFrom());
+            }
+            for (int i = change.getFrom(); i < change.getTo(); i++) {
+                insertAt(i, cards.get(i));
+            }
+            // A card put back in its place, as when it is replaced by itself, stays drawn.
+            for (Card removed : change.getRemoved()) {
+                if (!nodes.containsKey(removed)) {
+                    drawnCards.remove(removed);
+                }
+            }
+        }
+    }
+
+    private void insertAt(int index, Card card) {
+        Node node = newNode(card);
+        Node[] parts = split(root, index);
+        root = merge(merge(parts[0], node), parts[1]);
+        root.parent = null;
+    }
+
+    private void removeAt(int index) {
+        Node[] parts = split(root, index);
+        Node[] rest = split(parts[1], 1);
+        nodes.remove(rest[0].card);
+        root = merge(parts[0], rest[1]);
+        if (root != null) {
+            root.parent = null;
+        }
+    }
+
+    private Node build(List<? extends Card> cards, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+
+        int middle = (from + to) >>> 1;
+        Node node = newNode(cards.get(middle));
+        node.left = build(cards, from, middle);
+        node.right = build(cards, middle + 1, to);
+        node.update();
+        return node;
+    }
+
+    private Node newNode(Card card) {
+        Node node = new Node(card, weightOf(card), !drawnCards.contains(card));
+        nodes.put(card, node);
+        return node;
+    }
+
+    /**
+     * Splits {@code tree} into its first {@code count} nodes and the rest.
+     */
+    private Node[] split(Node tree, int count) {
+        if (tree == null) {
+            return new Node[] {null, null};
+        }
+
+        int leftSize = sizeOf(tree.left);
+        if (count <= leftSize) {
+            Node[] parts = split(tree.left, count);
+            tree.left = parts[1];
+            tree.update();
+            parts[1] = tree;
+            return parts;
+        } else {
+            Node[] parts = split(tree.right, count - leftSize - 1);
+            tree.right = parts[0];
+            tree.update();
+            parts[0] = tree;
+            return parts;
+        }
+    }
+
+    /**
+     * Joins two trees, choosing the root with probability proportional to size to keep the tree balanced.
+     */
+    private Node merge(Node first, Node second) {
+        if (first == null) {
+            return second;
+        }
+        if (second == null) {
+            return first;
+        }
+
+        if (random.nextInt(first.size + second.size) < first.size) {
+            first.right = merge(first.right, second);
+            first.update();
+            return first;
+        } else {
+            second.left = merge(first, second.left);
+            second.update();
+            return second;
+        }
+    }
+
+    //=========== Queries ==============================================================================
+
+    private Node findByWeight(double target) {
+        Node current = root;
+        while (true) {
+            double leftWeight = weightSumOf(current.left);
+            if (target < leftWeight && current.left != null) {
+                current = current.left;
+            } else if (target < leftWeight + current.weight || current.right == null) {
+                return current;
+            } else {
+                target -= leftWeight + current.weight;
+                current = current.right;
+            }
+        }
+    }
+
+    private Node findUndrawn(int rank) {
+        Node current = root;
+        while (true) {
+            int leftCount = undrawnCountOf(current.left);
+            int ownCount = current.isUndrawn ? 1 : 0;
+            if (rank < leftCount) {
+                current = current.left;
+            } else if (rank < leftCount + ownCount) {
+                return current;
+            } else {
+                rank -= leftCount + ownCount;
+                current = current.right;
+            }
+        }
+    }
+
+    private int positionOf(Node node) {
+        int position = sizeOf(node.left);
+        while (node.parent != null) {
+            if (node == node.parent.right) {
+                position += sizeOf(node.parent.left) + 1;
+            }
+            node = node.parent;
+        }
+        return position;
+    }
+
+    private void setWeight(Node node, double weight) {
+        node.weight = weight;
+        updateAncestors(node);
+    }
+
+    private void setUndrawn(Node node, boolean isUndrawn) {
+        node.isUndrawn = isUndrawn;
+        updateAncestors(node);
+    }
+
+    private void updateSubtree(Node node) {
+        if (node != null) {
+            updateSubtree(node.left);
+            updateSubtree(node.right);
+            node.update();
+        }
+    }
+
+    private void updateAncestors(Node node) {
+        for (Node current = node; current != null; current = current.parent) {
+            current.update();
+        }
+    }
+
+    /**
+     * Returns the weight of {@code card}, which grows with how overdue the card is at {@code weightTime} and with
+     * its difficulty.
+     */
+    private double weightOf(Card card) {
+        double overdueDays = ChronoUnit.MINUTES.between(card.getNextPracticeDate().practiceDate, weightTime)
+                / MINUTES_PER_DAY;
+        overdueDays = Math.max(-MAX_OVERDUE_DAYS, Math.min(MAX_OVERDUE_DAYS, overdueDays));
+        return difficultyFactorOf(card) * Math.pow(2, overdueDays / DOUBLING_DAYS);
+    }
+
+    private static double difficultyFactorOf(Card card) {
+        switch (Difficulty.valueOf(card.getDifficulty())) {
+        case HARD:
+            return 3;
+        case MEDIUM:
+            return 2;
+        case EASY:
+            return 1;
+        case NEW:
+        default:
+            return 2;
+        }
+    }
+
+    private static int sizeOf(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static double weightSumOf(Node node) {
+        return node == null ? 0 : node.weightSum;
+    }
+
+    private static int undrawnCountOf(Node node) {
+        return node == null ? 0 : node.undrawnCount;
+    }
+
+    /**
+     * A card in the tree, with totals over its subtree.
+     */
+    private static class Node {
+        private final Card card;
+        private double weight;
+        private boolean isUndrawn;
+        private Node left;
+        private Node right;
+        private Node parent;
+        private int size;
+        private double weightSum;
+        private int undrawnCount;
+
+        Node(Card card, double weight, boolean isUndrawn) {
+            this.card = card;
+            this.weight = weight;
+            this.isUndrawn = isUndrawn;
+            update();
+        }
+
+        void update() {
+            size = sizeOf(left) + sizeOf(right) + 1;
+            weightSum = weightSumOf(left) + weightSumOf(right) + weight;
+            undrawnCount = undrawnCountOf(left) + undrawnCountOf(right) + (isUndrawn ? 1 : 0);
+            if (left != null) {
+                left.parent = this;
+            }
+            if (right != null) {
+                right.parent = this;
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.address.model.scheduling;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Duration;
+
+import seedu.address.model.card.Difficulty;
+
+/**
+ * Schedules cards in the style of the Free Spaced Repetition Scheduler.
+ * <p>
+ * Each card's memory stability is taken to be its previous interval, since cards are practised when they are due
+ * and intervals target 90% recall. A review grows stability by a factor that is larger for easy cards and for
+ * cards with low stability, using FSRS's default weights, and the next interval equals the new stability.
+ * Card difficulty is estimated from the rating of each review rather than stored.
+ */
+public class FsrsScheduler implements Scheduler {
+
+    private static final double SECONDS_PER_DAY = 24 * 60 * 60;
+    private static final double TARGET_RETENTION = 0.9;
+
+    // Default FSRS weights
+    private static final double STABILITY_GROWTH = 1.49;
+    private static final double STABILITY_DECAY = 0.14;
+    private static final double RETRIEVABILITY_GROWTH = 0.94;
+    private static final double HARD_PENALTY = 0.29;
+    private static final double EASY_BONUS = 2.61;
+
+    @Override
+    public Duration nextInterval(Duration previousInterval, Difficulty difficulty) {
+        requireAllNonNull(previousInterval, difficulty);
+
+        double initialStability = initialStabilityOf(difficulty);
+        if (previousInterval.isNegative() || previousInterval.isZero()) {
+            return toDuration(initialStability);
+        }
+
+        double stability = Math.max(previousInterval.getSeconds() / SECONDS_PER_DAY, initialStability);
+        double growth = Math.exp(STABILITY_GROWTH) * (11 - difficultyOf(difficulty))
+                * Math.pow(stability, -STABILITY_DECAY)
+                * (Math.exp(RETRIEVABILITY_GROWTH * (1 - TARGET_RETENTION)) - 1)
+                * ratingFactorOf(difficulty);
+        return toDuration(stability * (1 + growth));
+    }
+
+    /**
+     * Returns the stability, in days, of a card after its first review.
+     */
+    private static double initialStabilityOf(Difficulty difficulty) {
+        switch (difficulty) {
+        case EASY:
+            return 5.8;
+        case MEDIUM:
+            return 2.4;
+        case HARD:
+        default:
+            return 0.6;
+        }
+    }
+
+    /**
+     * Returns the FSRS difficulty, from 1 to 10, of a card rated {@code difficulty}.
+     */
+    private static double difficultyOf(Difficulty difficulty) {
+        switch (difficulty) {
+        case EASY:
+            return 3.99;
+        case MEDIUM:
+            return 4.93;
+        case HARD:
+        default:
+            return 5.87;
+        }
+    }
+
+    private static double ratingFactorOf(Difficulty difficulty) {
+        switch (difficulty) {
+        case EASY:
+            return EASY_BONUS;
+        case HARD:
+            return HARD_PENALTY;
+        case MEDIUM:
+        default:
+            return 1;
+        }
+    }
+
+    private static Duration toDuration(double days) {
+        return Duration.ofSeconds((long) Math.min(days * SECONDS_PER_DAY, MAX_INTERVAL.getSeconds()));
+    }
+}
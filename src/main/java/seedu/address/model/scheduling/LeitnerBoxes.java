@@ -0,0 +1,234 @@
+package seedu.address.model.scheduling;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.card.Card;
+import seedu.address.model.card.CardIndex;
+import seedu.address.model.card.LeitnerBox;
+
+/**
+ * Keeps the Cards of a Deck in one queue per Leitner box, each in order of next practice date.
+ * <p>
+ * A card leaves its old queue in O(1) time when it is rated, and joins its new box's queue at the back. Under the
+ * {@link LeitnerScheduler}, a card rated later is due later than every card already in its new box, so joining
+ * the queue is O(1) too; a card that is due earlier, such as a newly added card, is put in place by searching from
+ * both ends of the queue at once. A card that is edited without changing when it is due keeps its place in O(1)
+ * time. The due cards of each box are therefore found at the front of its queue, and
+ * finding the cards due for review only walks over the due cards at the head of each queue rather than over the
+ * whole Deck.
+ */
+public class LeitnerBoxes implements CardIndex {
+
+    private final List<Queue> queues = new ArrayList<>(LeitnerBox.COUNT);
+    private final Map<Card, Entry> entries = new IdentityHashMap<>();
+
+    /**
+     * Creates empty queues for every Leitner box.
+     */
+    public LeitnerBoxes() {
+        for (int i = 0; i < LeitnerBox.COUNT; i++) {
+            queues.add(new Queue());
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} cards due at {@code now}, taking cards from lower boxes first and, within a box,
+     * the cards that have waited longest first.
+     */
+    public List<Card> getDueCards(LocalDateTime now, int limit) {
+        requireNonNull(now);
+
+        List<Card> dueCards = new ArrayList<>();
+        for (Queue queue : queues) {
+            for (Entry entry = queue.head; entry != null && dueCards.size() < limit && isDue(entry.card, now);
+                    entry = entry.next) {
+                dueCards.add(entry.card);
+            }
+        }
+        return dueCards;
+    }
+
+    /**
+     * Returns the number of cards due at {@code now}.
+     */
+    public int getDueCount(LocalDateTime now) {
+        return getDueCards(now, Integer.MAX_VALUE).size();
+    }
+
+    /**
+     * Returns the number of cards in {@code leitnerBox}.
+     */
+    public int size(LeitnerBox leitnerBox) {
+        requireNonNull(leitnerBox);
+        return queueOf(leitnerBox).size;
+    }
+
+    @Override
+    public void onCardAdded(Card card) {
+        requireNonNull(card);
+        assert !entries.containsKey(card) : "Card is already in a box";
+
+        Entry entry = new Entry(card);
+        entries.put(card, entry);
+        queueOf(card.getLeitnerBox()).insert(entry);
+    }
+
+    @Override
+    public void onCardRemoved(Card card) {
+        requireNonNull(card);
+        Entry entry = entries.remove(card);
+        assert entry != null : "Card is not in a box";
+
+        entry.queue.unlink(entry);
+    }
+
+    @Override
+    public void onCardReplaced(Card target, Card editedCard) {
+        requireAllNonNull(target, editedCard);
+        Entry entry = entries.get(target);
+        assert entry != null : "Card is not in a box";
+
+        if (entry.queue != queueOf(editedCard.getLeitnerBox()) || !fitsBetween(editedCard, entry)) {
+            CardIndex.super.onCardReplaced(target, editedCard);
+            return;
+        }
+        // The edited card belongs where the target was, so it takes over the target's entry.
+        entries.remove(target);
+        entry.card = editedCard;
+        entries.put(editedCard, entry);
+    }
+
+    @Override
+    public void onCardsReset(List<Card> cards) {
+        requireNonNull(cards);
+
+        entries.clear();
+        queues.forEach(Queue::clear);
+        // The cards come in order of next practice date, which keeps every queue in that order too.
+        cards.forEach(this::onCardAdded);
+    }
+
+    private Queue queueOf(LeitnerBox leitnerBox) {
+        return queues.get(leitnerBox.box - 1);
+    }
+
+    private static boolean isDue(Card card, LocalDateTime now) {
+        return !card.getNextPracticeDate().practiceDate.isAfter(now);
+    }
+
+    private static boolean isDueBefore(Entry entry, Entry other) {
+        return isDueBefore(entry.card, other.card);
+    }
+
+    private static boolean isDueBefore(Card card, Card other) {
+        return card.getNextPracticeDate().compareTo(other.getNextPracticeDate()) < 0;
+    }
+
+    /**
+     * Returns true if {@code card} is due no earlier than the entry before {@code entry} and no later than the entry
+     * after it, so that it can take the place of {@code entry} without putting its queue out of order.
+     */
+    private static boolean fitsBetween(Card card, Entry entry) {
+        return (entry.previous == null || !isDueBefore(card, entry.previous.card))
+                && (entry.next == null || !isDueBefore(entry.next.card, card));
+    }
+
+    /**
+     * A card in the queue of a box.
+     */
+    private static class Entry {
+        private Card card;
+        private Queue queue;
+        private Entry previous;
+        private Entry next;
+
+        Entry(Card card) {
+            this.card = card;
+        }
+    }
+
+    /**
+     * A doubly linked queue of the cards in one box.
+     */
+    private static class Queue {
+        private Entry head;
+        private Entry tail;
+        private int size;
+
+        /**
+         * Inserts {@code entry} after the last entry that is not due later than it.
+         */
+        void insert(Entry entry) {
+            if (tail == null || !isDueBefore(entry, tail)) {
+                linkAfter(entry, tail);
+                return;
+            }
+
+            // Search from both ends at once, so the cost is bounded by the distance to the nearer end.
+            Entry fromHead = head;
+            Entry fromTail = tail;
+            while (true) {
+                if (isDueBefore(entry, fromHead)) {
+                    linkAfter(entry, fromHead.previous);
+                    return;
+                }
+                if (!isDueBefore(entry, fromTail.previous)) {
+                    linkAfter(entry, fromTail.previous);
+                    return;
+                }
+                fromHead = fromHead.next;
+                fromTail = fromTail.previous;
+            }
+        }
+
+        /**
+         * Links {@code entry} into the queue right after {@code previous}, or at the front if it is null.
+         */
+        private void linkAfter(Entry entry, Entry previous) {
+            entry.queue = this;
+            entry.previous = previous;
+            entry.next = previous == null ? head : previous.next;
+            if (previous == null) {
+                head = entry;
+            } else {
+                previous.next = entry;
+            }
+            if (entry.next == null) {
+                tail = entry;
+            } else {
+                entry.next.previous = entry;
+            }
+            size++;
+        }
+
+        void unlink(Entry entry) {
+            if (entry.previous == null) {
+                head = entry.next;
+            } else {
+                entry.previous.next = entry.next;
+            }
+            if (entry.next == null) {
+                tail = entry.previous;
+            } else {
+                entry.next.previous = entry.previous;
+            }
+            entry.queue = null;
+            entry.previous = null;
+            entry.next = null;
+            size--;
+        }
+
+        void clear() {
+            head = null;
+            tail = null;
+            size = 0;
+        }
+    }
+}
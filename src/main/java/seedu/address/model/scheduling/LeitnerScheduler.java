@@ -0,0 +1,83 @@
+package seedu.address.model.scheduling;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import seedu.address.model.card.Card;
+import seedu.address.model.card.Difficulty;
+import seedu.address.model.card.LeitnerBox;
+import seedu.address.model.card.PracticeDate;
+
+/**
+ * Schedules cards with the Leitner system: a card is next practised a fixed interval after it is reviewed, set by
+ * the Leitner box it is in, from one day for the first box to doubling with each box after that.
+ * <p>
+ * Intervals are measured from the moment a card is reviewed rather than from when it was due, so cards that move
+ * into a box later are also due later. This keeps each box's queue of cards in order of next practice date, which
+ * {@link LeitnerBoxes} relies on.
+ */
+public class LeitnerScheduler implements Scheduler {
+
+    private static final Duration FIRST_BOX_INTERVAL = Duration.ofDays(1);
+
+    private final Clock clock;
+
+    /**
+     * Creates a scheduler that measures intervals from the current time.
+     */
+    public LeitnerScheduler() {
+        this(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a scheduler that measures intervals from the time given by {@code clock}.
+     */
+    public LeitnerScheduler(Clock clock) {
+        requireNonNull(clock);
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the time between practices of a card in {@code leitnerBox}.
+     */
+    public static Duration intervalOf(LeitnerBox leitnerBox) {
+        return FIRST_BOX_INTERVAL.multipliedBy(1L << (leitnerBox.box - 1));
+    }
+
+    /**
+     * {@inheritDoc}
+     * The card's box is taken to be the highest box whose interval fits in {@code previousInterval}.
+     */
+    @Override
+    public Duration nextInterval(Duration previousInterval, Difficulty difficulty) {
+        requireAllNonNull(previousInterval, difficulty);
+
+        LeitnerBox box = LeitnerBox.FIRST;
+        while (box.box < LeitnerBox.COUNT && intervalOf(new LeitnerBox(box.box + 1)).compareTo(previousInterval) <= 0) {
+            box = new LeitnerBox(box.box + 1);
+        }
+        return intervalOf(box.after(difficulty));
+    }
+
+    @Override
+    public PracticeDate nextPracticeDate(Card card, Difficulty difficulty) {
+        requireAllNonNull(card, difficulty);
+        return new PracticeDate(LocalDateTime.now(clock).plus(intervalOf(card.getLeitnerBox())));
+    }
+
+    @Override
+    public PracticeDate reschedule(Card card, Scheduler previous) {
+        requireAllNonNull(card, previous);
+
+        PracticeDate lastPracticeDate = card.getLastPracticeDate();
+        if (card.getDifficulty().equals(Difficulty.NEW.toString())
+                || lastPracticeDate.equals(card.getNextPracticeDate())) {
+            return card.getNextPracticeDate();
+        }
+        return new PracticeDate(lastPracticeDate.practiceDate.plus(intervalOf(card.getLeitnerBox())));
+    }
+}
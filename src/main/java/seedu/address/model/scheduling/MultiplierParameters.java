@@ -0,0 +1,123 @@
+package seedu.address.model.scheduling;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.card.Difficulty;
+
+/**
+ * The factors that the {@link MultiplierScheduler} grows intervals by, and the interval it starts new cards from.
+ * Guarantees: immutable; every parameter is positive.
+ */
+public class MultiplierParameters {
+
+    public static final String MESSAGE_CONSTRAINTS = "Multipliers and the first interval should be positive numbers";
+
+    /** lesSON's original parameters. */
+    public static final MultiplierParameters DEFAULT = new MultiplierParameters();
+
+    private final double easyMultiplier;
+    private final double mediumMultiplier;
+    private final double hardMultiplier;
+    private final double firstIntervalHours;
+
+    /**
+     * Constructs lesSON's original parameters.
+     */
+    public MultiplierParameters() {
+        easyMultiplier = 3;
+        mediumMultiplier = 1.5;
+        hardMultiplier = 0.5;
+        firstIntervalHours = 4;
+    }
+
+    /**
+     * Constructs parameters that multiply intervals by {@code easyMultiplier}, {@code mediumMultiplier} and
+     * {@code hardMultiplier} for each rating, and start new cards from {@code firstIntervalHours} hours.
+     */
+    public MultiplierParameters(double easyMultiplier, double mediumMultiplier, double hardMultiplier,
+            double firstIntervalHours) {
+        checkArgument(isValidParameters(easyMultiplier, mediumMultiplier, hardMultiplier, firstIntervalHours),
+                MESSAGE_CONSTRAINTS);
+        this.easyMultiplier = easyMultiplier;
+        this.mediumMultiplier = mediumMultiplier;
+        this.hardMultiplier = hardMultiplier;
+        this.firstIntervalHours = firstIntervalHours;
+    }
+
+    /**
+     * Returns true if every one of {@code parameters} is a positive number.
+     */
+    public static boolean isValidParameters(double... parameters) {
+        for (double parameter : parameters) {
+            if (!(parameter > 0) || Double.isInfinite(parameter)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if these parameters are valid. Parameters read from a file are not checked as they are read.
+     */
+    public boolean isValid() {
+        return isValidParameters(easyMultiplier, mediumMultiplier, hardMultiplier, firstIntervalHours);
+    }
+
+    /**
+     * Returns the factor that the interval of a card rated {@code difficulty} is multiplied by.
+     * Cards that have not been rated are treated as hard.
+     */
+    public double getMultiplier(Difficulty difficulty) {
+        requireNonNull(difficulty);
+        switch (difficulty) {
+        case EASY:
+            return easyMultiplier;
+        case MEDIUM:
+            return mediumMultiplier;
+        case HARD:
+        default:
+            return hardMultiplier;
+        }
+    }
+
+    public double getFirstIntervalHours() {
+        return firstIntervalHours;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof MultiplierParameters)) {
+            return false;
+        }
+
+        MultiplierParameters otherParameters = (MultiplierParameters) other;
+        return easyMultiplier == otherParameters.easyMultiplier
+                && mediumMultiplier == otherParameters.mediumMultiplier
+                && hardMultiplier == otherParameters.hardMultiplier
+                && firstIntervalHours == otherParameters.firstIntervalHours;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(easyMultiplier, mediumMultiplier, hardMultiplier, firstIntervalHours);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("easyMultiplier", easyMultiplier)
+                .add("mediumMultiplier", mediumMultiplier)
+                .add("hardMultiplier", hardMultiplier)
+                .add("firstIntervalHours", firstIntervalHours)
+                .toString();
+    }
+}
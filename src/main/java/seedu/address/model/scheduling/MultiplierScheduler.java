@@ -0,0 +1,64 @@
+package seedu.address.model.scheduling;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Duration;
+
+import seedu.address.model.card.Difficulty;
+
+/**
+ * Schedules cards by multiplying the previous interval by a fixed factor for each difficulty.
+ * This is lesSON's original scheduling algorithm.
+ */
+public class MultiplierScheduler implements Scheduler {
+
+    private static final double SECONDS_PER_HOUR = 60 * 60;
+
+    private final MultiplierParameters parameters;
+
+    /**
+     * Creates a scheduler with lesSON's original multipliers.
+     */
+    public MultiplierScheduler() {
+        this(MultiplierParameters.DEFAULT);
+    }
+
+    /**
+     * Creates a scheduler that multiplies intervals as given by {@code parameters}.
+     */
+    public MultiplierScheduler(MultiplierParameters parameters) {
+        requireNonNull(parameters);
+        this.parameters = parameters;
+    }
+
+    public MultiplierParameters getParameters() {
+        return parameters;
+    }
+
+    @Override
+    public Duration nextInterval(Duration previousInterval, Difficulty difficulty) {
+        requireAllNonNull(previousInterval, difficulty);
+
+        double multiplier = parameters.getMultiplier(difficulty);
+        if (previousInterval.isZero()) {
+            // base duration for when duration cannot be calculated
+            return toDuration(parameters.getFirstIntervalHours() * SECONDS_PER_HOUR * multiplier);
+        }
+        return toDuration(previousInterval.getSeconds() * multiplier);
+    }
+
+    @Override
+    public Duration previousIntervalFor(Duration interval, Difficulty difficulty) {
+        requireAllNonNull(interval, difficulty);
+
+        if (interval.equals(nextInterval(Duration.ZERO, difficulty))) {
+            return Duration.ZERO;
+        }
+        return Duration.ofSeconds(Math.round(interval.getSeconds() / parameters.getMultiplier(difficulty)));
+    }
+
+    private static Duration toDuration(double seconds) {
+        return Duration.ofSeconds((long) Math.min(seconds, MAX_INTERVAL.getSeconds()));
+    }
+}
@@ -0,0 +1,143 @@
+package seedu.address.model.scheduling;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.card.Card;
+import seedu.address.model.card.Difficulty;
+import seedu.address.model.card.PracticeDate;
+
+/**
+ * Spreads the overdue cards of a Deck over the next few days, so that they do not all have to be practised at once.
+ * <p>
+ * The number of cards already due on each of the days is counted in a single pass. The overdue cards are then
+ * ranked, hardest and most overdue first, and handed out in that order to the days that are below the target daily
+ * load, starting with today. Planning takes O(n + k log k) time for a Deck of n cards of which k are overdue.
+ */
+public class OverdueRebalancer {
+
+    /** Largest number of days the overdue cards can be spread over. */
+    public static final int MAX_DAYS = 365;
+
+    /** Daily load to use when the overdue cards should be spread as evenly as possible. */
+    public static final int EVEN_LOAD = 0;
+
+    private static final Comparator<OverdueCard> PRIORITY = Comparator.<OverdueCard>comparingInt(card -> card.rank)
+            .thenComparingLong(card -> card.dueSecond);
+
+    private final int days;
+    private final int dailyLoad;
+
+    /**
+     * Creates a rebalancer that spreads overdue cards over {@code days} days, today included, so that each day has
+     * at most {@code dailyLoad} cards due where possible. A {@code dailyLoad} of {@link #EVEN_LOAD} evens out the
+     * number of cards due on each day.
+     */
+    public OverdueRebalancer(int days, int dailyLoad) {
+        assert days > 0 && days <= MAX_DAYS : "Invalid number of days to spread over";
+        assert dailyLoad >= 0 : "Invalid daily load";
+        this.days = days;
+        this.dailyLoad = dailyLoad;
+    }
+
+    /**
+     * Returns the new next practice date of every card in {@code cards} that is overdue at {@code now} and should
+     * be practised on a later day. Overdue cards left out of the returned map stay due today.
+     */
+    public Map<Card, PracticeDate> plan(List<Card> cards, LocalDateTime now) {
+        requireNonNull(cards);
+        requireNonNull(now);
+
+        long today = now.toLocalDate().toEpochDay();
+        int[] dueCounts = new int[days];
+        List<OverdueCard> overdueCards = new ArrayList<>();
+        for (Card card : cards) {
+            LocalDateTime dueDate = card.getNextPracticeDate().practiceDate;
+            if (!dueDate.isAfter(now)) {
+                overdueCards.add(new OverdueCard(card, dueDate));
+                continue;
+            }
+            long day = dueDate.toLocalDate().toEpochDay() - today;
+            if (day < days) {
+                dueCounts[(int) day]++;
+            }
+        }
+        overdueCards.sort(PRIORITY);
+
+        int[] assignedDays = assignDays(dueCounts, overdueCards.size());
+        Map<Card, PracticeDate> newPracticeDates = new IdentityHashMap<>();
+        for (int i = 0; i < overdueCards.size(); i++) {
+            if (assignedDays[i] > 0) {
+                newPracticeDates.put(overdueCards.get(i).card, new PracticeDate(now.plusDays(assignedDays[i])));
+            }
+        }
+        return newPracticeDates;
+    }
+
+    /**
+     * Returns the day, counted from today, on which each of {@code overdueCount} overdue cards should be practised,
+     * in order of priority, given that {@code dueCounts[d]} cards are already due on day {@code d}.
+     */
+    private int[] assignDays(int[] dueCounts, int overdueCount) {
+        int target = dailyLoad;
+        if (target == EVEN_LOAD) {
+            long total = overdueCount;
+            for (int dueCount : dueCounts) {
+                total += dueCount;
+            }
+            target = (int) ((total + days - 1) / days);
+        }
+
+        int[] assignedDays = new int[overdueCount];
+        int next = 0;
+        for (int day = 0; day < days && next < overdueCount; day++) {
+            int free = Math.max(0, target - dueCounts[day]);
+            for (int i = 0; i < free && next < overdueCount; i++) {
+                assignedDays[next++] = day;
+            }
+        }
+        // More cards than the target allows: share the rest out one per day in turn.
+        for (int day = 0; next < overdueCount; day = (day + 1) % days) {
+            assignedDays[next++] = day;
+        }
+        return assignedDays;
+    }
+
+    /**
+     * Returns how soon {@code difficulty} cards should be practised, lowest first.
+     */
+    private static int rankOf(Difficulty difficulty) {
+        switch (difficulty) {
+        case HARD:
+            return 0;
+        case EASY:
+            return 2;
+        case MEDIUM:
+        case NEW:
+        default:
+            return 1;
+        }
+    }
+
+    /**
+     * An overdue card with its priority worked out ahead of sorting.
+     */
+    private static class OverdueCard {
+        private final Card card;
+        private final int rank;
+        private final long dueSecond;
+
+        OverdueCard(Card card, LocalDateTime dueDate) {
+            this.card = card;
+            this.rank = rankOf(Difficulty.valueOf(card.getDifficulty()));
+            this.dueSecond = dueDate.toEpochSecond(ZoneOffset.UTC);
+        }
+    }
+}
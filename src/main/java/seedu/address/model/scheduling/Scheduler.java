@@ -0,0 +1,103 @@
+package seedu.address.model.scheduling;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Duration;
+
+import seedu.address.model.card.Card;
+import seedu.address.model.card.Difficulty;
+import seedu.address.model.card.PracticeDate;
+
+/**
+ * An algorithm that decides when a Card should next be practised.
+ * <p>
+ * A scheduler only needs to say how long the interval after a review should be, given the interval before it and
+ * how difficult the card was. Everything else, such as rescheduling cards that were scheduled by another
+ * algorithm, is derived from that.
+ */
+public interface Scheduler {
+
+    /** Longest interval a card can be given, to keep practice dates within range. */
+    Duration MAX_INTERVAL = Duration.ofDays(36500);
+
+    /**
+     * Returns the interval until a card is next practised, after a review rated {@code difficulty} that followed
+     * an interval of {@code previousInterval}. {@code previousInterval} is zero for a card's first review.
+     */
+    Duration nextInterval(Duration previousInterval, Difficulty difficulty);
+
+    /**
+     * Returns the interval that this scheduler would have turned into {@code interval} for a review rated
+     * {@code difficulty}: the shortest previous interval whose next interval is at least {@code interval}, found
+     * by binary search over seconds. If no previous interval leads to {@code interval}, such as when the next
+     * interval does not depend on the previous one, the review is treated as a first one and zero is returned.
+     * Schedulers whose intervals can be inverted directly should override this.
+     */
+    default Duration previousIntervalFor(Duration interval, Difficulty difficulty) {
+        requireAllNonNull(interval, difficulty);
+
+        if (nextInterval(Duration.ZERO, difficulty).compareTo(interval) >= 0) {
+            return Duration.ZERO;
+        }
+
+        // Intervals rarely shrink, so the interval itself is usually already an upper bound.
+        long high = Math.min(Math.max(1, interval.getSeconds()), MAX_INTERVAL.getSeconds());
+        while (nextInterval(Duration.ofSeconds(high), difficulty).compareTo(interval) < 0) {
+            if (high == MAX_INTERVAL.getSeconds()) {
+                return Duration.ZERO;
+            }
+            high = Math.min(high * 2, MAX_INTERVAL.getSeconds());
+        }
+        long low = 1;
+        while (low < high) {
+            long middle = low + (high - low) / 2;
+            if (nextInterval(Duration.ofSeconds(middle), difficulty).compareTo(interval) >= 0) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return Duration.ofSeconds(low);
+    }
+
+    /**
+     * Returns the next practice date of a card last due on {@code cardNextPracticeDate} and reviewed as
+     * {@code difficulty}, when it was due on {@code cardLastPracticeDate} before that.
+     */
+    default PracticeDate nextPracticeDate(PracticeDate cardLastPracticeDate, PracticeDate cardNextPracticeDate,
+            Difficulty difficulty) {
+        requireAllNonNull(cardLastPracticeDate, cardNextPracticeDate, difficulty);
+
+        Duration previousInterval = Duration.between(cardLastPracticeDate.practiceDate,
+                cardNextPracticeDate.practiceDate);
+        return new PracticeDate(cardNextPracticeDate.practiceDate.plus(nextInterval(previousInterval, difficulty)));
+    }
+
+    /**
+     * Returns the next practice date of {@code card} after it is reviewed as {@code difficulty}.
+     * The card has already been moved to its new Leitner box.
+     */
+    default PracticeDate nextPracticeDate(Card card, Difficulty difficulty) {
+        requireAllNonNull(card, difficulty);
+        return nextPracticeDate(card.getLastPracticeDate(), card.getNextPracticeDate(), difficulty);
+    }
+
+    /**
+     * Returns the next practice date {@code card} would have had if its last review had been scheduled by this
+     * scheduler rather than by {@code previous}. Cards that have not been reviewed keep their next practice date.
+     */
+    default PracticeDate reschedule(Card card, Scheduler previous) {
+        requireAllNonNull(card, previous);
+
+        Difficulty difficulty = Difficulty.valueOf(card.getDifficulty());
+        PracticeDate lastPracticeDate = card.getLastPracticeDate();
+        PracticeDate nextPracticeDate = card.getNextPracticeDate();
+        if (difficulty == Difficulty.NEW || lastPracticeDate.equals(nextPracticeDate)) {
+            return nextPracticeDate;
+        }
+
+        Duration interval = Duration.between(lastPracticeDate.practiceDate, nextPracticeDate.practiceDate);
+        Duration previousInterval = previous.previousIntervalFor(interval, difficulty);
+        return new PracticeDate(lastPracticeDate.practiceDate.plus(nextInterval(previousInterval, difficulty)));
+    }
+}
@@ -0,0 +1,46 @@
+package seedu.address.model.scheduling;
+
+import java.util.Optional;
+
+/**
+ * Represents the scheduling algorithms a user can choose from.
+ */
+public enum SchedulerType {
+    MULTIPLIER("multiplier", new MultiplierScheduler()),
+    SM2("sm2", new Sm2Scheduler()),
+    FSRS("fsrs", new FsrsScheduler()),
+    LEITNER("leitner", new LeitnerScheduler());
+
+    private final String keyword;
+    private final Scheduler scheduler;
+
+    SchedulerType(String keyword, Scheduler scheduler) {
+        this.keyword = keyword;
+        this.scheduler = scheduler;
+    }
+
+    public String getKeyword() {
+        return keyword;
+    }
+
+    public Scheduler getScheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Returns the scheduling algorithm identified by {@code keyword}, if any.
+     */
+    public static Optional<SchedulerType> fromKeyword(String keyword) {
+        for (SchedulerType type : values()) {
+            if (type.keyword.equalsIgnoreCase(keyword.trim())) {
+                return Optional.of(type);
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public String toString() {
+        return keyword;
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.model.scheduling;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Duration;
+
+import seedu.address.model.card.Difficulty;
+
+/**
+ * Schedules cards with the SuperMemo-2 algorithm.
+ * <p>
+ * A first review is followed by a one day interval and a second by a six day interval; after that each interval is
+ * the previous one multiplied by an easiness factor. Cards rated hard count as forgotten and start over from the
+ * first interval. Since cards do not store an easiness factor, it is derived from the rating of each review, with
+ * easy reviews growing intervals faster than medium ones.
+ */
+public class Sm2Scheduler implements Scheduler {
+
+    private static final Duration FIRST_INTERVAL = Duration.ofDays(1);
+    private static final Duration SECOND_INTERVAL = Duration.ofDays(6);
+    private static final double DEFAULT_EASINESS = 2.5;
+
+    @Override
+    public Duration nextInterval(Duration previousInterval, Difficulty difficulty) {
+        requireAllNonNull(previousInterval, difficulty);
+
+        int quality = qualityOf(difficulty);
+        if (quality < 3 || previousInterval.isNegative() || previousInterval.isZero()) {
+            return FIRST_INTERVAL;
+        }
+
+        long seconds = (long) (previousInterval.getSeconds() * easinessOf(quality));
+        Duration interval = Duration.ofSeconds(Math.max(SECOND_INTERVAL.getSeconds(), seconds));
+        return interval.compareTo(MAX_INTERVAL) < 0 ? interval : MAX_INTERVAL;
+    }
+
+    @Override
+    public Duration previousIntervalFor(Duration interval, Difficulty difficulty) {
+        requireAllNonNull(interval, difficulty);
+
+        // Cards rated hard start over whatever their previous interval was, so it cannot be recovered.
+        if (qualityOf(difficulty) < 3) {
+            return Duration.ZERO;
+        }
+        return Scheduler.super.previousIntervalFor(interval, difficulty);
+    }
+
+    /**
+     * Returns the SM-2 response quality, from 0 to 5, of a review rated {@code difficulty}.
+     */
+    private static int qualityOf(Difficulty difficulty) {
+        switch (difficulty) {
+        case EASY:
+            return 5;
+        case MEDIUM:
+            return 4;
+        case HARD:
+        default:
+            return 2;
+        }
+    }
+
+    /**
+     * Returns the easiness factor after a single review of quality {@code quality}, starting from the default.
+     */
+    private static double easinessOf(int quality) {
+        int shortfall = 5 - quality;
+        return DEFAULT_EASINESS + 0.1 - shortfall * (0.08 + shortfall * 0.02);
+    }
+}
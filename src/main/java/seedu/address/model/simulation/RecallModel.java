@@ -0,0 +1,92 @@
+package seedu.address.model.simulation;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.card.Difficulty;
+
+/**
+ * How a simulated user remembers Cards and rates them when reviewing.
+ * <p>
+ * The user's memory of each Card has a stability: the number of days after a review at which the Card is still
+ * recalled 90% of the time, the chance of recall decaying exponentially in between. Recalling a Card multiplies its
+ * stability by a growth factor, which is larger the less likely the Card was to be recalled, so that reviews at
+ * the right time strengthen memory more than early ones. Forgetting a Card shrinks its stability instead.
+ * A recalled Card is rated easy if it was very likely to be recalled, and medium otherwise; a forgotten Card is
+ * rated hard.
+ */
+public class RecallModel {
+
+    public static final String MESSAGE_CONSTRAINTS = "Stabilities and growth factors should be positive numbers";
+
+    /** A user with a typical memory. */
+    public static final RecallModel DEFAULT = new RecallModel(1, 2.5, 0.3);
+
+    /** Retention that the stability of a Card is defined by. */
+    static final double STABILITY_RETENTION = 0.9;
+
+    /** Chance of recall at or above which a recalled Card is rated easy. */
+    static final double EASY_RECALL = 0.95;
+
+    private static final double LOG_STABILITY_RETENTION = Math.log(STABILITY_RETENTION);
+
+    private final double initialStabilityDays;
+    private final double recallGrowth;
+    private final double lapseFactor;
+
+    /**
+     * Creates a model of a user whose memory of a new Card has a stability of {@code initialStabilityDays} days
+     * after the first review, grows {@code recallGrowth} times when the Card is recalled at 90% chance, and is
+     * multiplied by {@code lapseFactor} when the Card is forgotten.
+     */
+    public RecallModel(double initialStabilityDays, double recallGrowth, double lapseFactor) {
+        checkArgument(initialStabilityDays > 0 && recallGrowth > 0 && lapseFactor > 0, MESSAGE_CONSTRAINTS);
+        this.initialStabilityDays = initialStabilityDays;
+        this.recallGrowth = recallGrowth;
+        this.lapseFactor = lapseFactor;
+    }
+
+    public double getInitialStabilityDays() {
+        return initialStabilityDays;
+    }
+
+    /**
+     * Returns the chance that a Card with a stability of {@code stabilityDays} is recalled {@code elapsedDays} days
+     * after its last review.
+     */
+    public double recallProbability(double stabilityDays, double elapsedDays) {
+        return Math.exp(LOG_STABILITY_RETENTION * Math.max(elapsedDays, 0) / stabilityDays);
+    }
+
+    /**
+     * Returns the rating given to a Card that was recalled with chance {@code recallProbability}, where
+     * {@code draw}, uniform in [0, 1), decides whether it actually was.
+     */
+    public Difficulty rate(double recallProbability, double draw) {
+        if (draw >= recallProbability) {
+            return Difficulty.HARD;
+        }
+        return recallProbability >= EASY_RECALL ? Difficulty.EASY : Difficulty.MEDIUM;
+    }
+
+    /**
+     * Returns the stability of a Card with a stability of {@code stabilityDays} after a review in which it had a
+     * chance of {@code recallProbability} of being recalled, and was recalled if {@code isRecalled}.
+     */
+    public double nextStability(double stabilityDays, double recallProbability, boolean isRecalled) {
+        if (!isRecalled) {
+            return stabilityDays * lapseFactor;
+        }
+        double growth = 1 + (recallGrowth - 1) * (1 - recallProbability) / (1 - STABILITY_RETENTION);
+        return stabilityDays * growth;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("initialStabilityDays", initialStabilityDays)
+                .add("recallGrowth", recallGrowth)
+                .add("lapseFactor", lapseFactor)
+                .toString();
+    }
+}
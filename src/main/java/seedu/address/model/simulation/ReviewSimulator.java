@@ -0,0 +1,175 @@
+package seedu.address.model.simulation;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Function;
+
+import seedu.address.model.card.Card;
+import seedu.address.model.card.Difficulty;
+import seedu.address.model.card.SolveCount;
+import seedu.address.model.scheduling.Scheduler;
+
+/**
+ * Simulates a user reviewing copies of a Deck's Cards every day for a number of days, against a virtual clock, to
+ * see how much work a scheduler gives them and how much of it they remember.
+ * <p>
+ * Each simulated day, every Card due by the end of the day is reviewed once, rated as the {@link RecallModel}
+ * decides, and rescheduled through {@link Card#setNewPracticeDateWith(Difficulty, Scheduler)}, just as when the
+ * user reviews it. Schedulers that read the time are given a virtual clock, set to the end of the simulated day.
+ * Cards never reviewed before are learnt at their first review, which counts as recalled.
+ * <p>
+ * Cards are independent of one another, so they are split into partitions of a fixed size that are simulated in
+ * parallel on a fork-join pool, each with its own random numbers. The result therefore depends only on the seed
+ * and not on the number of cores. Within a partition, due Cards are taken from a priority queue, so each review
+ * costs O(log n) and days on which nothing is due cost nothing.
+ */
+public class ReviewSimulator {
+
+    /** Number of Cards simulated together by one task. */
+    static final int PARTITION_SIZE = 4096;
+
+    private static final long SECONDS_PER_DAY = Duration.ofDays(1).getSeconds();
+    private static final long SEED_STRIDE = 0x9e3779b97f4a7c15L;
+
+    private final Function<Clock, Scheduler> schedulerFactory;
+    private final RecallModel recallModel;
+    private final long seed;
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a simulator of a user who remembers as in {@code recallModel}, with Cards scheduled by the
+     * scheduler that {@code schedulerFactory} creates for a given clock, that runs on the common fork-join pool.
+     * Simulations with the same {@code seed} give the same result.
+     */
+    public ReviewSimulator(Function<Clock, Scheduler> schedulerFactory, RecallModel recallModel, long seed) {
+        this(schedulerFactory, recallModel, seed, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a simulator as above that runs on {@code pool}.
+     */
+    public ReviewSimulator(Function<Clock, Scheduler> schedulerFactory, RecallModel recallModel, long seed,
+            ForkJoinPool pool) {
+        requireAllNonNull(schedulerFactory, recallModel, pool);
+        this.schedulerFactory = schedulerFactory;
+        this.recallModel = recallModel;
+        this.seed = seed;
+        this.pool = pool;
+    }
+
+    /**
+     * Returns the reviews of copies of {@code cards} over {@code days} days from {@code start}.
+     * {@code cards} are left as they are.
+     */
+    public SimulationReport run(List<Card> cards, LocalDateTime start, int days) {
+        requireAllNonNull(cards, start);
+        assert days > 0 : "Invalid number of days to simulate";
+
+        List<Card> snapshot = new ArrayList<>(cards);
+        List<ForkJoinTask<SimulationReport>> partitions = new ArrayList<>();
+        for (int from = 0; from < snapshot.size(); from += PARTITION_SIZE) {
+            List<Card> partition = snapshot.subList(from, Math.min(from + PARTITION_SIZE, snapshot.size()));
+            Random random = new Random(seed ^ (SEED_STRIDE * (from / PARTITION_SIZE + 1)));
+            partitions.add(pool.submit(() -> simulate(partition, start, days, random)));
+        }
+
+        SimulationReport report = new SimulationReport(days);
+        partitions.forEach(partition -> report.addAll(partition.join()));
+        return report;
+    }
+
+    private SimulationReport simulate(List<Card> cards, LocalDateTime start, int days, Random random) {
+        int cardCount = cards.size();
+        Card[] simulatedCards = new Card[cardCount];
+        // Stability of the user's memory of each Card in days, or 0 if the Card has not been learnt
+        double[] stabilities = new double[cardCount];
+        // Time of the last review of each Card, in days since the start
+        double[] lastReviewDays = new double[cardCount];
+        long[] dueSeconds = new long[cardCount];
+
+        long startSecond = start.toEpochSecond(ZoneOffset.UTC);
+        for (int i = 0; i < cardCount; i++) {
+            Card card = copyOf(cards.get(i));
+            simulatedCards[i] = card;
+            dueSeconds[i] = card.getNextPracticeDate().practiceDate.toEpochSecond(ZoneOffset.UTC);
+            if (Difficulty.valueOf(card.getDifficulty()) != Difficulty.NEW) {
+                // Take the scheduler to have been right about the user's memory so far.
+                long lastSecond = card.getLastPracticeDate().practiceDate.toEpochSecond(ZoneOffset.UTC);
+                stabilities[i] = Math.max((double) (dueSeconds[i] - lastSecond) / SECONDS_PER_DAY,
+                        recallModel.getInitialStabilityDays());
+                lastReviewDays[i] = (double) (lastSecond - startSecond) / SECONDS_PER_DAY;
+            }
+        }
+
+        PriorityQueue<Integer> dueQueue = new PriorityQueue<>(Math.max(cardCount, 1),
+                Comparator.comparingLong(i -> dueSeconds[i]));
+        for (int i = 0; i < cardCount; i++) {
+            dueQueue.add(i);
+        }
+
+        VirtualClock clock = new VirtualClock(start);
+        Scheduler scheduler = schedulerFactory.apply(clock);
+        SimulationReport report = new SimulationReport(days);
+        List<Integer> reviewedToday = new ArrayList<>();
+        for (int day = 0; day < days; day++) {
+            // Cards are reviewed at the end of the day they are due on.
+            long dayEndSecond = startSecond + (day + 1) * SECONDS_PER_DAY;
+            double reviewDay = day + 1;
+            clock.setTime(start.plusDays(day + 1));
+            while (!dueQueue.isEmpty() && dueSeconds[dueQueue.peek()] <= dayEndSecond) {
+                int i = dueQueue.poll();
+                boolean isRecalled = review(simulatedCards[i], scheduler, i, stabilities, lastReviewDays, reviewDay,
+                        random);
+                dueSeconds[i] = simulatedCards[i].getNextPracticeDate().practiceDate.toEpochSecond(ZoneOffset.UTC);
+                report.addReview(day, isRecalled);
+                reviewedToday.add(i);
+            }
+            // A Card rescheduled to later today is reviewed again tomorrow at the earliest.
+            dueQueue.addAll(reviewedToday);
+            reviewedToday.clear();
+        }
+        return report;
+    }
+
+    /**
+     * Reviews {@code card}, the {@code i}-th Card of its partition, at {@code reviewDay} days since the start,
+     * reschedules it with {@code scheduler}, and returns true if it was recalled.
+     */
+    private boolean review(Card card, Scheduler scheduler, int i, double[] stabilities, double[] lastReviewDays,
+            double reviewDay, Random random) {
+        Difficulty rating;
+        boolean isRecalled;
+        if (stabilities[i] == 0) {
+            rating = Difficulty.MEDIUM;
+            isRecalled = true;
+            stabilities[i] = recallModel.getInitialStabilityDays();
+        } else {
+            double recallProbability = recallModel.recallProbability(stabilities[i], reviewDay - lastReviewDays[i]);
+            rating = recallModel.rate(recallProbability, random.nextDouble());
+            isRecalled = rating != Difficulty.HARD;
+            stabilities[i] = recallModel.nextStability(stabilities[i], recallProbability, isRecalled);
+        }
+        lastReviewDays[i] = reviewDay;
+
+        card.setDifficulty(rating);
+        card.setNewPracticeDateWith(rating, scheduler);
+        return isRecalled;
+    }
+
+    private static Card copyOf(Card card) {
+        return new Card(card.getQuestion(), card.getAnswer(), Difficulty.valueOf(card.getDifficulty()),
+                card.getTags(), card.getNextPracticeDate(), card.getLastPracticeDate(),
+                new SolveCount(card.getSolveCount().getSolveCount()), card.getHint(), card.getLeitnerBox());
+    }
+}
@@ -0,0 +1,98 @@
+package seedu.address.model.simulation;
+
+import java.util.Arrays;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * The number of reviews done, and of Cards recalled in them, on each day of a simulation.
+ */
+public class SimulationReport {
+
+    private final int[] reviewCounts;
+    private final int[] recalledCounts;
+
+    /**
+     * Creates a report of a simulation of {@code days} days in which nothing has been reviewed yet.
+     */
+    SimulationReport(int days) {
+        reviewCounts = new int[days];
+        recalledCounts = new int[days];
+    }
+
+    /**
+     * Counts a review on day {@code day}, in which the Card was recalled if {@code isRecalled}.
+     */
+    void addReview(int day, boolean isRecalled) {
+        reviewCounts[day]++;
+        if (isRecalled) {
+            recalledCounts[day]++;
+        }
+    }
+
+    /**
+     * Adds the counts of {@code other}, a report over the same days, to this report.
+     */
+    void addAll(SimulationReport other) {
+        assert other.getDays() == getDays() : "Reports are over different days";
+        for (int day = 0; day < getDays(); day++) {
+            reviewCounts[day] += other.reviewCounts[day];
+            recalledCounts[day] += other.recalledCounts[day];
+        }
+    }
+
+    public int getDays() {
+        return reviewCounts.length;
+    }
+
+    /**
+     * Returns the number of reviews on day {@code day}, counting from 0.
+     */
+    public int getReviewCount(int day) {
+        return reviewCounts[day];
+    }
+
+    /**
+     * Returns the number of reviews from day {@code from} inclusive to day {@code to} exclusive.
+     */
+    public long getReviewCount(int from, int to) {
+        return Arrays.stream(reviewCounts, from, to).asLongStream().sum();
+    }
+
+    /**
+     * Returns the number of reviews on day {@code day} in which the Card was recalled.
+     */
+    public int getRecalledCount(int day) {
+        return recalledCounts[day];
+    }
+
+    /**
+     * Returns the number of reviews from day {@code from} inclusive to day {@code to} exclusive in which the Card
+     * was recalled.
+     */
+    public long getRecalledCount(int from, int to) {
+        return Arrays.stream(recalledCounts, from, to).asLongStream().sum();
+    }
+
+    /**
+     * Returns the day with the most reviews, the earliest one if there are several.
+     */
+    public int getBusiestDay() {
+        int busiestDay = 0;
+        for (int day = 1; day < getDays(); day++) {
+            if (reviewCounts[day] > reviewCounts[busiestDay]) {
+                busiestDay = day;
+            }
+        }
+        return busiestDay;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("days", getDays())
+                .add("reviews", getReviewCount(0, getDays()))
+                .add("recalled", getRecalledCount(0, getDays()))
+                .toString();
+    }
+}
@@ -0,0 +1,39 @@
+package seedu.address.model.simulation;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * A clock in UTC that shows whatever time it was last set to, so that schedulers that read the time can be run in
+ * simulated time. Not thread-safe: each simulation task has its own.
+ */
+class VirtualClock extends Clock {
+
+    private Instant instant;
+
+    VirtualClock(LocalDateTime time) {
+        setTime(time);
+    }
+
+    void setTime(LocalDateTime time) {
+        instant = time.toInstant(ZoneOffset.UTC);
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return Clock.fixed(instant, zone);
+    }
+
+    @Override
+    public Instant instant() {
+        return instant;
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.address.model.tuning;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.scheduling.MultiplierParameters;
+
+/**
+ * The scheduling parameters that best predict a review history, and how well they and the parameters in use
+ * predict it.
+ * Guarantees: immutable.
+ */
+public class ParameterFit {
+
+    private final MultiplierParameters parameters;
+    private final double logLoss;
+    private final double baselineLogLoss;
+    private final int predictionCount;
+
+    /**
+     * Creates a fit of {@code parameters}, whose predictions of {@code predictionCount} reviews had a mean log loss
+     * of {@code logLoss}, against {@code baselineLogLoss} for the parameters in use.
+     */
+    public ParameterFit(MultiplierParameters parameters, double logLoss, double baselineLogLoss,
+            int predictionCount) {
+        requireNonNull(parameters);
+        this.parameters = parameters;
+        this.logLoss = logLoss;
+        this.baselineLogLoss = baselineLogLoss;
+        this.predictionCount = predictionCount;
+    }
+
+    public MultiplierParameters getParameters() {
+        return parameters;
+    }
+
+    public double getLogLoss() {
+        return logLoss;
+    }
+
+    public double getBaselineLogLoss() {
+        return baselineLogLoss;
+    }
+
+    public int getPredictionCount() {
+        return predictionCount;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("parameters", parameters)
+                .add("logLoss", logLoss)
+                .add("baselineLogLoss", baselineLogLoss)
+                .add("predictionCount", predictionCount)
+                .toString();
+    }
+}
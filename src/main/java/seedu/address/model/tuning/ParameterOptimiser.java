@@ -0,0 +1,235 @@
+package seedu.address.model.tuning;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.card.Difficulty;
+import seedu.address.model.scheduling.MultiplierParameters;
+
+/**
+ * Fits the parameters of the {@link seedu.address.model.scheduling.MultiplierScheduler} to a user's review history,
+ * in the background.
+ * <p>
+ * A scheduler is taken to set each interval so that the Card would be recalled 90% of the time at its end, with
+ * the chance of recall decaying exponentially in between. Replaying the history under a set of parameters therefore
+ * predicts the chance that each review after the first of a Card was recalled, i.e. not rated hard, and the set
+ * whose predictions have the lowest mean log loss is the one that best matches how the user actually remembers.
+ * <p>
+ * Every parameter set on a fixed grid is tried. The grid is split between the workers of a fork-join pool, each of
+ * which replays the columnar history once per parameter set it is given.
+ */
+public class ParameterOptimiser {
+
+    /** Number of parameter sets below which a task is not split further. */
+    static final int LEAF_SIZE = 8;
+
+    private static final Logger logger = LogsCenter.getLogger(ParameterOptimiser.class);
+
+    private static final double[] EASY_MULTIPLIERS = {1.5, 2, 2.5, 3, 3.5, 4, 5, 6};
+    private static final double[] MEDIUM_MULTIPLIERS = {1, 1.25, 1.5, 1.75, 2, 2.5, 3};
+    private static final double[] HARD_MULTIPLIERS = {0.1, 0.2, 0.3, 0.4, 0.5, 0.6, 0.75, 0.9};
+    private static final double[] FIRST_INTERVAL_HOURS = {1, 2, 4, 8, 12, 24};
+
+    private static final List<MultiplierParameters> CANDIDATES = gridOfCandidates();
+
+    private static final double LOG_TARGET_RETENTION = Math.log(0.9);
+    private static final double LOG_MIN_RECALL = Math.log(1e-4);
+    private static final double LOG_MAX_RECALL = Math.log1p(-1e-4);
+    private static final double HOURS_PER_DAY = 24;
+
+    private final ForkJoinPool pool;
+    private final AtomicInteger triedCount = new AtomicInteger();
+
+    private CompletableFuture<ParameterFit> run;
+
+    /**
+     * Creates an optimiser that runs on the common fork-join pool.
+     */
+    public ParameterOptimiser() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates an optimiser that runs on {@code pool}.
+     */
+    public ParameterOptimiser(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Starts fitting the parameters to {@code history} in the background, comparing them with
+     * {@code currentParameters}. No other fit may be running.
+     */
+    public void start(ReviewHistoryColumns history, MultiplierParameters currentParameters) {
+        requireAllNonNull(history, currentParameters);
+        assert !isRunning() : "A fit is already running";
+
+        triedCount.set(0);
+        run = CompletableFuture.supplyAsync(() -> fit(history, currentParameters), pool);
+        run.whenComplete((fit, error) -> {
+            if (error != null) {
+                logger.warning("Fitting scheduling parameters failed: " + error);
+            } else {
+                logger.info("Fitted scheduling parameters: " + fit);
+            }
+        });
+    }
+
+    public boolean isRunning() {
+        return run != null && !run.isDone();
+    }
+
+    /**
+     * Returns the number of parameter sets tried so far by the fit in progress, or by the last fit.
+     */
+    public int getTriedCount() {
+        return triedCount.get();
+    }
+
+    /**
+     * Returns the number of parameter sets that a fit tries.
+     */
+    public int getCandidateCount() {
+        return CANDIDATES.size();
+    }
+
+    /**
+     * Returns the result of the last fit, or an empty {@code Optional} if it has not finished or it failed.
+     */
+    public Optional<ParameterFit> getResult() {
+        if (run == null || !run.isDone() || run.isCompletedExceptionally()) {
+            return Optional.empty();
+        }
+        return Optional.of(run.join());
+    }
+
+    /**
+     * Waits for the fit in progress, if any, to finish, and returns its result as in {@link #getResult()}.
+     */
+    public Optional<ParameterFit> awaitResult() {
+        if (run != null) {
+            run.handle((fit, error) -> fit).join();
+        }
+        return getResult();
+    }
+
+    private ParameterFit fit(ReviewHistoryColumns history, MultiplierParameters currentParameters) {
+        Candidate best = new FitTask(history, 0, CANDIDATES.size()).invoke();
+        return new ParameterFit(best.parameters, best.logLoss, logLoss(history, currentParameters),
+                history.getRepeatReviewCount());
+    }
+
+    /**
+     * Returns the mean log loss of the predictions that {@code parameters} make of the outcome of each repeat
+     * review in {@code history}, or {@code NaN} if there are no repeat reviews.
+     */
+    static double logLoss(ReviewHistoryColumns history, MultiplierParameters parameters) {
+        Difficulty[] difficulties = Difficulty.values();
+        double[] multipliers = new double[difficulties.length];
+        for (Difficulty difficulty : difficulties) {
+            multipliers[difficulty.ordinal()] = difficulty == Difficulty.NEW ? 1 : parameters.getMultiplier(difficulty);
+        }
+        double firstIntervalDays = parameters.getFirstIntervalHours() / HOURS_PER_DAY;
+        int hard = Difficulty.HARD.ordinal();
+
+        double loss = 0;
+        for (int card = 0; card < history.getCardCount(); card++) {
+            int start = history.getCardStart(card);
+            double interval = history.getFirstIntervalDays(card);
+            if (interval == 0) {
+                interval = firstIntervalDays;
+            }
+            interval *= multipliers[history.getRating(start)];
+
+            for (int review = start + 1; review < history.getCardEnd(card); review++) {
+                int rating = history.getRating(review);
+                // The log of the chance of recall, which is all that a recalled review's loss needs
+                double logRecall = LOG_TARGET_RETENTION * history.getElapsedDays(review) / interval;
+                logRecall = Math.min(Math.max(logRecall, LOG_MIN_RECALL), LOG_MAX_RECALL);
+                loss -= rating == hard ? Math.log1p(-Math.exp(logRecall)) : logRecall;
+                interval *= multipliers[rating];
+            }
+        }
+        int predictionCount = history.getRepeatReviewCount();
+        return predictionCount == 0 ? Double.NaN : loss / predictionCount;
+    }
+
+    private static List<MultiplierParameters> gridOfCandidates() {
+        List<MultiplierParameters> candidates = new ArrayList<>();
+        for (double easy : EASY_MULTIPLIERS) {
+            for (double medium : MEDIUM_MULTIPLIERS) {
+                if (medium >= easy) {
+                    continue;
+                }
+                for (double hard : HARD_MULTIPLIERS) {
+                    for (double firstIntervalHours : FIRST_INTERVAL_HOURS) {
+                        candidates.add(new MultiplierParameters(easy, medium, hard, firstIntervalHours));
+                    }
+                }
+            }
+        }
+        return Collections.unmodifiableList(candidates);
+    }
+
+    /**
+     * A parameter set together with its log loss.
+     */
+    private static class Candidate {
+        private final MultiplierParameters parameters;
+        private final double logLoss;
+
+        Candidate(MultiplierParameters parameters, double logLoss) {
+            this.parameters = parameters;
+            this.logLoss = logLoss;
+        }
+
+        Candidate better(Candidate other) {
+            return other.logLoss < logLoss ? other : this;
+        }
+    }
+
+    /**
+     * Finds the candidate with the lowest log loss among those from {@code from} inclusive to {@code to} exclusive.
+     */
+    private class FitTask extends RecursiveTask<Candidate> {
+        private final ReviewHistoryColumns history;
+        private final int from;
+        private final int to;
+
+        FitTask(ReviewHistoryColumns history, int from, int to) {
+            this.history = history;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Candidate compute() {
+            if (to - from <= LEAF_SIZE) {
+                Candidate best = null;
+                for (int i = from; i < to; i++) {
+                    MultiplierParameters parameters = CANDIDATES.get(i);
+                    Candidate candidate = new Candidate(parameters, logLoss(history, parameters));
+                    best = best == null ? candidate : best.better(candidate);
+                    triedCount.incrementAndGet();
+                }
+                return best;
+            }
+
+            int middle = (from + to) >>> 1;
+            FitTask left = new FitTask(history, from, middle);
+            left.fork();
+            Candidate right = new FitTask(history, middle, to).compute();
+            return left.join().better(right);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package seedu.address.model.tuning;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.history.ReviewEvent;
+
+/**
+ * A copy of a review history laid out in columns, one primitive array per field, with the reviews of each Card
+ * next to each other and oldest first.
+ * <p>
+ * Replaying the history for one Card after another then reads each array from start to end, without following
+ * references or unboxing, which is what makes it cheap to replay the whole history for every candidate parameter
+ * set. The history is grouped by Card with a counting sort, in O(n) time.
+ */
+public class ReviewHistoryColumns {
+
+    private static final double SECONDS_PER_DAY = Duration.ofDays(1).getSeconds();
+
+    /** Reviews of the i-th Card are at positions {@code cardStarts[i]} to {@code cardStarts[i + 1]} exclusive. */
+    private final int[] cardStarts;
+    /** Interval before the first review of each Card, in days. */
+    private final double[] firstIntervalDays;
+    /** Days between each review and the previous review of the same Card, or 0 for a Card's first review. */
+    private final double[] elapsedDays;
+    /** Rating of each review, as a {@code Difficulty} ordinal. */
+    private final byte[] ratings;
+
+    private ReviewHistoryColumns(int[] cardStarts, double[] firstIntervalDays, double[] elapsedDays, byte[] ratings) {
+        this.cardStarts = cardStarts;
+        this.firstIntervalDays = firstIntervalDays;
+        this.elapsedDays = elapsedDays;
+        this.ratings = ratings;
+    }
+
+    /**
+     * Returns the columns of {@code reviews}, which must be in order of timestamp.
+     */
+    public static ReviewHistoryColumns of(List<ReviewEvent> reviews) {
+        requireNonNull(reviews);
+
+        // Number the Cards in order of first review, and count the reviews of each.
+        Map<Long, Integer> cardNumbers = new HashMap<>();
+        int[] cardOf = new int[reviews.size()];
+        int[] counts = new int[reviews.size() + 1];
+        for (int i = 0; i < reviews.size(); i++) {
+            int card = cardNumbers.computeIfAbsent(reviews.get(i).getCardId(), id -> cardNumbers.size());
+            cardOf[i] = card;
+            counts[card + 1]++;
+        }
+
+        int cardCount = cardNumbers.size();
+        int[] cardStarts = new int[cardCount + 1];
+        for (int card = 0; card < cardCount; card++) {
+            cardStarts[card + 1] = cardStarts[card] + counts[card + 1];
+        }
+
+        int[] next = new int[cardCount];
+        System.arraycopy(cardStarts, 0, next, 0, cardCount);
+        long[] lastSecond = new long[cardCount];
+        double[] firstIntervalDays = new double[cardCount];
+        double[] elapsedDays = new double[reviews.size()];
+        byte[] ratings = new byte[reviews.size()];
+        for (int i = 0; i < reviews.size(); i++) {
+            ReviewEvent review = reviews.get(i);
+            int card = cardOf[i];
+            int position = next[card]++;
+            long second = review.getTimestamp().toEpochSecond(ZoneOffset.UTC);
+            if (position == cardStarts[card]) {
+                firstIntervalDays[card] = review.getPreviousInterval().getSeconds() / SECONDS_PER_DAY;
+            } else {
+                elapsedDays[position] = (second - lastSecond[card]) / SECONDS_PER_DAY;
+            }
+            lastSecond[card] = second;
+            ratings[position] = (byte) review.getRating().ordinal();
+        }
+        return new ReviewHistoryColumns(cardStarts, firstIntervalDays, elapsedDays, ratings);
+    }
+
+    public int getCardCount() {
+        return firstIntervalDays.length;
+    }
+
+    public int getReviewCount() {
+        return ratings.length;
+    }
+
+    /**
+     * Returns the number of reviews that followed an earlier review of the same Card, whose outcome can therefore
+     * be predicted from the history.
+     */
+    public int getRepeatReviewCount() {
+        return getReviewCount() - getCardCount();
+    }
+
+    int getCardStart(int card) {
+        return cardStarts[card];
+    }
+
+    int getCardEnd(int card) {
+        return cardStarts[card + 1];
+    }
+
+    double getFirstIntervalDays(int card) {
+        return firstIntervalDays[card];
+    }
+
+    double getElapsedDays(int review) {
+        return elapsedDays[review];
+    }
+
+    int getRating(int review) {
+        return ratings[review];
+    }
+}
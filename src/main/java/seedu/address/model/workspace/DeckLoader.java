@@ -0,0 +1,22 @@
+package seedu.address.model.workspace;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.card.Card;
+
+/**
+ * Loads the Cards of a Deck in a {@link Workspace} when it is opened.
+ */
+@FunctionalInterface
+public interface DeckLoader {
+
+    /**
+     * Returns the Cards of the Deck stored at {@code deckFilePath}, which belong to no other Deck, or no Cards if
+     * there is no Deck there yet.
+     *
+     * @throws DataLoadingException if the Deck could not be loaded.
+     */
+    List<Card> load(Path deckFilePath) throws DataLoadingException;
+}
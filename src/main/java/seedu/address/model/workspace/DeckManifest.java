@@ -0,0 +1,102 @@
+package seedu.address.model.workspace;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.card.Card;
+
+/**
+ * What is known about a Deck in a {@link Workspace} without loading it: its name, its number of Cards, and the
+ * number of its Cards due on each day. Immutable.
+ */
+public class DeckManifest {
+
+    private final String name;
+    private final int cardCount;
+    // Number of Cards whose next practice date is on each day, for the days on which any are
+    private final NavigableMap<LocalDate, Integer> dueCounts;
+
+    /**
+     * Creates the manifest of the Deck named {@code name}, with {@code cardCount} Cards of which
+     * {@code dueCounts} gives the number due on each day.
+     */
+    public DeckManifest(String name, int cardCount, Map<LocalDate, Integer> dueCounts) {
+        requireAllNonNull(name, dueCounts);
+        assert cardCount >= 0 : "Invalid number of cards";
+        this.name = name;
+        this.cardCount = cardCount;
+        this.dueCounts = Collections.unmodifiableNavigableMap(new TreeMap<>(dueCounts));
+    }
+
+    /**
+     * Returns the manifest of the Deck named {@code name} with {@code cards}, in one pass over them.
+     */
+    public static DeckManifest of(String name, List<Card> cards) {
+        requireAllNonNull(name, cards);
+        Map<LocalDate, Integer> dueCounts = new TreeMap<>();
+        for (Card card : cards) {
+            dueCounts.merge(card.getNextPracticeDate().practiceDate.toLocalDate(), 1, Integer::sum);
+        }
+        return new DeckManifest(name, cards.size(), dueCounts);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getCardCount() {
+        return cardCount;
+    }
+
+    /**
+     * Returns the number of Cards due on each day, in order of day, leaving out days on which none are.
+     */
+    public NavigableMap<LocalDate, Integer> getDueCounts() {
+        return dueCounts;
+    }
+
+    /**
+     * Returns the number of Cards due by the end of {@code date}.
+     */
+    public int getDueCount(LocalDate date) {
+        return dueCounts.headMap(date, true).values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof DeckManifest)) {
+            return false;
+        }
+
+        DeckManifest otherManifest = (DeckManifest) other;
+        return name.equals(otherManifest.name)
+                && cardCount == otherManifest.cardCount
+                && dueCounts.equals(otherManifest.dueCounts);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, cardCount, dueCounts);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("name", name)
+                .add("cardCount", cardCount)
+                .toString();
+    }
+}
@@ -0,0 +1,325 @@
+package seedu.address.model.workspace;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyDeck;
+import seedu.address.model.card.Card;
+
+/**
+ * The Decks kept side by side in one folder, one file each, of which one is open at a time.
+ * <p>
+ * Only the {@link DeckManifest} of each Deck is kept from the start. A Deck's Cards are loaded when it is first
+ * opened, and kept in memory after another Deck is opened so that switching back is quick. Decks that are not open
+ * are dropped from memory, least recently used first, once they hold more Cards between them than a limit; they
+ * are loaded again the next time they are opened.
+ * <p>
+ * Cards of Decks that are not open may also be changed in memory, as when they are reviewed together with those of
+ * the open Deck. Such Decks are kept in memory until they are saved.
+ */
+public class Workspace {
+
+    public static final String MESSAGE_NAME_CONSTRAINTS = "Deck names should only contain letters, digits, "
+            + "hyphens and underscores, and be at most 50 characters long";
+
+    /** Extension of the file that each Deck is stored in. */
+    public static final String DECK_FILE_EXTENSION = ".json";
+
+    private static final String NAME_VALIDATION_REGEX = "[\\p{Alnum}_-]{1,50}";
+
+    private static final Logger logger = LogsCenter.getLogger(Workspace.class);
+
+    private final DeckLoader deckLoader;
+    private final int idleCardLimit;
+    // Manifests of the Decks that are not open, by name
+    private final Map<String, DeckManifest> idleManifests = new TreeMap<>();
+    // Cards of the Decks that are not open but still in memory, least recently used first
+    private final LinkedHashMap<String, List<Card>> idleDecks = new LinkedHashMap<>(16, 0.75f, true);
+    // Number of changes not yet saved to each Deck that is not open, by name
+    private final Map<String, Integer> unsavedChangeCounts = new HashMap<>();
+
+    private Path currentDeckFilePath;
+    private int idleCardCount;
+
+    /**
+     * Creates a workspace in which the Deck stored at {@code currentDeckFilePath} is open, the other Decks in its
+     * folder are described by {@code manifests}, and Decks are loaded by {@code deckLoader}. At most
+     * {@code idleCardLimit} Cards of Decks that are not open are kept in memory.
+     */
+    public Workspace(Path currentDeckFilePath, Collection<DeckManifest> manifests, DeckLoader deckLoader,
+            int idleCardLimit) {
+        requireAllNonNull(currentDeckFilePath, manifests, deckLoader);
+        assert idleCardLimit >= 0 : "Invalid limit on cards kept in memory";
+        this.currentDeckFilePath = currentDeckFilePath;
+        this.deckLoader = deckLoader;
+        this.idleCardLimit = idleCardLimit;
+        String currentDeckName = getCurrentDeckName();
+        for (DeckManifest manifest : manifests) {
+            if (!manifest.getName().equals(currentDeckName)) {
+                idleManifests.put(manifest.getName(), manifest);
+            }
+        }
+    }
+
+    /**
+     * Returns true if {@code name} is a valid name for a Deck.
+     */
+    public static boolean isValidDeckName(String name) {
+        return name.matches(NAME_VALIDATION_REGEX);
+    }
+
+    /**
+     * Returns the name of the Deck stored at {@code deckFilePath}: its file name without the extension.
+     */
+    public static String deckNameOf(Path deckFilePath) {
+        String fileName = deckFilePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        return extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+    }
+
+    public String getCurrentDeckName() {
+        return deckNameOf(currentDeckFilePath);
+    }
+
+    public Path getCurrentDeckFilePath() {
+        return currentDeckFilePath;
+    }
+
+    /**
+     * Returns the file that the Deck named {@code name} is stored in.
+     */
+    public Path getDeckFilePath(String name) {
+        requireNonNull(name);
+        return currentDeckFilePath.resolveSibling(name + DECK_FILE_EXTENSION);
+    }
+
+    /**
+     * Returns true if there is a Deck named {@code name}, open or not.
+     */
+    public boolean hasDeck(String name) {
+        requireNonNull(name);
+        return name.equals(getCurrentDeckName()) || idleManifests.containsKey(name);
+    }
+
+    /**
+     * Returns true if the Cards of the Deck named {@code name} are in memory.
+     */
+    public boolean isLoaded(String name) {
+        requireNonNull(name);
+        return name.equals(getCurrentDeckName()) || idleDecks.containsKey(name);
+    }
+
+    /**
+     * Returns the manifests of the Decks that are not open, in order of name.
+     */
+    public List<DeckManifest> getIdleManifests() {
+        return new ArrayList<>(idleManifests.values());
+    }
+
+    /**
+     * Returns the number of Cards of Decks that are not open kept in memory.
+     */
+    public int getIdleCardCount() {
+        return idleCardCount;
+    }
+
+    /**
+     * Returns the Cards of the Deck named {@code name}, which is not open, from memory or by loading them.
+     * The workspace is left as it is until {@link #switchTo(String, List)} is called.
+     *
+     * @throws DataLoadingException if the Deck is not in memory and could not be loaded.
+     */
+    public List<Card> load(String name) throws DataLoadingException {
+        requireNonNull(name);
+        assert !name.equals(getCurrentDeckName()) : "The deck is already open";
+
+        List<Card> cards = idleDecks.get(name);
+        if (cards != null) {
+            return cards;
+        }
+        logger.info("Loading deck " + name);
+        return deckLoader.load(getDeckFilePath(name));
+    }
+
+    /**
+     * Keeps {@code cards}, the Cards of the Deck named {@code name}, which is not open, in memory as if the Deck
+     * had been open, so that they are not loaded again.
+     */
+    public void keep(String name, List<Card> cards) {
+        requireAllNonNull(name, cards);
+        assert !name.equals(getCurrentDeckName()) : "The deck is open";
+
+        List<Card> previousCards = idleDecks.put(name, cards);
+        idleCardCount += cards.size() - (previousCards == null ? 0 : previousCards.size());
+        evictOverLimit();
+    }
+
+    /**
+     * Records that one of {@code cards}, the Cards of the Deck named {@code name}, which is not open, was changed,
+     * and keeps them in memory until {@link #markSaved(String)} is called.
+     */
+    public void recordChange(String name, List<Card> cards) {
+        requireAllNonNull(name, cards);
+        unsavedChangeCounts.merge(name, 1, Integer::sum);
+        keep(name, cards);
+    }
+
+    /**
+     * Returns the names of the Decks that are not open and have at least {@code minChangeCount} changes that are
+     * not saved, in order of name.
+     */
+    public List<String> getUnsavedDeckNames(int minChangeCount) {
+        assert minChangeCount > 0 : "Invalid number of changes";
+        return unsavedChangeCounts.entrySet().stream()
+                .filter(entry -> entry.getValue() >= minChangeCount)
+                .map(Map.Entry::getKey)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns a view of the Cards of the Deck named {@code name}, which is not open, for saving.
+     */
+    public ReadOnlyDeck getIdleDeck(String name) {
+        requireNonNull(name);
+        List<Card> cards = idleDecks.get(name);
+        assert cards != null : "The deck is not in memory";
+        return new IdleDeck(cards);
+    }
+
+    /**
+     * Records that the Deck named {@code name}, which is not open, has been saved, and brings its manifest up to
+     * date.
+     */
+    public void markSaved(String name) {
+        requireNonNull(name);
+        if (unsavedChangeCounts.remove(name) == null) {
+            return;
+        }
+        idleManifests.put(name, DeckManifest.of(name, idleDecks.get(name)));
+        evictOverLimit();
+    }
+
+    /**
+     * Opens the Deck named {@code name}, whose Cards were returned by {@link #load(String)}, keeping
+     * {@code currentCards}, the Cards of the Deck open until now, in memory as those of a Deck that is not open.
+     * {@code currentCards} must belong to no Deck.
+     */
+    public void switchTo(String name, List<Card> currentCards) {
+        requireAllNonNull(name, currentCards);
+
+        String currentDeckName = getCurrentDeckName();
+        idleManifests.put(currentDeckName, DeckManifest.of(currentDeckName, currentCards));
+        idleDecks.put(currentDeckName, currentCards);
+        idleCardCount += currentCards.size();
+
+        idleManifests.remove(name);
+        // The open Deck is saved after every command.
+        unsavedChangeCounts.remove(name);
+        List<Card> openedCards = idleDecks.remove(name);
+        if (openedCards != null) {
+            idleCardCount -= openedCards.size();
+        }
+        currentDeckFilePath = getDeckFilePath(name);
+        evictOverLimit();
+    }
+
+    /**
+     * Returns a copy of the Decks that are not open but kept in memory, and of the record of their changes that are
+     * not saved, which {@link #restore(Backup)} puts back. Cards changed in place afterwards are not changed in the
+     * copy.
+     */
+    public Backup backUp() {
+        LinkedHashMap<String, List<Card>> deckCopies = new LinkedHashMap<>();
+        idleDecks.forEach((name, cards) ->
+                deckCopies.put(name, cards.stream().map(Card::copy).collect(Collectors.toList())));
+        return new Backup(deckCopies, new HashMap<>(unsavedChangeCounts), idleCardCount);
+    }
+
+    /**
+     * Puts the Decks that are not open, and the record of their changes that are not saved, back as they were when
+     * {@code backup} was taken. The open Deck must be the one open then.
+     */
+    public void restore(Backup backup) {
+        requireNonNull(backup);
+        idleDecks.clear();
+        idleDecks.putAll(backup.idleDecks);
+        unsavedChangeCounts.clear();
+        unsavedChangeCounts.putAll(backup.unsavedChangeCounts);
+        idleCardCount = backup.idleCardCount;
+    }
+
+    /**
+     * Drops the least recently used Decks that are not open from memory until at most the limit of Cards is kept.
+     * Decks with changes that are not saved are kept.
+     */
+    private void evictOverLimit() {
+        Iterator<Map.Entry<String, List<Card>>> leastRecentlyUsed = idleDecks.entrySet().iterator();
+        while (idleCardCount > idleCardLimit && leastRecentlyUsed.hasNext()) {
+            Map.Entry<String, List<Card>> evicted = leastRecentlyUsed.next();
+            if (unsavedChangeCounts.containsKey(evicted.getKey())) {
+                continue;
+            }
+            idleCardCount -= evicted.getValue().size();
+            leastRecentlyUsed.remove();
+            logger.fine("Dropped deck " + evicted.getKey() + " from memory");
+        }
+    }
+
+    /**
+     * The Cards of a Deck that is not open, viewed as a Deck for saving.
+     */
+    private static class IdleDeck implements ReadOnlyDeck {
+
+        private final ObservableList<Card> cards;
+
+        IdleDeck(List<Card> cards) {
+            this.cards = FXCollections.observableList(cards);
+        }
+
+        @Override
+        public ObservableList<Card> getCardList() {
+            return FXCollections.unmodifiableObservableList(cards);
+        }
+
+        @Override
+        public void sort() {
+            FXCollections.sort(cards);
+        }
+    }
+
+    /**
+     * The Decks that are not open but kept in memory, and the record of their changes that are not saved, as they
+     * were at some point.
+     */
+    public static class Backup {
+
+        // Least recently used first, as in the workspace
+        private final LinkedHashMap<String, List<Card>> idleDecks;
+        private final Map<String, Integer> unsavedChangeCounts;
+        private final int idleCardCount;
+
+        private Backup(LinkedHashMap<String, List<Card>> idleDecks, Map<String, Integer> unsavedChangeCounts,
+                int idleCardCount) {
+            this.idleDecks = idleDecks;
+            this.unsavedChangeCounts = unsavedChangeCounts;
+            this.idleCardCount = idleCardCount;
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.card.Difficulty;
+import seedu.address.model.history.ReviewEvent;
+import seedu.address.model.history.ReviewLog;
+
+/**
+ * A {@code ReviewLog} kept in a binary file of fixed-width records.
+ * <p>
+ * The file starts with an 8-byte header, followed by one 21-byte record per event: the card id (8 bytes), the
+ * timestamp in milliseconds since the epoch (8 bytes), the rating (1 byte) and the previous interval in seconds
+ * (4 bytes, unsigned, capped at about 136 years). Appended events are buffered and written in a single write on
+ * {@link #flush()}. As records are fixed-width and sorted by timestamp, a time range is found by binary search and
+ * read in large sequential chunks, so reads take O(log n + k) for k events out of n.
+ */
+public class BinaryReviewLog implements ReviewLog {
+
+    static final int HEADER_SIZE = 8;
+    static final int RECORD_SIZE = 21;
+
+    private static final int MAGIC = 0x4c52564c; // "LRVL"
+    private static final int VERSION = 1;
+    private static final long MAX_INTERVAL_SECONDS = 0xffffffffL;
+    private static final int RECORDS_PER_CHUNK = 4096;
+    private static final Difficulty[] RATINGS = Difficulty.values();
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryReviewLog.class);
+
+    private final Path filePath;
+    private final List<ReviewEvent> pendingEvents = new ArrayList<>();
+
+    private boolean isOpened;
+    private long writtenCount;
+    // Timestamp of the last event written, known once the file has been opened
+    private LocalDateTime lastTimestamp;
+
+    /**
+     * Creates a review log kept in the file at {@code filePath}, which is created when the first event is written.
+     */
+    public BinaryReviewLog(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The event is only moved to the last event's timestamp when it is written, as the last event written before
+     * the app started is only known once the file has been opened.
+     */
+    @Override
+    public void append(ReviewEvent event) {
+        requireNonNull(event);
+        pendingEvents.add(event);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (pendingEvents.isEmpty()) {
+            return;
+        }
+        open();
+
+        ByteBuffer buffer = ByteBuffer.allocate(pendingEvents.size() * RECORD_SIZE);
+        LocalDateTime newLastTimestamp = lastTimestamp;
+        for (ReviewEvent event : pendingEvents) {
+            if (newLastTimestamp != null && event.getTimestamp().isBefore(newLastTimestamp)) {
+                event = event.withTimestamp(newLastTimestamp);
+            }
+            encode(event, buffer);
+            newLastTimestamp = event.getTimestamp();
+        }
+        buffer.flip();
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.WRITE)) {
+            channel.position(HEADER_SIZE + writtenCount * RECORD_SIZE);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+        writtenCount += pendingEvents.size();
+        lastTimestamp = newLastTimestamp;
+        pendingEvents.clear();
+    }
+
+    @Override
+    public List<ReviewEvent> read(LocalDateTime from, LocalDateTime to) throws IOException {
+        requireNonNull(from);
+        requireNonNull(to);
+        flush();
+        open();
+
+        List<ReviewEvent> events = new ArrayList<>();
+        if (writtenCount == 0) {
+            return events;
+        }
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long start = firstAtOrAfter(channel, toMillis(from));
+            long end = Math.max(start, firstAtOrAfter(channel, toMillis(to)));
+            ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(end - start, RECORDS_PER_CHUNK) * RECORD_SIZE);
+            long index = start;
+            while (index < end) {
+                int count = (int) Math.min(end - index, RECORDS_PER_CHUNK);
+                buffer.clear().limit(count * RECORD_SIZE);
+                readFully(channel, buffer, HEADER_SIZE + index * RECORD_SIZE);
+                buffer.flip();
+                for (int i = 0; i < count; i++) {
+                    events.add(decode(buffer));
+                }
+                index += count;
+            }
+        }
+        return events;
+    }
+
+    @Override
+    public long size() throws IOException {
+        open();
+        return writtenCount + pendingEvents.size();
+    }
+
+    /**
+     * Reads the header and counts the records of the log file, creating the file if it does not exist yet.
+     * A record left incomplete by an interrupted write is dropped.
+     */
+    private void open() throws IOException {
+        if (isOpened) {
+            return;
+        }
+
+        if (!Files.exists(filePath)) {
+            if (filePath.getParent() != null) {
+                Files.createDirectories(filePath.getParent());
+            }
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putInt(VERSION);
+            header.flip();
+            try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.CREATE_NEW,
+                    StandardOpenOption.WRITE)) {
+                channel.write(header);
+            }
+        }
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            if (channel.size() < HEADER_SIZE) {
+                throw new IOException("Review log " + filePath + " is too short to be a review log");
+            }
+            readFully(channel, header, 0);
+            header.flip();
+            if (header.getInt() != MAGIC || header.getInt() != VERSION) {
+                throw new IOException("Review log " + filePath + " is not a review log of a known version");
+            }
+
+            long recordBytes = channel.size() - HEADER_SIZE;
+            if (recordBytes % RECORD_SIZE != 0) {
+                logger.warning("Dropping an incomplete record at the end of review log " + filePath);
+                channel.truncate(HEADER_SIZE + recordBytes / RECORD_SIZE * RECORD_SIZE);
+            }
+            long count = recordBytes / RECORD_SIZE;
+            if (count > 0) {
+                lastTimestamp = fromMillis(timestampAt(channel, count - 1));
+            }
+            writtenCount = count;
+        }
+        isOpened = true;
+    }
+
+    /**
+     * Returns the index of the first record timestamped at or after {@code millis}.
+     */
+    private long firstAtOrAfter(FileChannel channel, long millis) throws IOException {
+        long low = 0;
+        long high = writtenCount;
+        while (low < high) {
+            long middle = (low + high) >>> 1;
+            if (timestampAt(channel, middle) < millis) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private long timestampAt(FileChannel channel, long index) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES);
+        readFully(channel, buffer, HEADER_SIZE + index * RECORD_SIZE + Long.BYTES);
+        return buffer.getLong(0);
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("Unexpected end of review log");
+            }
+            position += read;
+        }
+    }
+
+    private static void encode(ReviewEvent event, ByteBuffer buffer) {
+        buffer.putLong(event.getCardId());
+        buffer.putLong(toMillis(event.getTimestamp()));
+        buffer.put((byte) event.getRating().ordinal());
+        buffer.putInt((int) Math.min(event.getPreviousInterval().getSeconds(), MAX_INTERVAL_SECONDS));
+    }
+
+    private static ReviewEvent decode(ByteBuffer buffer) throws IOException {
+        long cardId = buffer.getLong();
+        long millis = buffer.getLong();
+        int rating = buffer.get();
+        long intervalSeconds = Integer.toUnsignedLong(buffer.getInt());
+        if (rating < 0 || rating >= RATINGS.length) {
+            throw new IOException("Review log contains an unknown rating: " + rating);
+        }
+        return new ReviewEvent(cardId, fromMillis(millis), RATINGS[rating], Duration.ofSeconds(intervalSeconds));
+    }
+
+    /**
+     * Returns {@code dateTime} in milliseconds since the epoch, saturating for date-times too far from the epoch.
+     */
+    private static long toMillis(LocalDateTime dateTime) {
+        try {
+            return dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+        } catch (ArithmeticException e) {
+            return dateTime.getYear() < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+        }
+    }
+
+    private static LocalDateTime fromMillis(long millis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneOffset.UTC);
+    }
+}
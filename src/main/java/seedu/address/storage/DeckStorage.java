@@ -3,8 +3,10 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.DeckLoadProgress;
 import seedu.address.model.ReadOnlyDeck;
 
 /**
@@ -30,6 +32,15 @@ public interface DeckStorage {
      */
     Optional<ReadOnlyDeck> readDeck(Path filePath) throws DataLoadingException;
 
+    /**
+     * Returns the Deck data in {@code filePath}, reporting the progress of loading it to {@code progressListener}
+     * on the calling thread.
+     *
+     * @see #readDeck(Path)
+     */
+    Optional<ReadOnlyDeck> readDeck(Path filePath, Consumer<DeckLoadProgress> progressListener)
+            throws DataLoadingException;
+
     /**
      * Saves the given {@link ReadOnlyDeck} to the storage.
      * @param deck cannot be null.
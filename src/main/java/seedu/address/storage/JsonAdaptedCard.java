@@ -13,6 +13,7 @@ import seedu.address.model.card.Answer;
 import seedu.address.model.card.Card;
 import seedu.address.model.card.Difficulty;
 import seedu.address.model.card.Hint;
+import seedu.address.model.card.LeitnerBox;
 import seedu.address.model.card.PracticeDate;
 import seedu.address.model.card.Question;
 import seedu.address.model.card.SolveCount;
@@ -35,6 +36,15 @@ class JsonAdaptedCard {
     private final String solveCount;
     private final List<JsonAdaptedTag> tags = new ArrayList<>();
     private final String hint;
+    private final Integer leitnerBox;
+
+    /**
+     * Constructs a {@code JsonAdaptedCard} with the given card details, in the first Leitner box.
+     */
+    public JsonAdaptedCard(String question, String answer, String difficulty, List<JsonAdaptedTag> tags,
+            String solveCount, String nextPracticeDate, String lastPracticeDate, String hint) {
+        this(question, answer, difficulty, tags, solveCount, nextPracticeDate, lastPracticeDate, hint, null);
+    }
 
     /**
      * Constructs a {@code JsonAdaptedCard} with the given card details.
@@ -47,7 +57,8 @@ class JsonAdaptedCard {
             @JsonProperty("solveCount") String solveCount,
             @JsonProperty("next-practice-date") String nextPracticeDate,
             @JsonProperty("last-practice-date") String lastPracticeDate,
-            @JsonProperty("hint") String hint) {
+            @JsonProperty("hint") String hint,
+            @JsonProperty("leitner-box") Integer leitnerBox) {
         this.question = question;
         this.answer = answer;
         this.difficulty = difficulty;
@@ -58,6 +69,7 @@ class JsonAdaptedCard {
         this.lastPracticeDate = lastPracticeDate;
         this.solveCount = solveCount;
         this.hint = hint;
+        this.leitnerBox = leitnerBox;
     }
 
     /**
@@ -74,6 +86,7 @@ class JsonAdaptedCard {
                 .map(JsonAdaptedTag::new)
                 .collect(Collectors.toList()));
         hint = source.getHint().hint;
+        leitnerBox = source.getLeitnerBox().box;
     }
 
     /**
@@ -146,7 +159,14 @@ class JsonAdaptedCard {
         // Hint
         final Hint modelHint = new Hint(hint);
 
+        // Leitner box, which decks saved before Leitner boxes were added do not have
+        if (leitnerBox != null && !LeitnerBox.isValidBox(leitnerBox)) {
+            throw new IllegalValueException(LeitnerBox.MESSAGE_CONSTRAINTS);
+        }
+
+        final LeitnerBox modelLeitnerBox = leitnerBox != null ? new LeitnerBox(leitnerBox) : LeitnerBox.FIRST;
+
         return new Card(modelQuestion, modelAnswer, modelDifficulty, modelCardTags,
-                modelNextPracticeDate, modelLastPracticeDate, modelsolveCount, modelHint);
+                modelNextPracticeDate, modelLastPracticeDate, modelsolveCount, modelHint, modelLeitnerBox);
     }
 }
@@ -0,0 +1,89 @@
+package seedu.address.storage;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.workspace.DeckManifest;
+import seedu.address.model.workspace.Workspace;
+
+/**
+ * Jackson-friendly version of {@link DeckManifest}.
+ */
+class JsonAdaptedDeckManifest {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Deck's %s field is missing!";
+    public static final String MESSAGE_INVALID_COUNTS = "Deck's card counts should add up and not be negative";
+    public static final String MESSAGE_INVALID_DATE = "Deck's due dates should be in the format YYYY-MM-DD";
+
+    private final String name;
+    private final Integer cardCount;
+    private final Map<String, Integer> dueCounts;
+
+    /**
+     * Constructs a {@code JsonAdaptedDeckManifest} with the given manifest details.
+     */
+    @JsonCreator
+    public JsonAdaptedDeckManifest(@JsonProperty("name") String name, @JsonProperty("cardCount") Integer cardCount,
+            @JsonProperty("dueCounts") Map<String, Integer> dueCounts) {
+        this.name = name;
+        this.cardCount = cardCount;
+        this.dueCounts = dueCounts;
+    }
+
+    /**
+     * Converts a given {@code DeckManifest} into this class for Jackson use.
+     */
+    public JsonAdaptedDeckManifest(DeckManifest source) {
+        name = source.getName();
+        cardCount = source.getCardCount();
+        dueCounts = new TreeMap<>();
+        source.getDueCounts().forEach((date, count) -> dueCounts.put(date.toString(), count));
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted manifest object into the model's {@code DeckManifest} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted manifest.
+     */
+    public DeckManifest toModelType() throws IllegalValueException {
+        if (name == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "name"));
+        }
+        if (!Workspace.isValidDeckName(name)) {
+            throw new IllegalValueException(Workspace.MESSAGE_NAME_CONSTRAINTS);
+        }
+        if (cardCount == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "card count"));
+        }
+
+        Map<LocalDate, Integer> modelDueCounts = new TreeMap<>();
+        long dueCardCount = 0;
+        if (dueCounts != null) {
+            for (Map.Entry<String, Integer> dueCount : dueCounts.entrySet()) {
+                if (dueCount.getValue() == null || dueCount.getValue() <= 0) {
+                    throw new IllegalValueException(MESSAGE_INVALID_COUNTS);
+                }
+                modelDueCounts.put(parseDate(dueCount.getKey()), dueCount.getValue());
+                dueCardCount += dueCount.getValue();
+            }
+        }
+        if (cardCount < 0 || dueCardCount != cardCount) {
+            throw new IllegalValueException(MESSAGE_INVALID_COUNTS);
+        }
+        return new DeckManifest(name, cardCount, modelDueCounts);
+    }
+
+    private static LocalDate parseDate(String date) throws IllegalValueException {
+        try {
+            return LocalDate.parse(date);
+        } catch (DateTimeParseException e) {
+            throw new IllegalValueException(MESSAGE_INVALID_DATE);
+        }
+    }
+}
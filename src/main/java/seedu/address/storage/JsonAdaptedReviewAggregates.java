@@ -0,0 +1,120 @@
+package seedu.address.storage;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.analytics.ReviewAggregates;
+import seedu.address.model.analytics.ReviewTally;
+import seedu.address.model.analytics.RollupWindow;
+
+/**
+ * Jackson-friendly version of {@link ReviewAggregates}.
+ */
+class JsonAdaptedReviewAggregates {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Review aggregates' %s field is missing!";
+    public static final String MESSAGE_INVALID_RETENTION = "Review aggregates should have a retention tally for each "
+            + "range of intervals: " + ReviewAggregates.RETENTION_BUCKETS;
+    public static final String MESSAGE_INVALID_ROLLUP =
+            "Review aggregates' rollups should be by DAY, WEEK or MONTH, each starting on a date in the format "
+            + "YYYY-MM-DD that starts the window";
+
+    private final JsonAdaptedReviewTally total;
+    private final List<JsonAdaptedReviewTally> retention = new ArrayList<>();
+    private final Map<String, Map<String, JsonAdaptedReviewTally>> rollups = new TreeMap<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedReviewAggregates} with the given aggregates details.
+     */
+    @JsonCreator
+    public JsonAdaptedReviewAggregates(@JsonProperty("total") JsonAdaptedReviewTally total,
+            @JsonProperty("retention") List<JsonAdaptedReviewTally> retention,
+            @JsonProperty("rollups") Map<String, Map<String, JsonAdaptedReviewTally>> rollups) {
+        this.total = total;
+        if (retention != null) {
+            this.retention.addAll(retention);
+        }
+        if (rollups != null) {
+            this.rollups.putAll(rollups);
+        }
+    }
+
+    /**
+     * Converts a given {@code ReviewAggregates} into this class for Jackson use.
+     */
+    public JsonAdaptedReviewAggregates(ReviewAggregates source) {
+        total = new JsonAdaptedReviewTally(source.getTotal());
+        retention.addAll(source.getRetentionCurve().stream()
+                .map(JsonAdaptedReviewTally::new)
+                .collect(Collectors.toList()));
+        for (RollupWindow window : RollupWindow.values()) {
+            Map<String, JsonAdaptedReviewTally> periods = new TreeMap<>();
+            source.getRollups(window).forEach((start, tally) ->
+                    periods.put(start.toString(), new JsonAdaptedReviewTally(tally)));
+            rollups.put(window.name(), periods);
+        }
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted aggregates object into the model's {@code ReviewAggregates} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted aggregates.
+     */
+    public ReviewAggregates toModelType() throws IllegalValueException {
+        if (total == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "total"));
+        }
+        if (retention.size() != ReviewAggregates.RETENTION_BUCKETS.size() || retention.contains(null)) {
+            throw new IllegalValueException(MESSAGE_INVALID_RETENTION);
+        }
+
+        List<ReviewTally> modelRetention = new ArrayList<>();
+        for (JsonAdaptedReviewTally tally : retention) {
+            modelRetention.add(tally.toModelType());
+        }
+        Map<RollupWindow, Map<LocalDate, ReviewTally>> modelRollups = new EnumMap<>(RollupWindow.class);
+        for (Map.Entry<String, Map<String, JsonAdaptedReviewTally>> rollup : rollups.entrySet()) {
+            RollupWindow window = parseWindow(rollup.getKey());
+            if (rollup.getValue() == null) {
+                throw new IllegalValueException(MESSAGE_INVALID_ROLLUP);
+            }
+            Map<LocalDate, ReviewTally> periods = new HashMap<>();
+            for (Map.Entry<String, JsonAdaptedReviewTally> period : rollup.getValue().entrySet()) {
+                LocalDate start = parseDate(period.getKey());
+                if (period.getValue() == null || !window.startOf(start).equals(start)) {
+                    throw new IllegalValueException(MESSAGE_INVALID_ROLLUP);
+                }
+                periods.put(start, period.getValue().toModelType());
+            }
+            modelRollups.put(window, periods);
+        }
+        return new ReviewAggregates(total.toModelType(), modelRetention, modelRollups);
+    }
+
+    private static RollupWindow parseWindow(String window) throws IllegalValueException {
+        try {
+            return RollupWindow.valueOf(window);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(MESSAGE_INVALID_ROLLUP);
+        }
+    }
+
+    private static LocalDate parseDate(String date) throws IllegalValueException {
+        try {
+            return LocalDate.parse(date);
+        } catch (DateTimeParseException e) {
+            throw new IllegalValueException(MESSAGE_INVALID_ROLLUP);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.analytics.ReviewTally;
+
+/**
+ * Jackson-friendly version of {@link ReviewTally}.
+ */
+class JsonAdaptedReviewTally {
+
+    public static final String MESSAGE_INVALID_COUNTS =
+            "Review tally's counts should not be negative, nor more than its review count";
+
+    private final long reviewCount;
+    private final long recalledCount;
+    private final double intervalGrowthSum;
+    private final long intervalGrowthCount;
+
+    /**
+     * Constructs a {@code JsonAdaptedReviewTally} with the given tally details.
+     */
+    @JsonCreator
+    public JsonAdaptedReviewTally(@JsonProperty("reviewCount") long reviewCount,
+            @JsonProperty("recalledCount") long recalledCount,
+            @JsonProperty("intervalGrowthSum") double intervalGrowthSum,
+            @JsonProperty("intervalGrowthCount") long intervalGrowthCount) {
+        this.reviewCount = reviewCount;
+        this.recalledCount = recalledCount;
+        this.intervalGrowthSum = intervalGrowthSum;
+        this.intervalGrowthCount = intervalGrowthCount;
+    }
+
+    /**
+     * Converts a given {@code ReviewTally} into this class for Jackson use.
+     */
+    public JsonAdaptedReviewTally(ReviewTally source) {
+        reviewCount = source.getReviewCount();
+        recalledCount = source.getRecalledCount();
+        intervalGrowthSum = source.getIntervalGrowthSum();
+        intervalGrowthCount = source.getIntervalGrowthCount();
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted tally object into the model's {@code ReviewTally} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted tally.
+     */
+    public ReviewTally toModelType() throws IllegalValueException {
+        if (reviewCount < 0 || recalledCount < 0 || recalledCount > reviewCount
+                || intervalGrowthCount < 0 || intervalGrowthCount > reviewCount) {
+            throw new IllegalValueException(MESSAGE_INVALID_COUNTS);
+        }
+        return new ReviewTally(reviewCount, recalledCount, intervalGrowthSum, intervalGrowthCount);
+    }
+}
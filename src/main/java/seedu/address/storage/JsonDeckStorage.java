@@ -7,6 +7,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -14,6 +15,7 @@ import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.DeckLoadProgress;
 import seedu.address.model.ReadOnlyDeck;
 
 /**
@@ -45,7 +47,14 @@ public class JsonDeckStorage implements DeckStorage {
      * @throws DataLoadingException if loading the data from storage failed.
      */
     public Optional<ReadOnlyDeck> readDeck(Path filePath) throws DataLoadingException {
+        return readDeck(filePath, unused -> {});
+    }
+
+    @Override
+    public Optional<ReadOnlyDeck> readDeck(Path filePath, Consumer<DeckLoadProgress> progressListener)
+            throws DataLoadingException {
         requireNonNull(filePath);
+        requireNonNull(progressListener);
 
         if (!Files.exists(filePath)) {
             try {
@@ -73,7 +82,7 @@ public class JsonDeckStorage implements DeckStorage {
         }
 
         try {
-            return Optional.of(jsonDeck.get().toModelType());
+            return Optional.of(jsonDeck.get().toModelType(progressListener));
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -0,0 +1,64 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.analytics.ReviewStatistics;
+
+/**
+ * A class to access the statistics over the review log stored as a json file on the hard disk.
+ */
+public class JsonReviewStatisticsStorage implements ReviewStatisticsStorage {
+
+    /**
+     * Name of the review statistics file, kept next to the review log. Deck names cannot contain dots, so no Deck is
+     * stored in it.
+     */
+    public static final String REVIEW_STATISTICS_FILE_NAME = "reviews.stats.json";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonReviewStatisticsStorage.class);
+
+    private final Path filePath;
+
+    public JsonReviewStatisticsStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getReviewStatisticsFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReviewStatistics> readReviewStatistics() throws DataLoadingException {
+        Optional<JsonSerializableReviewStatistics> jsonStatistics = JsonUtil.readJsonFile(
+                filePath, JsonSerializableReviewStatistics.class);
+        if (!jsonStatistics.isPresent()) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(jsonStatistics.get().toModelType());
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveReviewStatistics(ReviewStatistics statistics) throws IOException {
+        requireNonNull(statistics);
+
+        FileUtil.createIfMissing(filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableReviewStatistics(statistics), filePath);
+    }
+}
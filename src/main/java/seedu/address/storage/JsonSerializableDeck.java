@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -10,8 +11,10 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.Deck;
+import seedu.address.model.DeckLoadProgress;
 import seedu.address.model.ReadOnlyDeck;
 import seedu.address.model.card.Card;
+import seedu.address.model.card.exceptions.DuplicateCardException;
 
 /**
  * An Immutable Deck that is serializable to JSON format.
@@ -21,6 +24,9 @@ class JsonSerializableDeck {
 
     public static final String MESSAGE_DUPLICATE_CARD = "Cards list contains duplicate card(s).";
 
+    /** Number of cards validated between reports of progress. */
+    public static final int PROGRESS_INTERVAL = 1000;
+
     private final List<JsonAdaptedCard> cards = new ArrayList<>();
 
     /**
@@ -46,16 +52,34 @@ class JsonSerializableDeck {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public Deck toModelType() throws IllegalValueException {
-        Deck deck = new Deck();
+        return toModelType(unused -> {});
+    }
 
+    /**
+     * Converts this address book into the model's {@code Deck} object, reporting to {@code progressListener}
+     * after every {@link #PROGRESS_INTERVAL} cards are validated and once the cards are indexed.
+     * The cards are put into the Deck all at once, so that they are sorted once rather than on every card.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public Deck toModelType(Consumer<DeckLoadProgress> progressListener) throws IllegalValueException {
+        int cardCount = cards.size();
+        List<Card> modelCards = new ArrayList<>(cardCount);
         for (JsonAdaptedCard jsonAdaptedCard : cards) {
-            Card card = jsonAdaptedCard.toModelType();
-            if (deck.hasCard(card)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_CARD);
+            modelCards.add(jsonAdaptedCard.toModelType());
+            if (modelCards.size() % PROGRESS_INTERVAL == 0 && modelCards.size() < cardCount) {
+                progressListener.accept(new DeckLoadProgress(cardCount, modelCards.size(), 0, false));
             }
-            deck.addCard(card);
         }
+        progressListener.accept(new DeckLoadProgress(cardCount, cardCount, 0, false));
 
+        Deck deck = new Deck();
+        try {
+            deck.setCards(modelCards);
+        } catch (DuplicateCardException dce) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_CARD);
+        }
+        progressListener.accept(new DeckLoadProgress(cardCount, cardCount, cardCount, false));
         return deck;
     }
 }
@@ -0,0 +1,79 @@
+package seedu.address.storage;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRootName;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.analytics.ReviewAggregates;
+import seedu.address.model.analytics.ReviewStatistics;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An Immutable ReviewStatistics that is serializable to JSON format.
+ */
+@JsonRootName(value = "reviewStatistics")
+class JsonSerializableReviewStatistics {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Review statistics' %s field is missing!";
+    public static final String MESSAGE_INVALID_INTERVAL = "Review statistics' last intervals should not be negative";
+
+    private final JsonAdaptedReviewAggregates overall;
+    private final Map<String, JsonAdaptedReviewAggregates> tags = new TreeMap<>();
+    private final Map<Long, Long> lastIntervalSeconds = new HashMap<>();
+
+    /**
+     * Constructs a {@code JsonSerializableReviewStatistics} with the given statistics details.
+     */
+    @JsonCreator
+    public JsonSerializableReviewStatistics(@JsonProperty("overall") JsonAdaptedReviewAggregates overall,
+            @JsonProperty("tags") Map<String, JsonAdaptedReviewAggregates> tags,
+            @JsonProperty("lastIntervalSeconds") Map<Long, Long> lastIntervalSeconds) {
+        this.overall = overall;
+        if (tags != null) {
+            this.tags.putAll(tags);
+        }
+        if (lastIntervalSeconds != null) {
+            this.lastIntervalSeconds.putAll(lastIntervalSeconds);
+        }
+    }
+
+    /**
+     * Converts the given statistics into this class for Jackson use.
+     */
+    public JsonSerializableReviewStatistics(ReviewStatistics source) {
+        overall = new JsonAdaptedReviewAggregates(source.getOverall());
+        source.getByTag().forEach((tag, aggregates) ->
+                tags.put(tag.tagName, new JsonAdaptedReviewAggregates(aggregates)));
+        lastIntervalSeconds.putAll(source.getLastIntervalSeconds());
+    }
+
+    /**
+     * Converts these statistics into the model's {@code ReviewStatistics} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public ReviewStatistics toModelType() throws IllegalValueException {
+        if (overall == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "overall"));
+        }
+
+        Map<Tag, ReviewAggregates> modelTags = new HashMap<>();
+        for (Map.Entry<String, JsonAdaptedReviewAggregates> tag : tags.entrySet()) {
+            if (tag.getValue() == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "tag aggregates"));
+            }
+            modelTags.put(new JsonAdaptedTag(tag.getKey()).toModelType(), tag.getValue().toModelType());
+        }
+        for (Long intervalSeconds : lastIntervalSeconds.values()) {
+            if (intervalSeconds == null || intervalSeconds < 0) {
+                throw new IllegalValueException(MESSAGE_INVALID_INTERVAL);
+            }
+        }
+        return new ReviewStatistics(overall.toModelType(), modelTags, lastIntervalSeconds);
+    }
+}
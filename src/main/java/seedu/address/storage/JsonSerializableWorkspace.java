@@ -0,0 +1,59 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRootName;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.workspace.DeckManifest;
+
+/**
+ * An Immutable list of Deck manifests that is serializable to JSON format.
+ */
+@JsonRootName(value = "workspace")
+class JsonSerializableWorkspace {
+
+    public static final String MESSAGE_DUPLICATE_DECK = "Decks list contains duplicate deck(s).";
+
+    private final List<JsonAdaptedDeckManifest> decks = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableWorkspace} with the given deck manifests.
+     */
+    @JsonCreator
+    public JsonSerializableWorkspace(@JsonProperty("decks") List<JsonAdaptedDeckManifest> decks) {
+        this.decks.addAll(decks);
+    }
+
+    /**
+     * Converts the given manifests into this class for Jackson use.
+     */
+    public JsonSerializableWorkspace(Collection<DeckManifest> source) {
+        decks.addAll(source.stream().map(JsonAdaptedDeckManifest::new).collect(Collectors.toList()));
+    }
+
+    /**
+     * Converts this workspace into the model's {@code DeckManifest} objects.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public List<DeckManifest> toModelType() throws IllegalValueException {
+        List<DeckManifest> manifests = new ArrayList<>();
+        Set<String> names = new HashSet<>();
+        for (JsonAdaptedDeckManifest jsonAdaptedDeckManifest : decks) {
+            DeckManifest manifest = jsonAdaptedDeckManifest.toModelType();
+            if (!names.add(manifest.getName())) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_DECK);
+            }
+            manifests.add(manifest);
+        }
+        return manifests;
+    }
+}
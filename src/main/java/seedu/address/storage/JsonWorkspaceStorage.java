@@ -0,0 +1,65 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.workspace.DeckManifest;
+
+/**
+ * A class to access the manifests of the Decks in a workspace stored as a json file on the hard disk.
+ */
+public class JsonWorkspaceStorage implements WorkspaceStorage {
+
+    /**
+     * Name of the workspace manifest file, kept next to the deck files. Deck names cannot contain dots, so no Deck
+     * is stored in it.
+     */
+    public static final String WORKSPACE_FILE_NAME = "workspace.manifest.json";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonWorkspaceStorage.class);
+
+    private final Path filePath;
+
+    public JsonWorkspaceStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getWorkspaceFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<List<DeckManifest>> readWorkspace() throws DataLoadingException {
+        Optional<JsonSerializableWorkspace> jsonWorkspace = JsonUtil.readJsonFile(
+                filePath, JsonSerializableWorkspace.class);
+        if (!jsonWorkspace.isPresent()) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(jsonWorkspace.get().toModelType());
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveWorkspace(List<DeckManifest> manifests) throws IOException {
+        requireNonNull(manifests);
+
+        FileUtil.createIfMissing(filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableWorkspace(manifests), filePath);
+    }
+}
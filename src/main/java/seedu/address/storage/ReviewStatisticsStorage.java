@@ -0,0 +1,34 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.analytics.ReviewStatistics;
+
+/**
+ * Represents a storage for the {@link ReviewStatistics} over the review log.
+ */
+public interface ReviewStatisticsStorage {
+
+    /**
+     * Returns the file path of the review statistics file.
+     */
+    Path getReviewStatisticsFilePath();
+
+    /**
+     * Returns the review statistics.
+     * Returns {@code Optional.empty()} if storage file is not found.
+     *
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    Optional<ReviewStatistics> readReviewStatistics() throws DataLoadingException;
+
+    /**
+     * Saves the given review statistics to the storage.
+     * @param statistics cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveReviewStatistics(ReviewStatistics statistics) throws IOException;
+}
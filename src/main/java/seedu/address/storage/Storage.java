@@ -2,17 +2,20 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyDeck;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.analytics.ReviewStatistics;
+import seedu.address.model.workspace.DeckManifest;
 
 /**
  * API of the Storage component
  */
-public interface Storage extends DeckStorage, UserPrefsStorage {
+public interface Storage extends DeckStorage, UserPrefsStorage, WorkspaceStorage, ReviewStatisticsStorage {
 
     @Override
     Optional<UserPrefs> readUserPrefs() throws DataLoadingException;
@@ -28,4 +31,21 @@ public interface Storage extends DeckStorage, UserPrefsStorage {
 
     @Override
     void saveDeck(ReadOnlyDeck addressBook) throws IOException;
+
+    /**
+     * Switches the file that {@link #readDeck()} and {@link #saveDeck(ReadOnlyDeck)} use to {@code filePath}.
+     */
+    void setDeckFilePath(Path filePath);
+
+    @Override
+    Optional<List<DeckManifest>> readWorkspace() throws DataLoadingException;
+
+    @Override
+    void saveWorkspace(List<DeckManifest> manifests) throws IOException;
+
+    @Override
+    Optional<ReviewStatistics> readReviewStatistics() throws DataLoadingException;
+
+    @Override
+    void saveReviewStatistics(ReviewStatistics statistics) throws IOException;
 }
@@ -1,15 +1,22 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.DeckLoadProgress;
 import seedu.address.model.ReadOnlyDeck;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.analytics.ReviewStatistics;
+import seedu.address.model.workspace.DeckManifest;
 
 /**
  * Manages storage of Deck data in local storage.
@@ -19,13 +26,40 @@ public class StorageManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private DeckStorage deckStorage;
     private UserPrefsStorage userPrefsStorage;
+    private WorkspaceStorage workspaceStorage;
+    private ReviewStatisticsStorage reviewStatisticsStorage;
+    private Path deckFilePath;
 
     /**
-     * Creates a {@code StorageManager} with the given {@code DeckStorage} and {@code UserPrefStorage}.
+     * Creates a {@code StorageManager} with the given {@code DeckStorage}, {@code UserPrefStorage},
+     * {@code WorkspaceStorage} and {@code ReviewStatisticsStorage}.
      */
-    public StorageManager(DeckStorage deckStorage, UserPrefsStorage userPrefsStorage) {
+    public StorageManager(DeckStorage deckStorage, UserPrefsStorage userPrefsStorage,
+            WorkspaceStorage workspaceStorage, ReviewStatisticsStorage reviewStatisticsStorage) {
         this.deckStorage = deckStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.workspaceStorage = workspaceStorage;
+        this.reviewStatisticsStorage = reviewStatisticsStorage;
+        this.deckFilePath = deckStorage.getDeckFilePath();
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code DeckStorage}, {@code UserPrefStorage} and
+     * {@code WorkspaceStorage}, keeping the review statistics next to the deck file.
+     */
+    public StorageManager(DeckStorage deckStorage, UserPrefsStorage userPrefsStorage,
+            WorkspaceStorage workspaceStorage) {
+        this(deckStorage, userPrefsStorage, workspaceStorage, new JsonReviewStatisticsStorage(
+                deckStorage.getDeckFilePath().resolveSibling(JsonReviewStatisticsStorage.REVIEW_STATISTICS_FILE_NAME)));
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code DeckStorage} and {@code UserPrefStorage}, keeping the
+     * workspace manifest and the review statistics next to the deck file.
+     */
+    public StorageManager(DeckStorage deckStorage, UserPrefsStorage userPrefsStorage) {
+        this(deckStorage, userPrefsStorage, new JsonWorkspaceStorage(
+                deckStorage.getDeckFilePath().resolveSibling(JsonWorkspaceStorage.WORKSPACE_FILE_NAME)));
     }
 
     // ================ UserPrefs methods ==============================
@@ -49,12 +83,18 @@ public class StorageManager implements Storage {
 
     @Override
     public Path getDeckFilePath() {
-        return deckStorage.getDeckFilePath();
+        return deckFilePath;
+    }
+
+    @Override
+    public void setDeckFilePath(Path filePath) {
+        requireNonNull(filePath);
+        deckFilePath = filePath;
     }
 
     @Override
     public Optional<ReadOnlyDeck> readDeck() throws DataLoadingException {
-        return readDeck(deckStorage.getDeckFilePath());
+        return readDeck(deckFilePath);
     }
 
     @Override
@@ -63,9 +103,16 @@ public class StorageManager implements Storage {
         return deckStorage.readDeck(filePath);
     }
 
+    @Override
+    public Optional<ReadOnlyDeck> readDeck(Path filePath, Consumer<DeckLoadProgress> progressListener)
+            throws DataLoadingException {
+        logger.fine("Attempting to read data from file: " + filePath);
+        return deckStorage.readDeck(filePath, progressListener);
+    }
+
     @Override
     public void saveDeck(ReadOnlyDeck deck) throws IOException {
-        saveDeck(deck, deckStorage.getDeckFilePath());
+        saveDeck(deck, deckFilePath);
     }
 
     @Override
@@ -73,4 +120,42 @@ public class StorageManager implements Storage {
         logger.fine("Attempting to write to data file: " + filePath);
         deckStorage.saveDeck(deck, filePath);
     }
+
+    // ================ Workspace methods ==============================
+
+    @Override
+    public Path getWorkspaceFilePath() {
+        return workspaceStorage.getWorkspaceFilePath();
+    }
+
+    @Override
+    public Optional<List<DeckManifest>> readWorkspace() throws DataLoadingException {
+        logger.fine("Attempting to read workspace from file: " + getWorkspaceFilePath());
+        return workspaceStorage.readWorkspace();
+    }
+
+    @Override
+    public void saveWorkspace(List<DeckManifest> manifests) throws IOException {
+        logger.fine("Attempting to write workspace to file: " + getWorkspaceFilePath());
+        workspaceStorage.saveWorkspace(manifests);
+    }
+
+    // ================ Review statistics methods ==============================
+
+    @Override
+    public Path getReviewStatisticsFilePath() {
+        return reviewStatisticsStorage.getReviewStatisticsFilePath();
+    }
+
+    @Override
+    public Optional<ReviewStatistics> readReviewStatistics() throws DataLoadingException {
+        logger.fine("Attempting to read review statistics from file: " + getReviewStatisticsFilePath());
+        return reviewStatisticsStorage.readReviewStatistics();
+    }
+
+    @Override
+    public void saveReviewStatistics(ReviewStatistics statistics) throws IOException {
+        logger.fine("Attempting to write review statistics to file: " + getReviewStatisticsFilePath());
+        reviewStatisticsStorage.saveReviewStatistics(statistics);
+    }
 }
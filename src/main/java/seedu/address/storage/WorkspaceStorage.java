@@ -0,0 +1,35 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.workspace.DeckManifest;
+
+/**
+ * Represents a storage for the manifests of the Decks in a {@link seedu.address.model.workspace.Workspace}.
+ */
+public interface WorkspaceStorage {
+
+    /**
+     * Returns the file path of the workspace manifest file.
+     */
+    Path getWorkspaceFilePath();
+
+    /**
+     * Returns the manifests of the Decks in the workspace.
+     * Returns {@code Optional.empty()} if storage file is not found.
+     *
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    Optional<List<DeckManifest>> readWorkspace() throws DataLoadingException;
+
+    /**
+     * Saves the given manifests of the Decks in the workspace to the storage.
+     * @param manifests cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveWorkspace(List<DeckManifest> manifests) throws IOException;
+}
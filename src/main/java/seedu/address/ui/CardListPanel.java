@@ -31,8 +31,12 @@ public class CardListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Card} using a {@code DisplayCard}.
+     * Each cell creates its {@code DisplayCard} once and shows whichever card it is given in it, as cells are
+     * updated with other cards whenever the list is scrolled.
      */
     class CardListViewCell extends ListCell<Card> {
+        private DisplayCard displayCard;
+
         @Override
         protected void updateItem(Card card, boolean empty) {
             super.updateItem(card, empty);
@@ -40,9 +44,14 @@ public class CardListPanel extends UiPart<Region> {
             if (empty || card == null) {
                 setGraphic(null);
                 setText(null);
-            } else {
-                setGraphic(new DisplayCard(card, getIndex() + 1).getRoot());
+                return;
+            }
+
+            if (displayCard == null) {
+                displayCard = new DisplayCard();
             }
+            displayCard.setCard(card, getIndex() + 1);
+            setGraphic(displayCard.getRoot());
         }
     }
 }
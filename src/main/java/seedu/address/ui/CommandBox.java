@@ -1,26 +1,44 @@
 package seedu.address.ui;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.control.Label;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.Region;
-import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.logic.PendingCommand;
+import seedu.address.logic.PendingCommand.Status;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
+ * <p>
+ * Commands are queued as soon as they are entered, so the user can keep typing while earlier commands run. The
+ * status next to the command box follows the command that is running, and then shows how the last one ended.
  */
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
+    public static final String STATUS_RUNNING = "Running: %1$s";
+    public static final String STATUS_QUEUED = "Queued: %1$s";
+    public static final String STATUS_MORE_QUEUED = " (+%1$d queued)";
+    public static final String STATUS_SUCCEEDED = "Done: %1$s";
+    public static final String STATUS_FAILED = "Failed: %1$s";
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
 
+    // Commands entered that have not finished running, oldest first.
+    private final Deque<PendingCommand> unfinishedCommands = new ArrayDeque<>();
+    private PendingCommand lastFinishedCommand;
+
     @FXML
     private TextField commandTextField;
 
+    @FXML
+    private Label commandStatus;
+
     /**
      * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
      */
@@ -41,12 +59,45 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
+        PendingCommand pendingCommand = commandExecutor.execute(commandText);
+        commandTextField.setText("");
+        unfinishedCommands.addLast(pendingCommand);
+        pendingCommand.statusProperty().addListener((unused1, unused2, status) ->
+                handleStatusChanged(pendingCommand, status));
+        updateCommandStatus();
+    }
+
+    private void handleStatusChanged(PendingCommand pendingCommand, Status status) {
+        if (status.isDone()) {
+            unfinishedCommands.remove(pendingCommand);
+            lastFinishedCommand = pendingCommand;
+        }
+        // Give a failed command back for correcting, unless the user has already started typing another one.
+        if (status == Status.FAILED && commandTextField.getText().equals("")) {
+            commandTextField.setText(pendingCommand.getCommandText());
             setStyleToIndicateCommandFailure();
         }
+        updateCommandStatus();
+    }
+
+    /**
+     * Shows the status of the oldest command that has not finished, or of the last command that has.
+     */
+    private void updateCommandStatus() {
+        PendingCommand oldestUnfinished = unfinishedCommands.peekFirst();
+        if (oldestUnfinished == null) {
+            commandStatus.setText(lastFinishedCommand == null ? "" : String.format(
+                    lastFinishedCommand.getStatus() == Status.SUCCEEDED ? STATUS_SUCCEEDED : STATUS_FAILED,
+                    lastFinishedCommand.getCommandText()));
+            return;
+        }
+
+        String status = String.format(oldestUnfinished.getStatus() == Status.RUNNING ? STATUS_RUNNING : STATUS_QUEUED,
+                oldestUnfinished.getCommandText());
+        if (unfinishedCommands.size() > 1) {
+            status += String.format(STATUS_MORE_QUEUED, unfinishedCommands.size() - 1);
+        }
+        commandStatus.setText(status);
     }
 
     /**
@@ -75,10 +126,10 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Queues the command to be executed and returns it, so that its progress can be followed.
          *
-         * @see seedu.address.logic.Logic#execute(String)
+         * @see seedu.address.logic.AsyncCommandExecutor#submit(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        PendingCommand execute(String commandText);
     }
 }
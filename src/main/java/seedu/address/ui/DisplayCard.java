@@ -1,22 +1,26 @@
 package seedu.address.ui;
 
-import java.util.Comparator;
+import static java.util.Objects.requireNonNull;
 
+import java.util.List;
+
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
-import javafx.scene.text.Font;
-import javafx.scene.text.FontPosture;
-import javafx.scene.text.FontWeight;
-import javafx.scene.text.Text;
 import javafx.scene.text.TextFlow;
 import seedu.address.model.card.Card;
+import seedu.address.model.card.CardRenderModel;
+import seedu.address.ui.markdown.MarkdownRenderer;
 
 
 /**
- * DisplayCard class to showcase the question and the answer
+ * DisplayCard class to showcase the question and the answer.
+ * A DisplayCard can be reused to show other cards, so that list cells do not load the FXML file again whenever
+ * they are scrolled to another card.
  */
 public class DisplayCard extends UiPart<Region> {
     private static final String FXML = "DisplayListCard.fxml";
@@ -28,7 +32,10 @@ public class DisplayCard extends UiPart<Region> {
      *
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
-    public final Card card;
+    private Card card;
+
+    // Question shown in the text flow, so that it is only rendered again when it changes
+    private String shownQuestion;
 
     @javafx.fxml.FXML
     private HBox cardPane;
@@ -48,99 +55,59 @@ public class DisplayCard extends UiPart<Region> {
     private Label solveCount;
 
     /**
-     * Creates a {@code DisplayCard} with the given {@code card} and index to display.
+     * Creates a {@code DisplayCard} that shows no card until {@link #setCard(Card, int)} is called.
      */
+    public DisplayCard() {
+        super(FXML);
+    }
 
+    /**
+     * Creates a {@code DisplayCard} with the given {@code card} and index to display.
+     */
     public DisplayCard(Card card, int displayedIndex) {
-        super(FXML);
-        this.card = card;
-        id.setText(displayedIndex + ". ");
-        setTextWithMarkdown(question, card.getQuestion().question);
+        this();
+        setCard(card, displayedIndex);
+    }
 
-        dueDate.setText("Due: " + card.getNextPracticeDate().getDisplayName());
-        card.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
-        solveCount.setText("Solved: " + card.getSolveCount().toString());
+    public Card getCard() {
+        return card;
     }
 
-    private void setTextWithMarkdown(TextFlow textFlowControl, String content) {
-        textFlowControl.getChildren().clear(); // clear existing children
-
-        // Initialize flags for formatting
-        boolean isBold = false;
-        boolean isItalic = false;
-        boolean isUnderlined = false;
-
-        StringBuilder currentSegment = new StringBuilder();
-
-        for (int i = 0; i < content.length(); i++) {
-            char c = content.charAt(i);
-
-            // Check for underline tags
-            if (i + 2 < content.length() && content.substring(i, i + 3).equals("<u>")) {
-                if (currentSegment.length() > 0) {
-                    addTextSegment(textFlowControl, currentSegment.toString(), isBold, isItalic, isUnderlined);
-                    currentSegment.setLength(0);
-                }
-                isUnderlined = true;
-                i += 2; // Skip over the <u> tag
-            } else if (i + 3 < content.length() && content.substring(i, i + 4).equals("</u>")) {
-                if (currentSegment.length() > 0) {
-                    addTextSegment(textFlowControl, currentSegment.toString(), isBold, isItalic, isUnderlined);
-                    currentSegment.setLength(0);
-                }
-                isUnderlined = false;
-                i += 3; // Skip over the </u> tag
-            } else if (c == '*') {
-                if (i < content.length() - 1 && content.charAt(i + 1) == '*') {
-                    // Double asterisks indicate bold
-                    if (currentSegment.length() > 0) {
-                        addTextSegment(textFlowControl, currentSegment.toString(), isBold, isItalic, isUnderlined);
-                        currentSegment.setLength(0); // Clear the current segment
-                    }
-                    isBold = !isBold;
-                    i++; // Skip the next asterisk
-                } else {
-                    // Single asterisk indicates italic
-                    if (currentSegment.length() > 0) {
-                        addTextSegment(textFlowControl, currentSegment.toString(), isBold, isItalic, isUnderlined);
-                        currentSegment.setLength(0); // Clear the current segment
-                    }
-                    isItalic = !isItalic;
-                }
-            } else {
-                currentSegment.append(c);
-            }
+    /**
+     * Shows {@code card} with the index {@code displayedIndex} in place of the card shown until now, reusing the
+     * nodes that showed it.
+     */
+    public void setCard(Card card, int displayedIndex) {
+        requireNonNull(card);
+        this.card = card;
+        id.setText(displayedIndex + ". ");
+        String questionText = card.getQuestion().question;
+        if (!questionText.equals(shownQuestion)) {
+            MarkdownRenderer.render(question, questionText, text -> text.setStyle("-fx-fill: white;"));
+            shownQuestion = questionText;
         }
 
-        // Handle any remaining text
-        if (currentSegment.length() > 0) {
-            addTextSegment(textFlowControl, currentSegment.toString(),
-                    isBold, isItalic, isUnderlined);
-        }
+        CardRenderModel renderModel = card.getRenderModel();
+        dueDate.setText(renderModel.getDueDateText());
+        setTags(renderModel.getSortedTagNames());
+        solveCount.setText(renderModel.getSolveCountText());
     }
 
-    private void addTextSegment(TextFlow textFlowControl, String content,
-                                boolean isBold, boolean isItalic, boolean isUnderlined) {
-        Text textSegment = new Text(content);
-
-        if (isBold && isItalic) {
-            textSegment.setFont(Font.font("Arial", FontWeight.BOLD, FontPosture.ITALIC, 15));
-        } else if (isBold) {
-            textSegment.setFont(Font.font("Arial", FontWeight.BOLD, 15));
-        } else if (isItalic) {
-            textSegment.setFont(Font.font("Arial", FontPosture.ITALIC, 15));
-        } else {
-            textSegment.setFont(Font.font("Arial", 15));
+    /**
+     * Shows a label for each of {@code tagNames}, relabelling the labels already shown before adding or removing any.
+     */
+    private void setTags(List<String> tagNames) {
+        ObservableList<Node> tagLabels = tags.getChildren();
+        if (tagLabels.size() > tagNames.size()) {
+            tagLabels.remove(tagNames.size(), tagLabels.size());
         }
-
-        if (isUnderlined) {
-            textSegment.setUnderline(true);
+        for (int i = 0; i < tagNames.size(); i++) {
+            if (i < tagLabels.size()) {
+                Label tagLabel = (Label) tagLabels.get(i);
+                tagLabel.setText(tagNames.get(i));
+            } else {
+                tagLabels.add(new Label(tagNames.get(i)));
+            }
         }
-
-        textSegment.setStyle("-fx-fill: white;");
-
-        textFlowControl.getChildren().add(textSegment);
     }
 }
@@ -4,8 +4,10 @@ import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.logging.Logger;
 
+import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
@@ -13,6 +15,7 @@ import javafx.scene.input.Clipboard;
 import javafx.scene.input.ClipboardContent;
 import javafx.stage.Stage;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.workspace.Workspace;
 
 /**
  * Controller for a help page
@@ -23,7 +26,7 @@ public class ExportWindow extends UiPart<Stage> {
     private static final Logger logger = LogsCenter.getLogger(ExportWindow.class);
     private static final String FXML = "ExportWindow.fxml";
 
-    private String filePath = "data/deck.json";
+    private final ReadOnlyObjectProperty<Path> deckFilePath;
 
     @FXML
     private Button copyButton;
@@ -32,21 +35,21 @@ public class ExportWindow extends UiPart<Stage> {
     private Label exportMessage;
 
     /**
-     * Creates a new ExportWindow.
+     * Creates a new ExportWindow that exports the deck file at {@code deckFilePath}.
      *
      * @param root Stage to use as the root of the ExportWindow.
      */
-    public ExportWindow(Stage root) {
+    public ExportWindow(Stage root, ReadOnlyObjectProperty<Path> deckFilePath) {
         super(FXML, root);
+        this.deckFilePath = deckFilePath;
         exportMessage.setText("");
-        autoReadDeckFileAndDisplayContent(filePath);
     }
 
     /**
-     * Creates a new ExportWindow.
+     * Creates a new ExportWindow that exports the deck file at {@code deckFilePath}.
      */
-    public ExportWindow() {
-        this(new Stage());
+    public ExportWindow(ReadOnlyObjectProperty<Path> deckFilePath) {
+        this(new Stage(), deckFilePath);
     }
 
     /**
@@ -69,6 +72,8 @@ public class ExportWindow extends UiPart<Stage> {
      */
     public void show() {
         logger.fine("Showing export page about the application.");
+        // Read the deck file now, as it changes with every command and whenever another deck is opened.
+        autoReadDeckFileAndDisplayContent(deckFilePath.get().toString());
         getRoot().show();
         getRoot().centerOnScreen();
     }
@@ -107,12 +112,11 @@ public class ExportWindow extends UiPart<Stage> {
 
     @FXML
     private void autoReadDeckFileAndDisplayContent(String filePath) {
-        // Specify the path to the data/deck.json file
         boolean verify = verifyFilePath(filePath);
         File selectedFile = new File(filePath);
         if (selectedFile.exists()) {
-            // Check if the selected file is data/deck.json
-            if (selectedFile.getName().equals("deck.json") && verify) {
+            // Check if the selected file is a deck file
+            if (verify) {
                 try (BufferedReader reader = new BufferedReader(new FileReader(selectedFile))) {
                     StringBuilder content = new StringBuilder();
                     String line;
@@ -125,21 +129,22 @@ public class ExportWindow extends UiPart<Stage> {
                     exportMessage.setText("Error reading the file: " + e.getMessage());
                 }
             } else {
-                exportMessage.setText("Selected file is not data/deck.json.");
+                exportMessage.setText("Selected file " + filePath + " is not a deck file.");
             }
         } else {
-            exportMessage.setText("The data/deck.json file does not exist.");
+            exportMessage.setText("The deck file " + filePath + " does not exist.");
         }
     }
 
     /**
-     * Checks if file path for deck.json works
+     * Checks if file path for a deck file works
      * @param filePath
      * @return boolean if filepath is present
      */
 
     public static boolean verifyFilePath(String filePath) {
         File selectedFile = new File(filePath);
-        return selectedFile.exists() && selectedFile.getName().equals("deck.json");
+        return selectedFile.exists() && selectedFile.getName().endsWith(Workspace.DECK_FILE_EXTENSION)
+                && Workspace.isValidDeckName(Workspace.deckNameOf(selectedFile.toPath()));
     }
 }
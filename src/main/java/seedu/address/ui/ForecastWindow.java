@@ -0,0 +1,89 @@
+package seedu.address.ui;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+import java.util.logging.Logger;
+
+import javafx.fxml.FXML;
+import javafx.scene.chart.BarChart;
+import javafx.scene.chart.XYChart;
+import javafx.stage.Stage;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.PublishedModel;
+import seedu.address.logic.commands.ForecastCommand;
+
+/**
+ * Controller for a chart of the number of cards due on each of the coming days.
+ */
+public class ForecastWindow extends UiPart<Stage> {
+
+    private static final Logger logger = LogsCenter.getLogger(ForecastWindow.class);
+    private static final String FXML = "ForecastWindow.fxml";
+    private static final DateTimeFormatter DAY_FORMATTER = DateTimeFormatter.ofPattern("d MMM", Locale.ENGLISH);
+
+    private final PublishedModel publishedModel;
+
+    @FXML
+    private BarChart<String, Number> forecastChart;
+
+    /**
+     * Creates a new ForecastWindow that charts the forecast in {@code publishedModel}.
+     *
+     * @param root Stage to use as the root of the ForecastWindow.
+     */
+    public ForecastWindow(Stage root, PublishedModel publishedModel) {
+        super(FXML, root);
+        this.publishedModel = publishedModel;
+    }
+
+    /**
+     * Creates a new ForecastWindow that charts the forecast in {@code publishedModel}.
+     */
+    public ForecastWindow(PublishedModel publishedModel) {
+        this(new Stage(), publishedModel);
+    }
+
+    /**
+     * Shows the forecast window, or focuses on it if it is already shown, with the chart brought up to date.
+     */
+    public void show() {
+        logger.fine("Showing forecast of due cards.");
+        refresh();
+        if (getRoot().isShowing()) {
+            getRoot().requestFocus();
+        } else {
+            getRoot().show();
+        }
+    }
+
+    /**
+     * Redraws the chart with the number of cards due on each of the next {@link ForecastCommand#DEFAULT_DAYS} days,
+     * as last published.
+     */
+    public void refresh() {
+        LocalDate today = publishedModel.getForecastStart();
+        int[] dueCounts = publishedModel.getForecastDueCounts();
+
+        XYChart.Series<String, Number> series = new XYChart.Series<>();
+        for (int day = 0; day < dueCounts.length; day++) {
+            series.getData().add(new XYChart.Data<>(today.plusDays(day).format(DAY_FORMATTER), dueCounts[day]));
+        }
+        forecastChart.getData().setAll(List.of(series));
+    }
+
+    /**
+     * Returns true if the forecast window is currently being shown.
+     */
+    public boolean isShowing() {
+        return getRoot().isShowing();
+    }
+
+    /**
+     * Hides the forecast window.
+     */
+    public void hide() {
+        getRoot().hide();
+    }
+}
@@ -1,13 +1,11 @@
 package seedu.address.ui;
 
-import javafx.beans.property.SimpleStringProperty;
-import javafx.beans.property.StringProperty;
+import javafx.beans.property.ReadOnlyStringProperty;
 import javafx.fxml.FXML;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import javafx.scene.text.Text;
 import javafx.scene.text.TextFlow;
-import seedu.address.model.goal.Goal;
 
 /**
  * The UI component that is responsible for displaying the user's
@@ -15,24 +13,16 @@ import seedu.address.model.goal.Goal;
  */
 public class GoalBox extends UiPart<Region> {
     private static final String FXML = "GoalBox.fxml";
-    public final Goal goal;
     @javafx.fxml.FXML
     private HBox goalBox;
     @FXML
     private TextFlow goalString;
 
-    private StringProperty goalTextProperty;
-
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code GoalBox} showing {@code goalTextProperty}, which follows the user's goal.
      */
-    public GoalBox(Goal goal) {
+    public GoalBox(ReadOnlyStringProperty goalTextProperty) {
         super(FXML);
-        this.goal = goal;
-
-        // Initialize the goalTextProperty and bind it to the goal's text property
-        goalTextProperty = new SimpleStringProperty(goal.getGoalText());
-        goalTextProperty.bind(goal.goalTextProperty());
 
         // Create a Text element to represent the goal text
         Text goalText = new Text();
@@ -2,11 +2,13 @@ package seedu.address.ui;
 
 import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
@@ -32,23 +34,27 @@ public class ImportWindow extends UiPart<Stage> {
     private Stage stage;
     @FXML
     private Stage primaryStage;
+
+    private final ReadOnlyObjectProperty<Path> deckFilePath;
+
     /**
-     * Creates a new ImportWindow.
+     * Creates a new ImportWindow that imports into the deck file at {@code deckFilePath}.
      *
      * @param root Stage to use as the root of the ImportWindow.
      */
-    public ImportWindow(Stage root, Stage primaryStage) {
+    public ImportWindow(Stage root, Stage primaryStage, ReadOnlyObjectProperty<Path> deckFilePath) {
         super(FXML, root);
         this.stage = root;
         this.primaryStage = primaryStage;
+        this.deckFilePath = deckFilePath;
         warningMessage.setText(warningData);
     }
 
     /**
-     * Creates a new ImportWindow.
+     * Creates a new ImportWindow that imports into the deck file at {@code deckFilePath}.
      */
-    public ImportWindow(Stage primaryStage) {
-        this(new Stage(), primaryStage);
+    public ImportWindow(Stage primaryStage, ReadOnlyObjectProperty<Path> deckFilePath) {
+        this(new Stage(), primaryStage, deckFilePath);
     }
 
     /**
@@ -99,8 +105,8 @@ public class ImportWindow extends UiPart<Stage> {
     private void importData() {
         String contentToWrite = inputTextArea.getText();
 
-        // Specify the path to the data/deck.json file
-        String filePath = "data/deck.json";
+        // Import into the file of the deck that is open
+        String filePath = deckFilePath.get().toString();
 
         try (FileWriter writer = new FileWriter(filePath)) {
             verifyImportData(contentToWrite);
@@ -109,7 +115,7 @@ public class ImportWindow extends UiPart<Stage> {
             stage.close();
             primaryStage.close();
         } catch (IOException e) {
-            logger.info("Error writing content to deck.json: " + e.getMessage());
+            logger.info("Error writing content to " + filePath + ": " + e.getMessage());
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
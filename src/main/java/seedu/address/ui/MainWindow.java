@@ -1,21 +1,31 @@
 package seedu.address.ui;
 
+import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.logging.Logger;
 
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
 import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.AsyncCommandExecutor;
 import seedu.address.logic.Logic;
+import seedu.address.logic.PendingCommand;
+import seedu.address.logic.PublishedModel;
+import seedu.address.logic.commands.BatchCommand;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.DeckLoadProgress;
 
 /**
  * The Main Window. Provides the basic application layout containing
  * a menu bar and space where other JavaFX elements can be placed.
+ * <p>
+ * Commands are run by an {@link AsyncCommandExecutor}, so the window shows the model as the executor last
+ * published it, and only changes the model through the executor.
  */
 public class MainWindow extends UiPart<Stage> {
 
@@ -25,11 +35,14 @@ public class MainWindow extends UiPart<Stage> {
 
     private Stage primaryStage;
     private Logic logic;
+    private AsyncCommandExecutor commandExecutor;
+    private PublishedModel publishedModel;
 
-    // Independent Ui parts residing in this Ui container
+    // Independent Ui parts residing in this Ui container; the other windows are only made when first shown.
     private CardListPanel cardListPanel;
     private ResultDisplay resultDisplay;
     private HelpWindow helpWindow;
+    private ForecastWindow forecastWindow;
     private ExportWindow exportWindow;
     private ImportWindow importWindow;
     private GoalBox goalBox;
@@ -52,23 +65,22 @@ public class MainWindow extends UiPart<Stage> {
     private StackPane goalBoxPlaceholder;
 
     /**
-     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}.
+     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}, which runs commands with
+     * {@code commandExecutor}.
      */
-    public MainWindow(Stage primaryStage, Logic logic) {
+    public MainWindow(Stage primaryStage, Logic logic, AsyncCommandExecutor commandExecutor) {
         super(FXML, primaryStage);
 
         // Set dependencies
         this.primaryStage = primaryStage;
         this.logic = logic;
+        this.commandExecutor = commandExecutor;
+        this.publishedModel = commandExecutor.getPublishedModel();
 
         // Configure the UI
         setWindowDefaultSize(logic.getGuiSettings());
 
-        helpWindow = new HelpWindow();
-        exportWindow = new ExportWindow();
-        importWindow = new ImportWindow(primaryStage);
-
-        this.goalBox = new GoalBox(logic.getGoal());
+        this.goalBox = new GoalBox(publishedModel.goalTextProperty());
     }
 
     public Stage getPrimaryStage() {
@@ -80,13 +92,15 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        cardListPanel = new CardListPanel(logic.getFilteredCardList());
+        cardListPanel = new CardListPanel(publishedModel.getFilteredCardList());
         cardListPanelPlaceholder.getChildren().add(cardListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getDeckFilePath());
+        StatusBarFooter statusBarFooter = new StatusBarFooter(publishedModel.deckFilePathProperty(),
+                publishedModel.dueCountProperty(), publishedModel.deckLoadProgressProperty(), () ->
+                commandExecutor.submitTask(() -> logic.getDueCardTracker().advanceTo(LocalDateTime.now())));
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
@@ -95,6 +109,28 @@ public class MainWindow extends UiPart<Stage> {
         goalBoxPlaceholder.getChildren().add(goalBox.getRoot());
     }
 
+    /**
+     * Runs the script at {@code scriptPath} as a batch, as soon as the Deck has loaded.
+     */
+    void runScriptOnceLoaded(Path scriptPath) {
+        String commandText = BatchCommand.COMMAND_WORD + " " + scriptPath;
+        if (publishedModel.deckLoadProgressProperty().get().isDone()) {
+            executeCommand(commandText);
+            return;
+        }
+
+        publishedModel.deckLoadProgressProperty().addListener(new ChangeListener<DeckLoadProgress>() {
+            @Override
+            public void changed(ObservableValue<? extends DeckLoadProgress> observable,
+                    DeckLoadProgress oldProgress, DeckLoadProgress newProgress) {
+                if (newProgress.isDone()) {
+                    observable.removeListener(this);
+                    executeCommand(commandText);
+                }
+            }
+        });
+    }
+
     /**
      * Sets the default size based on {@code guiSettings}.
      */
@@ -112,6 +148,9 @@ public class MainWindow extends UiPart<Stage> {
      */
     @FXML
     public void handleHelp() {
+        if (helpWindow == null) {
+            helpWindow = new HelpWindow();
+        }
         if (!helpWindow.isShowing()) {
             helpWindow.show();
         } else {
@@ -124,6 +163,9 @@ public class MainWindow extends UiPart<Stage> {
      */
 
     public void handleExport() {
+        if (exportWindow == null) {
+            exportWindow = new ExportWindow(publishedModel.deckFilePathProperty());
+        }
         if (!exportWindow.isShowing()) {
             exportWindow.show();
         } else {
@@ -137,6 +179,9 @@ public class MainWindow extends UiPart<Stage> {
 
 
     public void handleImport() {
+        if (importWindow == null) {
+            importWindow = new ImportWindow(primaryStage, publishedModel.deckFilePathProperty());
+        }
         if (!importWindow.isShowing()) {
             importWindow.show();
         } else {
@@ -154,8 +199,13 @@ public class MainWindow extends UiPart<Stage> {
     private void handleExit() {
         GuiSettings guiSettings = new GuiSettings(primaryStage.getWidth(), primaryStage.getHeight(),
                 (int) primaryStage.getX(), (int) primaryStage.getY());
-        logic.setGuiSettings(guiSettings);
-        helpWindow.hide();
+        commandExecutor.submitTask(() -> logic.setGuiSettings(guiSettings));
+        if (helpWindow != null) {
+            helpWindow.hide();
+        }
+        if (forecastWindow != null) {
+            forecastWindow.hide();
+        }
         primaryStage.hide();
     }
 
@@ -164,29 +214,49 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Queues the command to be executed, and shows its result once it has run.
      *
-     * @see Logic#execute(String)
+     * @see AsyncCommandExecutor#submit(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
-
-            if (commandResult.isShowHelp()) {
-                handleHelp();
+    private PendingCommand executeCommand(String commandText) {
+        PendingCommand pendingCommand = commandExecutor.submit(commandText);
+        pendingCommand.statusProperty().addListener((observable, oldStatus, newStatus) -> {
+            if (newStatus.isDone()) {
+                handleCommandDone(pendingCommand);
             }
+        });
+        return pendingCommand;
+    }
 
-            if (commandResult.isExit()) {
-                handleExit();
+    /**
+     * Shows the result of {@code pendingCommand}, which has finished running.
+     */
+    private void handleCommandDone(PendingCommand pendingCommand) {
+        if (pendingCommand.getFailure().isPresent()) {
+            logger.info("An error occurred while executing command: " + pendingCommand.getCommandText());
+            resultDisplay.setFeedbackToUser(pendingCommand.getFailure().get().getMessage());
+            return;
+        }
+
+        CommandResult commandResult = pendingCommand.getResult().get();
+        logger.info("Result: " + commandResult.getFeedbackToUser());
+        resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+
+        if (commandResult.isShowHelp()) {
+            handleHelp();
+        }
+
+        if (commandResult.isShowForecast()) {
+            if (forecastWindow == null) {
+                forecastWindow = new ForecastWindow(publishedModel);
             }
+            forecastWindow.show();
+        } else if (forecastWindow != null && forecastWindow.isShowing()) {
+            forecastWindow.refresh();
+        }
 
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("An error occurred while executing command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
+        if (commandResult.isExit()) {
+            handleExit();
         }
     }
 }
@@ -3,9 +3,17 @@ package seedu.address.ui;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.beans.binding.Bindings;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
+import javafx.util.Duration;
+import seedu.address.model.DeckLoadProgress;
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
@@ -14,14 +22,33 @@ public class StatusBarFooter extends UiPart<Region> {
 
     private static final String FXML = "StatusBarFooter.fxml";
 
+    /** How often the due card count is brought up to date with the clock. */
+    private static final Duration DUE_CHECK_INTERVAL = Duration.minutes(1);
+
     @FXML
     private Label saveLocationStatus;
 
+    @FXML
+    private Label dueStatus;
+
     /**
-     * Creates a {@code StatusBarFooter} with the given {@code Path}.
+     * Creates a {@code StatusBarFooter} showing the given {@code Path}, which follows the deck that is open, and
+     * the number of cards due in {@code dueCount}, or how far loading the deck has got while
+     * {@code deckLoadProgress} is not done. {@code dueCheck} is run every minute to bring the due count up to date
+     * with the clock.
      */
-    public StatusBarFooter(Path saveLocation) {
+    public StatusBarFooter(ReadOnlyObjectProperty<Path> saveLocation, ReadOnlyIntegerProperty dueCount,
+            ReadOnlyObjectProperty<DeckLoadProgress> deckLoadProgress, Runnable dueCheck) {
         super(FXML);
-        saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
+        saveLocationStatus.textProperty().bind(Bindings.createStringBinding(() ->
+                Paths.get(".").resolve(saveLocation.get()).toString(), saveLocation));
+        dueStatus.textProperty().bind(Bindings.createStringBinding(() -> deckLoadProgress.get().isDone()
+                ? String.format("%d card(s) due", dueCount.get())
+                : deckLoadProgress.get().getDescription(),
+                dueCount, deckLoadProgress));
+
+        Timeline dueCheckTimeline = new Timeline(new KeyFrame(DUE_CHECK_INTERVAL, unused -> dueCheck.run()));
+        dueCheckTimeline.setCycleCount(Animation.INDEFINITE);
+        dueCheckTimeline.play();
     }
 }
@@ -1,15 +1,19 @@
 package seedu.address.ui;
 
+import java.nio.file.Path;
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
+import javafx.scene.Scene;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Alert.AlertType;
 import javafx.scene.image.Image;
 import javafx.stage.Stage;
 import seedu.address.MainApp;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StartupTimer;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.AsyncCommandExecutor;
 import seedu.address.logic.Logic;
 
 /**
@@ -23,13 +27,18 @@ public class UiManager implements Ui {
     private static final String ICON_APPLICATION = "/images/address_book_32.png";
 
     private Logic logic;
+    private AsyncCommandExecutor commandExecutor;
+    private Path scriptPath;
     private MainWindow mainWindow;
 
     /**
-     * Creates a {@code UiManager} with the given {@code Logic}.
+     * Creates a {@code UiManager} with the given {@code Logic}, which runs commands with {@code commandExecutor}.
+     * The script at {@code scriptPath} is run as a batch once the Deck has loaded, unless it is null.
      */
-    public UiManager(Logic logic) {
+    public UiManager(Logic logic, AsyncCommandExecutor commandExecutor, Path scriptPath) {
         this.logic = logic;
+        this.commandExecutor = commandExecutor;
+        this.scriptPath = scriptPath;
     }
 
     @Override
@@ -39,10 +48,18 @@ public class UiManager implements Ui {
         //Set the application icon.
         primaryStage.getIcons().add(getImage(ICON_APPLICATION));
 
+        StartupTimer startupTimer = logic.getStartupTimer();
         try {
-            mainWindow = new MainWindow(primaryStage, logic);
+            startupTimer.startPhase(StartupTimer.PHASE_FXML);
+            mainWindow = new MainWindow(primaryStage, logic, commandExecutor);
             mainWindow.show(); //This should be called before creating other UI parts
             mainWindow.fillInnerParts();
+            if (scriptPath != null) {
+                mainWindow.runScriptOnceLoaded(scriptPath);
+            }
+
+            startupTimer.startPhase(StartupTimer.PHASE_FIRST_FRAME);
+            timeFirstFrame(primaryStage.getScene(), startupTimer);
 
         } catch (Throwable e) {
             logger.severe(StringUtil.getDetails(e));
@@ -50,6 +67,18 @@ public class UiManager implements Ui {
         }
     }
 
+    /**
+     * Marks the app as usable in {@code startupTimer} once {@code scene} has been laid out for the first time.
+     */
+    private static void timeFirstFrame(Scene scene, StartupTimer startupTimer) {
+        Runnable[] listener = new Runnable[1];
+        listener[0] = () -> {
+            startupTimer.markInteractive();
+            scene.removePostLayoutPulseListener(listener[0]);
+        };
+        scene.addPostLayoutPulseListener(listener[0]);
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
@@ -0,0 +1,101 @@
+package seedu.address.ui.markdown;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Splits text written with the markdown syntax of the app into {@link MarkdownSpan}s.
+ * <p>
+ * {@code **} turns bold on or off, {@code *} turns italics on or off, and {@code <u>} and {@code </u>} turn
+ * underlining on and off. The text is read once from start to end, and each span's text is cut out of it in one
+ * piece. As the same card texts are shown over and over while the card list is scrolled, the spans of recently
+ * shown texts are kept in a cache of bounded size, so that showing a text again does not read it again.
+ */
+public class MarkdownLexer {
+
+    /** Number of texts whose spans are kept. */
+    public static final int CACHE_CAPACITY = 4096;
+
+    private static final String BOLD_MARKER = "**";
+    private static final String ITALIC_MARKER = "*";
+    private static final String UNDERLINE_START_MARKER = "<u>";
+    private static final String UNDERLINE_END_MARKER = "</u>";
+
+    private static final Map<String, List<MarkdownSpan>> cache = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, List<MarkdownSpan>> eldest) {
+                    return size() > CACHE_CAPACITY;
+                }
+            });
+
+    private MarkdownLexer() {}
+
+    /**
+     * Returns the spans of {@code content}, from the cache if it has been split recently.
+     * The returned list is unmodifiable.
+     */
+    public static List<MarkdownSpan> spansOf(String content) {
+        requireNonNull(content);
+        return cache.computeIfAbsent(content, MarkdownLexer::lex);
+    }
+
+    /**
+     * Splits {@code content} into spans in a single pass, without the cache.
+     * The returned list is unmodifiable.
+     */
+    public static List<MarkdownSpan> lex(String content) {
+        requireNonNull(content);
+
+        List<MarkdownSpan> spans = new ArrayList<>();
+        boolean isBold = false;
+        boolean isItalic = false;
+        boolean isUnderlined = false;
+        // Start of the text not yet added to a span
+        int spanStart = 0;
+        int i = 0;
+        while (i < content.length()) {
+            char c = content.charAt(i);
+            int markerLength;
+            if (c == '<' && content.startsWith(UNDERLINE_START_MARKER, i)) {
+                addSpan(spans, content, spanStart, i, isBold, isItalic, isUnderlined);
+                isUnderlined = true;
+                markerLength = UNDERLINE_START_MARKER.length();
+            } else if (c == '<' && content.startsWith(UNDERLINE_END_MARKER, i)) {
+                addSpan(spans, content, spanStart, i, isBold, isItalic, isUnderlined);
+                isUnderlined = false;
+                markerLength = UNDERLINE_END_MARKER.length();
+            } else if (c == '*' && content.startsWith(BOLD_MARKER, i)) {
+                addSpan(spans, content, spanStart, i, isBold, isItalic, isUnderlined);
+                isBold = !isBold;
+                markerLength = BOLD_MARKER.length();
+            } else if (c == '*') {
+                addSpan(spans, content, spanStart, i, isBold, isItalic, isUnderlined);
+                isItalic = !isItalic;
+                markerLength = ITALIC_MARKER.length();
+            } else {
+                i++;
+                continue;
+            }
+            i += markerLength;
+            spanStart = i;
+        }
+        addSpan(spans, content, spanStart, content.length(), isBold, isItalic, isUnderlined);
+        return Collections.unmodifiableList(spans);
+    }
+
+    /**
+     * Adds a span of the text of {@code content} from {@code start} inclusive to {@code end} exclusive, if any.
+     */
+    private static void addSpan(List<MarkdownSpan> spans, String content, int start, int end,
+            boolean isBold, boolean isItalic, boolean isUnderlined) {
+        if (start < end) {
+            spans.add(new MarkdownSpan(content.substring(start, end), isBold, isItalic, isUnderlined));
+        }
+    }
+}
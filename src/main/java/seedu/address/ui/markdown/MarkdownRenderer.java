@@ -0,0 +1,59 @@
+package seedu.address.ui.markdown;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import javafx.scene.Node;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontPosture;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.Text;
+import javafx.scene.text.TextFlow;
+
+/**
+ * Shows text written with markdown syntax in a {@code TextFlow}, one {@code Text} node per {@link MarkdownSpan}.
+ * The spans come from the cache of {@link MarkdownLexer}, so showing a text again does not parse it again.
+ */
+public class MarkdownRenderer {
+
+    private static final Font REGULAR_FONT = Font.font("Arial", 15);
+    private static final Font BOLD_FONT = Font.font("Arial", FontWeight.BOLD, 15);
+    private static final Font ITALIC_FONT = Font.font("Arial", FontPosture.ITALIC, 15);
+    private static final Font BOLD_ITALIC_FONT = Font.font("Arial", FontWeight.BOLD, FontPosture.ITALIC, 15);
+
+    private MarkdownRenderer() {}
+
+    /**
+     * Replaces the contents of {@code textFlow} with {@code content}, applying {@code styler} to each {@code Text}
+     * node after its font is set.
+     */
+    public static void render(TextFlow textFlow, String content, Consumer<Text> styler) {
+        requireAllNonNull(textFlow, content, styler);
+
+        List<MarkdownSpan> spans = MarkdownLexer.spansOf(content);
+        Node[] texts = new Node[spans.size()];
+        for (int i = 0; i < texts.length; i++) {
+            Text text = toText(spans.get(i));
+            styler.accept(text);
+            texts[i] = text;
+        }
+        textFlow.getChildren().setAll(texts);
+    }
+
+    private static Text toText(MarkdownSpan span) {
+        Text text = new Text(span.getText());
+        if (span.isBold() && span.isItalic()) {
+            text.setFont(BOLD_ITALIC_FONT);
+        } else if (span.isBold()) {
+            text.setFont(BOLD_FONT);
+        } else if (span.isItalic()) {
+            text.setFont(ITALIC_FONT);
+        } else {
+            text.setFont(REGULAR_FONT);
+        }
+        text.setUnderline(span.isUnderlined());
+        return text;
+    }
+}
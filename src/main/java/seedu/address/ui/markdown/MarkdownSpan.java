@@ -0,0 +1,79 @@
+package seedu.address.ui.markdown;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A run of text shown in one style, after the markdown markers around it have been removed.
+ * Guarantees: immutable.
+ */
+public final class MarkdownSpan {
+
+    private final String text;
+    private final boolean isBold;
+    private final boolean isItalic;
+    private final boolean isUnderlined;
+
+    /**
+     * Creates a span of {@code text} in the given style.
+     */
+    public MarkdownSpan(String text, boolean isBold, boolean isItalic, boolean isUnderlined) {
+        requireNonNull(text);
+        this.text = text;
+        this.isBold = isBold;
+        this.isItalic = isItalic;
+        this.isUnderlined = isUnderlined;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public boolean isBold() {
+        return isBold;
+    }
+
+    public boolean isItalic() {
+        return isItalic;
+    }
+
+    public boolean isUnderlined() {
+        return isUnderlined;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof MarkdownSpan)) {
+            return false;
+        }
+
+        MarkdownSpan otherSpan = (MarkdownSpan) other;
+        return text.equals(otherSpan.text)
+                && isBold == otherSpan.isBold
+                && isItalic == otherSpan.isItalic
+                && isUnderlined == otherSpan.isUnderlined;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(text, isBold, isItalic, isUnderlined);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("text", text)
+                .add("isBold", isBold)
+                .add("isItalic", isItalic)
+                .add("isUnderlined", isUnderlined)
+                .toString();
+    }
+}
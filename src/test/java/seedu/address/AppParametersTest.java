@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -39,10 +40,67 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_namedScriptPath_success() {
+        parametersStub.namedParameters.put("script", "edits.txt");
+        expected.setScriptPath(Paths.get("edits.txt"));
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_separatedScriptPath_success() {
+        parametersStub.unnamedParameters.addAll(List.of("--script", "edits.txt"));
+        expected.setScriptPath(Paths.get("edits.txt"));
+        assertEquals(expected, AppParameters.parse(parametersStub));
+
+        // no value after the name
+        ParametersStub missingValueStub = new ParametersStub();
+        missingValueStub.unnamedParameters.add("--script");
+        assertEquals(new AppParameters(), AppParameters.parse(missingValueStub));
+    }
+
+    @Test
+    public void parse_commandLineArguments_success() {
+        expected.setConfigPath(Paths.get("config.json"));
+        expected.setScriptPath(Paths.get("edits.txt"));
+        assertEquals(expected, AppParameters.parse(new String[] {"--headless", "--config=config.json", "--script",
+            "edits.txt"}));
+        assertEquals(expected, AppParameters.parse(new String[] {"--script=edits.txt", "--config=config.json"}));
+
+        // no name before the value
+        assertEquals(new AppParameters(), AppParameters.parse(new String[] {"--=config.json"}));
+    }
+
+    @Test
+    public void parse_invalidScriptPath_noScript() {
+        parametersStub.namedParameters.put("script", "a\0");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_validApiPort_success() {
+        parametersStub.namedParameters.put("api-port", "8080");
+        expected.setApiPort(8080);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+        assertEquals(expected, AppParameters.parse(new String[] {"--api-port", "8080"}));
+
+        // any free port
+        expected.setApiPort(0);
+        assertEquals(expected, AppParameters.parse(new String[] {"--api-port=0"}));
+    }
+
+    @Test
+    public void parse_invalidApiPort_noApi() {
+        assertEquals(expected, AppParameters.parse(new String[] {"--api-port=-1"}));
+        assertEquals(expected, AppParameters.parse(new String[] {"--api-port=65536"}));
+        assertEquals(expected, AppParameters.parse(new String[] {"--api-port=http"}));
+    }
+
     @Test
     public void toStringMethod() {
         AppParameters appParameters = new AppParameters();
-        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath() + "}";
+        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath()
+                + ", scriptPath=" + appParameters.getScriptPath() + ", apiPort=" + appParameters.getApiPort() + "}";
         assertEquals(expected, appParameters.toString());
     }
 
@@ -66,10 +124,21 @@ public class AppParametersTest {
         AppParameters otherAppParameters = new AppParameters();
         otherAppParameters.setConfigPath(Paths.get("configPath"));
         assertFalse(appParameters.equals(otherAppParameters));
+
+        // different script path -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setScriptPath(Paths.get("scriptPath"));
+        assertFalse(appParameters.equals(otherAppParameters));
+
+        // different API port -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setApiPort(8080);
+        assertFalse(appParameters.equals(otherAppParameters));
     }
 
     private static class ParametersStub extends Application.Parameters {
         private Map<String, String> namedParameters = new HashMap<>();
+        private List<String> unnamedParameters = new ArrayList<>();
 
         @Override
         public List<String> getRaw() {
@@ -78,7 +147,7 @@ public class AppParametersTest {
 
         @Override
         public List<String> getUnnamed() {
-            throw new AssertionError("should not be called");
+            return Collections.unmodifiableList(unnamedParameters);
         }
 
         @Override
@@ -0,0 +1,89 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BatchCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.model.Deck;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonDeckStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class HeadlessAppTest {
+
+    private static final String ADD_FIRST = AddCommand.COMMAND_WORD + " q/ What is this? a/ A card";
+    private static final String ADD_SECOND = AddCommand.COMMAND_WORD + " q/ Unit of force? a/ Newton";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private StorageManager storage;
+    private HeadlessApp app;
+
+    @BeforeEach
+    public void setUp() {
+        JsonDeckStorage deckStorage = new JsonDeckStorage(temporaryFolder.resolve("deck.json"));
+        storage = new StorageManager(deckStorage, new JsonUserPrefsStorage(temporaryFolder.resolve("prefs.json")));
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setDeckFilePath(deckStorage.getDeckFilePath());
+        app = new HeadlessApp(new ModelManager(new Deck(), userPrefs), storage);
+    }
+
+    @Test
+    public void run_commandsFromInput_printsResultsAndSaves() throws Exception {
+        StringWriter output = new StringWriter();
+        int exitCode = run(null, String.join("\n", ADD_FIRST, "", "invalid command", ADD_SECOND), output);
+
+        assertTrue(output.toString().contains(HeadlessApp.ERROR_PREFIX + MESSAGE_UNKNOWN_COMMAND));
+        assertEquals(HeadlessApp.EXIT_FAILURE, exitCode);
+        assertEquals(2, storage.readDeck().get().getCardList().size());
+    }
+
+    @Test
+    public void run_exitCommand_stopsReading() throws Exception {
+        int exitCode = run(null, String.join("\n", ADD_FIRST, ExitCommand.COMMAND_WORD, ADD_SECOND),
+                new StringWriter());
+
+        assertEquals(HeadlessApp.EXIT_SUCCESS, exitCode);
+        assertEquals(1, storage.readDeck().get().getCardList().size());
+    }
+
+    @Test
+    public void run_script_runsScriptAsBatch() throws Exception {
+        Path scriptPath = temporaryFolder.resolve("script.txt");
+        Files.write(scriptPath, List.of(ADD_FIRST, ADD_SECOND));
+        StringWriter output = new StringWriter();
+
+        int exitCode = run(scriptPath, ADD_FIRST, output);
+
+        assertEquals(HeadlessApp.EXIT_SUCCESS, exitCode);
+        assertEquals(String.format(BatchCommand.MESSAGE_SUCCESS, 2, scriptPath) + System.lineSeparator(),
+                output.toString());
+        assertEquals(2, storage.readDeck().get().getCardList().size());
+    }
+
+    private int run(Path scriptPath, String input, StringWriter output) throws IOException {
+        PrintWriter out = new PrintWriter(output);
+        int exitCode = app.run(scriptPath, new BufferedReader(new StringReader(input)), out);
+        out.flush();
+        return exitCode;
+    }
+}
@@ -0,0 +1,194 @@
+package seedu.address.api;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import seedu.address.logic.AsyncCommandExecutor;
+import seedu.address.logic.LogicManager;
+import seedu.address.model.Deck;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.card.PracticeDate;
+import seedu.address.storage.JsonDeckStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.CardBuilder;
+
+/**
+ * Measures the throughput and latency of the {@link ApiServer} under a mix of reads and writes from several clients
+ * on the loopback address, against a Deck saved to a temporary folder after every change, as in the app.
+ * <p>
+ * Run with {@code gradlew apiLoadBenchmark}. Each client sends its next request as soon as the last one is
+ * answered, so the requests per second are the most the server keeps up with for that many clients.
+ */
+public class ApiServerLoadBenchmark {
+
+    private static final int CARD_COUNT = 1_000;
+    private static final int CLIENT_COUNT = 8;
+    private static final long WARM_UP_MILLIS = 3_000;
+    private static final long DURATION_MILLIS = 10_000;
+    /** Out of every 100 requests, how many change the Deck; the rest read it. */
+    private static final int WRITE_PERCENT = 10;
+
+    /**
+     * The kinds of request sent, in the order they are reported.
+     */
+    private enum Kind {
+        LIST, FIND, DUE, REVIEW
+    }
+
+    /**
+     * Runs the benchmark and prints the throughput and latencies of each kind of request.
+     */
+    public static void main(String[] args) throws Exception {
+        Path folder = Files.createTempDirectory("api-benchmark");
+        JsonDeckStorage deckStorage = new JsonDeckStorage(folder.resolve("deck.json"));
+        StorageManager storage = new StorageManager(deckStorage,
+                new JsonUserPrefsStorage(folder.resolve("userPrefs.json")));
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setDeckFilePath(deckStorage.getDeckFilePath());
+        AsyncCommandExecutor executor = new AsyncCommandExecutor(
+                new LogicManager(new ModelManager(createDeck(), userPrefs), storage), Runnable::run);
+        ApiServer server = new ApiServer(executor, 0);
+        server.start();
+
+        String baseUri = "http://localhost:" + server.getPort();
+        HttpClient client = HttpClient.newHttpClient();
+        System.out.printf("%d cards, %d clients, %d%% writes, %d s%n", CARD_COUNT, CLIENT_COUNT, WRITE_PERCENT,
+                DURATION_MILLIS / 1000);
+
+        runClients(client, baseUri, server.getToken(), WARM_UP_MILLIS);
+        List<List<Long>> latencies = runClients(client, baseUri, server.getToken(), DURATION_MILLIS);
+
+        server.stop();
+        executor.shutdown(DURATION_MILLIS);
+        report(latencies);
+    }
+
+    /**
+     * Sends requests with {@code token} from {@link #CLIENT_COUNT} clients for {@code durationMillis}, and returns
+     * the latencies in nanoseconds of each kind of request, in the order of {@link Kind}.
+     */
+    private static List<List<Long>> runClients(HttpClient client, String baseUri, String token,
+            long durationMillis) throws InterruptedException {
+        List<List<Long>> latencies = new ArrayList<>();
+        for (int i = 0; i < Kind.values().length; i++) {
+            latencies.add(new ArrayList<>());
+        }
+
+        long endNanos = System.nanoTime() + durationMillis * 1_000_000;
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < CLIENT_COUNT; i++) {
+            Thread thread = new Thread(() -> {
+                List<List<Long>> clientLatencies = runClient(client, baseUri, token, endNanos);
+                synchronized (latencies) {
+                    for (int kind = 0; kind < latencies.size(); kind++) {
+                        latencies.get(kind).addAll(clientLatencies.get(kind));
+                    }
+                }
+            }, "api-benchmark-client-" + i);
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        return latencies;
+    }
+
+    private static List<List<Long>> runClient(HttpClient client, String baseUri, String token, long endNanos) {
+        List<List<Long>> latencies = new ArrayList<>();
+        for (int i = 0; i < Kind.values().length; i++) {
+            latencies.add(new ArrayList<>());
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (System.nanoTime() < endNanos) {
+            Kind kind = random.nextInt(100) < WRITE_PERCENT ? Kind.REVIEW : Kind.values()[random.nextInt(3)];
+            HttpRequest request = createRequest(kind, baseUri, random)
+                    .header(ApiServer.TOKEN_HEADER, ApiServer.TOKEN_SCHEME + token).build();
+            long startNanos = System.nanoTime();
+            try {
+                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() != ApiServer.STATUS_OK) {
+                    throw new IllegalStateException(kind + " failed: " + response.body());
+                }
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            latencies.get(kind.ordinal()).add(System.nanoTime() - startNanos);
+        }
+        return latencies;
+    }
+
+    private static HttpRequest.Builder createRequest(Kind kind, String baseUri, ThreadLocalRandom random) {
+        switch (kind) {
+        case LIST:
+            return HttpRequest.newBuilder(URI.create(baseUri + ApiServer.CARDS_PATH));
+        case FIND:
+            return HttpRequest.newBuilder(URI.create(baseUri + ApiServer.CARDS_PATH + "?"
+                    + ApiServer.QUERY_PARAMETER + "=chapter" + random.nextInt(12)));
+        case DUE:
+            return HttpRequest.newBuilder(URI.create(baseUri + ApiServer.DUE_PATH + "?"
+                    + ApiServer.LIMIT_PARAMETER + "=20"));
+        case REVIEW:
+            String body = "{\"index\": " + (random.nextInt(CARD_COUNT) + 1) + ", \"difficulty\": \""
+                    + (random.nextBoolean() ? "easy" : "hard") + "\"}";
+            return HttpRequest.newBuilder(URI.create(baseUri + ApiServer.REVIEW_PATH))
+                    .header("Content-Type", "application/json").POST(HttpRequest.BodyPublishers.ofString(body));
+        default:
+            throw new AssertionError("Unknown kind of request " + kind);
+        }
+    }
+
+    private static void report(List<List<Long>> latencies) {
+        long totalCount = 0;
+        List<Long> allLatencies = new ArrayList<>();
+        for (Kind kind : Kind.values()) {
+            List<Long> kindLatencies = latencies.get(kind.ordinal());
+            printLatencies(kind.toString().toLowerCase(), kindLatencies);
+            totalCount += kindLatencies.size();
+            allLatencies.addAll(kindLatencies);
+        }
+        printLatencies("all", allLatencies);
+        System.out.printf("%.0f requests/s%n", totalCount * 1000.0 / DURATION_MILLIS);
+    }
+
+    private static void printLatencies(String name, List<Long> latencies) {
+        long[] sortedNanos = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        if (sortedNanos.length == 0) {
+            System.out.printf("%-7s no requests%n", name);
+            return;
+        }
+        System.out.printf("%-7s %7d requests, %7.0f/s, mean %7.3f ms, p50 %7.3f ms, p99 %7.3f ms, max %7.3f ms%n",
+                name, sortedNanos.length, sortedNanos.length * 1000.0 / DURATION_MILLIS,
+                Arrays.stream(sortedNanos).average().orElse(0) / 1e6, percentile(sortedNanos, 50),
+                percentile(sortedNanos, 99), sortedNanos[sortedNanos.length - 1] / 1e6);
+    }
+
+    private static double percentile(long[] sortedNanos, int percent) {
+        return sortedNanos[Math.min(sortedNanos.length - 1, sortedNanos.length * percent / 100)] / 1e6;
+    }
+
+    private static Deck createDeck() {
+        LocalDateTime start = LocalDateTime.now().minusDays(1);
+        Deck deck = new Deck();
+        for (int i = 0; i < CARD_COUNT; i++) {
+            deck.addCard(new CardBuilder()
+                    .withQuestion("What is term " + i + " in chapter" + (i % 12) + "?")
+                    .withAnswer("Answer " + i)
+                    .withNextPracticeDate(new PracticeDate(start.plusMinutes(i * 3L)))
+                    .build());
+        }
+        return deck;
+    }
+}
@@ -0,0 +1,236 @@
+package seedu.address.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_CARD_DISPLAYED_INDEX;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.AsyncCommandExecutor;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.Deck;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.card.Difficulty;
+import seedu.address.storage.JsonDeckStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class ApiServerTest {
+
+    private static final String ADD_FIRST = AddCommand.COMMAND_WORD + " q/ What is this? a/ A deck card";
+    private static final String ADD_SECOND = AddCommand.COMMAND_WORD + " q/ Unit of force? a/ Newton";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private Model model;
+    private ApiServer server;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        JsonDeckStorage deckStorage = new JsonDeckStorage(temporaryFolder.resolve("deck.json"));
+        StorageManager storage = new StorageManager(deckStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setDeckFilePath(deckStorage.getDeckFilePath());
+        model = new ModelManager(new Deck(), userPrefs);
+        AsyncCommandExecutor executor = new AsyncCommandExecutor(new LogicManager(model, storage), Runnable::run);
+        server = new ApiServer(executor, 0, 2);
+        server.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    public void executeCommand_validCommand_seenByNextRead() throws Exception {
+        assertEquals(List.of(), getJson(ApiServer.CARDS_PATH).get("cards"));
+
+        HttpResponse<String> response = postCommand(ADD_FIRST);
+        assertEquals(ApiServer.STATUS_OK, response.statusCode());
+        assertEquals(1, model.getFilteredCardList().size());
+
+        Map<?, ?> cardList = getJson(ApiServer.CARDS_PATH);
+        assertEquals("deck", cardList.get("deck"));
+        assertEquals(false, cardList.get("deckLoading"));
+        List<?> cards = (List<?>) cardList.get("cards");
+        assertEquals(1, cards.size());
+        Map<?, ?> card = (Map<?, ?>) cards.get(0);
+        assertEquals(1, card.get("index"));
+        assertEquals("What is this?", card.get("question"));
+        assertEquals("A deck card", card.get("answer"));
+    }
+
+    @Test
+    public void getCards_query_onlyMatchingCardsWithShownIndexes() throws Exception {
+        postCommand(ADD_FIRST);
+        postCommand(ADD_SECOND);
+
+        List<?> cards = (List<?>) getJson(ApiServer.CARDS_PATH + "?q=newton%20unknown").get("cards");
+        assertEquals(1, cards.size());
+        assertEquals(2, ((Map<?, ?>) cards.get(0)).get("index"));
+    }
+
+    @Test
+    public void getDueCards_limit_mostOverdueFirst() throws Exception {
+        postCommand(ADD_FIRST);
+        postCommand(ADD_SECOND);
+
+        List<?> cards = (List<?>) getJson(ApiServer.DUE_PATH + "?limit=1").get("cards");
+        assertEquals(1, cards.size());
+        assertEquals(1, ((Map<?, ?>) cards.get(0)).get("index"));
+
+        assertEquals(ApiServer.STATUS_BAD_REQUEST, get(ApiServer.DUE_PATH + "?limit=0").statusCode());
+    }
+
+    @Test
+    public void getDueCards_filteredList_hiddenCardsListedWithoutIndex() throws Exception {
+        postCommand(ADD_FIRST);
+        postCommand(ADD_SECOND);
+        postCommand(ListCommand.COMMAND_WORD + " q/Unit");
+
+        List<?> cards = (List<?>) getJson(ApiServer.DUE_PATH).get("cards");
+        assertEquals(2, cards.size());
+        assertEquals("What is this?", ((Map<?, ?>) cards.get(0)).get("question"));
+        assertEquals(null, ((Map<?, ?>) cards.get(0)).get("index"));
+        assertEquals("Unit of force?", ((Map<?, ?>) cards.get(1)).get("question"));
+        assertEquals(1, ((Map<?, ?>) cards.get(1)).get("index"));
+    }
+
+    @Test
+    public void reviewCard_validIndex_cardRated() throws Exception {
+        postCommand(ADD_FIRST);
+
+        HttpResponse<String> response = post(ApiServer.REVIEW_PATH, "{\"index\": 1, \"difficulty\": \"easy\"}");
+        assertEquals(ApiServer.STATUS_OK, response.statusCode());
+        assertEquals(Difficulty.EASY.toString(), model.getFilteredCardList().get(0).getDifficulty());
+
+        response = post(ApiServer.REVIEW_PATH, "{\"index\": 2, \"difficulty\": \"easy\"}");
+        assertError(ApiServer.STATUS_BAD_REQUEST, MESSAGE_INVALID_CARD_DISPLAYED_INDEX, response);
+        response = post(ApiServer.REVIEW_PATH, "{\"index\": 1}");
+        assertError(ApiServer.STATUS_BAD_REQUEST, String.format(ApiServer.MESSAGE_MISSING_FIELD, "difficulty"),
+                response);
+    }
+
+    @Test
+    public void requests_invalid_answeredWithErrors() throws Exception {
+        assertError(ApiServer.STATUS_BAD_REQUEST, MESSAGE_UNKNOWN_COMMAND, postCommand("invalid command"));
+        assertError(ApiServer.STATUS_BAD_REQUEST, String.format(ApiServer.MESSAGE_MISSING_FIELD, "command"),
+                post(ApiServer.COMMANDS_PATH, "{}"));
+        assertEquals(ApiServer.STATUS_BAD_REQUEST, post(ApiServer.COMMANDS_PATH, "not json").statusCode());
+        assertError(ApiServer.STATUS_METHOD_NOT_ALLOWED, String.format(ApiServer.MESSAGE_METHOD_NOT_ALLOWED,
+                "GET", ApiServer.COMMANDS_PATH, "POST"), get(ApiServer.COMMANDS_PATH));
+        assertError(ApiServer.STATUS_NOT_FOUND, String.format(ApiServer.MESSAGE_NOT_FOUND,
+                ApiServer.CARDS_PATH + "/1"), get(ApiServer.CARDS_PATH + "/1"));
+    }
+
+    @Test
+    public void requests_withoutValidToken_unauthorized() throws Exception {
+        assertError(ApiServer.STATUS_UNAUTHORIZED, ApiServer.MESSAGE_UNAUTHORIZED,
+                client.send(HttpRequest.newBuilder(uriOf(ApiServer.CARDS_PATH)).GET().build(),
+                        HttpResponse.BodyHandlers.ofString()));
+        assertError(ApiServer.STATUS_UNAUTHORIZED, ApiServer.MESSAGE_UNAUTHORIZED,
+                client.send(jsonPost(ApiServer.COMMANDS_PATH, "{\"command\": \"" + ADD_FIRST + "\"}")
+                        .setHeader(ApiServer.TOKEN_HEADER, ApiServer.TOKEN_SCHEME + "guessed").build(),
+                        HttpResponse.BodyHandlers.ofString()));
+        assertEquals(0, model.getFilteredCardList().size());
+    }
+
+    @Test
+    public void requests_fromWebPage_forbidden() throws Exception {
+        // A page can post plain text to another origin without the browser asking first, and sends its origin.
+        HttpRequest plainTextPost = HttpRequest.newBuilder(uriOf(ApiServer.COMMANDS_PATH))
+                .header(ApiServer.TOKEN_HEADER, ApiServer.TOKEN_SCHEME + server.getToken())
+                .header("Content-Type", "text/plain")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"command\": \"" + ADD_FIRST + "\"}")).build();
+        assertError(ApiServer.STATUS_UNSUPPORTED_MEDIA_TYPE, ApiServer.MESSAGE_UNSUPPORTED_MEDIA_TYPE,
+                client.send(plainTextPost, HttpResponse.BodyHandlers.ofString()));
+        assertError(ApiServer.STATUS_FORBIDDEN, ApiServer.MESSAGE_FORBIDDEN,
+                client.send(jsonPost(ApiServer.COMMANDS_PATH, "{\"command\": \"" + ADD_FIRST + "\"}")
+                        .header("Origin", "https://example.com").build(), HttpResponse.BodyHandlers.ofString()));
+        assertEquals(0, model.getFilteredCardList().size());
+
+        // A page whose host name points at the loopback address sends that name as the host.
+        assertTrue(sendWithHost("localhost:" + server.getPort()).startsWith("HTTP/1.1 " + ApiServer.STATUS_OK));
+        assertTrue(sendWithHost("evil.example:" + server.getPort())
+                .startsWith("HTTP/1.1 " + ApiServer.STATUS_FORBIDDEN));
+    }
+
+    /**
+     * Sends a request to list the cards, with the token and with {@code host} as its {@code Host}, which the HTTP
+     * client does not allow to be changed, and returns the status line of the response.
+     */
+    private String sendWithHost(String host) throws Exception {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+            String request = "GET " + ApiServer.CARDS_PATH + " HTTP/1.1\r\n"
+                    + "Host: " + host + "\r\n"
+                    + ApiServer.TOKEN_HEADER + ": " + ApiServer.TOKEN_SCHEME + server.getToken() + "\r\n"
+                    + "Connection: close\r\n\r\n";
+            socket.getOutputStream().write(request.getBytes(StandardCharsets.UTF_8));
+            return new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8))
+                    .readLine();
+        }
+    }
+
+    private void assertError(int expectedStatus, String expectedMessage, HttpResponse<String> response)
+            throws Exception {
+        assertEquals(expectedStatus, response.statusCode());
+        assertEquals(expectedMessage, JsonUtil.fromJsonString(response.body(), Map.class).get("error"));
+        assertTrue(response.headers().firstValue("Content-Type").get().startsWith("application/json"));
+    }
+
+    private Map<?, ?> getJson(String pathAndQuery) throws Exception {
+        HttpResponse<String> response = get(pathAndQuery);
+        assertEquals(ApiServer.STATUS_OK, response.statusCode());
+        return JsonUtil.fromJsonString(response.body(), Map.class);
+    }
+
+    private HttpResponse<String> get(String pathAndQuery) throws Exception {
+        return client.send(HttpRequest.newBuilder(uriOf(pathAndQuery))
+                .header(ApiServer.TOKEN_HEADER, ApiServer.TOKEN_SCHEME + server.getToken()).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> postCommand(String commandText) throws Exception {
+        return post(ApiServer.COMMANDS_PATH, "{\"command\": \"" + commandText + "\"}");
+    }
+
+    private HttpResponse<String> post(String path, String body) throws Exception {
+        return client.send(jsonPost(path, body).header(ApiServer.TOKEN_HEADER, ApiServer.TOKEN_SCHEME
+                + server.getToken()).build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest.Builder jsonPost(String path, String body) {
+        return HttpRequest.newBuilder(uriOf(path)).header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+    }
+
+    private URI uriOf(String pathAndQuery) {
+        return URI.create("http://localhost:" + server.getPort() + pathAndQuery);
+    }
+}
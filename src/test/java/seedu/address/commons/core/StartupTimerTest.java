@@ -0,0 +1,55 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class StartupTimerTest {
+
+    private long nowMillis = 0;
+
+    private final StartupTimer startupTimer = new StartupTimer(() -> Duration.ofMillis(nowMillis).toNanos());
+
+    @Test
+    public void startPhase_endsPreviousPhase() {
+        nowMillis = 5;
+        startupTimer.startPhase(StartupTimer.PHASE_CONFIG);
+        nowMillis = 15;
+        startupTimer.startPhase(StartupTimer.PHASE_PREFS);
+
+        // The phase being timed is not listed yet.
+        assertEquals(List.of(phase(StartupTimer.PHASE_CONFIG, 10)), startupTimer.getPhases());
+
+        nowMillis = 45;
+        startupTimer.endPhase();
+        nowMillis = 60;
+        startupTimer.endPhase();
+
+        assertEquals(List.of(phase(StartupTimer.PHASE_CONFIG, 10), phase(StartupTimer.PHASE_PREFS, 30)),
+                startupTimer.getPhases());
+        assertEquals(Optional.empty(), startupTimer.getTimeToInteractive());
+    }
+
+    @Test
+    public void markInteractive_recordsTimeSinceStartOnce() {
+        startupTimer.startPhase(StartupTimer.PHASE_FXML);
+        nowMillis = 70;
+        startupTimer.startPhase(StartupTimer.PHASE_FIRST_FRAME);
+        nowMillis = 100;
+        startupTimer.markInteractive();
+        nowMillis = 500;
+        startupTimer.markInteractive();
+
+        assertEquals(Optional.of(Duration.ofMillis(100)), startupTimer.getTimeToInteractive());
+        assertEquals(List.of(phase(StartupTimer.PHASE_FXML, 70), phase(StartupTimer.PHASE_FIRST_FRAME, 30)),
+                startupTimer.getPhases());
+    }
+
+    private static StartupTimer.Phase phase(String name, long millis) {
+        return new StartupTimer.Phase(name, Duration.ofMillis(millis));
+    }
+}
@@ -0,0 +1,176 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.logic.PendingCommand.Status;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.GoalCommand;
+import seedu.address.logic.commands.SetDifficultyCommand;
+import seedu.address.logic.commands.SolveCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.DeckSnapshot;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.card.Card;
+import seedu.address.storage.JsonDeckStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class AsyncCommandExecutorTest {
+
+    private static final long TIMEOUT_MILLIS = 5000;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager();
+    // Tasks handed to the JavaFX application thread, run only when the test says so.
+    private final Queue<Runnable> uiTasks = new ConcurrentLinkedQueue<>();
+    private AsyncCommandExecutor executor;
+
+    @BeforeEach
+    public void setUp() {
+        StorageManager storage = new StorageManager(new JsonDeckStorage(temporaryFolder.resolve("deck.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        executor = new AsyncCommandExecutor(new LogicManager(model, storage), uiTasks::add);
+    }
+
+    @Test
+    public void submit_severalCommands_runInOrderAndPublishedOnce() throws Exception {
+        PendingCommand first = executor.submit(AddCommand.COMMAND_WORD + " q/ What is this? a/ A deck card");
+        PendingCommand second = executor.submit(AddCommand.COMMAND_WORD + " q/ Unit of force? a/ Newton");
+        PendingCommand third = executor.submit(AddCommand.COMMAND_WORD + " q/ Unit of force? a/ Newton");
+        assertTrue(executor.shutdown(TIMEOUT_MILLIS));
+
+        // The commands have run, but nothing is shown until the tasks run on the JavaFX application thread.
+        assertEquals(2, model.getFilteredCardList().size());
+        assertEquals(Status.QUEUED, first.getStatus());
+        assertTrue(executor.getPublishedModel().getFilteredCardList().isEmpty());
+
+        // Marking each command as running and done, and one copy of the model for all three.
+        assertEquals(7, uiTasks.size());
+        runUiTasks();
+
+        assertEquals(Status.SUCCEEDED, first.getStatus());
+        assertEquals(Status.SUCCEEDED, second.getStatus());
+        assertEquals(Status.FAILED, third.getStatus());
+        assertEquals(AddCommand.MESSAGE_DUPLICATE_CARD, third.getFailure().get().getMessage());
+        assertEquals(model.getFilteredCardList(), executor.getPublishedModel().getFilteredCardList());
+    }
+
+    @Test
+    public void submit_unknownCommand_failsWithParseException() throws Exception {
+        PendingCommand pendingCommand = executor.submit("invalid command");
+        assertTrue(executor.shutdown(TIMEOUT_MILLIS));
+        runUiTasks();
+
+        assertEquals(Status.FAILED, pendingCommand.getStatus());
+        assertTrue(pendingCommand.getFailure().get() instanceof ParseException);
+        assertEquals(MESSAGE_UNKNOWN_COMMAND, pendingCommand.getFailure().get().getMessage());
+        assertFalse(pendingCommand.getResult().isPresent());
+    }
+
+    @Test
+    public void submitTask_changesModel_published() throws Exception {
+        executor.submitTask(() -> model.setGoal(3));
+        assertTrue(executor.shutdown(TIMEOUT_MILLIS));
+        runUiTasks();
+
+        assertTrue(executor.getPublishedModel().goalTextProperty().get().contains("/3"));
+        assertEquals(model.getGoal().getGoalText(), executor.getPublishedModel().goalTextProperty().get());
+    }
+
+    @Test
+    public void submit_cardChangedInPlace_publishedCopiesReplacedOnlyWhenDeckChanges() throws Exception {
+        executor.submitForResult(AddCommand.COMMAND_WORD + " q/ What is this? a/ A deck card").get();
+        runUiTasks();
+        Card shownCard = executor.getPublishedModel().getFilteredCardList().get(0);
+        assertNotSame(model.getFilteredCardList().get(0), shownCard);
+
+        // the Deck has not changed, so the list shown is kept
+        executor.submitForResult(GoalCommand.COMMAND_WORD + " 3").get();
+        runUiTasks();
+        assertSame(shownCard, executor.getPublishedModel().getFilteredCardList().get(0));
+
+        executor.submitForResult(SolveCommand.COMMAND_WORD + " 1").get();
+        runUiTasks();
+        assertEquals(1, executor.getPublishedModel().getFilteredCardList().get(0).getSolveCount().getSolveCount());
+        assertEquals(0, shownCard.getSolveCount().getSolveCount());
+    }
+
+    @Test
+    public void submit_cardReviewed_onlyThatCardReplacedInPublishedList() throws Exception {
+        executor.submitForResult(AddCommand.COMMAND_WORD + " q/ First? a/ 1").get();
+        executor.submitForResult(AddCommand.COMMAND_WORD + " q/ Second? a/ 2").get();
+        executor.submitForResult(AddCommand.COMMAND_WORD + " q/ Third? a/ 3").get();
+        runUiTasks();
+        ObservableList<Card> shownCards = executor.getPublishedModel().getFilteredCardList();
+        List<Card> before = new ArrayList<>(shownCards);
+        List<Card> addedCards = new ArrayList<>();
+        shownCards.addListener((ListChangeListener<Card>) change -> {
+            while (change.next()) {
+                addedCards.addAll(change.getAddedSubList());
+            }
+        });
+
+        // rated easy, the first card is due last, so it moves to the end of the list
+        executor.submitForResult(SetDifficultyCommand.COMMAND_WORD + " 1 d/easy").get();
+        runUiTasks();
+
+        assertEquals(model.getFilteredCardList(), shownCards);
+        assertSame(before.get(1), shownCards.get(0));
+        assertSame(before.get(2), shownCards.get(1));
+        assertEquals(List.of(shownCards.get(2)), addedCards);
+    }
+
+    @Test
+    public void getDeckSnapshot_afterChange_newSnapshotWithChange() throws Exception {
+        DeckSnapshot empty = executor.getDeckSnapshot();
+        assertTrue(empty.getShownCards().isEmpty());
+        // nothing has changed since, so the copy is shared
+        assertSame(empty, executor.getDeckSnapshot());
+
+        executor.submitForResult(AddCommand.COMMAND_WORD + " q/ What is this? a/ A deck card").get();
+        DeckSnapshot snapshot = executor.getDeckSnapshot();
+
+        assertEquals(empty.getVersion() + 1, snapshot.getVersion());
+        assertEquals(model.getFilteredCardList(), snapshot.getShownCards());
+        // the snapshot has copies of the cards, which are not changed by changes to the cards in the Deck
+        assertNotSame(model.getFilteredCardList().get(0), snapshot.getShownCards().get(0));
+        model.getFilteredCardList().get(0).incrementSolveCount();
+        assertEquals(0, snapshot.getShownCards().get(0).getSolveCount().getSolveCount());
+    }
+
+    @Test
+    public void submitForResult_unknownCommand_completesWithParseException() {
+        ExecutionException thrown = assertThrows(ExecutionException.class, () ->
+                executor.submitForResult("invalid command").get());
+        assertTrue(thrown.getCause() instanceof ParseException);
+        assertEquals(MESSAGE_UNKNOWN_COMMAND, thrown.getCause().getMessage());
+    }
+
+    private void runUiTasks() {
+        while (!uiTasks.isEmpty()) {
+            uiTasks.remove().run();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalCards.getTypicalDeck;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.StartupTimer;
+import seedu.address.model.Deck;
+import seedu.address.model.DeckLoadProgress;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.analytics.ReviewStatistics;
+import seedu.address.model.card.Card;
+import seedu.address.model.card.Difficulty;
+import seedu.address.model.history.ReviewEvent;
+import seedu.address.model.tag.Tag;
+import seedu.address.storage.JsonDeckStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.CardBuilder;
+
+public class BackgroundDeckLoaderTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager();
+    private final StartupTimer startupTimer = new StartupTimer();
+    // Tasks handed to the thread that changes the model, run only when the test says so.
+    private final Queue<Runnable> modelTasks = new ArrayDeque<>();
+    private StorageManager storage;
+    private BackgroundDeckLoader loader;
+
+    @BeforeEach
+    public void setUp() {
+        storage = new StorageManager(new JsonDeckStorage(temporaryFolder.resolve("deck.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        loader = new BackgroundDeckLoader(model, storage, startupTimer, modelTasks::add);
+    }
+
+    @Test
+    public void load_deckInStorage_swappedInOnModelThread() throws Exception {
+        storage.saveDeck(getTypicalDeck());
+        model.setDeckLoadProgress(DeckLoadProgress.started());
+
+        loader.load();
+
+        // Nothing is changed in the model until the tasks run on the thread that changes the model.
+        assertTrue(model.isDeckLoading());
+        assertEquals(new Deck(), model.getDeck());
+        // The reports of validating and indexing were merged into one.
+        assertEquals(2, modelTasks.size());
+        runModelTasks();
+
+        assertFalse(model.isDeckLoading());
+        assertEquals(getTypicalDeck(), model.getDeck());
+        assertEquals(DeckLoadProgress.loaded(getTypicalDeck().getCardList().size()),
+                model.deckLoadProgressProperty().get());
+        assertEquals(StartupTimer.PHASE_DECK_LOAD, startupTimer.getPhases().get(0).getName());
+    }
+
+    @Test
+    public void load_invalidDeckInStorage_emptyDeck() throws Exception {
+        model.setDeckLoadProgress(DeckLoadProgress.started());
+        Files.writeString(temporaryFolder.resolve("deck.json"), "{\"cards\": [{\"question\": \"\"}]}");
+
+        loader.load();
+        runModelTasks();
+
+        assertFalse(model.isDeckLoading());
+        assertEquals(new Deck(), model.getDeck());
+    }
+
+    @Test
+    public void load_reviewStatisticsInStorage_handedToModel() throws Exception {
+        // A card of another deck, reviewed while it had a tag
+        Tag math = new Tag("Math");
+        Card card = new CardBuilder().withQuestion("Elsewhere?").withTags(List.of(math)).build();
+        ReviewEvent review = ReviewEvent.of(card, Difficulty.EASY, LocalDateTime.of(2024, 5, 15, 9, 0));
+        model.recordReview(review, card);
+        ReviewStatistics statistics = new ReviewStatistics();
+        statistics.add(review, card.getTags());
+        storage.saveReviewStatistics(statistics);
+        model.setDeckLoadProgress(DeckLoadProgress.started());
+
+        loader.load();
+        runModelTasks();
+
+        assertEquals(1, model.getReviewStatistics().getForTag(math).get().getTotal().getReviewCount());
+    }
+
+    private void runModelTasks() {
+        while (!modelTasks.isEmpty()) {
+            modelTasks.remove().run();
+        }
+    }
+}
@@ -1,16 +1,22 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_CARD_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ANSWER_CS1101S;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_QUESTION_CS1101S;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DIFFICULTY;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -19,13 +25,21 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.DeckCommand;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.ReviewCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Deck;
+import seedu.address.model.DeckLoadProgress;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyDeck;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.card.Card;
+import seedu.address.model.card.Difficulty;
+import seedu.address.model.workspace.DeckManifest;
 import seedu.address.storage.JsonDeckStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
@@ -88,6 +102,17 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_deckLoading_onlyRunsCommandsWithoutDeck() throws Exception {
+        model.setDeckLoadProgress(DeckLoadProgress.started());
+
+        assertCommandException(ListCommand.COMMAND_WORD, Messages.MESSAGE_DECK_LOADING);
+        assertEquals(HelpCommand.SHOWING_HELP_MESSAGE,
+                logic.execute(HelpCommand.COMMAND_WORD).getFeedbackToUser());
+        // The Deck in storage has not been read yet, so the empty Deck in the model is not saved over it.
+        assertFalse(temporaryFolder.resolve("deck.json").toFile().exists());
+    }
+
     @Test
     public void getFilteredCardList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredCardList().remove(0));
@@ -182,6 +207,81 @@ public class LogicManagerTest {
         assertCommandFailure(createCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_deckCommand_savesToOpenedDeckAndWorkspace() throws Exception {
+        JsonDeckStorage deckStorage = new JsonDeckStorage(temporaryFolder.resolve("deck.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        StorageManager storage = new StorageManager(deckStorage, userPrefsStorage);
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setDeckFilePath(deckStorage.getDeckFilePath());
+        Model workspaceModel = new ModelManager(new Deck(), userPrefs);
+        logic = new LogicManager(workspaceModel, storage);
+
+        logic.execute(AddCommand.COMMAND_WORD + " q/ What is this? a/ A deck card");
+        logic.execute(DeckCommand.COMMAND_WORD + " physics");
+        logic.execute(AddCommand.COMMAND_WORD + " q/ Unit of force? a/ Newton");
+
+        Path physicsFilePath = temporaryFolder.resolve("physics.json");
+        assertEquals(physicsFilePath, storage.getDeckFilePath());
+        assertEquals(physicsFilePath, logic.deckFilePathProperty().get());
+        assertEquals(1, storage.readDeck(physicsFilePath).get().getCardList().size());
+        assertEquals(1, storage.readDeck(deckStorage.getDeckFilePath()).get().getCardList().size());
+        assertEquals(List.of(new DeckManifest("deck", 1, Map.of(LocalDate.now(), 1)),
+                new DeckManifest("physics", 0, Map.of())), storage.readWorkspace().get());
+    }
+
+    @Test
+    public void execute_notSavedAfterEveryCommand_savesOnlyWhenAskedOrOpeningDeck() throws Exception {
+        JsonDeckStorage deckStorage = new JsonDeckStorage(temporaryFolder.resolve("deck.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        StorageManager storage = new StorageManager(deckStorage, userPrefsStorage);
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setDeckFilePath(deckStorage.getDeckFilePath());
+        logic = new LogicManager(new ModelManager(new Deck(), userPrefs), storage, false);
+
+        logic.execute(AddCommand.COMMAND_WORD + " q/ What is this? a/ A deck card");
+        assertFalse(Files.exists(deckStorage.getDeckFilePath()));
+
+        // the open deck is saved before another deck is opened
+        logic.execute(DeckCommand.COMMAND_WORD + " physics");
+        assertEquals(1, storage.readDeck(deckStorage.getDeckFilePath()).get().getCardList().size());
+
+        logic.execute(AddCommand.COMMAND_WORD + " q/ Unit of force? a/ Newton");
+        Path physicsFilePath = temporaryFolder.resolve("physics.json");
+        assertEquals(0, storage.readDeck(physicsFilePath).get().getCardList().size());
+
+        logic.save();
+        assertEquals(1, storage.readDeck(physicsFilePath).get().getCardList().size());
+        assertEquals(2, storage.readWorkspace().get().size());
+    }
+
+    @Test
+    public void execute_reviewAllCommand_savesReviewedIdleDeck() throws Exception {
+        JsonDeckStorage deckStorage = new JsonDeckStorage(temporaryFolder.resolve("deck.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        StorageManager storage = new StorageManager(deckStorage, userPrefsStorage);
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setDeckFilePath(deckStorage.getDeckFilePath());
+        Model workspaceModel = new ModelManager(new Deck(), userPrefs);
+        logic = new LogicManager(workspaceModel, storage);
+        logic.execute(AddCommand.COMMAND_WORD + " q/ What is this? a/ A deck card");
+        logic.execute(DeckCommand.COMMAND_WORD + " physics");
+        logic.execute(AddCommand.COMMAND_WORD + " q/ Unit of force? a/ Newton");
+        logic.execute(DeckCommand.COMMAND_WORD + " deck");
+
+        logic.execute(ReviewCommand.COMMAND_WORD + " " + ReviewCommand.ALL_KEYWORD);
+        logic.execute(ReviewCommand.COMMAND_WORD + " " + PREFIX_DIFFICULTY + "easy");
+        logic.execute(ReviewCommand.COMMAND_WORD + " " + PREFIX_DIFFICULTY + "easy");
+
+        // Both cards have been reviewed, which ends the session and saves the reviews of the physics deck.
+        assertFalse(workspaceModel.getInterleavedReviewSession().isActive());
+        assertEquals(List.of(), workspaceModel.getIdleDecksToSave());
+        Card savedPhysicsCard = storage.readDeck(temporaryFolder.resolve("physics.json")).get().getCardList().get(0);
+        assertEquals(Difficulty.EASY.toString(), savedPhysicsCard.getDifficulty());
+        assertEquals(1, savedPhysicsCard.getSolveCount().getSolveCount());
+        assertEquals(0, storage.readWorkspace().get().get(1).getDueCount(LocalDate.now()));
+    }
+
     @Test
     public void deck_filepathConsistency() {
         Path actual = Paths.get("some/some.json");
@@ -7,25 +7,50 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalCards.CS2100;
 
 import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.StartupTimer;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Deck;
+import seedu.address.model.DeckLoadProgress;
+import seedu.address.model.DeckSnapshot;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyDeck;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.analytics.ReviewStatistics;
 import seedu.address.model.card.Card;
+import seedu.address.model.card.CardOrder;
+import seedu.address.model.due.DueCardTracker;
+import seedu.address.model.due.DueForecast;
 import seedu.address.model.goal.Goal;
+import seedu.address.model.history.ReviewEvent;
+import seedu.address.model.history.ReviewLog;
+import seedu.address.model.review.InterleavedReviewSession;
+import seedu.address.model.review.ReviewSession;
+import seedu.address.model.sampling.CardSampler;
+import seedu.address.model.scheduling.MultiplierParameters;
+import seedu.address.model.scheduling.OverdueRebalancer;
+import seedu.address.model.scheduling.Scheduler;
+import seedu.address.model.scheduling.SchedulerType;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tuning.ParameterOptimiser;
+import seedu.address.model.workspace.DeckManifest;
+import seedu.address.model.workspace.Workspace;
 import seedu.address.testutil.CardBuilder;
 
 public class AddCommandTest {
@@ -136,6 +161,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ReadOnlyObjectProperty<Path> deckFilePathProperty() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addCard(Card card) {
             throw new AssertionError("This method should not be called.");
@@ -146,6 +176,31 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ReadOnlyObjectProperty<DeckLoadProgress> deckLoadProgressProperty() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setDeckLoadProgress(DeckLoadProgress progress) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isDeckLoading() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<DeckSnapshot> getDeckSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public DeckSnapshot publishDeckSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setGoal(int target) {
             throw new AssertionError("This method should not be called.");
@@ -156,6 +211,126 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ReviewSession getReviewSession() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public InterleavedReviewSession getInterleavedReviewSession() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void startInterleavedReview(LocalDateTime now) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void recordIdleDeckChange(String deckName, List<Card> cards) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void startBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rollBackBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<String> getIdleDecksToSave() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public DueCardTracker getDueCardTracker() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public DueForecast getDueForecast() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ReviewLog getReviewLog() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public StartupTimer getStartupTimer() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void recordReview(ReviewEvent review, Card card) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setReviewStatistics(ReviewStatistics statistics) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ReviewStatistics getReviewStatistics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public CardSampler getCardSampler() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ParameterOptimiser getParameterOptimiser() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setMultiplierParameters(MultiplierParameters parameters) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Scheduler getScheduler() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Scheduler getScheduler(SchedulerType schedulerType, Clock clock) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setSchedulerType(SchedulerType schedulerType) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void shiftSchedule(Duration duration) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ReadOnlyObjectProperty<Duration> scheduleOffsetProperty() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int rebalanceOverdueCards(OverdueRebalancer rebalancer, LocalDateTime now) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ReadOnlyDeck getDeck() {
             throw new AssertionError("This method should not be called.");
@@ -186,11 +361,36 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void setCardOrder(CardOrder order) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public CardOrder getCardOrder() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public int getDeckSize() {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Workspace getWorkspace() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void switchDeck(String name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<DeckManifest> getDeckManifests() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setRandomIndex(Index index) {
             throw new AssertionError("This method should not be called.");
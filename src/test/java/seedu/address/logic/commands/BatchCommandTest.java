@@ -0,0 +1,140 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalCards.getTypicalDeck;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.BatchCommandParser;
+import seedu.address.model.Deck;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.card.Card;
+import seedu.address.model.card.PracticeDate;
+import seedu.address.model.history.InMemoryReviewLog;
+import seedu.address.model.scheduling.SchedulerType;
+import seedu.address.model.workspace.DeckManifest;
+import seedu.address.model.workspace.Workspace;
+import seedu.address.testutil.CardBuilder;
+
+public class BatchCommandTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager(getTypicalDeck(), new UserPrefs());
+
+    @Test
+    public void execute_allCommandsSucceed_allApplied() throws Exception {
+        Path scriptPath = writeScript("delete 1\ndelete 1\n");
+        int sizeBefore = model.getDeckSize();
+
+        CommandResult result = new BatchCommandParser().parseScript(scriptPath).execute(model);
+
+        assertEquals(String.format(BatchCommand.MESSAGE_SUCCESS, 2, scriptPath), result.getFeedbackToUser());
+        assertEquals(sizeBefore - 2, model.getDeckSize());
+    }
+
+    @Test
+    public void execute_commandFails_cardsRolledBack() throws Exception {
+        Path scriptPath = writeScript("solve 1\ndelete 1\n\ndelete 999\n");
+        Card firstCard = model.getFilteredCardList().get(0);
+        int solveCountBefore = firstCard.getSolveCount().getSolveCount();
+        Deck deckBefore = new Deck(model.getDeck());
+        BatchCommand batchCommand = new BatchCommandParser().parseScript(scriptPath);
+
+        String expectedMessage = String.format(BatchCommand.MESSAGE_FAILED, 4, "delete 999",
+                Messages.MESSAGE_INVALID_CARD_DISPLAYED_INDEX);
+        assertThrows(CommandException.class, expectedMessage, () -> batchCommand.execute(model));
+
+        // The solve count is changed in place, so it is only put back if the cards were copied.
+        assertEquals(deckBefore, model.getDeck());
+        assertEquals(solveCountBefore, model.getFilteredCardList().get(0).getSolveCount().getSolveCount());
+    }
+
+    @Test
+    public void execute_reviewsSucceed_reviewsRecordedOnCommit() throws Exception {
+        Path scriptPath = writeScript("review\nreview d/easy\n");
+
+        new BatchCommandParser().parseScript(scriptPath).execute(model);
+
+        assertEquals(1, model.getReviewLog().size());
+        assertEquals(1, model.getReviewStatistics().getOverall().getTotal().getReviewCount());
+        assertEquals(1, model.getGoal().getCurrent());
+    }
+
+    @Test
+    public void execute_reviewThenCommandFails_reviewsGoalAndPrefsRolledBack() throws Exception {
+        Path scriptPath = writeScript("goal 10\nscheduler sm2\nreview\nreview d/easy\ndelete 999\n");
+        // The statistics are only kept up to date with reviews once they have been read.
+        model.getReviewStatistics();
+        Deck deckBefore = new Deck(model.getDeck());
+        int goalTargetBefore = model.getGoal().getTarget();
+        UserPrefs userPrefsBefore = new UserPrefs(model.getUserPrefs());
+        BatchCommand batchCommand = new BatchCommandParser().parseScript(scriptPath);
+
+        assertThrows(CommandException.class, () -> batchCommand.execute(model));
+
+        assertEquals(deckBefore, model.getDeck());
+        assertEquals(0, model.getReviewLog().size());
+        assertEquals(0, model.getReviewStatistics().getOverall().getTotal().getReviewCount());
+        assertEquals(goalTargetBefore, model.getGoal().getTarget());
+        assertEquals(0, model.getGoal().getCurrent());
+        assertEquals(userPrefsBefore, model.getUserPrefs());
+        assertEquals(SchedulerType.MULTIPLIER, model.getUserPrefs().getSchedulerType());
+    }
+
+    @Test
+    public void execute_idleDeckReviewedThenCommandFails_idleDeckRolledBack() throws Exception {
+        Card physicsCard = new CardBuilder().withQuestion("Physics?")
+                .withNextPracticeDate(new PracticeDate(LocalDateTime.of(2019, 1, 1, 0, 0))).build();
+        List<Card> physicsCards = new ArrayList<>(List.of(physicsCard));
+        UserPrefs userPrefs = new UserPrefs();
+        Workspace workspace = new Workspace(userPrefs.getDeckFilePath(),
+                List.of(DeckManifest.of("physics", physicsCards)), unused -> physicsCards, Integer.MAX_VALUE);
+        Model model = new ModelManager(new Deck(), userPrefs, new InMemoryReviewLog(), workspace);
+        ReviewCommand.startAll().execute(model);
+        BatchCommand batchCommand = new BatchCommandParser().parseScript(writeScript("review d/hard\ndelete 1\n"));
+
+        assertThrows(CommandException.class, () -> batchCommand.execute(model));
+
+        // The card reviewed in place is replaced by a copy of it as it was, and the Deck need not be saved.
+        Card physicsCardAfter = workspace.getIdleDeck("physics").getCardList().get(0);
+        assertEquals(0, physicsCardAfter.getSolveCount().getSolveCount());
+        assertEquals(new PracticeDate(LocalDateTime.of(2019, 1, 1, 0, 0)), physicsCardAfter.getNextPracticeDate());
+        assertEquals(List.of(), model.getIdleDecksToSave());
+        assertFalse(model.getInterleavedReviewSession().isActive());
+        assertEquals(0, model.getReviewLog().size());
+        assertEquals(0, model.getGoal().getCurrent());
+    }
+
+    @Test
+    public void isBatchable() throws Exception {
+        assertFalse(new BatchCommandParser().parseScript(writeScript("list")).isBatchable());
+        assertTrue(new ClearCommand().isBatchable());
+        assertTrue(new DeckCommand(Optional.empty()).isBatchable());
+        assertFalse(new DeckCommand(Optional.of("physics")).isBatchable());
+        assertTrue(new OptimiseCommand(OptimiseCommand.Action.APPLY).isBatchable());
+        assertFalse(new OptimiseCommand(OptimiseCommand.Action.START).isBatchable());
+    }
+
+    private Path writeScript(String script) throws Exception {
+        Path scriptPath = temporaryFolder.resolve("script.txt");
+        Files.writeString(scriptPath, script);
+        return scriptPath;
+    }
+}
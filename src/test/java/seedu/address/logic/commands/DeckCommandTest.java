@@ -0,0 +1,90 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.Deck;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.card.PracticeDate;
+import seedu.address.model.history.InMemoryReviewLog;
+import seedu.address.model.workspace.Workspace;
+import seedu.address.testutil.CardBuilder;
+
+public class DeckCommandTest {
+
+    @Test
+    public void execute_newDeckThenBack_createsDeckAndRestoresCards() throws Exception {
+        Model model = new ModelManager(deckOf(2), new UserPrefs());
+
+        assertEquals(String.format(DeckCommand.MESSAGE_CREATED, "physics"),
+                new DeckCommand(Optional.of("physics")).execute(model).getFeedbackToUser());
+        assertEquals(0, model.getDeckSize());
+        assertEquals(Paths.get("data", "physics.json"), model.getDeckFilePath());
+
+        model.addCard(new CardBuilder().withQuestion("Unit of force?").build());
+        assertEquals(String.format(DeckCommand.MESSAGE_OPENED, "deck", 2, 2),
+                new DeckCommand(Optional.of("deck")).execute(model).getFeedbackToUser());
+        assertEquals(2, model.getDeckSize());
+        assertEquals(Paths.get("data", "deck.json"), model.getDeckFilePath());
+
+        String[] lines = new DeckCommand(Optional.empty()).execute(model).getFeedbackToUser().split("\n");
+        assertEquals(String.format(DeckCommand.MESSAGE_LIST_HEADER, 2), lines[0]);
+        assertEquals(String.format(DeckCommand.MESSAGE_DECK_OPEN, "deck", 2, 2), lines[1]);
+        assertEquals(String.format(DeckCommand.MESSAGE_DECK_LOADED, "physics", 1, 1), lines[2]);
+    }
+
+    @Test
+    public void execute_deckAlreadyOpen_throwsCommandException() {
+        Model model = new ModelManager(deckOf(1), new UserPrefs());
+
+        assertCommandFailure(new DeckCommand(Optional.of("deck")), model,
+                String.format(DeckCommand.MESSAGE_ALREADY_OPEN, "deck"));
+    }
+
+    @Test
+    public void execute_deckCannotBeLoaded_throwsCommandException() {
+        UserPrefs userPrefs = new UserPrefs();
+        Workspace workspace = new Workspace(userPrefs.getDeckFilePath(), List.of(), unused -> {
+            throw new DataLoadingException(new Exception("Corrupted file"));
+        }, 0);
+        Model model = new ModelManager(deckOf(1), userPrefs, new InMemoryReviewLog(), workspace);
+
+        assertCommandFailure(new DeckCommand(Optional.of("physics")), model,
+                String.format(DeckCommand.MESSAGE_LOAD_ERROR, "physics", "java.lang.Exception: Corrupted file"));
+        assertEquals("deck", model.getWorkspace().getCurrentDeckName());
+    }
+
+    @Test
+    public void equals() {
+        DeckCommand listCommand = new DeckCommand(Optional.empty());
+        DeckCommand openCommand = new DeckCommand(Optional.of("physics"));
+
+        assertTrue(listCommand.equals(listCommand));
+        assertTrue(openCommand.equals(new DeckCommand(Optional.of("physics"))));
+        assertFalse(openCommand.equals(listCommand));
+        assertFalse(openCommand.equals(new DeckCommand(Optional.of("chemistry"))));
+        assertFalse(openCommand.equals(null));
+        assertFalse(openCommand.equals(1));
+    }
+
+    private static Deck deckOf(int cardCount) {
+        Deck deck = new Deck();
+        PracticeDate due = new PracticeDate(LocalDateTime.now().minusHours(1));
+        for (int i = 0; i < cardCount; i++) {
+            deck.addCard(new CardBuilder().withQuestion("Question " + i).withNextPracticeDate(due).build());
+        }
+        return deck;
+    }
+}
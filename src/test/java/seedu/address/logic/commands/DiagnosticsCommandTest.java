@@ -0,0 +1,58 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static seedu.address.testutil.TypicalCards.getTypicalDeck;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.StartupTimer;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.history.InMemoryReviewLog;
+import seedu.address.model.workspace.Workspace;
+
+public class DiagnosticsCommandTest {
+
+    private long nowMillis = 0;
+
+    private final StartupTimer startupTimer = new StartupTimer(() -> Duration.ofMillis(nowMillis).toNanos());
+
+    private final Model model = new ModelManager(getTypicalDeck(), new UserPrefs(), new InMemoryReviewLog(),
+            new Workspace(new UserPrefs().getDeckFilePath(), List.of(), unused -> new ArrayList<>(),
+                    Integer.MAX_VALUE), startupTimer);
+
+    @Test
+    public void execute_nullModel_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new DiagnosticsCommand().execute(null));
+    }
+
+    @Test
+    public void execute_startupTimed_showsPhases() {
+        startupTimer.startPhase(StartupTimer.PHASE_DECK_LOAD);
+        nowMillis = 120;
+        startupTimer.startPhase(StartupTimer.PHASE_FIRST_FRAME);
+        nowMillis = 200;
+        startupTimer.markInteractive();
+
+        String expectedMessage = String.join("\n", DiagnosticsCommand.MESSAGE_HEADER,
+                String.format(DiagnosticsCommand.MESSAGE_PHASE, StartupTimer.PHASE_DECK_LOAD, 120),
+                String.format(DiagnosticsCommand.MESSAGE_PHASE, StartupTimer.PHASE_FIRST_FRAME, 80),
+                String.format(DiagnosticsCommand.MESSAGE_TIME_TO_INTERACTIVE, 200),
+                String.format(DiagnosticsCommand.MESSAGE_SIZE, getTypicalDeck().getCardList().size(), 1));
+        assertEquals(expectedMessage, new DiagnosticsCommand().execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_notYetUsable_saysSo() {
+        String expectedMessage = String.join("\n", DiagnosticsCommand.MESSAGE_HEADER,
+                DiagnosticsCommand.MESSAGE_NOT_INTERACTIVE,
+                String.format(DiagnosticsCommand.MESSAGE_SIZE, getTypicalDeck().getCardList().size(), 1));
+        assertEquals(expectedMessage, new DiagnosticsCommand().execute(model).getFeedbackToUser());
+    }
+}
@@ -0,0 +1,51 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Deck;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.card.PracticeDate;
+import seedu.address.testutil.CardBuilder;
+
+public class ForecastCommandTest {
+
+    @Test
+    public void execute_showsDueCountsAndChart() {
+        LocalDateTime today = LocalDate.now().atStartOfDay();
+        Model model = new ModelManager(new Deck(), new UserPrefs());
+        model.addCard(new CardBuilder().withQuestion("A?").withNextPracticeDate(new PracticeDate(today.minusDays(2)))
+                .build());
+        model.addCard(new CardBuilder().withQuestion("B?").withNextPracticeDate(new PracticeDate(today.plusDays(1)))
+                .build());
+        model.addCard(new CardBuilder().withQuestion("C?").withNextPracticeDate(new PracticeDate(today.plusDays(9)))
+                .build());
+
+        CommandResult result = new ForecastCommand(2).execute(model);
+
+        String[] lines = result.getFeedbackToUser().split("\n");
+        assertEquals(String.format(ForecastCommand.MESSAGE_SUCCESS, 2, 2), lines[0]);
+        assertEquals(String.format(ForecastCommand.MESSAGE_TODAY, 1), lines[1]);
+        assertTrue(lines[2].endsWith(": 1"));
+        assertEquals(3, lines.length);
+        assertTrue(result.isShowForecast());
+    }
+
+    @Test
+    public void equals() {
+        ForecastCommand forecastWeek = new ForecastCommand(7);
+
+        assertTrue(forecastWeek.equals(forecastWeek));
+        assertTrue(forecastWeek.equals(new ForecastCommand(7)));
+        assertFalse(forecastWeek.equals(new ForecastCommand(ForecastCommand.DEFAULT_DAYS)));
+        assertFalse(forecastWeek.equals(null));
+    }
+}
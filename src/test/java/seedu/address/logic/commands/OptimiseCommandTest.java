@@ -0,0 +1,82 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.OptimiseCommand.Action;
+import seedu.address.model.Deck;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.card.Difficulty;
+import seedu.address.model.history.InMemoryReviewLog;
+import seedu.address.model.history.ReviewEvent;
+import seedu.address.model.history.ReviewLog;
+import seedu.address.model.scheduling.MultiplierParameters;
+import seedu.address.model.tuning.ParameterFit;
+
+public class OptimiseCommandTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+    @Test
+    public void execute_notEnoughHistory_throwsCommandException() {
+        ReviewLog reviewLog = new InMemoryReviewLog();
+        reviewLog.append(new ReviewEvent(1, START, Difficulty.EASY, Duration.ZERO));
+        reviewLog.append(new ReviewEvent(1, START.plusDays(1), Difficulty.EASY, Duration.ofDays(1)));
+        Model model = new ModelManager(new Deck(), new UserPrefs(), reviewLog);
+
+        assertCommandFailure(new OptimiseCommand(Action.START), model,
+                String.format(OptimiseCommand.MESSAGE_NOT_ENOUGH_HISTORY, 1, OptimiseCommand.MIN_REPEAT_REVIEWS));
+    }
+
+    @Test
+    public void execute_noFit_showsNoResult() throws Exception {
+        Model model = new ModelManager();
+
+        assertEquals(OptimiseCommand.MESSAGE_NO_RESULT,
+                new OptimiseCommand(Action.STATUS).execute(model).getFeedbackToUser());
+        assertCommandFailure(new OptimiseCommand(Action.APPLY), model, OptimiseCommand.MESSAGE_NO_RESULT);
+    }
+
+    @Test
+    public void execute_startThenApply_usesFittedParameters() throws Exception {
+        // A user who always recalls cards reviewed long after they were due
+        ReviewLog reviewLog = new InMemoryReviewLog();
+        for (int review = 0; review <= OptimiseCommand.MIN_REPEAT_REVIEWS; review++) {
+            reviewLog.append(new ReviewEvent(1, START.plusDays(30L * review), Difficulty.EASY, Duration.ZERO));
+        }
+        Model model = new ModelManager(new Deck(), new UserPrefs(), reviewLog);
+
+        CommandResult result = new OptimiseCommand(Action.START).execute(model);
+        assertEquals(String.format(OptimiseCommand.MESSAGE_STARTED, OptimiseCommand.MIN_REPEAT_REVIEWS + 1),
+                result.getFeedbackToUser());
+
+        ParameterFit fit = model.getParameterOptimiser().awaitResult().get();
+        assertTrue(fit.getLogLoss() < fit.getBaselineLogLoss());
+        assertTrue(new OptimiseCommand(Action.STATUS).execute(model).getFeedbackToUser()
+                .startsWith("Best parameters: "));
+
+        new OptimiseCommand(Action.APPLY).execute(model);
+        assertEquals(fit.getParameters(), model.getUserPrefs().getMultiplierParameters());
+        assertNotEquals(MultiplierParameters.DEFAULT, model.getUserPrefs().getMultiplierParameters());
+    }
+
+    @Test
+    public void equals() {
+        OptimiseCommand start = new OptimiseCommand(Action.START);
+
+        assertTrue(start.equals(start));
+        assertTrue(start.equals(new OptimiseCommand(Action.START)));
+        assertFalse(start.equals(new OptimiseCommand(Action.APPLY)));
+        assertFalse(start.equals(null));
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Deck;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.card.PracticeDate;
+import seedu.address.model.scheduling.OverdueRebalancer;
+import seedu.address.testutil.CardBuilder;
+
+public class RebalanceCommandTest {
+
+    @Test
+    public void execute_overdueCards_movesCardsOverTargetToLaterDays() {
+        LocalDateTime start = LocalDateTime.now();
+        Model model = new ModelManager(new Deck(), new UserPrefs());
+        for (int i = 0; i < 4; i++) {
+            model.addCard(new CardBuilder().withQuestion("Card " + i + "?")
+                    .withNextPracticeDate(new PracticeDate(start.minusDays(1 + i))).build());
+        }
+
+        CommandResult result = new RebalanceCommand(2, 2).execute(model);
+
+        assertEquals(String.format(RebalanceCommand.MESSAGE_SUCCESS, 2, 2), result.getFeedbackToUser());
+        long laterCount = model.getFilteredCardList().stream()
+                .filter(card -> card.getNextPracticeDate().practiceDate.isAfter(start.plusHours(12)))
+                .count();
+        assertEquals(2, laterCount);
+    }
+
+    @Test
+    public void execute_noOverdueCards_movesNothing() {
+        Model model = new ModelManager(new Deck(), new UserPrefs());
+        model.addCard(new CardBuilder().withNextPracticeDate(new PracticeDate(LocalDateTime.now().plusDays(1)))
+                .build());
+
+        CommandResult result = new RebalanceCommand(7, OverdueRebalancer.EVEN_LOAD).execute(model);
+
+        assertEquals(String.format(RebalanceCommand.MESSAGE_SUCCESS, 7, 0), result.getFeedbackToUser());
+    }
+
+    @Test
+    public void equals() {
+        RebalanceCommand overWeek = new RebalanceCommand(7, OverdueRebalancer.EVEN_LOAD);
+
+        assertTrue(overWeek.equals(overWeek));
+        assertTrue(overWeek.equals(new RebalanceCommand(7, OverdueRebalancer.EVEN_LOAD)));
+        assertFalse(overWeek.equals(new RebalanceCommand(7, 20)));
+        assertFalse(overWeek.equals(new RebalanceCommand(3, OverdueRebalancer.EVEN_LOAD)));
+        assertFalse(overWeek.equals(null));
+    }
+}
@@ -0,0 +1,144 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.card.Card;
+import seedu.address.model.card.Difficulty;
+import seedu.address.model.card.PracticeDate;
+import seedu.address.model.history.InMemoryReviewLog;
+import seedu.address.model.workspace.DeckManifest;
+import seedu.address.model.workspace.Workspace;
+import seedu.address.testutil.CardBuilder;
+
+public class ReviewCommandTest {
+
+    private Model model;
+    private Card first;
+    private Card second;
+
+    @BeforeEach
+    public void setUp() {
+        first = new CardBuilder().withQuestion("First?")
+                .withNextPracticeDate(new PracticeDate(LocalDateTime.of(2020, 1, 1, 0, 0))).build();
+        second = new CardBuilder().withQuestion("Second?")
+                .withNextPracticeDate(new PracticeDate(LocalDateTime.of(2021, 1, 1, 0, 0))).build();
+        model = new ModelManager();
+        model.addCard(second);
+        model.addCard(first);
+    }
+
+    @Test
+    public void execute_start_showsMostOverdueCard() throws CommandException {
+        CommandResult result = ReviewCommand.start().execute(model);
+
+        assertEquals(String.format(ReviewCommand.MESSAGE_SESSION_STARTED, 2, Messages.formatReview(first)),
+                result.getFeedbackToUser());
+        assertTrue(model.getReviewSession().isActive());
+    }
+
+    @Test
+    public void execute_startWithNoDueCards_reportsNoCardsDue() throws CommandException {
+        model = new ModelManager();
+
+        CommandResult result = ReviewCommand.start().execute(model);
+
+        assertEquals(ReviewCommand.MESSAGE_NO_CARDS_DUE, result.getFeedbackToUser());
+        assertFalse(model.getReviewSession().isActive());
+    }
+
+    @Test
+    public void execute_rate_reschedulesCardAndShowsNextCard() throws CommandException {
+        ReviewCommand.start().execute(model);
+        PracticeDate previousDate = first.getNextPracticeDate();
+
+        CommandResult result = ReviewCommand.rate(Difficulty.HARD).execute(model);
+
+        assertEquals(Difficulty.HARD.toString(), first.getDifficulty());
+        assertTrue(first.getNextPracticeDate().compareTo(previousDate) > 0);
+        assertEquals(1, first.getSolveCount().getSolveCount());
+        assertEquals(1, model.getGoal().getCurrent());
+        assertTrue(result.getFeedbackToUser().startsWith(Messages.formatReviewAnswer(first)));
+    }
+
+    @Test
+    public void execute_rateWithoutSession_throwsCommandException() {
+        assertCommandFailure(ReviewCommand.rate(Difficulty.EASY), model, ReviewCommand.MESSAGE_NOT_IN_SESSION);
+    }
+
+    @Test
+    public void execute_end_endsSession() throws CommandException {
+        ReviewCommand.start().execute(model);
+
+        CommandResult result = ReviewCommand.end().execute(model);
+
+        assertEquals(String.format(ReviewCommand.MESSAGE_SESSION_ENDED, 0), result.getFeedbackToUser());
+        assertFalse(model.getReviewSession().isActive());
+    }
+
+    @Test
+    public void execute_startAllAndRate_reviewsCardsOfEveryDeck() throws CommandException {
+        Card physicsCard = new CardBuilder().withQuestion("Physics?")
+                .withNextPracticeDate(new PracticeDate(LocalDateTime.of(2019, 1, 1, 0, 0))).build();
+        List<Card> physicsCards = new ArrayList<>(List.of(physicsCard));
+        UserPrefs userPrefs = new UserPrefs();
+        Workspace workspace = new Workspace(userPrefs.getDeckFilePath(),
+                List.of(DeckManifest.of("physics", physicsCards)), unused -> physicsCards, Integer.MAX_VALUE);
+        model = new ModelManager(model.getDeck(), userPrefs, new InMemoryReviewLog(), workspace);
+
+        CommandResult result = ReviewCommand.startAll().execute(model);
+
+        assertEquals(String.format(ReviewCommand.MESSAGE_INTERLEAVED_SESSION_STARTED, 3,
+                String.format(ReviewCommand.MESSAGE_PROMPT_FROM_DECK, "physics", Messages.formatReview(physicsCard))),
+                result.getFeedbackToUser());
+        assertTrue(model.getInterleavedReviewSession().isActive());
+
+        result = ReviewCommand.rate(Difficulty.HARD).execute(model);
+
+        assertEquals(Difficulty.HARD.toString(), physicsCard.getDifficulty());
+        assertEquals(1, physicsCard.getSolveCount().getSolveCount());
+        assertEquals(1, model.getGoal().getCurrent());
+        assertTrue(result.getFeedbackToUser().startsWith(Messages.formatReviewAnswer(physicsCard)));
+        // Reviews of other Decks are saved in batches while the session lasts.
+        assertEquals(List.of(), model.getIdleDecksToSave());
+
+        ReviewCommand.end().execute(model);
+
+        assertFalse(model.getInterleavedReviewSession().isActive());
+        assertEquals(List.of("physics"), model.getIdleDecksToSave());
+    }
+
+    @Test
+    public void execute_startAfterStartAll_endsSessionOverEveryDeck() throws CommandException {
+        ReviewCommand.startAll().execute(model);
+
+        ReviewCommand.start().execute(model);
+
+        assertFalse(model.getInterleavedReviewSession().isActive());
+        assertTrue(model.getReviewSession().isActive());
+    }
+
+    @Test
+    public void equals() {
+        assertTrue(ReviewCommand.start().equals(ReviewCommand.start()));
+        assertTrue(ReviewCommand.rate(Difficulty.EASY).equals(ReviewCommand.rate(Difficulty.EASY)));
+        assertFalse(ReviewCommand.rate(Difficulty.EASY).equals(ReviewCommand.rate(Difficulty.HARD)));
+        assertFalse(ReviewCommand.start().equals(ReviewCommand.end()));
+        assertFalse(ReviewCommand.start().equals(ReviewCommand.startAll()));
+        assertFalse(ReviewCommand.start().equals(null));
+    }
+}
@@ -0,0 +1,39 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalCards.getTypicalDeck;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.scheduling.SchedulerType;
+
+public class SchedulerCommandTest {
+
+    private final Model model = new ModelManager(getTypicalDeck(), new UserPrefs());
+
+    @Test
+    public void execute_switchScheduler_success() {
+        Model expectedModel = new ModelManager(model.getDeck(), new UserPrefs());
+        expectedModel.setSchedulerType(SchedulerType.FSRS);
+
+        assertCommandSuccess(new SchedulerCommand(SchedulerType.FSRS), model,
+                String.format(SchedulerCommand.MESSAGE_SUCCESS, SchedulerType.FSRS), expectedModel);
+        assertEquals(SchedulerType.FSRS.getScheduler(), model.getScheduler());
+    }
+
+    @Test
+    public void equals() {
+        SchedulerCommand switchToSm2 = new SchedulerCommand(SchedulerType.SM2);
+
+        assertTrue(switchToSm2.equals(switchToSm2));
+        assertTrue(switchToSm2.equals(new SchedulerCommand(SchedulerType.SM2)));
+        assertFalse(switchToSm2.equals(new SchedulerCommand(SchedulerType.FSRS)));
+        assertFalse(switchToSm2.equals(null));
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
@@ -8,6 +9,9 @@ import static seedu.address.testutil.TypicalCards.getTypicalDeck;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_CARD;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_CARD;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
@@ -16,7 +20,10 @@ import seedu.address.model.Deck;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.card.Card;
 import seedu.address.model.card.Difficulty;
+import seedu.address.model.history.ReviewEvent;
+import seedu.address.testutil.CardBuilder;
 
 public class SetDifficultyCommandTest {
 
@@ -31,12 +38,29 @@ public class SetDifficultyCommandTest {
 
         Model expectedModel = new ModelManager(new Deck(model.getDeck()), new UserPrefs());
         expectedModel.getDeck().getCardList().get(0).setDifficulty(Difficulty.EASY);
-        expectedModel.getDeck().getCardList().get(0).setNewPracticeDateWith(Difficulty.EASY);
+        expectedModel.getDeck().getCardList().get(0).setNewPracticeDateWith(Difficulty.EASY,
+                expectedModel.getScheduler());
         expectedModel.getDeck().sort();
 
         assertCommandSuccess(setDifficultyCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_setDifficulty_reviewLogged() throws Exception {
+        Model model = new ModelManager(new Deck(), new UserPrefs());
+        Card card = new CardBuilder().build();
+        model.addCard(card);
+        ReviewEvent expectedReview = ReviewEvent.of(card, Difficulty.HARD, LocalDateTime.now());
+
+        new SetDifficultyCommand(INDEX_FIRST_CARD, "hard").execute(model);
+
+        List<ReviewEvent> reviews = model.getReviewLog().read(LocalDateTime.MIN, LocalDateTime.MAX);
+        assertEquals(1, reviews.size());
+        assertEquals(expectedReview.getCardId(), reviews.get(0).getCardId());
+        assertEquals(Difficulty.HARD, reviews.get(0).getRating());
+        assertEquals(expectedReview.getPreviousInterval(), reviews.get(0).getPreviousInterval());
+    }
+
     @Test
     public void execute_setDifficultyMiddle_success() {
         SetDifficultyCommand setDifficultyCommand = new SetDifficultyCommand(Index.fromZeroBased(0), "medium");
@@ -45,7 +69,8 @@ public class SetDifficultyCommandTest {
 
         Model expectedModel = new ModelManager(new Deck(model.getDeck()), new UserPrefs());
         expectedModel.getDeck().getCardList().get(0).setDifficulty(Difficulty.MEDIUM);
-        expectedModel.getDeck().getCardList().get(0).setNewPracticeDateWith(Difficulty.MEDIUM);
+        expectedModel.getDeck().getCardList().get(0).setNewPracticeDateWith(Difficulty.MEDIUM,
+                expectedModel.getScheduler());
         expectedModel.getDeck().sort();
 
         assertCommandSuccess(setDifficultyCommand, model, expectedMessage, expectedModel);
@@ -59,7 +84,8 @@ public class SetDifficultyCommandTest {
 
         Model expectedModel = new ModelManager(new Deck(model.getDeck()), new UserPrefs());
         expectedModel.getDeck().getCardList().get(0).setDifficulty(Difficulty.HARD);
-        expectedModel.getDeck().getCardList().get(0).setNewPracticeDateWith(Difficulty.HARD);
+        expectedModel.getDeck().getCardList().get(0).setNewPracticeDateWith(Difficulty.HARD,
+                expectedModel.getScheduler());
         expectedModel.getDeck().sort();
 
         assertCommandSuccess(setDifficultyCommand, model, expectedMessage, expectedModel);
@@ -92,7 +118,8 @@ public class SetDifficultyCommandTest {
 
         Model expectedModel = new ModelManager(new Deck(modelToUse.getDeck()), new UserPrefs());
         expectedModel.getDeck().getCardList().get(0).setDifficulty(Difficulty.EASY);
-        expectedModel.getDeck().getCardList().get(0).setNewPracticeDateWith(Difficulty.EASY);
+        expectedModel.getDeck().getCardList().get(0).setNewPracticeDateWith(Difficulty.EASY,
+                expectedModel.getScheduler());
         expectedModel.getDeck().sort();
         assertCommandSuccess(setDifficultyCommand, modelToUse, expectedMessage, expectedModel);
     }
@@ -113,7 +140,8 @@ public class SetDifficultyCommandTest {
 
         Model expectedModel = new ModelManager(new Deck(model.getDeck()), new UserPrefs());
         expectedModel.getDeck().getCardList().get(0).setDifficulty(Difficulty.EASY);
-        expectedModel.getDeck().getCardList().get(0).setNewPracticeDateWith(Difficulty.EASY);
+        expectedModel.getDeck().getCardList().get(0).setNewPracticeDateWith(Difficulty.EASY,
+                expectedModel.getScheduler());
         expectedModel.getDeck().sort();
 
         assertCommandSuccess(setDifficultyCommand, model, expectedMessage, expectedModel);
@@ -127,7 +155,8 @@ public class SetDifficultyCommandTest {
 
         Model expectedModel = new ModelManager(new Deck(model.getDeck()), new UserPrefs());
         expectedModel.getDeck().getCardList().get(4).setDifficulty(Difficulty.HARD);
-        expectedModel.getDeck().getCardList().get(4).setNewPracticeDateWith(Difficulty.HARD);
+        expectedModel.getDeck().getCardList().get(4).setNewPracticeDateWith(Difficulty.HARD,
+                expectedModel.getScheduler());
         expectedModel.getDeck().sort();
 
         assertCommandSuccess(setDifficultyCommand, model, expectedMessage, expectedModel);
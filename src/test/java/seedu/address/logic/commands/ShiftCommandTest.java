@@ -0,0 +1,50 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Deck;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.card.Card;
+import seedu.address.model.card.PracticeDate;
+import seedu.address.testutil.CardBuilder;
+
+public class ShiftCommandTest {
+
+    private static final LocalDateTime DUE_DATE = LocalDateTime.of(2023, 11, 1, 12, 0);
+
+    @Test
+    public void execute_shift_movesPracticeDates() {
+        Card card = new CardBuilder().withNextPracticeDate(new PracticeDate(DUE_DATE)).build();
+        Deck deck = new Deck();
+        deck.addCard(card);
+        Model model = new ModelManager(deck, new UserPrefs());
+        Model expectedModel = new ModelManager(new Deck(), new UserPrefs());
+        expectedModel.addCard(new CardBuilder().withNextPracticeDate(new PracticeDate(DUE_DATE.plusDays(5))).build());
+
+        assertCommandSuccess(new ShiftCommand(5), model, String.format(ShiftCommand.MESSAGE_SUCCESS, 5),
+                expectedModel);
+        Card shiftedCard = model.getFilteredCardList().get(0);
+        assertEquals(new PracticeDate(DUE_DATE.plusDays(5)), shiftedCard.getNextPracticeDate());
+        assertEquals(Duration.ofDays(5), model.scheduleOffsetProperty().get());
+    }
+
+    @Test
+    public void equals() {
+        ShiftCommand shiftByWeek = new ShiftCommand(7);
+
+        assertTrue(shiftByWeek.equals(shiftByWeek));
+        assertTrue(shiftByWeek.equals(new ShiftCommand(7)));
+        assertFalse(shiftByWeek.equals(new ShiftCommand(-7)));
+        assertFalse(shiftByWeek.equals(null));
+    }
+}
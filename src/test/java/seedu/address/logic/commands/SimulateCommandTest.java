@@ -0,0 +1,67 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Deck;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.card.Card;
+import seedu.address.model.card.PracticeDate;
+import seedu.address.model.scheduling.SchedulerType;
+import seedu.address.testutil.CardBuilder;
+
+public class SimulateCommandTest {
+
+    @Test
+    public void execute_emptyDeck_showsNoCards() {
+        Model model = new ModelManager(new Deck(), new UserPrefs());
+
+        assertEquals(SimulateCommand.MESSAGE_NO_CARDS,
+                new SimulateCommand(30, Optional.empty()).execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_deck_summarisesSimulationAndLeavesDeck() {
+        Deck deck = new Deck();
+        PracticeDate due = new PracticeDate(LocalDateTime.now());
+        for (int i = 0; i < 20; i++) {
+            deck.addCard(new CardBuilder().withQuestion("Question " + i).withNextPracticeDate(due).build());
+        }
+        Model model = new ModelManager(deck, new UserPrefs());
+        List<Card> cardsBefore = List.copyOf(model.getDeck().getCardList());
+
+        String[] lines = new SimulateCommand(100, Optional.of(SchedulerType.SM2)).execute(model)
+                .getFeedbackToUser().split("\n");
+
+        assertEquals(String.format(SimulateCommand.MESSAGE_HEADER, 100, 20, SchedulerType.SM2), lines[0]);
+        assertTrue(lines[1].startsWith("Reviews: "));
+        assertTrue(lines[2].startsWith("Busiest day: day 1 with 20 review(s)"));
+        // 100 days are summarised in periods of 9 days
+        assertEquals(3 + 12, lines.length);
+        assertTrue(lines[3].startsWith("Days 1-9: "));
+        assertTrue(lines[14].startsWith("Days 100-100: "));
+        assertEquals(cardsBefore, model.getDeck().getCardList());
+        assertEquals(due, model.getDeck().getCardList().get(0).getNextPracticeDate());
+    }
+
+    @Test
+    public void equals() {
+        SimulateCommand thirtyDays = new SimulateCommand(30, Optional.empty());
+
+        assertTrue(thirtyDays.equals(thirtyDays));
+        assertTrue(thirtyDays.equals(new SimulateCommand(30, Optional.empty())));
+        assertFalse(thirtyDays.equals(new SimulateCommand(31, Optional.empty())));
+        assertFalse(thirtyDays.equals(new SimulateCommand(30, Optional.of(SchedulerType.FSRS))));
+        assertFalse(thirtyDays.equals(null));
+        assertFalse(thirtyDays.equals(1));
+    }
+}
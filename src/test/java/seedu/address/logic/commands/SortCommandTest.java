@@ -0,0 +1,56 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalCards.getTypicalDeck;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.card.Card;
+import seedu.address.model.card.CardOrder;
+
+public class SortCommandTest {
+
+    private final Model model = new ModelManager(getTypicalDeck(), new UserPrefs());
+
+    @Test
+    public void execute_sortByQuestion_success() {
+        Model expectedModel = new ModelManager(model.getDeck(), new UserPrefs());
+        expectedModel.setCardOrder(CardOrder.QUESTION);
+
+        assertCommandSuccess(new SortCommand(CardOrder.QUESTION), model,
+                String.format(SortCommand.MESSAGE_SUCCESS, CardOrder.QUESTION), expectedModel);
+
+        List<Card> expectedCards = new ArrayList<>(model.getDeck().getCardList());
+        expectedCards.sort(Comparator.comparing(card -> card.getQuestion().question.toLowerCase()));
+        assertEquals(expectedCards, model.getFilteredCardList());
+        assertEquals(CardOrder.QUESTION, model.getCardOrder());
+    }
+
+    @Test
+    public void execute_sortByDue_restoresDeckOrder() {
+        model.setCardOrder(CardOrder.SOLVE_COUNT);
+        new SortCommand(CardOrder.DUE).execute(model);
+
+        assertEquals(model.getDeck().getCardList(), model.getFilteredCardList());
+    }
+
+    @Test
+    public void equals() {
+        SortCommand sortByQuestion = new SortCommand(CardOrder.QUESTION);
+
+        assertTrue(sortByQuestion.equals(sortByQuestion));
+        assertTrue(sortByQuestion.equals(new SortCommand(CardOrder.QUESTION)));
+        assertFalse(sortByQuestion.equals(new SortCommand(CardOrder.DUE)));
+        assertFalse(sortByQuestion.equals(null));
+    }
+}
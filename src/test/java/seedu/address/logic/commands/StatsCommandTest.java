@@ -0,0 +1,80 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Deck;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.card.Card;
+import seedu.address.model.card.Difficulty;
+import seedu.address.model.history.InMemoryReviewLog;
+import seedu.address.model.history.ReviewEvent;
+import seedu.address.model.history.ReviewLog;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.CardBuilder;
+
+public class StatsCommandTest {
+
+    private static final Tag MATH = new Tag("Math");
+
+    @Test
+    public void execute_noReviews_showsNoReviews() throws Exception {
+        Model model = new ModelManager(new Deck(), new UserPrefs());
+
+        assertEquals(StatsCommand.MESSAGE_NO_REVIEWS,
+                new StatsCommand(Optional.empty()).execute(model).getFeedbackToUser());
+        assertEquals(String.format(StatsCommand.MESSAGE_NO_REVIEWS_TAG, "Math"),
+                new StatsCommand(Optional.of(MATH)).execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_loggedAndRecordedReviews_showsTagStatistics() throws Exception {
+        Card mathCard = new CardBuilder().withQuestion("1 + 1?").withTags(List.of(MATH)).build();
+        Card otherCard = new CardBuilder().withQuestion("Capital of France?").withTags(List.of()).build();
+        Deck deck = new Deck();
+        deck.addCard(mathCard);
+        deck.addCard(otherCard);
+
+        // Reviews logged before the model is created are read back from the log
+        ReviewLog reviewLog = new InMemoryReviewLog();
+        LocalDateTime now = LocalDateTime.now();
+        reviewLog.append(ReviewEvent.of(mathCard, Difficulty.EASY, now));
+        reviewLog.append(ReviewEvent.of(otherCard, Difficulty.HARD, now));
+        Model model = new ModelManager(deck, new UserPrefs(), reviewLog);
+
+        String[] lines = new StatsCommand(Optional.of(MATH)).execute(model).getFeedbackToUser().split("\n");
+        assertEquals(String.format(StatsCommand.MESSAGE_HEADER_TAG, "Math"), lines[0]);
+        assertEquals(String.format(StatsCommand.MESSAGE_TOTAL, 1, 100.0), lines[1]);
+
+        // Reviews recorded afterwards are added as they happen
+        model.recordReview(ReviewEvent.of(mathCard, Difficulty.HARD, now), mathCard);
+        lines = new StatsCommand(Optional.of(MATH)).execute(model).getFeedbackToUser().split("\n");
+        assertEquals(String.format(StatsCommand.MESSAGE_TOTAL, 2, 50.0), lines[1]);
+        assertEquals(String.format(StatsCommand.MESSAGE_ROLLUP, "Today", 2, 50.0), lines[4]);
+
+        lines = new StatsCommand(Optional.empty()).execute(model).getFeedbackToUser().split("\n");
+        assertEquals(StatsCommand.MESSAGE_HEADER_ALL, lines[0]);
+        assertEquals(String.format(StatsCommand.MESSAGE_TOTAL, 3, 100.0 / 3), lines[1]);
+        assertTrue(lines[lines.length - 1].endsWith(": 3"));
+        assertEquals(3, model.getReviewLog().size());
+    }
+
+    @Test
+    public void equals() {
+        StatsCommand statsMath = new StatsCommand(Optional.of(MATH));
+
+        assertTrue(statsMath.equals(statsMath));
+        assertTrue(statsMath.equals(new StatsCommand(Optional.of(new Tag("Math")))));
+        assertFalse(statsMath.equals(new StatsCommand(Optional.empty())));
+        assertFalse(statsMath.equals(null));
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.BatchCommand;
+
+public class BatchCommandParserTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final BatchCommandParser parser = new BatchCommandParser();
+
+    @Test
+    public void parse_validScript_skipsBlankLinesAndComments() throws Exception {
+        Path scriptPath = writeScript("# tidy up\ndelete 1\n\n  solve 2  \n");
+        DeckParser deckParser = new DeckParser();
+        BatchCommand expectedCommand = new BatchCommand(scriptPath, List.of("delete 1", "solve 2"), List.of(2, 4),
+                List.of(deckParser.parseCommand("delete 1"), deckParser.parseCommand("solve 2")));
+
+        assertParseSuccess(parser, " " + scriptPath, expectedCommand);
+    }
+
+    @Test
+    public void parse_invalidLine_throwsParseException() throws Exception {
+        Path scriptPath = writeScript("delete 1\nfly 2\n");
+        assertParseFailure(parser, scriptPath.toString(),
+                String.format(BatchCommandParser.MESSAGE_INVALID_LINE, 2, "fly 2", MESSAGE_UNKNOWN_COMMAND));
+    }
+
+    @Test
+    public void parse_commandNotBatchable_throwsParseException() throws Exception {
+        Path scriptPath = writeScript("deck physics\n");
+        assertParseFailure(parser, scriptPath.toString(),
+                String.format(BatchCommandParser.MESSAGE_NOT_BATCHABLE, 1, "deck physics"));
+
+        // a script that runs itself
+        Path selfRunningScriptPath = temporaryFolder.resolve("self.txt");
+        Files.writeString(selfRunningScriptPath, "batch " + selfRunningScriptPath + "\n");
+        assertParseFailure(parser, selfRunningScriptPath.toString(),
+                String.format(BatchCommandParser.MESSAGE_NOT_BATCHABLE, 1, "batch " + selfRunningScriptPath));
+    }
+
+    @Test
+    public void parse_emptyScript_throwsParseException() throws Exception {
+        Path scriptPath = writeScript("# nothing yet\n\n");
+        assertParseFailure(parser, scriptPath.toString(),
+                String.format(BatchCommandParser.MESSAGE_EMPTY_SCRIPT, scriptPath));
+    }
+
+    @Test
+    public void parse_missingScript_throwsParseException() {
+        Path scriptPath = temporaryFolder.resolve("missing.txt");
+        // The message of the NoSuchFileException thrown is the path of the missing file.
+        assertParseFailure(parser, scriptPath.toString(),
+                String.format(BatchCommandParser.MESSAGE_CANNOT_READ, scriptPath, scriptPath));
+    }
+
+    @Test
+    public void parse_noPath_throwsParseException() {
+        assertParseFailure(parser, "  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, BatchCommand.MESSAGE_USAGE));
+    }
+
+    private Path writeScript(String script) throws Exception {
+        Path scriptPath = Files.createTempFile(temporaryFolder, "script", ".txt");
+        Files.writeString(scriptPath, script);
+        return scriptPath;
+    }
+}
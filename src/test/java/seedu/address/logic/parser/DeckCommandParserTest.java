@@ -0,0 +1,32 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.DeckCommand;
+import seedu.address.model.workspace.Workspace;
+
+public class DeckCommandParserTest {
+
+    private final DeckCommandParser parser = new DeckCommandParser();
+
+    @Test
+    public void parse_noArgs_returnsListCommand() {
+        assertParseSuccess(parser, "   ", new DeckCommand(Optional.empty()));
+    }
+
+    @Test
+    public void parse_validName_returnsOpenCommand() {
+        assertParseSuccess(parser, " physics_1 ", new DeckCommand(Optional.of("physics_1")));
+    }
+
+    @Test
+    public void parse_invalidName_throwsParseException() {
+        assertParseFailure(parser, " my deck", Workspace.MESSAGE_NAME_CONSTRAINTS);
+        assertParseFailure(parser, " ../deck", Workspace.MESSAGE_NAME_CONSTRAINTS);
+    }
+}
@@ -3,25 +3,47 @@ package seedu.address.logic.parser;
 
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BatchCommand;
+import seedu.address.logic.commands.DeckCommand;
 import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.DiagnosticsCommand;
 import seedu.address.logic.commands.EditCommand;
+import seedu.address.logic.commands.ForecastCommand;
 import seedu.address.logic.commands.GoalCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.HintCommand;
+import seedu.address.logic.commands.OptimiseCommand;
 import seedu.address.logic.commands.PractiseCommand;
+import seedu.address.logic.commands.RebalanceCommand;
+import seedu.address.logic.commands.ReviewCommand;
+import seedu.address.logic.commands.SchedulerCommand;
 import seedu.address.logic.commands.SetDifficultyCommand;
+import seedu.address.logic.commands.ShiftCommand;
+import seedu.address.logic.commands.SimulateCommand;
 import seedu.address.logic.commands.SolveCommand;
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.card.Answer;
 import seedu.address.model.card.Card;
+import seedu.address.model.card.CardOrder;
+import seedu.address.model.card.Difficulty;
 import seedu.address.model.card.Question;
+import seedu.address.model.scheduling.SchedulerType;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.CardBuilder;
 import seedu.address.testutil.CardUtil;
 
@@ -31,6 +53,10 @@ public class DeckParserTest {
 
     private static final String EXAMPLE_QUESTION = "What is this?";
     private static final String EXAMPLE_ANSWER = "Example Answer";
+
+    @TempDir
+    public Path temporaryFolder;
+
     private final DeckParser parser = new DeckParser();
 
 
@@ -137,6 +163,87 @@ public class DeckParserTest {
         assertEquals(new GoalCommand(testIndex.getOneBased()), testCommand);
     }
 
+    @Test
+    public void parseCommand_sortCommand_success() throws ParseException {
+        SortCommand testCommand = (SortCommand) parser.parseCommand(SortCommand.COMMAND_WORD + " practised");
+
+        assertEquals(new SortCommand(CardOrder.LAST_PRACTISED), testCommand);
+    }
+
+    @Test
+    public void parseCommand_schedulerCommand_success() throws ParseException {
+        SchedulerCommand testCommand = (SchedulerCommand) parser.parseCommand(SchedulerCommand.COMMAND_WORD + " sm2");
+
+        assertEquals(new SchedulerCommand(SchedulerType.SM2), testCommand);
+    }
+
+    @Test
+    public void parseCommand_shiftCommand_success() throws ParseException {
+        assertEquals(new ShiftCommand(-3), parser.parseCommand(ShiftCommand.COMMAND_WORD + " -3"));
+    }
+
+    @Test
+    public void parseCommand_rebalanceCommand_success() throws ParseException {
+        assertEquals(new RebalanceCommand(7, 30), parser.parseCommand(RebalanceCommand.COMMAND_WORD + " 7 30"));
+    }
+
+    @Test
+    public void parseCommand_forecastCommand_success() throws ParseException {
+        assertEquals(new ForecastCommand(ForecastCommand.DEFAULT_DAYS),
+                parser.parseCommand(ForecastCommand.COMMAND_WORD));
+        assertEquals(new ForecastCommand(7), parser.parseCommand(ForecastCommand.COMMAND_WORD + " 7"));
+    }
+
+    @Test
+    public void parseCommand_optimiseCommand_success() throws ParseException {
+        assertEquals(new OptimiseCommand(OptimiseCommand.Action.START),
+                parser.parseCommand(OptimiseCommand.COMMAND_WORD));
+        assertEquals(new OptimiseCommand(OptimiseCommand.Action.APPLY),
+                parser.parseCommand(OptimiseCommand.COMMAND_WORD + " apply"));
+    }
+
+    @Test
+    public void parseCommand_deckCommand_success() throws ParseException {
+        assertEquals(new DeckCommand(Optional.empty()), parser.parseCommand(DeckCommand.COMMAND_WORD));
+        assertEquals(new DeckCommand(Optional.of("physics")),
+                parser.parseCommand(DeckCommand.COMMAND_WORD + " physics"));
+    }
+
+    @Test
+    public void parseCommand_diagnosticsCommand_success() throws ParseException {
+        assertTrue(parser.parseCommand(DiagnosticsCommand.COMMAND_WORD) instanceof DiagnosticsCommand);
+    }
+
+    @Test
+    public void parseCommand_batchCommand_success() throws Exception {
+        Path scriptPath = temporaryFolder.resolve("script.txt");
+        Files.writeString(scriptPath, "delete 1\n");
+        assertEquals(new BatchCommandParser().parseScript(scriptPath),
+                parser.parseCommand(BatchCommand.COMMAND_WORD + " " + scriptPath));
+    }
+
+    @Test
+    public void parseCommand_simulateCommand_success() throws ParseException {
+        assertEquals(new SimulateCommand(90, Optional.empty()),
+                parser.parseCommand(SimulateCommand.COMMAND_WORD + " 90"));
+        assertEquals(new SimulateCommand(90, Optional.of(SchedulerType.LEITNER)),
+                parser.parseCommand(SimulateCommand.COMMAND_WORD + " 90 leitner"));
+    }
+
+    @Test
+    public void parseCommand_statsCommand_success() throws ParseException {
+        assertEquals(new StatsCommand(Optional.empty()), parser.parseCommand(StatsCommand.COMMAND_WORD));
+        assertEquals(new StatsCommand(Optional.of(new Tag("Math"))),
+                parser.parseCommand(StatsCommand.COMMAND_WORD + " t/Math"));
+    }
+
+    @Test
+    public void parseCommand_reviewCommand_success() throws ParseException {
+        assertEquals(ReviewCommand.start(), parser.parseCommand(ReviewCommand.COMMAND_WORD));
+        assertEquals(ReviewCommand.rate(Difficulty.MEDIUM),
+                parser.parseCommand(ReviewCommand.COMMAND_WORD + " d/medium"));
+    }
+
 
     @Test
     public void parseCommand_setDifficultyCommand_success() throws ParseException {
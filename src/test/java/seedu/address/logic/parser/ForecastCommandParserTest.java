@@ -0,0 +1,33 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ForecastCommand;
+
+public class ForecastCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ForecastCommand.MESSAGE_USAGE);
+
+    private ForecastCommandParser parser = new ForecastCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsForecastCommand() {
+        assertParseSuccess(parser, "", new ForecastCommand(ForecastCommand.DEFAULT_DAYS));
+        assertParseSuccess(parser, " 7 ", new ForecastCommand(7));
+        assertParseSuccess(parser, String.valueOf(ForecastCommand.MAX_DAYS),
+                new ForecastCommand(ForecastCommand.MAX_DAYS));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "0", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "-7", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "week", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, String.valueOf(ForecastCommand.MAX_DAYS + 1), MESSAGE_INVALID_FORMAT);
+    }
+}
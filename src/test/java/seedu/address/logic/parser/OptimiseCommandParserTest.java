@@ -0,0 +1,31 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.OptimiseCommand;
+import seedu.address.logic.commands.OptimiseCommand.Action;
+
+public class OptimiseCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, OptimiseCommand.MESSAGE_USAGE);
+
+    private OptimiseCommandParser parser = new OptimiseCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsOptimiseCommand() {
+        assertParseSuccess(parser, "", new OptimiseCommand(Action.START));
+        assertParseSuccess(parser, " status ", new OptimiseCommand(Action.STATUS));
+        assertParseSuccess(parser, "APPLY", new OptimiseCommand(Action.APPLY));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "start", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "apply now", MESSAGE_INVALID_FORMAT);
+    }
+}
@@ -0,0 +1,30 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.RandomCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.sampling.CardSampler;
+
+public class RandomCommandParserTest {
+
+    private RandomCommandParser parser = new RandomCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsRandomCommand() throws ParseException {
+        // RandomCommands never equal each other, so compare their string representations instead
+        assertEquals(new RandomCommand().toString(), parser.parse("").toString());
+        assertEquals(new RandomCommand(CardSampler.Mode.WEIGHTED).toString(), parser.parse(" weighted").toString());
+        assertEquals(new RandomCommand(CardSampler.Mode.SHUFFLE_BAG).toString(), parser.parse(" BAG ").toString());
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "often", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                RandomCommand.MESSAGE_USAGE));
+    }
+}
@@ -0,0 +1,36 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.RebalanceCommand;
+import seedu.address.model.scheduling.OverdueRebalancer;
+
+public class RebalanceCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, RebalanceCommand.MESSAGE_USAGE);
+
+    private RebalanceCommandParser parser = new RebalanceCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsRebalanceCommand() {
+        assertParseSuccess(parser, " 7", new RebalanceCommand(7, OverdueRebalancer.EVEN_LOAD));
+        assertParseSuccess(parser, " 7   30 ", new RebalanceCommand(7, 30));
+        assertParseSuccess(parser, String.valueOf(OverdueRebalancer.MAX_DAYS),
+                new RebalanceCommand(OverdueRebalancer.MAX_DAYS, OverdueRebalancer.EVEN_LOAD));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "0", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "-7", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "7 0", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "7 30 1", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, String.valueOf(OverdueRebalancer.MAX_DAYS + 1), MESSAGE_INVALID_FORMAT);
+    }
+}
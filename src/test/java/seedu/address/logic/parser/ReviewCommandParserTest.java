@@ -0,0 +1,34 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.ReviewCommand;
+import seedu.address.model.card.Difficulty;
+
+public class ReviewCommandParserTest {
+
+    private ReviewCommandParser parser = new ReviewCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsReviewCommand() {
+        assertParseSuccess(parser, "", ReviewCommand.start());
+        assertParseSuccess(parser, " end", ReviewCommand.end());
+        assertParseSuccess(parser, " ALL", ReviewCommand.startAll());
+        assertParseSuccess(parser, " d/easy", ReviewCommand.rate(Difficulty.EASY));
+        assertParseSuccess(parser, " d/ Hard", ReviewCommand.rate(Difficulty.HARD));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ReviewCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " stop", expectedMessage);
+        assertParseFailure(parser, " end d/easy", expectedMessage);
+        assertParseFailure(parser, " all d/easy", expectedMessage);
+        assertParseFailure(parser, " d/new", "new" + Messages.MESSAGE_CARDS_SET_DIFFICULTY_VIEW_INVALID);
+    }
+}
@@ -0,0 +1,30 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.SchedulerCommand;
+import seedu.address.model.scheduling.SchedulerType;
+
+public class SchedulerCommandParserTest {
+
+    private SchedulerCommandParser parser = new SchedulerCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsSchedulerCommand() {
+        assertParseSuccess(parser, " sm2", new SchedulerCommand(SchedulerType.SM2));
+        assertParseSuccess(parser, " FSRS ", new SchedulerCommand(SchedulerType.FSRS));
+        assertParseSuccess(parser, "multiplier", new SchedulerCommand(SchedulerType.MULTIPLIER));
+        assertParseSuccess(parser, " leitner", new SchedulerCommand(SchedulerType.LEITNER));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "anki",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, SchedulerCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "", String.format(MESSAGE_INVALID_COMMAND_FORMAT, SchedulerCommand.MESSAGE_USAGE));
+    }
+}
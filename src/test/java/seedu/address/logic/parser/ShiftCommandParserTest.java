@@ -0,0 +1,35 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ShiftCommand;
+
+public class ShiftCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ShiftCommand.MESSAGE_USAGE);
+
+    private ShiftCommandParser parser = new ShiftCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsShiftCommand() {
+        assertParseSuccess(parser, " 7", new ShiftCommand(7));
+        assertParseSuccess(parser, " +2 ", new ShiftCommand(2));
+        assertParseSuccess(parser, "-1", new ShiftCommand(-1));
+        assertParseSuccess(parser, "-" + ShiftCommand.MAX_DAYS, new ShiftCommand(-ShiftCommand.MAX_DAYS));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "0", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "1.5", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "week", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, String.valueOf(ShiftCommand.MAX_DAYS + 1), MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "99999999999", MESSAGE_INVALID_FORMAT);
+    }
+}
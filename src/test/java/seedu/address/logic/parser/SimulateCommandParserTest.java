@@ -0,0 +1,39 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.SimulateCommand;
+import seedu.address.model.scheduling.SchedulerType;
+
+public class SimulateCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, SimulateCommand.MESSAGE_USAGE);
+
+    private final SimulateCommandParser parser = new SimulateCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsSimulateCommand() {
+        assertParseSuccess(parser, " 30", new SimulateCommand(30, Optional.empty()));
+        assertParseSuccess(parser, " 365  SM2 ", new SimulateCommand(365, Optional.of(SchedulerType.SM2)));
+        assertParseSuccess(parser, " " + SimulateCommand.MAX_DAYS,
+                new SimulateCommand(SimulateCommand.MAX_DAYS, Optional.empty()));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " 0", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " -5", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " " + (SimulateCommand.MAX_DAYS + 1), MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " sm2", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " 30 random", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " 30 sm2 fsrs", MESSAGE_INVALID_FORMAT);
+    }
+}
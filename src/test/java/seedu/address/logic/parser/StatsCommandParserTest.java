@@ -0,0 +1,33 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.model.tag.Tag;
+
+public class StatsCommandParserTest {
+
+    private StatsCommandParser parser = new StatsCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsStatsCommand() {
+        assertParseSuccess(parser, "", new StatsCommand(Optional.empty()));
+        assertParseSuccess(parser, " t/Math ", new StatsCommand(Optional.of(new Tag("Math"))));
+        assertParseSuccess(parser, " t/Linear Algebra", new StatsCommand(Optional.of(new Tag("Linear Algebra"))));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "Math", String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " t/Math!", Tag.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " t/Math t/Physics",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_TAG));
+    }
+}
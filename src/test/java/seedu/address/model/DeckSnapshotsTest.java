@@ -0,0 +1,209 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.card.Card;
+import seedu.address.model.card.Difficulty;
+import seedu.address.model.card.LeitnerBox;
+import seedu.address.model.card.PracticeDate;
+import seedu.address.model.scheduling.Scheduler;
+import seedu.address.testutil.CardBuilder;
+
+public class DeckSnapshotsTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 9, 0);
+    private static final Scheduler ONE_MINUTE_SCHEDULER = (previousInterval, difficulty) -> Duration.ofMinutes(1);
+    private static final int CARD_COUNT = 50;
+    private static final int REVIEW_COUNT = 20_000;
+    private static final int READER_COUNT = 4;
+    private static final long TIMEOUT_MILLIS = 60_000;
+
+    private final List<Card> cards = new ArrayList<>();
+    private ModelManager model;
+
+    @BeforeEach
+    public void setUp() {
+        Deck deck = new Deck();
+        for (int i = 0; i < CARD_COUNT; i++) {
+            Card card = new CardBuilder().withQuestion("Question " + i + "?")
+                    .withNextPracticeDate(new PracticeDate(START)).build();
+            cards.add(card);
+            deck.addCard(card);
+        }
+        model = new ModelManager(deck, new UserPrefs());
+    }
+
+    @Test
+    public void getDeckSnapshot_nothingPublished_empty() {
+        assertTrue(model.getDeckSnapshot().isEmpty());
+        assertEquals(0, model.publishDeckSnapshot().getVersion());
+    }
+
+    @Test
+    public void publishDeckSnapshot_unchanged_sameSnapshot() {
+        DeckSnapshot snapshot = model.publishDeckSnapshot();
+
+        assertSame(snapshot, model.publishDeckSnapshot());
+        assertSame(snapshot, model.getDeckSnapshot().get());
+        assertEquals(model.getDeck().getCardList(), snapshot.getDeckCards());
+        assertEquals(model.getFilteredCardList(), snapshot.getShownCards());
+        assertNotSame(cards.get(0), snapshot.getDeckCards().get(0));
+    }
+
+    @Test
+    public void publishDeckSnapshot_cardChangedInPlace_onlyThatCardCopiedAgain() {
+        DeckSnapshot before = model.publishDeckSnapshot();
+        Card reviewedCard = cards.get(0);
+        review(reviewedCard);
+        model.setCard(reviewedCard, reviewedCard);
+
+        // not published yet, so readers still see the card as it was
+        assertSame(before, model.getDeckSnapshot().get());
+        DeckSnapshot after = model.publishDeckSnapshot();
+
+        assertEquals(before.getVersion() + 1, after.getVersion());
+        assertSame(after, model.getDeckSnapshot().get());
+        assertEquals(1, copyOf(after, reviewedCard).getSolveCount().getSolveCount());
+        assertEquals(0, copyOf(before, reviewedCard).getSolveCount().getSolveCount());
+        assertSame(copyOf(before, cards.get(1)), copyOf(after, cards.get(1)));
+    }
+
+    @Test
+    public void publishDeckSnapshot_cardRescheduled_cardsByDueDateFollow() {
+        Card rescheduledCard = cards.get(3);
+        rescheduledCard.reschedule(new PracticeDate(START.minusDays(1)));
+        model.setCard(rescheduledCard, rescheduledCard);
+        model.updateFilteredCardList(card -> card != rescheduledCard);
+
+        DeckSnapshot snapshot = model.publishDeckSnapshot();
+
+        List<Card> cardsByDueDate = snapshot.getCardsByDueDate();
+        assertEquals(CARD_COUNT, cardsByDueDate.size());
+        assertSame(copyOf(snapshot, rescheduledCard), cardsByDueDate.get(0));
+        assertTrue(snapshot.getShownIndexOf(cardsByDueDate.get(0)).isEmpty());
+        assertEquals(0, snapshot.getShownIndexOf(copyOf(snapshot, cards.get(0))).getAsInt());
+    }
+
+    @Test
+    public void publishDeckSnapshot_filterChanged_newShownCards() {
+        DeckSnapshot before = model.publishDeckSnapshot();
+        model.updateFilteredCardList(card -> card == cards.get(2));
+        DeckSnapshot snapshot = model.publishDeckSnapshot();
+
+        assertEquals(List.of(cards.get(2)), snapshot.getShownCards());
+        assertSame(copyOf(snapshot, cards.get(2)), snapshot.getShownCards().get(0));
+        // the cards of the Deck have not changed, so their list is shared
+        assertSame(before.getDeckCards(), snapshot.getDeckCards());
+    }
+
+    @Test
+    public void publishDeckSnapshot_scheduleShifted_everyCardCopiedAgain() {
+        DeckSnapshot before = model.publishDeckSnapshot();
+        model.shiftSchedule(Duration.ofDays(1));
+        DeckSnapshot after = model.publishDeckSnapshot();
+
+        for (Card card : cards) {
+            assertEquals(new PracticeDate(START), copyOf(before, card).getNextPracticeDate());
+            assertEquals(new PracticeDate(START.plusDays(1)), copyOf(after, card).getNextPracticeDate());
+        }
+    }
+
+    @Test
+    public void publishDeckSnapshot_concurrentReaders_neverSeeTornCards() throws Exception {
+        DeckSnapshot first = model.publishDeckSnapshot();
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+
+        // The single writer reviews the cards in place, as the review commands do, publishing after each review.
+        Thread writer = new Thread(() -> {
+            try {
+                for (int i = 0; i < REVIEW_COUNT; i++) {
+                    Card card = cards.get(i % CARD_COUNT);
+                    review(card);
+                    model.setCard(card, card);
+                    model.publishDeckSnapshot();
+                }
+            } catch (Throwable e) {
+                failures.add(e);
+            }
+        }, "snapshot-writer");
+
+        List<Thread> readers = new ArrayList<>();
+        for (int i = 0; i < READER_COUNT; i++) {
+            readers.add(new Thread(() -> {
+                try {
+                    long lastVersion = -1;
+                    do {
+                        DeckSnapshot snapshot = model.getDeckSnapshot().get();
+                        assertTrue(snapshot.getVersion() >= lastVersion);
+                        lastVersion = snapshot.getVersion();
+                        assertEquals(CARD_COUNT, snapshot.getDeckCards().size());
+                        snapshot.getDeckCards().forEach(DeckSnapshotsTest::assertNotTorn);
+                    } while (writer.isAlive());
+                } catch (Throwable e) {
+                    failures.add(e);
+                }
+            }, "snapshot-reader-" + i));
+        }
+
+        readers.forEach(Thread::start);
+        writer.start();
+        writer.join(TIMEOUT_MILLIS);
+        for (Thread reader : readers) {
+            reader.join(TIMEOUT_MILLIS);
+        }
+
+        assertFalse(writer.isAlive());
+        assertTrue(failures.isEmpty(), () -> "Failed with " + failures);
+        DeckSnapshot last = model.getDeckSnapshot().get();
+        assertEquals(first.getVersion() + REVIEW_COUNT, last.getVersion());
+        assertEquals(REVIEW_COUNT, last.getDeckCards().stream()
+                .mapToInt(card -> card.getSolveCount().getSolveCount()).sum());
+        // the snapshots taken before are never changed
+        first.getDeckCards().forEach(card -> assertEquals(0, card.getSolveCount().getSolveCount()));
+    }
+
+    /**
+     * Reviews {@code card} in place as the review commands do, rating it easy and hard in turn, so that its
+     * difficulty, practice dates, Leitner box and solve count all follow from how many times it has been reviewed.
+     */
+    private static void review(Card card) {
+        Difficulty difficulty = card.getSolveCount().getSolveCount() % 2 == 0 ? Difficulty.EASY : Difficulty.HARD;
+        card.setDifficulty(difficulty);
+        card.setNewPracticeDateWith(difficulty, ONE_MINUTE_SCHEDULER);
+        card.incrementSolveCount();
+    }
+
+    /**
+     * Asserts that the fields of {@code card} agree with each other, as they do between reviews.
+     */
+    private static void assertNotTorn(Card card) {
+        int solveCount = card.getSolveCount().getSolveCount();
+        assertEquals(new PracticeDate(START.plusMinutes(solveCount)), card.getNextPracticeDate());
+        if (solveCount == 0) {
+            return;
+        }
+
+        boolean isLastEasy = solveCount % 2 == 1;
+        assertEquals(new PracticeDate(START.plusMinutes(solveCount - 1)), card.getLastPracticeDate());
+        assertEquals((isLastEasy ? Difficulty.EASY : Difficulty.HARD).toString(), card.getDifficulty());
+        assertEquals(isLastEasy ? LeitnerBox.FIRST.after(Difficulty.EASY) : LeitnerBox.FIRST, card.getLeitnerBox());
+    }
+
+    private static Card copyOf(DeckSnapshot snapshot, Card card) {
+        return snapshot.getDeckCards().stream().filter(card::isSameCard).findFirst().orElseThrow();
+    }
+}
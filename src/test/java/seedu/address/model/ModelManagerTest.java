@@ -2,6 +2,8 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -10,12 +12,27 @@ import static seedu.address.testutil.TypicalCards.CS2100;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.index.Index;
+import seedu.address.model.analytics.ReviewStatistics;
+import seedu.address.model.card.Card;
+import seedu.address.model.card.Difficulty;
+import seedu.address.model.card.PracticeDate;
 import seedu.address.model.exceptions.RandomIndexNotInitialisedException;
+import seedu.address.model.history.ReviewEvent;
+import seedu.address.model.review.ReviewSession;
+import seedu.address.model.scheduling.MultiplierParameters;
+import seedu.address.model.scheduling.SchedulerType;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.CardBuilder;
 import seedu.address.testutil.DeckBuilder;
 
 public class ModelManagerTest {
@@ -146,4 +163,154 @@ public class ModelManagerTest {
     public void get_deckSize() {
         assertEquals(modelManager.getDeckSize(), new ModelManager().getDeckSize());
     }
+
+    @Test
+    public void setSchedulerType_reviewedCards_reschedulesAndResortsDeck() {
+        LocalDateTime reviewDate = LocalDateTime.of(2023, 11, 1, 9, 0);
+        Card hardCard = reviewedCard("Hard?", reviewDate, Difficulty.HARD);
+        Card easyCard = reviewedCard("Easy?", reviewDate.minusHours(1), Difficulty.EASY);
+        modelManager.addCard(hardCard);
+        modelManager.addCard(easyCard);
+        assertEquals(Arrays.asList(hardCard, easyCard), modelManager.getFilteredCardList());
+
+        modelManager.setSchedulerType(SchedulerType.SM2);
+
+        assertEquals(SchedulerType.SM2, modelManager.getUserPrefs().getSchedulerType());
+        assertEquals(SchedulerType.SM2.getScheduler(), modelManager.getScheduler());
+        assertEquals(new PracticeDate(reviewDate.plusDays(1)), hardCard.getNextPracticeDate());
+        assertEquals(new PracticeDate(reviewDate.plusDays(1).minusHours(1)), easyCard.getNextPracticeDate());
+        assertEquals(Arrays.asList(easyCard, hardCard), modelManager.getFilteredCardList());
+    }
+
+    @Test
+    public void setSchedulerType_leitner_reviewsFromBoxesOfCardsAddedUnderAnyScheduler() {
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 9, 0);
+        Card thirdBoxCard = new CardBuilder().withQuestion("Third?").withLeitnerBox(3)
+                .withNextPracticeDate(new PracticeDate(LocalDateTime.of(2020, 1, 1, 0, 0))).build();
+        Card firstBoxCard = new CardBuilder().withQuestion("First?").withLeitnerBox(1)
+                .withNextPracticeDate(new PracticeDate(LocalDateTime.of(2020, 2, 1, 0, 0))).build();
+        modelManager.addCard(thirdBoxCard);
+        modelManager.addCard(firstBoxCard);
+        ReviewSession session = modelManager.getReviewSession();
+
+        modelManager.setSchedulerType(SchedulerType.LEITNER);
+        session.start(card -> card.getQuestion().toString(), now);
+
+        // the lowest box comes first, though its card is due later
+        assertEquals(Optional.of(firstBoxCard), session.getCurrentCard());
+        assertEquals(2, session.getDueCount(now));
+
+        // cards added while the boxes are not kept up to date are put in them when the boxes are used again
+        modelManager.setSchedulerType(SchedulerType.SM2);
+        modelManager.addCard(new CardBuilder().withQuestion("Added?").withLeitnerBox(2)
+                .withNextPracticeDate(new PracticeDate(LocalDateTime.of(2020, 3, 1, 0, 0))).build());
+        modelManager.setSchedulerType(SchedulerType.LEITNER);
+        session.start(card -> card.getQuestion().toString(), now);
+
+        assertEquals(Optional.of(firstBoxCard), session.getCurrentCard());
+        assertEquals(3, session.getDueCount(now));
+    }
+
+    @Test
+    public void setMultiplierParameters_multiplierInUse_reschedulesWithNewParameters() {
+        LocalDateTime reviewDate = LocalDateTime.of(2023, 11, 1, 9, 0);
+        Card hardCard = reviewedCard("Hard?", reviewDate, Difficulty.HARD);
+        Card easyCard = reviewedCard("Easy?", reviewDate.minusHours(1), Difficulty.EASY);
+        modelManager.addCard(hardCard);
+        modelManager.addCard(easyCard);
+
+        MultiplierParameters parameters = new MultiplierParameters(4, 2, 0.25, 8);
+        modelManager.setMultiplierParameters(parameters);
+
+        assertEquals(parameters, modelManager.getUserPrefs().getMultiplierParameters());
+        assertEquals(Duration.ofHours(32), modelManager.getScheduler().nextInterval(Duration.ZERO, Difficulty.EASY));
+        // First intervals of 8 hours x 0.25 and 8 hours x 4
+        assertEquals(new PracticeDate(reviewDate.plusHours(2)), hardCard.getNextPracticeDate());
+        assertEquals(new PracticeDate(reviewDate.plusHours(31)), easyCard.getNextPracticeDate());
+    }
+
+    @Test
+    public void setMultiplierParameters_otherSchedulerInUse_keepsPracticeDates() {
+        modelManager.setSchedulerType(SchedulerType.SM2);
+        LocalDateTime reviewDate = LocalDateTime.of(2023, 11, 1, 9, 0);
+        Card easyCard = reviewedCard("Easy?", reviewDate, Difficulty.EASY);
+        modelManager.addCard(easyCard);
+        PracticeDate nextPracticeDate = easyCard.getNextPracticeDate();
+
+        modelManager.setMultiplierParameters(new MultiplierParameters(4, 2, 0.25, 8));
+
+        assertEquals(nextPracticeDate, easyCard.getNextPracticeDate());
+        assertEquals(SchedulerType.SM2.getScheduler(), modelManager.getScheduler());
+    }
+
+    @Test
+    public void switchDeck_shiftedDeckAndBack_keepsPracticeDates() throws Exception {
+        LocalDateTime dueDate = LocalDateTime.of(2023, 11, 1, 9, 0);
+        Card card = new CardBuilder().withQuestion("Shifted?").withNextPracticeDate(new PracticeDate(dueDate)).build();
+        modelManager.addCard(card);
+        modelManager.shiftSchedule(Duration.ofDays(2));
+        modelManager.updateFilteredCardList(unused -> false);
+
+        modelManager.switchDeck("physics");
+
+        assertEquals(0, modelManager.getDeckSize());
+        assertEquals(Paths.get("data", "physics.json"), modelManager.deckFilePathProperty().get());
+        // The card keeps the shift while its deck is not open, and is not shifted again by the open deck
+        assertEquals(new PracticeDate(dueDate.plusDays(2)), card.getNextPracticeDate());
+        assertEquals(1, modelManager.getDeckManifests().get(0).getCardCount());
+
+        modelManager.switchDeck("deck");
+
+        assertEquals(Arrays.asList(card), modelManager.getFilteredCardList());
+        assertEquals(new PracticeDate(dueDate.plusDays(2)), card.getNextPracticeDate());
+        assertEquals(Paths.get("data", "deck.json"), modelManager.getDeckFilePath());
+    }
+
+    @Test
+    public void switchDeck_reviewedCardOfPreviousDeck_statisticsKeepItsTags() throws Exception {
+        Tag math = new Tag("Math");
+        Card card = new CardBuilder().withQuestion("Tagged?").withTags(List.of(math)).build();
+        modelManager.addCard(card);
+        ReviewStatistics statistics = modelManager.getReviewStatistics();
+        modelManager.recordReview(ReviewEvent.of(card, Difficulty.EASY, LocalDateTime.of(2024, 5, 15, 9, 0)), card);
+
+        modelManager.switchDeck("physics");
+
+        // The card is not in the open deck, but its review still counts towards the tag it had
+        assertSame(statistics, modelManager.getReviewStatistics());
+        assertEquals(1, statistics.getForTag(math).get().getTotal().getReviewCount());
+    }
+
+    @Test
+    public void setReviewStatistics_countsEveryLoggedReview_used() throws Exception {
+        Card card = new CardBuilder().withQuestion("Reviewed?").build();
+        modelManager.addCard(card);
+        modelManager.recordReview(ReviewEvent.of(card, Difficulty.EASY, LocalDateTime.of(2024, 5, 15, 9, 0)), card);
+        ReviewStatistics saved = new ReviewStatistics();
+        saved.add(ReviewEvent.of(card, Difficulty.EASY, LocalDateTime.of(2024, 5, 15, 9, 0)), List.of());
+
+        modelManager.setReviewStatistics(saved);
+
+        assertSame(saved, modelManager.getReviewStatistics());
+    }
+
+    @Test
+    public void setReviewStatistics_missingLoggedReview_workedOutFromLog() throws Exception {
+        Card card = new CardBuilder().withQuestion("Reviewed?").build();
+        modelManager.addCard(card);
+        modelManager.recordReview(ReviewEvent.of(card, Difficulty.EASY, LocalDateTime.of(2024, 5, 15, 9, 0)), card);
+        ReviewStatistics saved = new ReviewStatistics();
+
+        modelManager.setReviewStatistics(saved);
+
+        assertNotSame(saved, modelManager.getReviewStatistics());
+        assertEquals(1, modelManager.getReviewStatistics().getReviewCount());
+    }
+
+    private static Card reviewedCard(String question, LocalDateTime dueDate, Difficulty difficulty) {
+        Card card = new CardBuilder().withQuestion(question).withNextPracticeDate(new PracticeDate(dueDate)).build();
+        card.setDifficulty(difficulty);
+        card.setNewPracticeDateWith(difficulty, SchedulerType.MULTIPLIER.getScheduler());
+        return card;
+    }
 }
@@ -8,6 +8,8 @@ import java.nio.file.Paths;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.scheduling.SchedulerType;
+
 public class UserPrefsTest {
 
     @Test
@@ -22,6 +24,12 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setDeckFilePath(null));
     }
 
+    @Test
+    public void setSchedulerType_nullSchedulerType_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setSchedulerType(null));
+    }
+
     @Test
     public void equals() {
         UserPrefs userPrefs = new UserPrefs();
@@ -29,6 +37,9 @@ public class UserPrefsTest {
         assertEquals(userPrefs, userPref2);
         userPref2.setDeckFilePath(Paths.get("some.json"));
         assertNotEquals(userPrefs, userPref2);
+        UserPrefs userPref3 = new UserPrefs();
+        userPref3.setSchedulerType(SchedulerType.FSRS);
+        assertNotEquals(userPrefs, userPref3);
     }
 
     @Test
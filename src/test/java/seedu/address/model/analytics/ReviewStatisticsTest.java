@@ -0,0 +1,111 @@
+package seedu.address.model.analytics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.card.Difficulty;
+import seedu.address.model.history.ReviewEvent;
+import seedu.address.model.tag.Tag;
+
+public class ReviewStatisticsTest {
+
+    private static final Tag MATH = new Tag("Math");
+    private static final Tag PHYSICS = new Tag("Physics");
+
+    // Wednesday 15 May 2024
+    private static final LocalDateTime WEDNESDAY = LocalDateTime.of(2024, 5, 15, 9, 0);
+
+    private final ReviewStatistics statistics = new ReviewStatistics();
+
+    @Test
+    public void add_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> statistics.add(null, List.of()));
+        assertThrows(NullPointerException.class, () -> statistics.add(review(1, WEDNESDAY, Difficulty.EASY, 1), null));
+    }
+
+    @Test
+    public void add_reviews_countsOverallAndPerTag() {
+        statistics.add(review(1, WEDNESDAY, Difficulty.EASY, 1), List.of(MATH));
+        statistics.add(review(2, WEDNESDAY, Difficulty.HARD, 1), List.of(MATH, PHYSICS));
+        statistics.add(review(3, WEDNESDAY, Difficulty.NEW, 1), List.of());
+
+        ReviewTally overall = statistics.getOverall().getTotal();
+        assertEquals(3, overall.getReviewCount());
+        assertEquals(2, overall.getRecalledCount());
+
+        ReviewTally math = statistics.getForTag(MATH).get().getTotal();
+        assertEquals(2, math.getReviewCount());
+        assertEquals(0.5, math.getAccuracy());
+
+        assertEquals(0, statistics.getForTag(PHYSICS).get().getTotal().getRecalledCount());
+        assertFalse(statistics.getForTag(new Tag("History")).isPresent());
+    }
+
+    @Test
+    public void add_sameCardTwice_tracksIntervalGrowth() {
+        statistics.add(review(1, WEDNESDAY, Difficulty.EASY, 2), List.of());
+        assertFalse(statistics.getOverall().getTotal().getAverageIntervalGrowth().isPresent());
+
+        statistics.add(review(1, WEDNESDAY.plusDays(2), Difficulty.EASY, 6), List.of());
+        statistics.add(review(2, WEDNESDAY, Difficulty.EASY, 4), List.of());
+        statistics.add(review(2, WEDNESDAY.plusDays(4), Difficulty.MEDIUM, 4), List.of());
+
+        // Growth of 3x for the first card and 1x for the second
+        assertEquals(2.0, statistics.getOverall().getTotal().getAverageIntervalGrowth().getAsDouble());
+    }
+
+    @Test
+    public void add_reviews_bucketsRetentionByInterval() {
+        statistics.add(review(1, WEDNESDAY, Difficulty.EASY, 0), List.of());
+        statistics.add(review(2, WEDNESDAY, Difficulty.HARD, 5), List.of());
+        statistics.add(review(3, WEDNESDAY, Difficulty.EASY, 5), List.of());
+        statistics.add(review(4, WEDNESDAY, Difficulty.EASY, 400), List.of());
+
+        List<ReviewTally> curve = statistics.getOverall().getRetentionCurve();
+        assertEquals(ReviewAggregates.RETENTION_BUCKETS.size(), curve.size());
+        assertEquals(1, curve.get(0).getReviewCount());
+        assertEquals(2, curve.get(2).getReviewCount());
+        assertEquals(0.5, curve.get(2).getAccuracy());
+        assertEquals(1, curve.get(curve.size() - 1).getReviewCount());
+    }
+
+    @Test
+    public void add_reviews_rolledUpByDayWeekAndMonth() {
+        statistics.add(review(1, WEDNESDAY, Difficulty.EASY, 1), List.of());
+        statistics.add(review(2, WEDNESDAY.plusDays(1), Difficulty.EASY, 1), List.of());
+        statistics.add(review(3, WEDNESDAY.plusDays(5), Difficulty.EASY, 1), List.of());
+        statistics.add(review(4, WEDNESDAY.plusDays(20), Difficulty.EASY, 1), List.of());
+
+        ReviewAggregates overall = statistics.getOverall();
+        LocalDate wednesday = WEDNESDAY.toLocalDate();
+        assertEquals(1, overall.getRollup(RollupWindow.DAY, wednesday).getReviewCount());
+        assertEquals(0, overall.getRollup(RollupWindow.DAY, wednesday.minusDays(1)).getReviewCount());
+        // Monday 13 May to Sunday 19 May
+        assertEquals(2, overall.getRollup(RollupWindow.WEEK, wednesday.minusDays(2)).getReviewCount());
+        assertEquals(1, overall.getRollup(RollupWindow.WEEK, wednesday.plusDays(5)).getReviewCount());
+        assertEquals(3, overall.getRollup(RollupWindow.MONTH, wednesday).getReviewCount());
+        assertEquals(1, overall.getRollup(RollupWindow.MONTH, wednesday.plusMonths(1)).getReviewCount());
+    }
+
+    @Test
+    public void startOf() {
+        LocalDate wednesday = WEDNESDAY.toLocalDate();
+        assertEquals(wednesday, RollupWindow.DAY.startOf(wednesday));
+        assertEquals(LocalDate.of(2024, 5, 13), RollupWindow.WEEK.startOf(wednesday));
+        assertEquals(LocalDate.of(2024, 5, 1), RollupWindow.MONTH.startOf(wednesday));
+        assertTrue(RollupWindow.WEEK.startOf(LocalDate.of(2024, 5, 13)).isEqual(LocalDate.of(2024, 5, 13)));
+    }
+
+    private static ReviewEvent review(long cardId, LocalDateTime timestamp, Difficulty rating, long intervalDays) {
+        return new ReviewEvent(cardId, timestamp, rating, Duration.ofDays(intervalDays));
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.model.card;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.CardBuilder;
+
+public class CardRenderModelTest {
+
+    private static final PracticeDate DUE_DATE = new PracticeDate(LocalDateTime.of(2024, 1, 5, 9, 0));
+
+    @Test
+    public void getters_unchangedCard_sameStrings() {
+        Card card = new CardBuilder().withQuestion("What is an ALU?").withAnswer("Arithmetic logic unit")
+                .withNextPracticeDate(DUE_DATE).withTags(List.of(new Tag("Midterms"), new Tag("CS2100"))).build();
+        CardRenderModel renderModel = card.getRenderModel();
+
+        assertEquals("Due: 5 January 2024", renderModel.getDueDateText());
+        assertEquals("Solved: 0", renderModel.getSolveCountText());
+        assertEquals(List.of("CS2100", "Midterms"), renderModel.getSortedTagNames());
+        assertEquals("Question: What is an ALU?; Answer: Arithmetic logic unit", Messages.format(card));
+
+        assertSame(renderModel.getDueDateText(), renderModel.getDueDateText());
+        assertSame(renderModel.getSolveCountText(), renderModel.getSolveCountText());
+        assertSame(renderModel.getSortedTagNames(), renderModel.getSortedTagNames());
+        assertSame(Messages.format(card), Messages.format(card));
+    }
+
+    @Test
+    public void getDueDateText_rescheduled_updated() {
+        Card card = new CardBuilder().withNextPracticeDate(DUE_DATE).build();
+        assertEquals("Due: 5 January 2024", card.getRenderModel().getDueDateText());
+
+        card.reschedule(new PracticeDate(LocalDateTime.of(2024, 2, 29, 9, 0)));
+
+        assertEquals("Due: 29 February 2024", card.getRenderModel().getDueDateText());
+    }
+
+    @Test
+    public void getDueDateText_scheduleShifted_updated() {
+        Card card = new CardBuilder().withNextPracticeDate(DUE_DATE).build();
+        UniqueCardList cards = new UniqueCardList();
+        cards.add(card);
+        assertEquals("Due: 5 January 2024", card.getRenderModel().getDueDateText());
+
+        cards.shiftSchedule(Duration.ofDays(3));
+        assertEquals("Due: 8 January 2024", card.getRenderModel().getDueDateText());
+
+        cards.remove(card);
+        assertEquals("Due: 8 January 2024", card.getRenderModel().getDueDateText());
+    }
+
+    @Test
+    public void getSolveCountText_solved_updated() {
+        Card card = new CardBuilder().build();
+        assertEquals("Solved: 0", card.getRenderModel().getSolveCountText());
+
+        card.incrementSolveCount();
+        card.incrementSolveCount();
+
+        assertEquals("Solved: 2", card.getRenderModel().getSolveCountText());
+    }
+}
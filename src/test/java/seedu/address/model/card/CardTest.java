@@ -11,6 +11,7 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.scheduling.SchedulerType;
 import seedu.address.model.tag.Tag;
 import seedu.address.testutil.CardBuilder;
 
@@ -97,4 +98,18 @@ public class CardTest {
         cs1101sCopy.incrementSolveCount();
         assertTrue(cs1101sCopy.getSolveCount().equals(1));
     }
+
+    @Test
+    public void copy_changedCopy_originalUnchanged() {
+        Card card = new CardBuilder(CS1101S).build();
+        Card copy = card.copy();
+        assertEquals(card, copy);
+        assertEquals(card.getNextPracticeDate(), copy.getNextPracticeDate());
+
+        copy.incrementSolveCount();
+        copy.setNewPracticeDateWith(Difficulty.EASY, SchedulerType.MULTIPLIER.getScheduler());
+        assertTrue(card.getSolveCount().equals(0));
+        assertEquals(LeitnerBox.FIRST, card.getLeitnerBox());
+        assertFalse(card.getNextPracticeDate().equals(copy.getNextPracticeDate()));
+    }
 }
@@ -22,6 +22,14 @@ public class PracticeDateTest {
         assertEquals(practiceDate3.getDisplayName(), "17 March 2022");
     }
 
+    @Test
+    public void ofValid_validDate_sameAsConstructed() {
+        LocalDateTime dateTime = LocalDateTime.of(2023, 12, 8, 7, 4, 0);
+
+        assertEquals(new PracticeDate(dateTime), PracticeDate.ofValid(dateTime));
+        assertEquals(new PracticeDate(LocalDateTime.MIN), PracticeDate.ofValid(LocalDateTime.MIN));
+    }
+
     @Test
     public void equals() {
         PracticeDate practiceDate = new PracticeDate(LocalDateTime.of(2023, 12, 8, 7, 4, 0));
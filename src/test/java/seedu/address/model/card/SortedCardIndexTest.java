@@ -0,0 +1,103 @@
+package seedu.address.model.card;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.scheduling.SchedulerType;
+import seedu.address.testutil.CardBuilder;
+
+public class SortedCardIndexTest {
+
+    private final Card alpha = new CardBuilder().withQuestion("Alpha?").build();
+    private final Card bravo = new CardBuilder().withQuestion("bravo?").build();
+    private final Card charlie = new CardBuilder().withQuestion("Charlie?").build();
+
+    @Test
+    public void onCardAdded_keepsCardsSortedByQuestion() {
+        SortedCardIndex index = new SortedCardIndex(CardOrder.QUESTION);
+        index.onCardAdded(charlie);
+        index.onCardAdded(alpha);
+        index.onCardAdded(bravo);
+
+        assertEquals(Arrays.asList(alpha, bravo, charlie), index);
+        assertEquals(1, index.indexOf(bravo));
+    }
+
+    @Test
+    public void onCardReplaced_cardChangedInPlace_movesCard() {
+        SortedCardIndex index = new SortedCardIndex(CardOrder.SOLVE_COUNT);
+        index.onCardsReset(Arrays.asList(alpha, bravo, charlie));
+
+        alpha.incrementSolveCount();
+        index.onCardReplaced(alpha, alpha);
+
+        assertEquals(Arrays.asList(bravo, charlie, alpha), index);
+    }
+
+    @Test
+    public void onCardReplaced_sameKey_keepsPlaceAmongEqualCards() {
+        SortedCardIndex index = new SortedCardIndex(CardOrder.DIFFICULTY);
+        index.onCardsReset(Arrays.asList(alpha, bravo, charlie));
+
+        index.onCardReplaced(bravo, bravo);
+
+        assertEquals(Arrays.asList(alpha, bravo, charlie), index);
+    }
+
+    @Test
+    public void onCardAdded_firesSingleAddition() {
+        SortedCardIndex index = new SortedCardIndex(CardOrder.QUESTION);
+        index.onCardsReset(Arrays.asList(alpha, charlie));
+        List<String> changes = new ArrayList<>();
+        index.addListener((ListChangeListener<Card>) change -> {
+            while (change.next()) {
+                changes.add(change.wasAdded() + " " + change.getFrom() + " " + change.getTo());
+            }
+        });
+
+        index.onCardAdded(bravo);
+
+        assertEquals(Arrays.asList("true 1 2"), changes);
+    }
+
+    @Test
+    public void randomOperations_matchStableSort() {
+        Random random = new Random(2103);
+        SortedCardIndex index = new SortedCardIndex(CardOrder.LAST_PRACTISED);
+        List<Card> cards = new ArrayList<>();
+        LocalDateTime start = LocalDateTime.of(2023, 1, 1, 0, 0);
+
+        for (int i = 0; i < 2000; i++) {
+            int operation = cards.isEmpty() ? 0 : random.nextInt(3);
+            if (operation == 0) {
+                Card card = new CardBuilder().withQuestion("Question " + i)
+                        .withNextPracticeDate(new PracticeDate(start.plusHours(random.nextInt(50)))).build();
+                cards.add(card);
+                index.onCardAdded(card);
+            } else if (operation == 1) {
+                Card card = cards.remove(random.nextInt(cards.size()));
+                index.onCardRemoved(card);
+            } else {
+                Card card = cards.get(random.nextInt(cards.size()));
+                card.setNewPracticeDateWith(Difficulty.EASY, SchedulerType.MULTIPLIER.getScheduler());
+                index.onCardReplaced(card, card);
+            }
+        }
+
+        List<Card> expected = new ArrayList<>(index);
+        expected.sort(Comparator.comparing(Card::getLastPracticeDate));
+        assertEquals(expected, index);
+        assertEquals(cards.size(), index.size());
+        assertTrue(index.containsAll(cards));
+    }
+}
@@ -10,6 +10,8 @@ import static seedu.address.testutil.TypicalCards.CS2100;
 import static seedu.address.testutil.TypicalCards.HIGH;
 import static seedu.address.testutil.TypicalCards.LOW;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -18,6 +20,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.model.card.exceptions.CardNotFoundException;
 import seedu.address.model.card.exceptions.DuplicateCardException;
+import seedu.address.model.scheduling.SchedulerType;
 import seedu.address.testutil.CardBuilder;
 
 public class UniqueCardListTest {
@@ -40,6 +43,21 @@ public class UniqueCardListTest {
         assertTrue(uniqueCardList.contains(CS2100));
     }
 
+    @Test
+    public void contains_cardReplacedOrRemoved_returnsFalse() {
+        uniqueCardList.add(CS2100);
+        uniqueCardList.setCard(CS2100, CS1101S);
+        assertFalse(uniqueCardList.contains(CS2100));
+        assertTrue(uniqueCardList.contains(CS1101S));
+
+        uniqueCardList.remove(CS1101S);
+        assertFalse(uniqueCardList.contains(CS1101S));
+
+        uniqueCardList.setCards(List.of(CS2100));
+        assertTrue(uniqueCardList.contains(CS2100));
+        assertFalse(uniqueCardList.contains(CS1101S));
+    }
+
     @Test
     public void add_nullCard_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueCardList.add(null));
@@ -210,4 +228,54 @@ public class UniqueCardListTest {
         secondlist.add(CS2100);
         assertNotEquals(uniqueCardList, secondlist);
     }
+
+    @Test
+    public void setCard_cardChangedInPlace_keepsAllOrdersSorted() {
+        Card first = new CardBuilder().withQuestion("B?").build();
+        Card second = new CardBuilder().withQuestion("A?").withNextPracticeDate(LOW.getNextPracticeDate()).build();
+        uniqueCardList.add(first);
+        uniqueCardList.add(second);
+        List<Card> byQuestion = uniqueCardList.asUnmodifiableObservableList(CardOrder.QUESTION);
+        List<Card> bySolveCount = uniqueCardList.asUnmodifiableObservableList(CardOrder.SOLVE_COUNT);
+
+        first.setNewPracticeDateWith(Difficulty.EASY, SchedulerType.MULTIPLIER.getScheduler());
+        first.incrementSolveCount();
+        uniqueCardList.setCard(first, first);
+
+        assertEquals(Arrays.asList(first, second), uniqueCardList.asUnmodifiableObservableList());
+        assertEquals(Arrays.asList(second, first), byQuestion);
+        assertEquals(Arrays.asList(second, first), bySolveCount);
+
+        uniqueCardList.remove(second);
+        assertEquals(Collections.singletonList(first), byQuestion);
+    }
+
+    @Test
+    public void shiftSchedule_keepsOrderAndMovesEveryPracticeDate() {
+        LocalDateTime now = LocalDateTime.of(2023, 11, 1, 12, 0);
+        Card early = new CardBuilder().withQuestion("A?").withNextPracticeDate(new PracticeDate(now)).build();
+        Card late = new CardBuilder().withQuestion("B?").withNextPracticeDate(new PracticeDate(now.plusDays(2)))
+                .build();
+        uniqueCardList.add(late);
+        uniqueCardList.add(early);
+        List<Card> byLastPractised = uniqueCardList.asUnmodifiableObservableList(CardOrder.LAST_PRACTISED);
+
+        uniqueCardList.shiftSchedule(Duration.ofDays(7));
+
+        assertEquals(new PracticeDate(now.plusDays(7)), early.getNextPracticeDate());
+        assertEquals(new PracticeDate(now.plusDays(9)), late.getNextPracticeDate());
+        assertEquals(Arrays.asList(early, late), uniqueCardList.asUnmodifiableObservableList());
+        assertEquals(Arrays.asList(early, late), byLastPractised);
+
+        // Cards added after the shift are due when they say they are
+        Card middle = new CardBuilder().withQuestion("C?").withNextPracticeDate(new PracticeDate(now.plusDays(8)))
+                .build();
+        uniqueCardList.add(middle);
+        assertEquals(new PracticeDate(now.plusDays(8)), middle.getNextPracticeDate());
+        assertEquals(Arrays.asList(early, middle, late), uniqueCardList.asUnmodifiableObservableList());
+
+        // Cards taken out of the list keep their shifted practice dates
+        uniqueCardList.remove(late);
+        assertEquals(new PracticeDate(now.plusDays(9)), late.getNextPracticeDate());
+    }
 }
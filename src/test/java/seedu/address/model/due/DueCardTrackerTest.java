@@ -0,0 +1,78 @@
+package seedu.address.model.due;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.card.Card;
+import seedu.address.model.card.PracticeDate;
+import seedu.address.model.card.UniqueCardList;
+import seedu.address.testutil.CardBuilder;
+
+public class DueCardTrackerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2023, 11, 1, 12, 0, 0);
+
+    private final DueCardTracker tracker = new DueCardTracker(NOW);
+
+    @Test
+    public void onCardsReset_countsCardsAlreadyDue() {
+        tracker.onCardsReset(List.of(cardDueAt("A?", NOW.minusDays(1)), cardDueAt("B?", NOW),
+                cardDueAt("C?", NOW.plusMinutes(5))));
+
+        assertEquals(2, tracker.getDueCount());
+    }
+
+    @Test
+    public void advanceTo_cardBecomesDue_updatesCount() {
+        tracker.onCardAdded(cardDueAt("A?", NOW.plusSeconds(90)));
+
+        tracker.advanceTo(NOW.plusMinutes(1));
+        assertEquals(0, tracker.getDueCount());
+
+        tracker.advanceTo(NOW.plusMinutes(2));
+        assertEquals(1, tracker.dueCountProperty().get());
+    }
+
+    @Test
+    public void onCardReplaced_rescheduledCard_noLongerDue() {
+        Card card = cardDueAt("A?", NOW.minusHours(1));
+        tracker.onCardAdded(card);
+        Card rescheduled = cardDueAt("A?", NOW.plusDays(3));
+
+        tracker.onCardReplaced(card, rescheduled);
+        assertEquals(0, tracker.getDueCount());
+
+        tracker.advanceTo(NOW.plusDays(3));
+        assertEquals(1, tracker.getDueCount());
+
+        tracker.onCardRemoved(rescheduled);
+        assertEquals(0, tracker.getDueCount());
+    }
+
+    @Test
+    public void onScheduleShifted_cardsMoveInAndOutOfDue() {
+        UniqueCardList cards = new UniqueCardList();
+        cards.add(cardDueAt("A?", NOW.minusDays(1)));
+        cards.add(cardDueAt("B?", NOW.plusDays(2)));
+        cards.addIndex(tracker);
+        assertEquals(1, tracker.getDueCount());
+
+        cards.shiftSchedule(Duration.ofDays(3));
+        assertEquals(0, tracker.getDueCount());
+
+        tracker.advanceTo(NOW.plusDays(2));
+        assertEquals(1, tracker.getDueCount());
+
+        cards.shiftSchedule(Duration.ofDays(-3));
+        assertEquals(2, tracker.getDueCount());
+    }
+
+    private static Card cardDueAt(String question, LocalDateTime dueDate) {
+        return new CardBuilder().withQuestion(question).withNextPracticeDate(new PracticeDate(dueDate)).build();
+    }
+}
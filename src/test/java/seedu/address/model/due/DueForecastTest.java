@@ -0,0 +1,83 @@
+package seedu.address.model.due;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.card.Card;
+import seedu.address.model.card.PracticeDate;
+import seedu.address.model.card.UniqueCardList;
+import seedu.address.testutil.CardBuilder;
+
+public class DueForecastTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2023, 11, 1);
+    private static final LocalDateTime NOON = TODAY.atTime(12, 0);
+
+    private final DueForecast forecast = new DueForecast(TODAY);
+
+    @Test
+    public void getDueCounts_overdueCardsCountedToday() {
+        forecast.onCardsReset(List.of(cardDueAt("A?", NOON.minusDays(3)), cardDueAt("B?", NOON),
+                cardDueAt("C?", NOON.plusDays(2)), cardDueAt("D?", NOON.plusDays(2)),
+                cardDueAt("E?", NOON.plusDays(10))));
+
+        assertArrayEquals(new int[] {2, 0, 2}, forecast.getDueCounts(TODAY, 3));
+        assertEquals(5, forecast.size());
+    }
+
+    @Test
+    public void onCardReplaced_rescheduledInPlace_movesToNewDay() {
+        Card card = cardDueAt("A?", NOON);
+        forecast.onCardAdded(card);
+        card.reschedule(new PracticeDate(NOON.plusDays(3)));
+
+        forecast.onCardReplaced(card, card);
+
+        assertArrayEquals(new int[] {0, 0, 0, 1}, forecast.getDueCounts(TODAY, 4));
+    }
+
+    @Test
+    public void onCardRemoved_cardNoLongerCounted() {
+        Card card = cardDueAt("A?", NOON.plusDays(1));
+        forecast.onCardAdded(card);
+
+        forecast.onCardRemoved(card);
+
+        assertArrayEquals(new int[] {0, 0}, forecast.getDueCounts(TODAY, 2));
+        assertEquals(0, forecast.size());
+    }
+
+    @Test
+    public void getDueCounts_pastEndOfWindow_movesWindow() {
+        LocalDate later = TODAY.plusDays(DueForecast.WINDOW_DAYS + 5);
+        forecast.onCardAdded(cardDueAt("A?", later.atTime(9, 0)));
+        forecast.onCardAdded(cardDueAt("B?", NOON));
+
+        assertArrayEquals(new int[] {1, 0}, forecast.getDueCounts(TODAY, 2));
+        assertArrayEquals(new int[] {2, 0}, forecast.getDueCounts(later, 2));
+        assertArrayEquals(new int[] {1, 0}, forecast.getDueCounts(TODAY, 2));
+    }
+
+    @Test
+    public void onScheduleShifted_cardsMoveDays() {
+        UniqueCardList cards = new UniqueCardList();
+        cards.add(cardDueAt("A?", NOON));
+        cards.add(cardDueAt("B?", NOON.plusDays(1)));
+        cards.addIndex(forecast);
+
+        cards.shiftSchedule(Duration.ofDays(2));
+
+        assertArrayEquals(new int[] {0, 0, 1, 1}, forecast.getDueCounts(TODAY, 4));
+    }
+
+    private static Card cardDueAt(String question, LocalDateTime dueDate) {
+        return new CardBuilder().withQuestion(question).withNextPracticeDate(new PracticeDate(dueDate)).build();
+    }
+}
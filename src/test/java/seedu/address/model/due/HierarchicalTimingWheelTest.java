@@ -0,0 +1,87 @@
+package seedu.address.model.due;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class HierarchicalTimingWheelTest {
+
+    private static final long START = 1_000_000;
+
+    private final HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(START);
+    private final List<Long> expired = new ArrayList<>();
+
+    @Test
+    public void schedule_pastDeadline_notScheduled() {
+        assertFalse(wheel.schedule(1L, START).isPresent());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void advanceTo_expiresEachValueAtItsDeadline() {
+        long[] delays = {1, 59, 60, 61, 60 * 24 - 1, 60 * 24, 60 * 24 * 7 + 13, 60 * 24 * 500 + 7};
+        for (long delay : delays) {
+            wheel.schedule(START + delay, START + delay);
+        }
+
+        for (long delay : delays) {
+            wheel.advanceTo(START + delay - 1, expired::add);
+            assertFalse(expired.contains(START + delay));
+            wheel.advanceTo(START + delay, expired::add);
+            assertEquals(START + delay, expired.get(expired.size() - 1));
+        }
+        assertEquals(delays.length, expired.size());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void cancel_scheduledValue_neverExpires() {
+        HierarchicalTimingWheel.Timer<Long> timer = wheel.schedule(5L, START + 90).get();
+
+        assertTrue(timer.cancel());
+        assertFalse(timer.cancel());
+        wheel.advanceTo(START + 200, expired::add);
+
+        assertTrue(expired.isEmpty());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void advanceTo_longJump_expiresInDeadlineOrder() {
+        wheel.schedule(3L, START + 60 * 24 * 900);
+        wheel.schedule(1L, START + 10);
+        wheel.schedule(2L, START + 60 * 24 * 30);
+        wheel.schedule(4L, START + 60 * 24 * 2000);
+
+        wheel.advanceTo(START + 60 * 24 * 1000, expired::add);
+
+        assertEquals(List.of(1L, 2L, 3L), expired);
+        assertEquals(1, wheel.size());
+    }
+
+    @Test
+    public void advanceTo_randomDeadlines_expireInOrder() {
+        Random random = new Random(28);
+        for (int i = 0; i < 5000; i++) {
+            long deadline = START + 1 + random.nextInt(60 * 24 * 60);
+            wheel.schedule(deadline, deadline);
+        }
+
+        long tick = START;
+        while (wheel.size() > 0) {
+            tick += 1 + random.nextInt(600);
+            wheel.advanceTo(tick, expired::add);
+        }
+
+        assertEquals(5000, expired.size());
+        for (int i = 1; i < expired.size(); i++) {
+            assertTrue(expired.get(i - 1) <= expired.get(i));
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package seedu.address.model.review;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Deck;
+import seedu.address.model.card.Card;
+import seedu.address.model.card.PracticeDate;
+import seedu.address.model.scheduling.OverdueRebalancer;
+import seedu.address.testutil.CardBuilder;
+
+public class InterleavedReviewSessionTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2023, 11, 1, 12, 0);
+
+    private Deck deck;
+    private Card openOverdue;
+    private Card openNotDue;
+    private Card physicsMostOverdue;
+    private Card physicsDueNow;
+    private Card chemistryOverdue;
+    private Map<String, List<Card>> idleDecks;
+    private InterleavedReviewSession session;
+
+    @BeforeEach
+    public void setUp() {
+        openOverdue = cardDueAt("Open overdue?", NOW.minusHours(2));
+        openNotDue = cardDueAt("Open not due?", NOW.plusDays(1));
+        deck = new Deck();
+        deck.addCard(openNotDue);
+        deck.addCard(openOverdue);
+
+        physicsMostOverdue = cardDueAt("Physics most overdue?", NOW.minusDays(3));
+        physicsDueNow = cardDueAt("Physics due now?", NOW);
+        chemistryOverdue = cardDueAt("Chemistry overdue?", NOW.minusDays(1));
+        idleDecks = new LinkedHashMap<>();
+        idleDecks.put("physics", new ArrayList<>(List.of(physicsDueNow,
+                cardDueAt("Physics not due?", NOW.plusHours(1)), physicsMostOverdue)));
+        idleDecks.put("chemistry", new ArrayList<>(List.of(chemistryOverdue)));
+        session = new InterleavedReviewSession(deck);
+    }
+
+    @Test
+    public void start_dueCardsInSeveralDecks_startsWithMostOverdueCard() {
+        session.start("deck", idleDecks, NOW);
+
+        assertTrue(session.isActive());
+        assertEquals(Optional.of(physicsMostOverdue), session.getCurrentCard());
+        assertEquals("physics", session.getCurrentDeckName());
+        assertFalse(session.isCurrentCardInOpenDeck());
+        assertEquals(idleDecks.get("physics"), session.getCurrentDeckCards());
+        assertEquals(4, session.getDueCount(NOW));
+    }
+
+    @Test
+    public void next_rescheduledCards_mergesDecksInDueOrder() {
+        session.start("deck", idleDecks, NOW);
+        List<Card> reviewedCards = new ArrayList<>();
+        List<String> reviewedDeckNames = new ArrayList<>();
+
+        while (session.getCurrentCard().isPresent()) {
+            Card card = session.getCurrentCard().get();
+            reviewedCards.add(card);
+            reviewedDeckNames.add(session.getCurrentDeckName());
+            card.reschedule(new PracticeDate(NOW.plusDays(2)));
+            if (session.isCurrentCardInOpenDeck()) {
+                deck.setCard(card, card);
+            }
+            session.next(NOW);
+        }
+
+        assertEquals(List.of(physicsMostOverdue, chemistryOverdue, openOverdue, physicsDueNow), reviewedCards);
+        assertEquals(List.of("physics", "chemistry", "deck", "physics"), reviewedDeckNames);
+        assertEquals(4, session.getReviewedCount());
+        assertEquals(0, session.getDueCount(NOW));
+    }
+
+    @Test
+    public void next_cardAddedToOpenDeck_reviewsItInOrder() {
+        session.start("deck", idleDecks, NOW);
+        Card added = cardDueAt("Added?", NOW.minusDays(5));
+        deck.addCard(added);
+
+        physicsMostOverdue.reschedule(new PracticeDate(NOW.plusDays(2)));
+        session.next(NOW);
+
+        assertEquals(Optional.of(added), session.getCurrentCard());
+        assertTrue(session.isCurrentCardInOpenDeck());
+    }
+
+    @Test
+    public void next_openDeckRebalancedWhileReviewingItsCard_keepsAndRatesCard() {
+        session.start("deck", idleDecks, NOW);
+        reviewCurrentCard();
+        reviewCurrentCard();
+        assertEquals(Optional.of(openOverdue), session.getCurrentCard());
+
+        Map<Card, PracticeDate> newPracticeDates = new OverdueRebalancer(7, OverdueRebalancer.EVEN_LOAD)
+                .plan(deck.getCardList(), NOW);
+        deck.rescheduleCards(card -> newPracticeDates.getOrDefault(card, card.getNextPracticeDate()));
+
+        assertEquals(Optional.of(openOverdue), session.getCurrentCard());
+        assertTrue(session.isCurrentCardInOpenDeck());
+        reviewCurrentCard();
+        assertEquals(Optional.of(physicsDueNow), session.getCurrentCard());
+        assertEquals(3, session.getReviewedCount());
+    }
+
+    @Test
+    public void onCardsReset_currentCardNotInOpenDeck_movesToNextDueCard() {
+        session.start("deck", idleDecks, NOW);
+        reviewCurrentCard();
+        reviewCurrentCard();
+
+        deck.setCards(List.of(openNotDue));
+
+        assertEquals(Optional.of(physicsDueNow), session.getCurrentCard());
+        assertEquals("physics", session.getCurrentDeckName());
+    }
+
+    @Test
+    public void getDueCount_shiftedOpenDeck_countsActualDates() {
+        deck.shiftSchedule(Duration.ofDays(1));
+
+        session.start("deck", idleDecks, NOW);
+
+        // The overdue card of the open Deck is no longer due.
+        assertEquals(3, session.getDueCount(NOW));
+    }
+
+    @Test
+    public void end_activeSession_stopsFollowingOpenDeck() {
+        session.start("deck", idleDecks, NOW);
+
+        session.end();
+        deck.addCard(cardDueAt("Added?", NOW.minusDays(5)));
+
+        assertFalse(session.isActive());
+        assertEquals(Optional.empty(), session.getCurrentCard());
+        assertEquals(0, session.getDueCount(NOW));
+        assertEquals(0, session.getReviewedCount());
+    }
+
+    /**
+     * Reviews the current card as the review command does, putting it off for two days.
+     */
+    private void reviewCurrentCard() {
+        Card card = session.getCurrentCard().get();
+        card.reschedule(new PracticeDate(NOW.plusDays(2)));
+        if (session.isCurrentCardInOpenDeck()) {
+            deck.setCard(card, card);
+        }
+        session.next(NOW);
+    }
+
+    private static Card cardDueAt(String question, LocalDateTime due) {
+        return new CardBuilder().withQuestion(question).withNextPracticeDate(new PracticeDate(due)).build();
+    }
+}
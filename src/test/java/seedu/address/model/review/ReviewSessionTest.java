@@ -0,0 +1,160 @@
+package seedu.address.model.review;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Deck;
+import seedu.address.model.card.Card;
+import seedu.address.model.card.Difficulty;
+import seedu.address.model.card.PracticeDate;
+import seedu.address.model.scheduling.LeitnerBoxes;
+import seedu.address.model.scheduling.SchedulerType;
+import seedu.address.testutil.CardBuilder;
+
+public class ReviewSessionTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2023, 11, 1, 12, 0);
+
+    private final List<Card> renderedCards = new ArrayList<>();
+    private final Function<Card, String> renderer = card -> {
+        renderedCards.add(card);
+        return card.getQuestion().question;
+    };
+
+    private Deck deck;
+    private Card overdue;
+    private Card dueNow;
+    private Card notDue;
+    private LeitnerBoxes leitnerBoxes;
+    private ReviewSession session;
+
+    @BeforeEach
+    public void setUp() {
+        overdue = cardDueAt("Overdue?", NOW.minusHours(2));
+        dueNow = cardDueAt("Due now?", NOW);
+        notDue = cardDueAt("Not due?", NOW.plusDays(1));
+        deck = new Deck();
+        deck.addCard(notDue);
+        deck.addCard(dueNow);
+        deck.addCard(overdue);
+        leitnerBoxes = new LeitnerBoxes();
+        deck.addIndex(leitnerBoxes);
+        session = new ReviewSession(deck, leitnerBoxes);
+    }
+
+    @Test
+    public void start_dueCards_startsWithMostOverdueCard() {
+        session.start(renderer, NOW);
+
+        assertTrue(session.isActive());
+        assertEquals(Optional.of(overdue), session.getCurrentCard());
+        assertEquals(2, session.getDueCount(NOW));
+        assertEquals("Overdue?", session.getCurrentPrompt());
+    }
+
+    @Test
+    public void start_usesLeitnerBoxes_startsWithLowestBox() {
+        Card boxedCard = new CardBuilder().withQuestion("Boxed?")
+                .withNextPracticeDate(new PracticeDate(NOW.minusDays(3))).withLeitnerBox(3).build();
+        deck.addCard(boxedCard);
+        session.setUsesLeitnerBoxes(true);
+
+        session.start(renderer, NOW);
+
+        assertEquals(Optional.of(overdue), session.getCurrentCard());
+        assertEquals(3, session.getDueCount(NOW));
+        assertEquals(List.of(dueNow, boxedCard), renderedCards);
+
+        overdue.setNewPracticeDateWith(Difficulty.MEDIUM, SchedulerType.LEITNER.getScheduler());
+        deck.setCard(overdue, overdue);
+        session.next(NOW);
+        assertEquals(Optional.of(dueNow), session.getCurrentCard());
+    }
+
+    @Test
+    public void start_prefetchesPromptsOfNextCards() {
+        session.start(renderer, NOW);
+
+        assertEquals(List.of(dueNow, notDue), renderedCards);
+        session.getCurrentPrompt();
+        assertEquals(List.of(dueNow, notDue, overdue), renderedCards);
+    }
+
+    @Test
+    public void next_rescheduledCard_movesToNextDueCard() {
+        session.start(renderer, NOW);
+        overdue.setNewPracticeDateWith(Difficulty.EASY, SchedulerType.MULTIPLIER.getScheduler());
+        deck.setCard(overdue, overdue);
+
+        session.next(NOW);
+
+        assertEquals(Optional.of(dueNow), session.getCurrentCard());
+        assertEquals(1, session.getReviewedCount());
+        int renderedCount = renderedCards.size();
+        assertEquals("Due now?", session.getCurrentPrompt());
+        assertEquals(renderedCount, renderedCards.size());
+    }
+
+    @Test
+    public void next_noMoreDueCards_hasNoCurrentCard() {
+        deck.removeCard(overdue);
+        deck.removeCard(dueNow);
+        session.start(renderer, NOW);
+
+        assertFalse(session.getCurrentCard().isPresent());
+        assertEquals(0, session.getDueCount(NOW));
+    }
+
+    @Test
+    public void onCardRemoved_currentCardDeleted_clearsCurrentCard() {
+        session.start(renderer, NOW);
+        deck.removeCard(overdue);
+
+        assertFalse(session.getCurrentCard().isPresent());
+        assertEquals(1, session.getDueCount(NOW));
+    }
+
+    @Test
+    public void onCardsReset_currentCardStillInDeck_keepsCurrentCard() {
+        session.start(renderer, NOW);
+        // Rescheduling the Deck resets it with the same cards, as sorting and rebalancing it do.
+        deck.rescheduleCards(card -> card == notDue ? new PracticeDate(NOW.minusDays(1)) : card.getNextPracticeDate());
+
+        assertEquals(Optional.of(overdue), session.getCurrentCard());
+        assertEquals("Overdue?", session.getCurrentPrompt());
+        assertEquals(3, session.getDueCount(NOW));
+    }
+
+    @Test
+    public void onCardsReset_currentCardNotInDeck_clearsCurrentCard() {
+        session.start(renderer, NOW);
+        deck.setCards(List.of(dueNow, notDue));
+
+        assertFalse(session.getCurrentCard().isPresent());
+        assertEquals(1, session.getDueCount(NOW));
+    }
+
+    @Test
+    public void end_stopsTrackingDeck() {
+        session.start(renderer, NOW);
+        session.end();
+        deck.removeCard(overdue);
+
+        assertFalse(session.isActive());
+        assertEquals(0, session.getDueCount(NOW));
+    }
+
+    private static Card cardDueAt(String question, LocalDateTime dueDate) {
+        return new CardBuilder().withQuestion(question).withNextPracticeDate(new PracticeDate(dueDate)).build();
+    }
+}
@@ -0,0 +1,174 @@
+package seedu.address.model.sampling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.card.Card;
+import seedu.address.model.card.Difficulty;
+import seedu.address.model.card.PracticeDate;
+import seedu.address.testutil.CardBuilder;
+
+public class CardSamplerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2023, 11, 1, 12, 0);
+
+    private final ObservableList<Card> cards = FXCollections.observableArrayList();
+    private final CardSampler sampler = new CardSampler(cards, new Random(29));
+
+    @Test
+    public void pick_emptyList_returnsEmpty() {
+        assertFalse(sampler.pick(CardSampler.Mode.WEIGHTED, NOW).isPresent());
+        assertFalse(sampler.pick(CardSampler.Mode.SHUFFLE_BAG, NOW).isPresent());
+        assertFalse(sampler.pick(CardSampler.Mode.UNIFORM, NOW).isPresent());
+    }
+
+    @Test
+    public void pick_weighted_favoursOverdueCards() {
+        Card overdue = cardDueAt("Overdue?", NOW.minusDays(28));
+        Card notDue = cardDueAt("Not due?", NOW.plusDays(28));
+        Card dueNow = cardDueAt("Due now?", NOW);
+        cards.setAll(overdue, notDue, dueNow);
+
+        int[] counts = new int[cards.size()];
+        for (int i = 0; i < 3000; i++) {
+            counts[sampler.pick(CardSampler.Mode.WEIGHTED, NOW).getAsInt()]++;
+        }
+
+        assertTrue(counts[0] > counts[2]);
+        assertTrue(counts[2] > counts[1]);
+    }
+
+    @Test
+    public void pick_weighted_neverRepeatsPreviousCard() {
+        cards.setAll(cardDueAt("Overdue?", NOW.minusDays(56)), cardDueAt("Not due?", NOW.plusDays(56)));
+
+        int previous = sampler.pick(CardSampler.Mode.WEIGHTED, NOW).getAsInt();
+        for (int i = 0; i < 50; i++) {
+            int picked = sampler.pick(CardSampler.Mode.WEIGHTED, NOW).getAsInt();
+            assertNotEquals(previous, picked);
+            previous = picked;
+        }
+    }
+
+    @Test
+    public void pick_weighted_followsChangesToList() {
+        Card hard = cardDueAt("Hard?", NOW.minusDays(56));
+        cards.setAll(cardDueAt("A?", NOW.plusDays(56)), cardDueAt("B?", NOW.plusDays(56)));
+        sampler.pick(CardSampler.Mode.WEIGHTED, NOW);
+
+        cards.add(1, hard);
+        hard.setDifficulty(Difficulty.HARD);
+        cards.set(1, hard);
+
+        int hardCount = 0;
+        for (int i = 0; i < 100; i++) {
+            int picked = sampler.pick(CardSampler.Mode.WEIGHTED, NOW).getAsInt();
+            if (cards.get(picked) == hard) {
+                hardCount++;
+            }
+        }
+        assertEquals(50, hardCount);
+
+        cards.remove(hard);
+        for (int i = 0; i < 20; i++) {
+            assertTrue(sampler.pick(CardSampler.Mode.WEIGHTED, NOW).getAsInt() < cards.size());
+        }
+    }
+
+    @Test
+    public void pick_shuffleBag_picksEveryCardOnceBeforeRepeating() {
+        List<Card> deck = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            deck.add(cardDueAt("Question " + i + "?", NOW.plusHours(i)));
+        }
+        cards.setAll(deck);
+
+        for (int round = 0; round < 3; round++) {
+            Set<Card> picked = new HashSet<>();
+            for (int i = 0; i < deck.size(); i++) {
+                assertTrue(picked.add(cards.get(sampler.pick(CardSampler.Mode.SHUFFLE_BAG, NOW).getAsInt())));
+            }
+        }
+    }
+
+    @Test
+    public void pick_shuffleBag_replacedCardStaysDrawn() {
+        Card first = cardDueAt("First?", NOW);
+        Card second = cardDueAt("Second?", NOW);
+        cards.setAll(first, second);
+
+        Card picked = cards.get(sampler.pick(CardSampler.Mode.SHUFFLE_BAG, NOW).getAsInt());
+        cards.set(cards.indexOf(picked), picked);
+
+        Card other = cards.get(sampler.pick(CardSampler.Mode.SHUFFLE_BAG, NOW).getAsInt());
+        assertNotEquals(picked, other);
+    }
+
+    @Test
+    public void pick_shuffleBag_removedCardLeavesBag() {
+        List<Card> deck = List.of(cardDueAt("A?", NOW), cardDueAt("B?", NOW), cardDueAt("C?", NOW));
+        cards.setAll(deck);
+        Card picked = cards.get(sampler.pick(CardSampler.Mode.SHUFFLE_BAG, NOW).getAsInt());
+        sampler.pick(CardSampler.Mode.SHUFFLE_BAG, NOW);
+
+        cards.remove(picked);
+        assertEquals(1, sampler.getDrawnCount());
+
+        // put back, the card is in the bag again
+        cards.add(picked);
+        assertEquals(1, sampler.getDrawnCount());
+    }
+
+    @Test
+    public void pick_shuffleBagListReset_onlyCardsStillInListStayDrawn() {
+        List<Card> deck = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            deck.add(cardDueAt("Question " + i + "?", NOW));
+        }
+        cards.setAll(deck);
+        List<Card> drawn = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            drawn.add(cards.get(sampler.pick(CardSampler.Mode.SHUFFLE_BAG, NOW).getAsInt()));
+        }
+
+        cards.setAll(drawn.get(0), drawn.get(1), drawn.get(2), cardDueAt("New?", NOW), cardDueAt("Newer?", NOW));
+        Card picked = cards.get(sampler.pick(CardSampler.Mode.SHUFFLE_BAG, NOW).getAsInt());
+
+        assertFalse(drawn.contains(picked));
+        assertEquals(4, sampler.getDrawnCount());
+    }
+
+    @Test
+    public void pick_largeList_staysConsistent() {
+        List<Card> deck = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            deck.add(cardDueAt("Q" + i, NOW.minusMinutes(i)));
+        }
+        cards.setAll(deck);
+
+        for (int i = 0; i < 1000; i++) {
+            int index = sampler.pick(CardSampler.Mode.WEIGHTED, NOW).getAsInt();
+            cards.remove(index);
+            cards.add(index, deck.get(i));
+            assertTrue(sampler.pick(CardSampler.Mode.SHUFFLE_BAG, NOW).getAsInt() < cards.size());
+        }
+        assertEquals(100_000, cards.size());
+    }
+
+    private static Card cardDueAt(String question, LocalDateTime dueDate) {
+        return new CardBuilder().withQuestion(question).withNextPracticeDate(new PracticeDate(dueDate)).build();
+    }
+}
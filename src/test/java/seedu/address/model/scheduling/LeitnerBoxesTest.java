@@ -0,0 +1,100 @@
+package seedu.address.model.scheduling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Deck;
+import seedu.address.model.card.Card;
+import seedu.address.model.card.Difficulty;
+import seedu.address.model.card.LeitnerBox;
+import seedu.address.model.card.PracticeDate;
+import seedu.address.testutil.CardBuilder;
+
+public class LeitnerBoxesTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2023, 11, 1, 12, 0);
+
+    private final Scheduler scheduler = new LeitnerScheduler(Clock.fixed(NOW.toInstant(ZoneOffset.UTC),
+            ZoneOffset.UTC));
+    private final Deck deck = new Deck();
+    private final LeitnerBoxes leitnerBoxes = new LeitnerBoxes();
+
+    private Card firstBoxCard;
+    private Card thirdBoxCard;
+    private Card notDueCard;
+
+    @BeforeEach
+    public void setUp() {
+        firstBoxCard = cardDueAt("First?", NOW.minusHours(1), 1);
+        thirdBoxCard = cardDueAt("Third?", NOW.minusDays(2), 3);
+        notDueCard = cardDueAt("Not due?", NOW.plusDays(1), 1);
+        deck.addCard(thirdBoxCard);
+        deck.addCard(notDueCard);
+        deck.addIndex(leitnerBoxes);
+        deck.addCard(firstBoxCard);
+    }
+
+    @Test
+    public void getDueCards_walksBoxesFromLowest() {
+        assertEquals(List.of(firstBoxCard, thirdBoxCard), leitnerBoxes.getDueCards(NOW, Integer.MAX_VALUE));
+        assertEquals(List.of(firstBoxCard), leitnerBoxes.getDueCards(NOW, 1));
+        assertEquals(2, leitnerBoxes.getDueCount(NOW));
+        assertEquals(3, leitnerBoxes.getDueCount(NOW.plusDays(1)));
+    }
+
+    @Test
+    public void rateCard_movesCardBetweenBoxes() {
+        firstBoxCard.setNewPracticeDateWith(Difficulty.EASY, scheduler);
+        deck.setCard(firstBoxCard, firstBoxCard);
+
+        assertEquals(new LeitnerBox(3), firstBoxCard.getLeitnerBox());
+        assertEquals(new PracticeDate(NOW.plusDays(4)), firstBoxCard.getNextPracticeDate());
+        assertEquals(1, leitnerBoxes.size(LeitnerBox.FIRST));
+        assertEquals(2, leitnerBoxes.size(new LeitnerBox(3)));
+        assertEquals(List.of(thirdBoxCard), leitnerBoxes.getDueCards(NOW, Integer.MAX_VALUE));
+
+        thirdBoxCard.setNewPracticeDateWith(Difficulty.HARD, scheduler);
+        deck.setCard(thirdBoxCard, thirdBoxCard);
+
+        assertEquals(LeitnerBox.FIRST, thirdBoxCard.getLeitnerBox());
+        assertEquals(new PracticeDate(NOW.plusDays(1)), thirdBoxCard.getNextPracticeDate());
+        assertEquals(List.of(notDueCard, thirdBoxCard), leitnerBoxes.getDueCards(NOW.plusDays(1), 5));
+    }
+
+    @Test
+    public void editCard_keepsPlaceUnlessDueDateChanges() {
+        Card editedCard = new CardBuilder(firstBoxCard).withAnswer("Edited").build();
+        deck.setCard(firstBoxCard, editedCard);
+
+        assertEquals(List.of(editedCard, notDueCard, thirdBoxCard),
+                leitnerBoxes.getDueCards(NOW.plusDays(1), Integer.MAX_VALUE));
+
+        // changed in place to be due before the card ahead of it
+        notDueCard.reschedule(new PracticeDate(NOW.minusHours(2)));
+        deck.setCard(notDueCard, notDueCard);
+
+        assertEquals(List.of(notDueCard, editedCard, thirdBoxCard),
+                leitnerBoxes.getDueCards(NOW, Integer.MAX_VALUE));
+        assertEquals(2, leitnerBoxes.size(LeitnerBox.FIRST));
+    }
+
+    @Test
+    public void removeCard_leavesBox() {
+        deck.removeCard(thirdBoxCard);
+
+        assertEquals(0, leitnerBoxes.size(new LeitnerBox(3)));
+        assertEquals(List.of(firstBoxCard), leitnerBoxes.getDueCards(NOW, Integer.MAX_VALUE));
+    }
+
+    private static Card cardDueAt(String question, LocalDateTime dueDate, int box) {
+        return new CardBuilder().withQuestion(question).withNextPracticeDate(new PracticeDate(dueDate))
+                .withLeitnerBox(box).build();
+    }
+}
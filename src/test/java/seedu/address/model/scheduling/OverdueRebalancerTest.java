@@ -0,0 +1,85 @@
+package seedu.address.model.scheduling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.card.Card;
+import seedu.address.model.card.Difficulty;
+import seedu.address.model.card.PracticeDate;
+import seedu.address.testutil.CardBuilder;
+
+public class OverdueRebalancerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2023, 11, 1, 12, 0);
+
+    @Test
+    public void plan_evenLoad_spreadsOverdueCardsAroundDueCards() {
+        List<Card> cards = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            cards.add(cardDueAt("Overdue " + i + "?", NOW.minusDays(1 + i)));
+        }
+        // Day 1 already has three cards due, so the five overdue cards even out at three per day.
+        for (int i = 0; i < 3; i++) {
+            cards.add(cardDueAt("Due " + i + "?", NOW.plusDays(1).plusMinutes(i)));
+        }
+
+        Map<Card, PracticeDate> plan = new OverdueRebalancer(3, OverdueRebalancer.EVEN_LOAD).plan(cards, NOW);
+
+        // The three most overdue cards stay due today, and the other two move to day 2.
+        assertEquals(2, plan.size());
+        assertEquals(new PracticeDate(NOW.plusDays(2)), plan.get(cards.get(0)));
+        assertEquals(new PracticeDate(NOW.plusDays(2)), plan.get(cards.get(1)));
+    }
+
+    @Test
+    public void plan_dailyLoad_hardestCardsStayDueToday() {
+        Card easy = cardDueAt("Easy?", NOW.minusDays(5), Difficulty.EASY);
+        Card medium = cardDueAt("Medium?", NOW.minusDays(1), Difficulty.MEDIUM);
+        Card hard = cardDueAt("Hard?", NOW.minusHours(1), Difficulty.HARD);
+
+        Map<Card, PracticeDate> plan = new OverdueRebalancer(7, 1).plan(List.of(easy, medium, hard), NOW);
+
+        assertFalse(plan.containsKey(hard));
+        assertEquals(new PracticeDate(NOW.plusDays(1)), plan.get(medium));
+        assertEquals(new PracticeDate(NOW.plusDays(2)), plan.get(easy));
+    }
+
+    @Test
+    public void plan_dailyLoadTooLow_sharesOutRemainingCards() {
+        List<Card> cards = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            cards.add(cardDueAt("Overdue " + i + "?", NOW.minusDays(5 - i)));
+        }
+
+        Map<Card, PracticeDate> plan = new OverdueRebalancer(2, 1).plan(cards, NOW);
+
+        // One card per day fits, and the remaining three alternate between today and tomorrow.
+        assertEquals(new PracticeDate(NOW.plusDays(1)), plan.get(cards.get(1)));
+        assertEquals(new PracticeDate(NOW.plusDays(1)), plan.get(cards.get(3)));
+        assertEquals(2, plan.size());
+    }
+
+    @Test
+    public void plan_noOverdueCards_returnsEmptyPlan() {
+        List<Card> cards = List.of(cardDueAt("A?", NOW.plusMinutes(1)));
+
+        assertEquals(Map.of(), new OverdueRebalancer(7, OverdueRebalancer.EVEN_LOAD).plan(cards, NOW));
+    }
+
+    private static Card cardDueAt(String question, LocalDateTime dueDate) {
+        return cardDueAt(question, dueDate, Difficulty.NEW);
+    }
+
+    private static Card cardDueAt(String question, LocalDateTime dueDate, Difficulty difficulty) {
+        Card card = new CardBuilder().withQuestion(question).withNextPracticeDate(new PracticeDate(dueDate)).build();
+        card.setDifficulty(difficulty);
+        return card;
+    }
+}
@@ -0,0 +1,150 @@
+package seedu.address.model.scheduling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.card.Answer;
+import seedu.address.model.card.Card;
+import seedu.address.model.card.Difficulty;
+import seedu.address.model.card.Hint;
+import seedu.address.model.card.PracticeDate;
+import seedu.address.model.card.Question;
+import seedu.address.model.card.SolveCount;
+import seedu.address.testutil.CardBuilder;
+
+public class SchedulerTest {
+
+    private static final LocalDateTime REVIEW_DATE = LocalDateTime.of(2023, 11, 1, 9, 0);
+
+    private final Scheduler multiplier = SchedulerType.MULTIPLIER.getScheduler();
+    private final Scheduler sm2 = SchedulerType.SM2.getScheduler();
+    private final Scheduler fsrs = SchedulerType.FSRS.getScheduler();
+
+    @Test
+    public void nextInterval_multiplier_matchesOriginalMultipliers() {
+        assertEquals(Duration.ofHours(12), multiplier.nextInterval(Duration.ZERO, Difficulty.EASY));
+        assertEquals(Duration.ofHours(6), multiplier.nextInterval(Duration.ZERO, Difficulty.MEDIUM));
+        assertEquals(Duration.ofHours(2), multiplier.nextInterval(Duration.ZERO, Difficulty.HARD));
+        assertEquals(Duration.ofDays(3), multiplier.nextInterval(Duration.ofDays(1), Difficulty.EASY));
+        assertEquals(Duration.ofHours(36), multiplier.nextInterval(Duration.ofDays(1), Difficulty.MEDIUM));
+        assertEquals(Duration.ofHours(12), multiplier.nextInterval(Duration.ofDays(1), Difficulty.HARD));
+    }
+
+    @Test
+    public void nextInterval_multiplierWithParameters_usesParameters() {
+        Scheduler tuned = new MultiplierScheduler(new MultiplierParameters(4, 2, 0.25, 8));
+
+        assertEquals(Duration.ofHours(32), tuned.nextInterval(Duration.ZERO, Difficulty.EASY));
+        assertEquals(Duration.ofHours(2), tuned.nextInterval(Duration.ZERO, Difficulty.HARD));
+        assertEquals(Duration.ofDays(2), tuned.nextInterval(Duration.ofDays(1), Difficulty.MEDIUM));
+        assertEquals(Duration.ofDays(1), tuned.previousIntervalFor(Duration.ofDays(4), Difficulty.EASY));
+        assertEquals(Scheduler.MAX_INTERVAL, tuned.nextInterval(Scheduler.MAX_INTERVAL, Difficulty.EASY));
+    }
+
+    @Test
+    public void nextInterval_sm2_followsRepetitionSchedule() {
+        assertEquals(Duration.ofDays(1), sm2.nextInterval(Duration.ZERO, Difficulty.MEDIUM));
+        assertEquals(Duration.ofDays(6), sm2.nextInterval(Duration.ofDays(1), Difficulty.MEDIUM));
+        assertEquals(Duration.ofDays(25), sm2.nextInterval(Duration.ofDays(10), Difficulty.MEDIUM));
+        assertEquals(Duration.ofDays(26), sm2.nextInterval(Duration.ofDays(10), Difficulty.EASY));
+        // Hard cards start over
+        assertEquals(Duration.ofDays(1), sm2.nextInterval(Duration.ofDays(10), Difficulty.HARD));
+    }
+
+    @Test
+    public void nextInterval_fsrs_growsFasterForEasierCards() {
+        Duration hard = fsrs.nextInterval(Duration.ofDays(10), Difficulty.HARD);
+        Duration medium = fsrs.nextInterval(Duration.ofDays(10), Difficulty.MEDIUM);
+        Duration easy = fsrs.nextInterval(Duration.ofDays(10), Difficulty.EASY);
+
+        assertTrue(Duration.ofDays(10).compareTo(hard) < 0);
+        assertTrue(hard.compareTo(medium) < 0);
+        assertTrue(medium.compareTo(easy) < 0);
+        assertEquals(Duration.ofHours(57).plusMinutes(36), fsrs.nextInterval(Duration.ZERO,
+                Difficulty.MEDIUM));
+    }
+
+    @Test
+    public void nextInterval_leitner_doublesWithEachBox() {
+        Scheduler leitner = SchedulerType.LEITNER.getScheduler();
+        assertEquals(Duration.ofDays(2), leitner.nextInterval(Duration.ZERO, Difficulty.MEDIUM));
+        assertEquals(Duration.ofDays(16), leitner.nextInterval(Duration.ofDays(5), Difficulty.EASY));
+        assertEquals(Duration.ofDays(1), leitner.nextInterval(Duration.ofDays(5), Difficulty.HARD));
+        assertEquals(Duration.ofDays(64), leitner.nextInterval(Duration.ofDays(64), Difficulty.EASY));
+    }
+
+    @Test
+    public void nextInterval_longIntervals_cappedAtMaximum() {
+        assertEquals(Scheduler.MAX_INTERVAL, sm2.nextInterval(Duration.ofDays(30000), Difficulty.EASY));
+        assertEquals(Scheduler.MAX_INTERVAL, fsrs.nextInterval(Duration.ofDays(30000), Difficulty.EASY));
+    }
+
+    @Test
+    public void previousIntervalFor_invertsNextInterval() {
+        for (Scheduler scheduler : new Scheduler[] {multiplier, sm2, fsrs}) {
+            for (Difficulty difficulty : new Difficulty[] {Difficulty.EASY, Difficulty.MEDIUM}) {
+                Duration previous = Duration.ofDays(20).plusSeconds(17);
+                Duration interval = scheduler.nextInterval(previous, difficulty);
+                assertEquals(previous, scheduler.previousIntervalFor(interval, difficulty));
+            }
+            Duration first = scheduler.nextInterval(Duration.ZERO, Difficulty.MEDIUM);
+            assertEquals(Duration.ZERO, scheduler.previousIntervalFor(first, Difficulty.MEDIUM));
+        }
+    }
+
+    @Test
+    public void reschedule_reviewedCard_replaysLastReview() {
+        Card card = reviewedCard(Duration.ofDays(10), Difficulty.MEDIUM);
+        assertEquals(new PracticeDate(REVIEW_DATE.plusDays(15)), card.getNextPracticeDate());
+
+        card.reschedule(sm2.reschedule(card, multiplier));
+        assertEquals(new PracticeDate(REVIEW_DATE.plusDays(25)), card.getNextPracticeDate());
+
+        card.reschedule(multiplier.reschedule(card, sm2));
+        assertEquals(new PracticeDate(REVIEW_DATE.plusDays(15)), card.getNextPracticeDate());
+        assertEquals(new PracticeDate(REVIEW_DATE), card.getLastPracticeDate());
+    }
+
+    @Test
+    public void previousIntervalFor_intervalNeverReached_zero() {
+        Scheduler flat = (previousInterval, difficulty) -> Duration.ofDays(1);
+        assertEquals(Duration.ZERO, flat.previousIntervalFor(Duration.ofDays(5), Difficulty.HARD));
+        assertEquals(Duration.ZERO, sm2.previousIntervalFor(Duration.ofDays(5), Difficulty.HARD));
+    }
+
+    @Test
+    public void reschedule_hardSm2Review_replayedAsFirstReview() {
+        Card card = new Card(new Question("What is the opcode for R-format instructions?"), new Answer("0"),
+                Difficulty.HARD, new ArrayList<>(), new PracticeDate(REVIEW_DATE.plusDays(5)),
+                new PracticeDate(REVIEW_DATE), new SolveCount(), new Hint.EmptyHint());
+
+        assertEquals(new PracticeDate(REVIEW_DATE.plus(fsrs.nextInterval(Duration.ZERO, Difficulty.HARD))),
+                fsrs.reschedule(card, sm2));
+        assertEquals(new PracticeDate(REVIEW_DATE.plus(multiplier.nextInterval(Duration.ZERO, Difficulty.HARD))),
+                multiplier.reschedule(card, sm2));
+    }
+
+    @Test
+    public void reschedule_unreviewedCard_keepsPracticeDate() {
+        Card card = new CardBuilder().withNextPracticeDate(new PracticeDate(REVIEW_DATE)).build();
+        assertEquals(new PracticeDate(REVIEW_DATE), fsrs.reschedule(card, multiplier));
+    }
+
+    /**
+     * Returns a card that was reviewed as {@code difficulty} on {@code REVIEW_DATE}, {@code previousInterval} after
+     * the review before it, under the multiplier scheduler.
+     */
+    private static Card reviewedCard(Duration previousInterval, Difficulty difficulty) {
+        Card card = new Card(new Question("What is the opcode for R-format instructions?"), new Answer("0"),
+                difficulty, new ArrayList<>(), new PracticeDate(REVIEW_DATE),
+                new PracticeDate(REVIEW_DATE.minus(previousInterval)), new SolveCount(), new Hint.EmptyHint());
+        card.setNewPracticeDateWith(difficulty, SchedulerType.MULTIPLIER.getScheduler());
+        return card;
+    }
+}
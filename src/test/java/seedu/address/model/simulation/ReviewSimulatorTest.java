@@ -0,0 +1,103 @@
+package seedu.address.model.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.card.Card;
+import seedu.address.model.card.Difficulty;
+import seedu.address.model.card.PracticeDate;
+import seedu.address.model.scheduling.LeitnerScheduler;
+import seedu.address.model.scheduling.SchedulerType;
+import seedu.address.testutil.CardBuilder;
+
+public class ReviewSimulatorTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+    @Test
+    public void run_noCards_noReviews() {
+        ReviewSimulator simulator = new ReviewSimulator(clock -> SchedulerType.SM2.getScheduler(),
+                RecallModel.DEFAULT, 1);
+
+        SimulationReport report = simulator.run(List.of(), START, 30);
+
+        assertEquals(30, report.getDays());
+        assertEquals(0, report.getReviewCount(0, 30));
+    }
+
+    @Test
+    public void run_newCards_learntOnFirstDayAndLeftUnchanged() {
+        List<Card> cards = cardsDueAt(START, 100);
+        ReviewSimulator simulator = new ReviewSimulator(clock -> SchedulerType.MULTIPLIER.getScheduler(),
+                RecallModel.DEFAULT, 1);
+
+        SimulationReport report = simulator.run(cards, START, 60);
+
+        assertEquals(100, report.getReviewCount(0));
+        assertEquals(100, report.getRecalledCount(0));
+        assertTrue(report.getReviewCount(1, 60) > 0);
+        assertTrue(report.getRecalledCount(1, 60) < report.getReviewCount(1, 60));
+        for (Card card : cards) {
+            assertEquals(Difficulty.NEW, Difficulty.valueOf(card.getDifficulty()));
+            assertEquals(new PracticeDate(START), card.getNextPracticeDate());
+        }
+    }
+
+    @Test
+    public void run_leitnerScheduler_reviewsRecurOnSimulatedDays() {
+        ReviewSimulator simulator = new ReviewSimulator(LeitnerScheduler::new, RecallModel.DEFAULT, 1);
+
+        SimulationReport report = simulator.run(cardsDueAt(START, 1), START, 60);
+
+        // The scheduler reads the virtual clock, so the Card keeps coming back as the simulated days pass.
+        assertTrue(report.getReviewCount(0, 60) > 3);
+        for (int day = 0; day < 60; day++) {
+            assertTrue(report.getReviewCount(day) <= 1);
+        }
+    }
+
+    @Test
+    public void run_differentPoolSizes_sameReport() {
+        List<Card> cards = cardsDueAt(START, ReviewSimulator.PARTITION_SIZE * 2 + 100);
+
+        SimulationReport onOneWorker = new ReviewSimulator(clock -> SchedulerType.FSRS.getScheduler(),
+                RecallModel.DEFAULT, 7, new ForkJoinPool(1)).run(cards, START, 90);
+        SimulationReport onThreeWorkers = new ReviewSimulator(clock -> SchedulerType.FSRS.getScheduler(),
+                RecallModel.DEFAULT, 7, new ForkJoinPool(3)).run(cards, START, 90);
+
+        for (int day = 0; day < 90; day++) {
+            assertEquals(onOneWorker.getReviewCount(day), onThreeWorkers.getReviewCount(day));
+            assertEquals(onOneWorker.getRecalledCount(day), onThreeWorkers.getRecalledCount(day));
+        }
+    }
+
+    @Test
+    public void recallProbability_atStability_isStabilityRetention() {
+        RecallModel model = RecallModel.DEFAULT;
+
+        assertEquals(1.0, model.recallProbability(10, 0));
+        assertEquals(RecallModel.STABILITY_RETENTION, model.recallProbability(10, 10), 1e-9);
+        assertEquals(Difficulty.HARD, model.rate(0.5, 0.6));
+        assertEquals(Difficulty.MEDIUM, model.rate(0.9, 0.6));
+        assertEquals(Difficulty.EASY, model.rate(0.97, 0.6));
+        // Recalling a Card when it is less likely to be recalled strengthens memory more
+        assertTrue(model.nextStability(10, 0.8, true) > model.nextStability(10, 0.95, true));
+        assertTrue(model.nextStability(10, 0.8, false) < 10);
+    }
+
+    private static List<Card> cardsDueAt(LocalDateTime due, int count) {
+        List<Card> cards = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            cards.add(new CardBuilder().withQuestion("Question " + i)
+                    .withNextPracticeDate(new PracticeDate(due)).build());
+        }
+        return cards;
+    }
+}
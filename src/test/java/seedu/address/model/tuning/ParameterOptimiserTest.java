@@ -0,0 +1,101 @@
+package seedu.address.model.tuning;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.card.Difficulty;
+import seedu.address.model.history.ReviewEvent;
+import seedu.address.model.scheduling.MultiplierParameters;
+
+public class ParameterOptimiserTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+    /** Parameters that the simulated user's memory follows. */
+    private static final MultiplierParameters TRUE_PARAMETERS = new MultiplierParameters(5, 2, 0.3, 8);
+
+    @Test
+    public void of_interleavedReviews_groupsReviewsByCard() {
+        List<ReviewEvent> reviews = List.of(
+                new ReviewEvent(7, START, Difficulty.EASY, Duration.ofDays(2)),
+                new ReviewEvent(9, START.plusHours(1), Difficulty.HARD, Duration.ZERO),
+                new ReviewEvent(7, START.plusDays(3), Difficulty.HARD, Duration.ofDays(6)),
+                new ReviewEvent(7, START.plusDays(4), Difficulty.MEDIUM, Duration.ofDays(3)));
+
+        ReviewHistoryColumns history = ReviewHistoryColumns.of(reviews);
+
+        assertEquals(2, history.getCardCount());
+        assertEquals(4, history.getReviewCount());
+        assertEquals(2, history.getRepeatReviewCount());
+        assertEquals(0, history.getCardStart(0));
+        assertEquals(3, history.getCardEnd(0));
+        assertEquals(2.0, history.getFirstIntervalDays(0));
+        assertEquals(3.0, history.getElapsedDays(1));
+        assertEquals(1.0, history.getElapsedDays(2));
+        assertEquals(Difficulty.MEDIUM.ordinal(), history.getRating(2));
+        assertEquals(Difficulty.HARD.ordinal(), history.getRating(3));
+    }
+
+    @Test
+    public void logLoss_noRepeatReviews_isNaN() {
+        ReviewHistoryColumns history = ReviewHistoryColumns.of(
+                List.of(new ReviewEvent(1, START, Difficulty.EASY, Duration.ZERO)));
+
+        assertTrue(Double.isNaN(ParameterOptimiser.logLoss(history, MultiplierParameters.DEFAULT)));
+    }
+
+    @Test
+    public void start_simulatedHistory_findsParametersThatPredictItBest() {
+        ReviewHistoryColumns history = ReviewHistoryColumns.of(simulateReviews(300, 8, new Random(42)));
+        ParameterOptimiser optimiser = new ParameterOptimiser(new ForkJoinPool(2));
+        assertFalse(optimiser.getResult().isPresent());
+
+        optimiser.start(history, MultiplierParameters.DEFAULT);
+        ParameterFit fit = optimiser.awaitResult().get();
+
+        assertFalse(optimiser.isRunning());
+        assertEquals(optimiser.getCandidateCount(), optimiser.getTriedCount());
+        assertEquals(history.getRepeatReviewCount(), fit.getPredictionCount());
+        assertEquals(ParameterOptimiser.logLoss(history, MultiplierParameters.DEFAULT), fit.getBaselineLogLoss());
+        assertTrue(fit.getLogLoss() <= ParameterOptimiser.logLoss(history, TRUE_PARAMETERS));
+        assertTrue(fit.getLogLoss() < fit.getBaselineLogLoss());
+        // The fit should at least tell that the user remembers for much longer than the defaults assume.
+        assertTrue(fit.getParameters().getMultiplier(Difficulty.EASY) > 3);
+    }
+
+    /**
+     * Returns {@code reviewsPerCard} reviews of each of {@code cardCount} cards by a user whose memory follows
+     * {@link #TRUE_PARAMETERS} and who reviews cards somewhat early or late, in order of timestamp.
+     */
+    private static List<ReviewEvent> simulateReviews(int cardCount, int reviewsPerCard, Random random) {
+        List<ReviewEvent> reviews = new ArrayList<>();
+        for (int card = 0; card < cardCount; card++) {
+            Difficulty rating = Difficulty.MEDIUM;
+            LocalDateTime time = START.plusMinutes(card);
+            reviews.add(new ReviewEvent(card, time, rating, Duration.ZERO));
+            double interval = TRUE_PARAMETERS.getFirstIntervalHours() / 24 * TRUE_PARAMETERS.getMultiplier(rating);
+
+            for (int review = 1; review < reviewsPerCard; review++) {
+                double elapsed = interval * (0.5 + 2.5 * random.nextDouble());
+                boolean isRecalled = random.nextDouble() < Math.pow(0.9, elapsed / interval);
+                rating = !isRecalled ? Difficulty.HARD : random.nextBoolean() ? Difficulty.EASY : Difficulty.MEDIUM;
+                time = time.plusSeconds((long) (elapsed * 24 * 60 * 60));
+                reviews.add(new ReviewEvent(card, time, rating, Duration.ZERO));
+                interval *= TRUE_PARAMETERS.getMultiplier(rating);
+            }
+        }
+        reviews.sort(Comparator.comparing(ReviewEvent::getTimestamp));
+        return reviews;
+    }
+}
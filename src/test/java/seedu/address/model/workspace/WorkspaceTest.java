@@ -0,0 +1,163 @@
+package seedu.address.model.workspace;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.card.Card;
+import seedu.address.model.card.PracticeDate;
+import seedu.address.testutil.CardBuilder;
+
+public class WorkspaceTest {
+
+    private static final Path DECK_FILE_PATH = Paths.get("data", "deck.json");
+    private static final LocalDate TODAY = LocalDate.of(2024, 3, 1);
+
+    /** Number of times each deck file has been loaded. */
+    private final Map<Path, Integer> loadCounts = new HashMap<>();
+
+    @Test
+    public void isValidDeckName() {
+        assertTrue(Workspace.isValidDeckName("physics"));
+        assertTrue(Workspace.isValidDeckName("CS2100_week-3"));
+        assertFalse(Workspace.isValidDeckName(""));
+        assertFalse(Workspace.isValidDeckName("my deck"));
+        assertFalse(Workspace.isValidDeckName("../deck"));
+        assertFalse(Workspace.isValidDeckName("deck.json"));
+        assertFalse(Workspace.isValidDeckName("a".repeat(51)));
+    }
+
+    @Test
+    public void deckNameOf_deckFilePath_fileNameWithoutExtension() {
+        assertEquals("deck", Workspace.deckNameOf(DECK_FILE_PATH));
+        assertEquals("physics", Workspace.deckNameOf(Paths.get("physics")));
+    }
+
+    @Test
+    public void constructor_manifestOfCurrentDeck_ignored() {
+        Workspace workspace = new Workspace(DECK_FILE_PATH,
+                List.of(manifest("deck", 3), manifest("physics", 2)), this::load, 10);
+
+        assertEquals("deck", workspace.getCurrentDeckName());
+        assertEquals(List.of(manifest("physics", 2)), workspace.getIdleManifests());
+        assertTrue(workspace.hasDeck("deck"));
+        assertTrue(workspace.hasDeck("physics"));
+        assertFalse(workspace.hasDeck("chemistry"));
+        assertFalse(workspace.isLoaded("physics"));
+        assertEquals(Paths.get("data", "physics.json"), workspace.getDeckFilePath("physics"));
+    }
+
+    @Test
+    public void switchTo_backAndForth_loadsEachDeckOnce() throws Exception {
+        Workspace workspace = new Workspace(DECK_FILE_PATH, List.of(manifest("physics", 2)), this::load, 10);
+        List<Card> deckCards = cards("deck", 3);
+
+        List<Card> physicsCards = workspace.load("physics");
+        workspace.switchTo("physics", deckCards);
+
+        assertEquals("physics", workspace.getCurrentDeckName());
+        assertEquals(Paths.get("data", "physics.json"), workspace.getCurrentDeckFilePath());
+        assertEquals(List.of(DeckManifest.of("deck", deckCards)), workspace.getIdleManifests());
+        assertTrue(workspace.isLoaded("deck"));
+        assertEquals(3, workspace.getIdleCardCount());
+
+        assertSame(deckCards, workspace.load("deck"));
+        workspace.switchTo("deck", physicsCards);
+
+        assertEquals(1, loadCounts.get(Paths.get("data", "physics.json")));
+        assertFalse(loadCounts.containsKey(DECK_FILE_PATH));
+        assertEquals(2, workspace.getIdleCardCount());
+    }
+
+    @Test
+    public void switchTo_overLimit_dropsLeastRecentlyUsedDecks() throws Exception {
+        Workspace workspace = new Workspace(DECK_FILE_PATH, List.of(), this::load, 5);
+
+        // Open a, b and c in turn, each with 2 cards, leaving deck, a and b idle with 2 cards each
+        workspace.switchTo("a", workspace.load("a"));
+        workspace.switchTo("b", workspace.load("b"));
+        workspace.switchTo("c", workspace.load("c"));
+
+        assertFalse(workspace.isLoaded("deck"));
+        assertTrue(workspace.isLoaded("a"));
+        assertTrue(workspace.isLoaded("b"));
+        assertEquals(4, workspace.getIdleCardCount());
+        // Dropped decks are still in the workspace and are loaded again when opened
+        assertTrue(workspace.hasDeck("deck"));
+        workspace.load("deck");
+        assertEquals(1, loadCounts.get(DECK_FILE_PATH));
+    }
+
+    @Test
+    public void recordChange_overLimit_keepsDeckUntilSaved() throws Exception {
+        Workspace workspace = new Workspace(DECK_FILE_PATH, List.of(manifest("a", 2), manifest("b", 2)),
+                this::load, 3);
+        List<Card> aCards = workspace.load("a");
+        workspace.keep("a", aCards);
+        aCards.get(0).reschedule(new PracticeDate(TODAY.plusDays(5).atStartOfDay()));
+        workspace.recordChange("a", aCards);
+        workspace.recordChange("a", aCards);
+
+        // b is dropped rather than a, whose changes are not saved
+        workspace.keep("b", workspace.load("b"));
+
+        assertTrue(workspace.isLoaded("a"));
+        assertFalse(workspace.isLoaded("b"));
+        assertEquals(List.of("a"), workspace.getUnsavedDeckNames(2));
+        assertEquals(List.of(), workspace.getUnsavedDeckNames(3));
+        assertEquals(aCards, workspace.getIdleDeck("a").getCardList());
+
+        workspace.markSaved("a");
+
+        assertEquals(List.of(), workspace.getUnsavedDeckNames(1));
+        assertEquals(1, workspace.getIdleManifests().get(0).getDueCount(TODAY));
+    }
+
+    @Test
+    public void dueCount_manifestOfCards_countsCardsDueByEndOfDay() {
+        List<Card> cards = new ArrayList<>();
+        cards.add(cardDueAt("overdue", TODAY.minusDays(3).atTime(9, 0)));
+        cards.add(cardDueAt("today", TODAY.atTime(23, 0)));
+        cards.add(cardDueAt("tomorrow", TODAY.plusDays(1).atStartOfDay()));
+
+        DeckManifest manifest = DeckManifest.of("deck", cards);
+
+        assertEquals(3, manifest.getCardCount());
+        assertEquals(2, manifest.getDueCount(TODAY));
+        assertEquals(3, manifest.getDueCount(TODAY.plusDays(1)));
+        assertEquals(0, manifest.getDueCount(TODAY.minusDays(4)));
+    }
+
+    private List<Card> load(Path deckFilePath) {
+        loadCounts.merge(deckFilePath, 1, Integer::sum);
+        return cards(Workspace.deckNameOf(deckFilePath), 2);
+    }
+
+    private static DeckManifest manifest(String name, int cardCount) {
+        return new DeckManifest(name, cardCount, Map.of(TODAY, cardCount));
+    }
+
+    private static List<Card> cards(String deckName, int count) {
+        List<Card> cards = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            cards.add(cardDueAt(deckName + " question " + i, TODAY.atStartOfDay()));
+        }
+        return cards;
+    }
+
+    private static Card cardDueAt(String question, LocalDateTime due) {
+        return new CardBuilder().withQuestion(question).withNextPracticeDate(new PracticeDate(due)).build();
+    }
+}
@@ -0,0 +1,102 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.card.Difficulty;
+import seedu.address.model.history.ReviewEvent;
+
+public class BinaryReviewLogTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2023, 11, 1, 12, 0, 0, 123_456_789);
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_afterReopening_returnsEventsInRange() throws Exception {
+        Path filePath = testFolder.resolve("reviews.bin");
+        BinaryReviewLog log = new BinaryReviewLog(filePath);
+        List<ReviewEvent> events = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ReviewEvent event = new ReviewEvent(i % 37, START.plusMinutes(i), Difficulty.values()[i % 4],
+                    Duration.ofHours(i));
+            events.add(event);
+            log.append(event);
+        }
+        log.flush();
+        assertEquals(BinaryReviewLog.HEADER_SIZE + 10_000L * BinaryReviewLog.RECORD_SIZE, Files.size(filePath));
+
+        BinaryReviewLog reopened = new BinaryReviewLog(filePath);
+        assertEquals(10_000, reopened.size());
+        assertEquals(events.subList(100, 5_000), reopened.read(START.plusMinutes(100), START.plusMinutes(5_000)));
+        assertEquals(events, reopened.read(LocalDateTime.MIN, LocalDateTime.MAX));
+        assertEquals(List.of(), reopened.read(START.plusYears(1), START.plusYears(2)));
+    }
+
+    @Test
+    public void append_earlierTimestamp_loggedAtLastTimestamp() throws Exception {
+        BinaryReviewLog log = new BinaryReviewLog(testFolder.resolve("reviews.bin"));
+        ReviewEvent later = new ReviewEvent(1, START.plusHours(1), Difficulty.EASY, Duration.ZERO);
+        log.append(later);
+        log.append(new ReviewEvent(2, START, Difficulty.HARD, Duration.ZERO));
+
+        List<ReviewEvent> events = log.read(START, START.plusDays(1));
+
+        assertEquals(List.of(later, new ReviewEvent(2, START.plusHours(1), Difficulty.HARD, Duration.ZERO)), events);
+    }
+
+    @Test
+    public void append_earlierThanEventWrittenBeforeReopening_loggedAtItsTimestamp() throws Exception {
+        Path filePath = testFolder.resolve("reviews.bin");
+        LocalDateTime later = LocalDateTime.of(2023, 11, 1, 13, 0);
+        BinaryReviewLog log = new BinaryReviewLog(filePath);
+        log.append(new ReviewEvent(1, later, Difficulty.EASY, Duration.ZERO));
+        log.flush();
+
+        // As after a restart with the clock turned back, the log does not know the last timestamp until it is opened.
+        BinaryReviewLog reopened = new BinaryReviewLog(filePath);
+        reopened.append(new ReviewEvent(2, later.minusHours(1), Difficulty.HARD, Duration.ZERO));
+        reopened.flush();
+
+        assertEquals(List.of(new ReviewEvent(1, later, Difficulty.EASY, Duration.ZERO),
+                new ReviewEvent(2, later, Difficulty.HARD, Duration.ZERO)),
+                new BinaryReviewLog(filePath).read(later, later.plusDays(1)));
+    }
+
+    @Test
+    public void open_incompleteLastRecord_dropsIt() throws Exception {
+        Path filePath = testFolder.resolve("reviews.bin");
+        BinaryReviewLog log = new BinaryReviewLog(filePath);
+        ReviewEvent event = new ReviewEvent(7, START, Difficulty.MEDIUM, Duration.ofDays(3));
+        log.append(event);
+        log.flush();
+        Files.write(filePath, new byte[] {1, 2, 3}, StandardOpenOption.APPEND);
+
+        BinaryReviewLog reopened = new BinaryReviewLog(filePath);
+        ReviewEvent next = new ReviewEvent(8, START.plusDays(1), Difficulty.EASY, Duration.ofDays(1));
+        reopened.append(next);
+
+        assertEquals(List.of(event, next), reopened.read(START, START.plusDays(2)));
+    }
+
+    @Test
+    public void read_notReviewLog_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("deck.json");
+        Files.writeString(filePath, "{ \"cards\": [] }");
+
+        assertThrows(IOException.class, () -> new BinaryReviewLog(filePath).size());
+    }
+}
@@ -13,8 +13,10 @@ import org.junit.jupiter.api.Test;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.card.Answer;
 import seedu.address.model.card.Card;
+import seedu.address.model.card.LeitnerBox;
 import seedu.address.model.card.PracticeDate;
 import seedu.address.model.card.Question;
+import seedu.address.testutil.CardBuilder;
 
 
 
@@ -96,5 +98,22 @@ public class JsonAdaptedCardTest {
         });
     }
 
+    @Test
+    public void toModelType_invalidLeitnerBox_throwsIllegalValueException() {
+        JsonAdaptedCard card =
+                new JsonAdaptedCard(VALID_QUESTION, VALID_ANSWER, VALID_DIFFICULTY, VALID_TAGS, VALID_SOLVECOUNT,
+                        VALID_NEXT_PRACTISE_DATE, VALID_LAST_PRACTISE_DATE, VALID_HINT, LeitnerBox.COUNT + 1);
+        assertThrows(IllegalValueException.class, LeitnerBox.MESSAGE_CONSTRAINTS, card::toModelType);
+    }
 
+    @Test
+    public void toModelType_leitnerBox_preserved() throws Exception {
+        Card boxedCard = new CardBuilder(CS1101S).withLeitnerBox(4).build();
+        assertEquals(new LeitnerBox(4), new JsonAdaptedCard(boxedCard).toModelType().getLeitnerBox());
+
+        JsonAdaptedCard cardWithoutBox =
+                new JsonAdaptedCard(VALID_QUESTION, VALID_ANSWER, VALID_DIFFICULTY, VALID_TAGS, VALID_SOLVECOUNT,
+                        VALID_NEXT_PRACTISE_DATE, VALID_LAST_PRACTISE_DATE, VALID_HINT);
+        assertEquals(LeitnerBox.FIRST, cardWithoutBox.toModelType().getLeitnerBox());
+    }
 }
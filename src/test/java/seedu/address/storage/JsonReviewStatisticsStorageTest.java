@@ -0,0 +1,116 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.analytics.ReviewAggregates;
+import seedu.address.model.analytics.ReviewStatistics;
+import seedu.address.model.analytics.ReviewTally;
+import seedu.address.model.analytics.RollupWindow;
+import seedu.address.model.card.Difficulty;
+import seedu.address.model.history.ReviewEvent;
+import seedu.address.model.tag.Tag;
+
+public class JsonReviewStatisticsStorageTest {
+
+    private static final Tag MATH = new Tag("Math");
+
+    // Wednesday 15 May 2024
+    private static final LocalDateTime WEDNESDAY = LocalDateTime.of(2024, 5, 15, 9, 0);
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readReviewStatistics_missingFile_emptyResult() throws Exception {
+        JsonReviewStatisticsStorage storage = new JsonReviewStatisticsStorage(testFolder.resolve("missing.json"));
+
+        assertFalse(storage.readReviewStatistics().isPresent());
+    }
+
+    @Test
+    public void readReviewStatistics_savedStatistics_sameStatistics() throws Exception {
+        JsonReviewStatisticsStorage storage = new JsonReviewStatisticsStorage(
+                testFolder.resolve(JsonReviewStatisticsStorage.REVIEW_STATISTICS_FILE_NAME));
+        ReviewStatistics statistics = new ReviewStatistics();
+        statistics.add(new ReviewEvent(1, WEDNESDAY, Difficulty.EASY, Duration.ofDays(2)), List.of(MATH));
+        statistics.add(new ReviewEvent(1, WEDNESDAY.plusDays(2), Difficulty.HARD, Duration.ofDays(5)), List.of(MATH));
+        statistics.add(new ReviewEvent(2, WEDNESDAY.plusDays(30), Difficulty.EASY, Duration.ofDays(40)), List.of());
+
+        storage.saveReviewStatistics(statistics);
+        ReviewStatistics read = storage.readReviewStatistics().get();
+
+        assertSameAggregates(statistics.getOverall(), read.getOverall());
+        assertSameAggregates(statistics.getForTag(MATH).get(), read.getForTag(MATH).get());
+        assertEquals(statistics.getByTag().keySet(), read.getByTag().keySet());
+        assertEquals(statistics.getLastIntervalSeconds(), read.getLastIntervalSeconds());
+
+        // Interval growth keeps being tracked from the saved last intervals
+        ReviewEvent nextReview = new ReviewEvent(1, WEDNESDAY.plusDays(7), Difficulty.EASY, Duration.ofDays(10));
+        statistics.add(nextReview, List.of(MATH));
+        read.add(nextReview, List.of(MATH));
+        assertSameAggregates(statistics.getOverall(), read.getOverall());
+    }
+
+    @Test
+    public void readReviewStatistics_invalidStatistics_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve(JsonReviewStatisticsStorage.REVIEW_STATISTICS_FILE_NAME);
+        JsonReviewStatisticsStorage storage = new JsonReviewStatisticsStorage(filePath);
+        String retention = "\"retention\":[{},{},{},{},{},{},{}]";
+
+        // Missing overall aggregates
+        Files.writeString(filePath, "{\"tags\":{}}");
+        assertThrows(DataLoadingException.class, storage::readReviewStatistics);
+
+        // More recalled reviews than reviews
+        Files.writeString(filePath, "{\"overall\":{\"total\":{\"reviewCount\":1,\"recalledCount\":2},"
+                + retention + "}}");
+        assertThrows(DataLoadingException.class, storage::readReviewStatistics);
+
+        // Wrong number of retention ranges
+        Files.writeString(filePath, "{\"overall\":{\"total\":{},\"retention\":[{}]}}");
+        assertThrows(DataLoadingException.class, storage::readReviewStatistics);
+
+        // Weekly rollup that does not start on a Monday
+        Files.writeString(filePath, "{\"overall\":{\"total\":{}," + retention
+                + ",\"rollups\":{\"WEEK\":{\"2024-05-15\":{}}}}}");
+        assertThrows(DataLoadingException.class, storage::readReviewStatistics);
+
+        // Invalid tag name
+        Files.writeString(filePath, "{\"overall\":{\"total\":{}," + retention + "},"
+                + "\"tags\":{\"not-a-tag\":{\"total\":{}," + retention + "}}}");
+        assertThrows(DataLoadingException.class, storage::readReviewStatistics);
+    }
+
+    private static void assertSameAggregates(ReviewAggregates expected, ReviewAggregates actual) {
+        assertSameTally(expected.getTotal(), actual.getTotal());
+        for (int bucket = 0; bucket < ReviewAggregates.RETENTION_BUCKETS.size(); bucket++) {
+            assertSameTally(expected.getRetentionCurve().get(bucket), actual.getRetentionCurve().get(bucket));
+        }
+        for (RollupWindow window : RollupWindow.values()) {
+            assertEquals(expected.getRollups(window).keySet(), actual.getRollups(window).keySet());
+            for (LocalDate start : expected.getRollups(window).keySet()) {
+                assertSameTally(expected.getRollup(window, start), actual.getRollup(window, start));
+            }
+        }
+    }
+
+    private static void assertSameTally(ReviewTally expected, ReviewTally actual) {
+        assertEquals(expected.getReviewCount(), actual.getReviewCount());
+        assertEquals(expected.getRecalledCount(), actual.getRecalledCount());
+        assertEquals(expected.getIntervalGrowthSum(), actual.getIntervalGrowthSum());
+        assertEquals(expected.getIntervalGrowthCount(), actual.getIntervalGrowthCount());
+    }
+}
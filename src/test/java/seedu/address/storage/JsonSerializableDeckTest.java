@@ -5,12 +5,16 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.Deck;
+import seedu.address.model.DeckLoadProgress;
+import seedu.address.testutil.CardBuilder;
 import seedu.address.testutil.TypicalCards;
 
 public class JsonSerializableDeckTest {
@@ -29,6 +33,25 @@ public class JsonSerializableDeckTest {
         assertEquals(deckFromFile, typicalCardsDeck);
     }
 
+    @Test
+    public void toModelType_progressListener_reportsValidatedThenIndexed() throws Exception {
+        int cardCount = JsonSerializableDeck.PROGRESS_INTERVAL * 2 + 1;
+        List<JsonAdaptedCard> cards = new ArrayList<>();
+        for (int i = 0; i < cardCount; i++) {
+            cards.add(new JsonAdaptedCard(new CardBuilder().withQuestion("Question " + i).build()));
+        }
+        List<DeckLoadProgress> reports = new ArrayList<>();
+
+        Deck deck = new JsonSerializableDeck(cards).toModelType(reports::add);
+
+        assertEquals(cardCount, deck.getCardList().size());
+        int interval = JsonSerializableDeck.PROGRESS_INTERVAL;
+        assertEquals(List.of(new DeckLoadProgress(cardCount, interval, 0, false),
+                new DeckLoadProgress(cardCount, interval * 2, 0, false),
+                new DeckLoadProgress(cardCount, cardCount, 0, false),
+                new DeckLoadProgress(cardCount, cardCount, cardCount, false)), reports);
+    }
+
     @Test
     public void toModelType_invalidPersonFile_throwsIllegalValueException() throws Exception {
         JsonSerializableDeck dataFromFile = JsonUtil.readJsonFile(INVALID_CARD_FILE,
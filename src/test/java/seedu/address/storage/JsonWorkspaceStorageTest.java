@@ -0,0 +1,63 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.workspace.DeckManifest;
+
+public class JsonWorkspaceStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readWorkspace_missingFile_emptyResult() throws Exception {
+        JsonWorkspaceStorage storage = new JsonWorkspaceStorage(testFolder.resolve("missing.json"));
+
+        assertFalse(storage.readWorkspace().isPresent());
+    }
+
+    @Test
+    public void readWorkspace_savedManifests_sameManifests() throws Exception {
+        JsonWorkspaceStorage storage = new JsonWorkspaceStorage(
+                testFolder.resolve(JsonWorkspaceStorage.WORKSPACE_FILE_NAME));
+        List<DeckManifest> manifests = List.of(
+                new DeckManifest("deck", 3, Map.of(LocalDate.MIN, 1, LocalDate.of(2024, 3, 1), 2)),
+                new DeckManifest("empty", 0, Map.of()));
+
+        storage.saveWorkspace(manifests);
+
+        assertEquals(manifests, storage.readWorkspace().get());
+    }
+
+    @Test
+    public void readWorkspace_invalidManifests_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve(JsonWorkspaceStorage.WORKSPACE_FILE_NAME);
+        JsonWorkspaceStorage storage = new JsonWorkspaceStorage(filePath);
+
+        // Due counts that do not add up to the number of cards
+        Files.writeString(filePath, "{\"decks\":[{\"name\":\"deck\",\"cardCount\":3,"
+                + "\"dueCounts\":{\"2024-03-01\":2}}]}");
+        assertThrows(DataLoadingException.class, storage::readWorkspace);
+
+        // Invalid deck name
+        Files.writeString(filePath, "{\"decks\":[{\"name\":\"../deck\",\"cardCount\":0,\"dueCounts\":{}}]}");
+        assertThrows(DataLoadingException.class, storage::readWorkspace);
+
+        // Duplicate decks
+        Files.writeString(filePath, "{\"decks\":[{\"name\":\"deck\",\"cardCount\":0},"
+                + "{\"name\":\"deck\",\"cardCount\":0}]}");
+        assertThrows(DataLoadingException.class, storage::readWorkspace);
+    }
+}
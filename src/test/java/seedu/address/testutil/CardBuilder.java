@@ -8,6 +8,7 @@ import seedu.address.model.card.Answer;
 import seedu.address.model.card.Card;
 import seedu.address.model.card.Difficulty;
 import seedu.address.model.card.Hint;
+import seedu.address.model.card.LeitnerBox;
 import seedu.address.model.card.PracticeDate;
 import seedu.address.model.card.Question;
 import seedu.address.model.card.SolveCount;
@@ -30,6 +31,7 @@ public class CardBuilder {
     private PracticeDate nextPracticeDate;
     private List<Tag> tags;
     private Hint hint;
+    private LeitnerBox leitnerBox;
 
     /**
      * Creates a {@code CardBuilder} with the default details.
@@ -40,6 +42,7 @@ public class CardBuilder {
         nextPracticeDate = DEFAULT_NEXT_PRACTICE_DATE;
         tags = DEFAULT_TAGS;
         hint = DEFAULT_HINT;
+        leitnerBox = LeitnerBox.FIRST;
     }
 
     /**
@@ -51,6 +54,7 @@ public class CardBuilder {
         nextPracticeDate = cardToCopy.getNextPracticeDate();
         tags = cardToCopy.getTags();
         hint = cardToCopy.getHint();
+        leitnerBox = cardToCopy.getLeitnerBox();
     }
 
     /**
@@ -110,6 +114,14 @@ public class CardBuilder {
         return this;
     }
 
+    /**
+     * Sets the {@code LeitnerBox} of the {@code Card} that we are building.
+     */
+    public CardBuilder withLeitnerBox(int box) {
+        this.leitnerBox = new LeitnerBox(box);
+        return this;
+    }
+
     /**
      * @return a Card with specific details
      */
@@ -119,7 +131,7 @@ public class CardBuilder {
         SolveCount solveCount = new SolveCount();
         return new Card(question, answer, difficulty,
                 tags, nextPracticeDate, lastPracticeDate,
-                solveCount, hint);
+                solveCount, hint, leitnerBox);
     }
 
 }
@@ -0,0 +1,132 @@
+package seedu.address.ui;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.Scene;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.Region;
+import seedu.address.model.card.Card;
+import seedu.address.model.card.PracticeDate;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.CardBuilder;
+
+/**
+ * Measures how long the card list takes to lay out each frame while it is scrolled through 100,000 cards, first
+ * with the cells of {@link CardListPanel}, which reuse their {@link DisplayCard}, and then, for comparison, with
+ * cells that load a new {@code DisplayCard} on every update.
+ * <p>
+ * Run with {@code gradlew scrollBenchmark}, which runs it on Monocle's headless platform with software rendering, so
+ * no display is needed. The list is laid out in a scene that is never shown. On Linux, JavaFX still needs the Pango
+ * library to lay out text.
+ */
+public class CardListScrollBenchmark {
+
+    private static final int CARD_COUNT = 100_000;
+    private static final int WARM_UP_FRAME_COUNT = 1_000;
+    private static final int FRAME_COUNT = 2_000;
+    /** Rows scrolled per frame, as in a fast flick, so that every visible cell shows another card each frame. */
+    private static final int ROWS_PER_FRAME = 37;
+    private static final double FRAME_BUDGET_MILLIS = 1000.0 / 60;
+
+    /**
+     * Runs the benchmark and prints the frame times of each kind of cell.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        ObservableList<Card> cards = FXCollections.observableArrayList(createCards());
+        CountDownLatch isStarted = new CountDownLatch(1);
+        Platform.startup(isStarted::countDown);
+        isStarted.await();
+
+        CountDownLatch isDone = new CountDownLatch(1);
+        Platform.runLater(() -> {
+            try {
+                run(cards);
+            } finally {
+                isDone.countDown();
+            }
+        });
+        isDone.await();
+        Platform.exit();
+    }
+
+    private static void run(ObservableList<Card> cards) {
+        CardListPanel panel = new CardListPanel(cards);
+        Region root = panel.getRoot();
+        new Scene(root, 600, 800);
+        @SuppressWarnings("unchecked")
+        ListView<Card> listView = (ListView<Card>) root.lookup("#cardListView");
+
+        measure("reused DisplayCard per cell", root, listView);
+        listView.setCellFactory(unused -> new NewDisplayCardCell());
+        measure("new DisplayCard per update", root, listView);
+    }
+
+    /**
+     * Scrolls {@code listView} down a fixed number of rows each frame, timing the layout of {@code root} that
+     * updates the cells, and prints statistics of the frame times.
+     */
+    private static void measure(String name, Region root, ListView<Card> listView) {
+        long[] frameNanos = new long[FRAME_COUNT];
+        for (int frame = -WARM_UP_FRAME_COUNT; frame < FRAME_COUNT; frame++) {
+            int firstRow = (int) ((long) (frame + WARM_UP_FRAME_COUNT) * ROWS_PER_FRAME % CARD_COUNT);
+            long start = System.nanoTime();
+            listView.scrollTo(firstRow);
+            root.applyCss();
+            root.layout();
+            if (frame >= 0) {
+                frameNanos[frame] = System.nanoTime() - start;
+            }
+        }
+
+        Arrays.sort(frameNanos);
+        long slowFrameCount = Arrays.stream(frameNanos).filter(nanos -> nanos / 1e6 > FRAME_BUDGET_MILLIS).count();
+        System.out.printf("%-28s mean %7.3f ms, p50 %7.3f ms, p95 %7.3f ms, p99 %7.3f ms, max %7.3f ms, "
+                + "%d of %d frames over %.1f ms%n", name,
+                Arrays.stream(frameNanos).average().orElse(0) / 1e6, percentile(frameNanos, 50),
+                percentile(frameNanos, 95), percentile(frameNanos, 99), frameNanos[FRAME_COUNT - 1] / 1e6,
+                slowFrameCount, FRAME_COUNT, FRAME_BUDGET_MILLIS);
+    }
+
+    private static double percentile(long[] sortedNanos, int percent) {
+        return sortedNanos[Math.min(sortedNanos.length - 1, sortedNanos.length * percent / 100)] / 1e6;
+    }
+
+    private static List<Card> createCards() {
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 9, 0);
+        List<Tag> tags = List.of(new Tag("CS2100"), new Tag("Midterms"));
+        List<Card> cards = new ArrayList<>(CARD_COUNT);
+        for (int i = 0; i < CARD_COUNT; i++) {
+            cards.add(new CardBuilder()
+                    .withQuestion("What is **term " + i + "** in *chapter " + (i % 12) + "*?")
+                    .withNextPracticeDate(new PracticeDate(start.plusMinutes(i)))
+                    .withTags(tags.subList(0, i % 3 == 0 ? 2 : 1))
+                    .build());
+        }
+        return cards;
+    }
+
+    /**
+     * A cell that loads a new {@code DisplayCard} whenever it is updated, as the card list used to.
+     */
+    private static class NewDisplayCardCell extends ListCell<Card> {
+        @Override
+        protected void updateItem(Card card, boolean empty) {
+            super.updateItem(card, empty);
+
+            if (empty || card == null) {
+                setGraphic(null);
+                setText(null);
+            } else {
+                setGraphic(new DisplayCard(card, getIndex() + 1).getRoot());
+            }
+        }
+    }
+}
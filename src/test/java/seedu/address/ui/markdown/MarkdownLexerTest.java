@@ -0,0 +1,54 @@
+package seedu.address.ui.markdown;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class MarkdownLexerTest {
+
+    @Test
+    public void lex_plainText_singleSpan() {
+        assertEquals(List.of(plain("What is an ALU?")), MarkdownLexer.lex("What is an ALU?"));
+        assertEquals(List.of(), MarkdownLexer.lex(""));
+    }
+
+    @Test
+    public void lex_markers_togglesStyles() {
+        assertEquals(List.of(plain("What is the "), new MarkdownSpan("Stage", true, false, false), plain("?")),
+                MarkdownLexer.lex("What is the **Stage**?"));
+        assertEquals(List.of(new MarkdownSpan("bold", true, false, false), plain(" text")),
+                MarkdownLexer.lex("**bold** text"));
+        assertEquals(List.of(plain("a "), new MarkdownSpan("b", false, true, false), plain(" c")),
+                MarkdownLexer.lex("a *b* c"));
+        assertEquals(List.of(new MarkdownSpan("Half Adder", false, false, true), plain(" adds")),
+                MarkdownLexer.lex("<u>Half Adder</u> adds"));
+    }
+
+    @Test
+    public void lex_nestedAndUnclosedMarkers_keepsStyleUntilClosed() {
+        assertEquals(List.of(new MarkdownSpan("x ", true, false, false), new MarkdownSpan("y", true, true, false),
+                new MarkdownSpan(" z", false, true, false)), MarkdownLexer.lex("**x *y** z"));
+        assertEquals(List.of(new MarkdownSpan("open", false, false, true)), MarkdownLexer.lex("<u>open"));
+        // A lone '<' is text, and empty pairs of markers leave no span.
+        assertEquals(List.of(plain("a "), plain("< b")), MarkdownLexer.lex("a ****< b"));
+    }
+
+    @Test
+    public void spansOf_sameText_cachedUnmodifiableSpans() {
+        String content = "Cached **spans** of " + System.nanoTime();
+
+        List<MarkdownSpan> spans = MarkdownLexer.spansOf(content);
+
+        assertSame(spans, MarkdownLexer.spansOf(new String(content)));
+        assertEquals(MarkdownLexer.lex(content), spans);
+        assertThrows(UnsupportedOperationException.class, () -> spans.add(plain("more")));
+    }
+
+    private static MarkdownSpan plain(String text) {
+        return new MarkdownSpan(text, false, false, false);
+    }
+}